@@ -24,6 +24,7 @@
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalPoolInterceptor;
 import io.quarkus.agroal.DataSource;
+import io.quarkus.agroal.ReadOnly;
 import io.quarkus.agroal.runtime.AgroalDataSourceSupport;
 import io.quarkus.agroal.runtime.AgroalDataSourcesInitializer;
 import io.quarkus.agroal.runtime.AgroalRecorder;
@@ -31,6 +32,8 @@
 import io.quarkus.agroal.runtime.DataSources;
 import io.quarkus.agroal.runtime.DataSourcesJdbcBuildTimeConfig;
 import io.quarkus.agroal.runtime.JdbcDriver;
+import io.quarkus.agroal.runtime.QuarkusJdbcDriver;
+import io.quarkus.agroal.runtime.ReadOnlyInterceptor;
 import io.quarkus.agroal.runtime.TransactionIntegration;
 import io.quarkus.agroal.spi.JdbcDataSourceBuildItem;
 import io.quarkus.agroal.spi.JdbcDriverBuildItem;
@@ -57,6 +60,7 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.RemovedResourceBuildItem;
 import io.quarkus.deployment.builditem.SslNativeConfigBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBundleBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
@@ -241,6 +245,9 @@ void generateDataSourceSupportBean(AgroalRecorder recorder,
                 .setDefaultScope(DotNames.SINGLETON).build());
         // add the @DataSource class otherwise it won't be registered as a qualifier
         additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(DataSource.class).build());
+        // routes the connections of the @ReadOnly methods to the read replicas
+        additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClasses(ReadOnly.class, ReadOnlyInterceptor.class)
+                .build());
         // make sure datasources are initialized at startup
         additionalBeans.produce(new AdditionalBeanBuildItem(AgroalDataSourcesInitializer.class));
 
@@ -410,6 +417,18 @@ void adaptOpenTelemetryJdbcInstrumentationForNative(BuildProducer<RemovedResourc
         }
     }
 
+    @BuildStep
+    void registerStatementInterceptionSupport(BuildProducer<ReflectiveClassBuildItem> reflectiveClassProducer,
+            BuildProducer<NativeImageProxyDefinitionBuildItem> proxyDefinitionProducer) {
+        // the prepared statement cache and the statement metrics are enabled at runtime
+        reflectiveClassProducer.produce(ReflectiveClassBuildItem.builder(QuarkusJdbcDriver.class).build());
+        proxyDefinitionProducer.produce(new NativeImageProxyDefinitionBuildItem(java.sql.Connection.class.getName()));
+        proxyDefinitionProducer.produce(new NativeImageProxyDefinitionBuildItem(java.sql.Statement.class.getName()));
+        proxyDefinitionProducer.produce(new NativeImageProxyDefinitionBuildItem(java.sql.PreparedStatement.class.getName()));
+        proxyDefinitionProducer.produce(new NativeImageProxyDefinitionBuildItem(java.sql.CallableStatement.class.getName()));
+        proxyDefinitionProducer.produce(new NativeImageProxyDefinitionBuildItem(java.sql.ResultSet.class.getName()));
+    }
+
     @BuildStep
     void registerRowSetSupport(
             BuildProducer<NativeImageResourceBundleBuildItem> resourceBundleProducer,
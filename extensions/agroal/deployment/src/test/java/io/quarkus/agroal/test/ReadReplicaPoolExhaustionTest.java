@@ -0,0 +1,95 @@
+package io.quarkus.agroal.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.ReadOnly;
+import io.quarkus.agroal.runtime.ReadReplicaRoutingDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReadReplicaPoolExhaustionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(DatabaseNameService.class))
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.max-size", "1")
+            .overrideConfigKey("quarkus.datasource.jdbc.acquisition-timeout", "1S")
+            .overrideConfigKey("quarkus.datasource.jdbc.read-replica-urls", "jdbc:h2:tcp://localhost/mem:replica");
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    DatabaseNameService service;
+
+    @Test
+    public void testExhaustedReplicaIsNotExcluded() throws Exception {
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> {
+            try {
+                return service.holdConnection(acquired, release);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(acquired.await(10, TimeUnit.SECONDS));
+        try {
+            // the connection times out on the exhausted replica pool, and is taken from the primary
+            assertEquals("TESTING", service.oneConnection());
+            assertTrue(dataSource.unwrap(ReadReplicaRoutingDataSource.class).excludedReplicaUrls().isEmpty());
+        } finally {
+            release.countDown();
+        }
+        assertEquals("REPLICA", holder.get(10, TimeUnit.SECONDS));
+        assertEquals("REPLICA", service.oneConnection());
+    }
+
+    @ApplicationScoped
+    public static class DatabaseNameService {
+
+        @Inject
+        AgroalDataSource dataSource;
+
+        @ReadOnly
+        public String oneConnection() throws SQLException {
+            try (Connection connection = dataSource.getConnection()) {
+                return databaseName(connection);
+            }
+        }
+
+        @ReadOnly
+        public String holdConnection(CountDownLatch acquired, CountDownLatch release)
+                throws SQLException, InterruptedException {
+            try (Connection connection = dataSource.getConnection()) {
+                acquired.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                return databaseName(connection);
+            }
+        }
+
+        private static String databaseName(Connection connection) throws SQLException {
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT DATABASE()")) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.agroal.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.ReadOnly;
+import io.quarkus.agroal.runtime.ReadReplicaRoutingDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReadReplicaRoutingTest {
+
+    private static final String UNREACHABLE_REPLICA_URL = "jdbc:h2:tcp://localhost:1/mem:unreachable";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(DatabaseNameService.class))
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.acquisition-timeout", "2S")
+            .overrideConfigKey("quarkus.datasource.jdbc.read-replica-urls",
+                    UNREACHABLE_REPLICA_URL + ",jdbc:h2:tcp://localhost/mem:replica");
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    DatabaseNameService service;
+
+    @Test
+    public void testRouting() throws SQLException {
+        assertEquals("TESTING", service.primary());
+
+        // the unreachable replica is excluded, so all the read-only connections go to the other one
+        assertEquals("REPLICA", service.readOnly());
+        assertEquals("REPLICA", service.readOnly());
+        ReadReplicaRoutingDataSource routingDataSource = dataSource.unwrap(ReadReplicaRoutingDataSource.class);
+        assertEquals(List.of(UNREACHABLE_REPLICA_URL), routingDataSource.excludedReplicaUrls());
+        assertTrue(routingDataSource.isReplicaExcluded(0));
+        assertFalse(routingDataSource.isReplicaExcluded(1));
+        assertTrue(routingDataSource.isReplicaHealthy(1, false));
+
+        // a read-only method joining a transaction uses the primary
+        assertEquals("TESTING", service.readOnlyInTransaction());
+    }
+
+    @ApplicationScoped
+    public static class DatabaseNameService {
+
+        @Inject
+        AgroalDataSource dataSource;
+
+        @Inject
+        DatabaseNameService self;
+
+        public String primary() throws SQLException {
+            return databaseName();
+        }
+
+        @ReadOnly
+        public String readOnly() throws SQLException {
+            return databaseName();
+        }
+
+        @Transactional
+        public String readOnlyInTransaction() throws SQLException {
+            return self.readOnly();
+        }
+
+        private String databaseName() throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT DATABASE()")) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
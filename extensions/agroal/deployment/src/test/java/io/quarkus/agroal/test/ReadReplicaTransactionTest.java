@@ -0,0 +1,68 @@
+package io.quarkus.agroal.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.ReadOnly;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReadReplicaTransactionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(DatabaseNameService.class))
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.read-replica-urls",
+                    "jdbc:h2:tcp://localhost/mem:replica,jdbc:h2:tcp://localhost/mem:replica2");
+
+    @Inject
+    DatabaseNameService service;
+
+    @Test
+    public void testSameReplicaInTransaction() throws SQLException {
+        List<String> first = service.twoConnections();
+        List<String> second = service.twoConnections();
+        // both connections of a read-only method come from the same replica, and the next method uses the other one
+        assertEquals(first.get(0), first.get(1));
+        assertEquals(second.get(0), second.get(1));
+        assertNotEquals(first.get(0), second.get(0));
+    }
+
+    @ApplicationScoped
+    public static class DatabaseNameService {
+
+        @Inject
+        AgroalDataSource dataSource;
+
+        @ReadOnly
+        @Transactional
+        public List<String> twoConnections() throws SQLException {
+            try (Connection first = dataSource.getConnection();
+                    Connection second = dataSource.getConnection()) {
+                return List.of(databaseName(first), databaseName(second));
+            }
+        }
+
+        private static String databaseName(Connection connection) throws SQLException {
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT DATABASE()")) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.quarkus.agroal.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.agroal.runtime.metrics.StatementMetrics;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StatementCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.max-size", "1")
+            .overrideConfigKey("quarkus.datasource.jdbc.prepared-statement-cache-size", "2")
+            .overrideConfigKey("quarkus.datasource.jdbc.statement-metrics", "true");
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    DataSources dataSources;
+
+    @Test
+    public void testStatementCache() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE cached_statement (id INT, name VARCHAR(255))");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO cached_statement VALUES (?, ?)")) {
+                for (int i = 0; i < 3; i++) {
+                    statement.setInt(1, i);
+                    statement.setString(2, "name" + i);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+
+            PreparedStatement first = physicalStatement(connection, 0);
+            PreparedStatement second = physicalStatement(connection, 1);
+            assertSame(first, second);
+
+            // a statement whose settings changed is not cached
+            try (PreparedStatement statement = connection.prepareStatement("SELECT * FROM cached_statement WHERE id > ?")) {
+                statement.setFetchSize(1);
+            }
+            assertNotSame(first, physicalStatement(connection, 2));
+        }
+
+        StatementMetrics statementMetrics = dataSources.getStatementMetrics(DataSourceUtil.DEFAULT_DATASOURCE_NAME);
+        StatementMetrics.Fingerprint insert = statementMetrics.fingerprints().get("INSERT INTO cached_statement VALUES (?)");
+        assertNotNull(insert);
+        assertEquals(1, insert.executionCount());
+        assertEquals(3, insert.rowCount());
+
+        StatementMetrics.Fingerprint select = statementMetrics.fingerprints()
+                .get("SELECT * FROM cached_statement WHERE id > ?");
+        assertNotNull(select);
+        assertEquals(3, select.executionCount());
+        assertEquals(3, select.rowCount());
+        assertTrue(select.totalTimeNanos() > 0);
+    }
+
+    private PreparedStatement physicalStatement(Connection connection, int id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT * FROM cached_statement WHERE id > ?")) {
+            statement.setInt(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                }
+            }
+            return statement.unwrap(PreparedStatement.class);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.quarkus.agroal.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.QuarkusVirtualThreadConnectionCache;
+import io.quarkus.agroal.runtime.VirtualThreadsAgroalDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class VirtualThreadsAcquisitionModeTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.max-size", "1")
+            .overrideConfigKey("quarkus.datasource.jdbc.acquisition-mode", "virtual-threads")
+            .overrideConfigKey("quarkus.datasource.jdbc.acquisition-max-waiters", "1");
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Test
+    public void testAcquisition() throws Exception {
+        VirtualThreadsAgroalDataSource virtualThreadsDataSource = dataSource.unwrap(VirtualThreadsAgroalDataSource.class);
+
+        // connections returned by threads without a thread local cache are reused by the next ones
+        CompletableFuture.runAsync(this::useConnection).get(10, TimeUnit.SECONDS);
+        CompletableFuture.runAsync(this::useConnection).get(10, TimeUnit.SECONDS);
+
+        CompletableFuture<Void> waiter;
+        try (Connection connection = dataSource.getConnection()) {
+            waiter = CompletableFuture.runAsync(this::useConnection);
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (virtualThreadsDataSource.waitingCount() < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, virtualThreadsDataSource.waitingCount());
+
+            // a second waiter is rejected right away
+            assertThrows(SQLException.class, () -> dataSource.getConnection());
+            assertEquals(1, virtualThreadsDataSource.rejectedCount());
+        }
+        waiter.get(10, TimeUnit.SECONDS);
+        assertEquals(0, virtualThreadsDataSource.waitingCount());
+        assertTrue(dataSource.isHealthy(false));
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        Assumptions.assumeTrue(executor != null, "Virtual threads are not supported by this JVM");
+        QuarkusVirtualThreadConnectionCache cache = (QuarkusVirtualThreadConnectionCache) dataSource.getConfiguration()
+                .connectionPoolConfiguration().connectionCache();
+        try {
+            // the connection returned by a virtual thread is pushed to the shared stack
+            CompletableFuture.runAsync(this::useConnection, executor).get(10, TimeUnit.SECONDS);
+            assertEquals(1, cache.sharedSize());
+
+            // and the next virtual thread takes it from there
+            CompletableFuture.runAsync(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    assertEquals(0, cache.sharedSize());
+                    connection.createStatement().execute("SELECT 1");
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            }, executor).get(10, TimeUnit.SECONDS);
+            assertEquals(1, cache.sharedSize());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private void useConnection() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("SELECT 1");
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkus.agroal;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Routes the connections acquired while the annotated method runs to the read replicas of the datasources.
+ * <p>
+ * Only the datasources with {@code read-replica-urls} are affected, the other ones keep using their URL.
+ * All the connections acquired from a datasource while the method runs come from the same replica.
+ * The routing applies to the blocking code running on the calling thread. It does not apply when the method is called
+ * within a transaction, as the transaction might already use a connection to the primary, and must see its own writes.
+ */
+@Inherited
+@InterceptorBinding
+@Target({ METHOD, TYPE })
+@Retention(RUNTIME)
+@Documented
+public @interface ReadOnly {
+}
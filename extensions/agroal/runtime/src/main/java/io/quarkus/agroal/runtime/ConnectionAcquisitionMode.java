@@ -0,0 +1,20 @@
+package io.quarkus.agroal.runtime;
+
+public enum ConnectionAcquisitionMode {
+
+    /**
+     * Cache the last connection used by each Vert.x or JBoss thread in a thread local, so that it can be acquired
+     * again without going through the pool.
+     * This is the default.
+     */
+    THREAD_LOCAL,
+
+    /**
+     * Designed for applications running their JDBC code on virtual threads, for instance with
+     * {@code @RunOnVirtualThread}, where a thread local cache is never hit.
+     * Connections returned to the pool are kept in a lock-free stack shared by all the threads which are not cached
+     * by {@link #THREAD_LOCAL}, the number of threads waiting for a connection can be bounded with
+     * {@code acquisition-max-waiters}, and the acquisition time is exposed as a metric.
+     */
+    VIRTUAL_THREADS
+}
@@ -1,6 +1,7 @@
 package io.quarkus.agroal.runtime;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -58,6 +59,24 @@ public interface DataSourceJdbcRuntimeConfig {
     @WithDefault("5S")
     Optional<Duration> acquisitionTimeout();
 
+    /**
+     * How connections are acquired from the pool.
+     * <p>
+     * Use {@code virtual-threads} when the JDBC code runs on virtual threads.
+     */
+    @WithDefault("thread-local")
+    ConnectionAcquisitionMode acquisitionMode();
+
+    /**
+     * The maximum number of threads acquiring or waiting for a connection at the same time.
+     * Threads trying to acquire a connection beyond this limit fail immediately instead of waiting
+     * for the acquisition timeout.
+     * <p>
+     * Only taken into account when the acquisition mode is {@code virtual-threads}.
+     */
+    @ConfigDocDefault("By default, the number of waiting threads is not limited.")
+    OptionalInt acquisitionMaxWaiters();
+
     /**
      * The interval at which we check for connection leaks.
      */
@@ -104,6 +123,46 @@ public interface DataSourceJdbcRuntimeConfig {
     @WithDefault("true")
     boolean detectStatementLeaks();
 
+    /**
+     * The maximum number of prepared statements cached by each connection.
+     * <p>
+     * When enabled, the statements prepared with {@code Connection#prepareStatement(String)} are kept open when closed,
+     * and reused the next time the same SQL is prepared on the same connection.
+     * The least recently used statements are closed when the limit is reached.
+     * <p>
+     * Set to {@code 0} to disable the prepared statement cache.
+     * Only supported when the JDBC driver is a {@code java.sql.Driver}, e.g. not with XA datasources.
+     */
+    @WithDefault("0")
+    int preparedStatementCacheSize();
+
+    /**
+     * Record the execution time and the row counts of the executed statements, grouped by statement fingerprint.
+     * <p>
+     * The fingerprint of a statement is its SQL, with its literals replaced by {@code ?}.
+     * These metrics are exposed as {@code agroal.statement.time} and {@code agroal.statement.rows} when metrics are enabled.
+     * Only supported when the JDBC driver is a {@code java.sql.Driver}, e.g. not with XA datasources.
+     */
+    @WithDefault("false")
+    boolean statementMetrics();
+
+    /**
+     * The URLs of the read replicas of the datasource.
+     * <p>
+     * When set, the connections acquired while a method annotated with {@code @io.quarkus.agroal.ReadOnly} runs are taken
+     * from the read replicas, in a round-robin fashion, instead of from the datasource URL.
+     * Each replica has its own pool, configured like the pool of the datasource.
+     */
+    Optional<List<String>> readReplicaUrls();
+
+    /**
+     * How long a read replica is excluded from the routing after failing to connect to its database.
+     * <p>
+     * The connections are taken from the datasource URL when all the read replicas are excluded.
+     */
+    @WithDefault("30S")
+    Duration readReplicaExclusionTime();
+
     /**
      * Query executed when first using a connection.
      */
@@ -6,12 +6,14 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
@@ -28,6 +30,8 @@
 
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.cache.ConnectionCache;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.TransactionRequirement;
 import io.agroal.api.configuration.AgroalDataSourceConfiguration;
@@ -41,6 +45,7 @@
 import io.agroal.narayana.NarayanaTransactionIntegration;
 import io.quarkus.agroal.DataSource;
 import io.quarkus.agroal.runtime.JdbcDriver.JdbcDriverLiteral;
+import io.quarkus.agroal.runtime.metrics.StatementMetrics;
 import io.quarkus.arc.Arc;
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.credentials.runtime.CredentialsProviderFinder;
@@ -83,6 +88,7 @@ public class DataSources {
     private final Instance<AgroalOpenTelemetryWrapper> agroalOpenTelemetryWrapper;
 
     private final ConcurrentMap<String, AgroalDataSource> dataSources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, StatementMetrics> statementMetrics = new ConcurrentHashMap<>();
 
     public DataSources(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig, DataSourcesJdbcBuildTimeConfig dataSourcesJdbcBuildTimeConfig,
@@ -138,6 +144,13 @@ public Set<String> getActiveDataSourceNames() {
         return dataSources.keySet();
     }
 
+    /**
+     * @return the statement metrics of the given datasource, or {@code null} if statement metrics are disabled
+     */
+    public StatementMetrics getStatementMetrics(String dataSourceName) {
+        return statementMetrics.get(dataSourceName);
+    }
+
     public AgroalDataSource getDataSource(String dataSourceName) {
         return dataSources.computeIfAbsent(dataSourceName, new Function<String, AgroalDataSource>() {
             @Override
@@ -264,18 +277,15 @@ public AgroalDataSource doCreateDataSource(String dataSourceName, boolean failIf
                 dataSourceJdbcBuildTimeConfig, dataSourceRuntimeConfig, dataSourceJdbcRuntimeConfig, transactionRuntimeConfig,
                 mpMetricsPresent);
 
+        if (dataSourceJdbcRuntimeConfig.preparedStatementCacheSize() > 0 || dataSourceJdbcRuntimeConfig.statementMetrics()) {
+            applyStatementInterception(dataSourceName, connectionFactoryConfiguration, driver, dataSourceJdbcRuntimeConfig);
+        }
+
         if (agroalDataSourceSupport.disableSslSupport) {
             agroalConnectionConfigurer.disableSslSupport(resolvedDbKind, dataSourceConfiguration);
         }
-        //we use a custom cache for two reasons:
-        //fast thread local cache should be faster
-        //and it prevents a thread local leak
-        try {
-            Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
-        } catch (ClassNotFoundException e) {
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
-        }
+        boolean virtualThreads = dataSourceJdbcRuntimeConfig.acquisitionMode() == ConnectionAcquisitionMode.VIRTUAL_THREADS;
+        dataSourceConfiguration.connectionPoolConfiguration().connectionCache(newConnectionCache(dataSourceJdbcRuntimeConfig));
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
 
@@ -298,6 +308,16 @@ public AgroalDataSource doCreateDataSource(String dataSourceName, boolean failIf
             dataSource.setPoolInterceptors(interceptorList);
         }
 
+        if (dataSourceJdbcRuntimeConfig.readReplicaUrls().isPresent()) {
+            dataSource = createReadReplicaRoutingDataSource(dataSourceName, dataSource, agroalConfiguration,
+                    interceptorList, dataSourceJdbcRuntimeConfig);
+        }
+
+        if (virtualThreads) {
+            dataSource = new VirtualThreadsAgroalDataSource(dataSource,
+                    dataSourceJdbcRuntimeConfig.acquisitionMaxWaiters().orElse(Integer.MAX_VALUE));
+        }
+
         if (dataSourceJdbcBuildTimeConfig.telemetry() && dataSourceJdbcRuntimeConfig.telemetry().orElse(true)) {
             // activate OpenTelemetry JDBC instrumentation by wrapping AgroalDatasource
             // use an optional CDI bean as we can't reference optional OpenTelemetry classes here
@@ -307,6 +327,84 @@ public AgroalDataSource doCreateDataSource(String dataSourceName, boolean failIf
         return dataSource;
     }
 
+    private static ConnectionCache newConnectionCache(DataSourceJdbcRuntimeConfig dataSourceJdbcRuntimeConfig) {
+        //we use a custom cache for two reasons:
+        //fast thread local cache should be faster
+        //and it prevents a thread local leak
+        ConnectionCache connectionCache;
+        Predicate<Thread> threadLocalCached;
+        try {
+            Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
+            connectionCache = new QuarkusNettyConnectionCache();
+            threadLocalCached = QuarkusNettyConnectionCache::isCached;
+        } catch (ClassNotFoundException e) {
+            connectionCache = new QuarkusSimpleConnectionCache();
+            threadLocalCached = QuarkusSimpleConnectionCache::isCached;
+        }
+        if (dataSourceJdbcRuntimeConfig.acquisitionMode() == ConnectionAcquisitionMode.VIRTUAL_THREADS) {
+            //threads that are not cached in a thread local, such as virtual threads, share the returned connections
+            connectionCache = new QuarkusVirtualThreadConnectionCache(connectionCache, threadLocalCached,
+                    dataSourceJdbcRuntimeConfig.maxSize());
+        }
+        return connectionCache;
+    }
+
+    private ReadReplicaRoutingDataSource createReadReplicaRoutingDataSource(String dataSourceName, AgroalDataSource primary,
+            AgroalDataSourceConfiguration primaryConfiguration, Collection<AgroalPoolInterceptor> interceptorList,
+            DataSourceJdbcRuntimeConfig dataSourceJdbcRuntimeConfig) {
+        AgroalConnectionPoolConfiguration poolConfiguration = primaryConfiguration.connectionPoolConfiguration();
+        Map<String, AgroalDataSource> replicas = new LinkedHashMap<>();
+        for (String url : dataSourceJdbcRuntimeConfig.readReplicaUrls().get()) {
+            // same configuration as the primary, but a separate connection cache
+            AgroalDataSourceConfiguration replicaConfiguration = new AgroalDataSourceConfigurationSupplier()
+                    .dataSourceImplementation(primaryConfiguration.dataSourceImplementation())
+                    .metricsEnabled(primaryConfiguration.metricsEnabled())
+                    .connectionPoolConfiguration(new AgroalConnectionPoolConfigurationSupplier(poolConfiguration)
+                            .connectionCache(newConnectionCache(dataSourceJdbcRuntimeConfig))
+                            .connectionFactoryConfiguration(new AgroalConnectionFactoryConfigurationSupplier(
+                                    poolConfiguration.connectionFactoryConfiguration()).jdbcUrl(url)))
+                    .get();
+            AgroalDataSource replica = new io.agroal.pool.DataSource(replicaConfiguration,
+                    new AgroalEventLoggingListener(dataSourceName,
+                            poolConfiguration.transactionRequirement() == TransactionRequirement.WARN));
+            if (!interceptorList.isEmpty()) {
+                replica.setPoolInterceptors(interceptorList);
+            }
+            log.debugv("Started read replica of datasource {0} connected to {1}", dataSourceName, url);
+            replicas.put(url, replica);
+        }
+        return new ReadReplicaRoutingDataSource(dataSourceName, primary, replicas,
+                dataSourceJdbcRuntimeConfig.readReplicaExclusionTime());
+    }
+
+    private void applyStatementInterception(String dataSourceName,
+            AgroalConnectionFactoryConfigurationSupplier connectionFactoryConfiguration, Class<?> driver,
+            DataSourceJdbcRuntimeConfig dataSourceJdbcRuntimeConfig) {
+        if (driver != null && !Driver.class.isAssignableFrom(driver)) {
+            // Agroal sets the properties of DataSource and XADataSource implementations itself
+            log.warnv("The prepared statement cache and the statement metrics of datasource {0} are disabled: they are"
+                    + " only supported with a java.sql.Driver, {1} is not one", dataSourceName, driver.getName());
+            return;
+        }
+        Driver delegate;
+        try {
+            delegate = driver == null ? null : (Driver) driver.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to instantiate the datasource driver " + driver.getName()
+                    + " for datasource " + dataSourceName, e);
+        }
+        StatementMetrics metrics = null;
+        if (dataSourceJdbcRuntimeConfig.statementMetrics()) {
+            metrics = new StatementMetrics(dataSourceName);
+            statementMetrics.put(dataSourceName, metrics);
+        }
+        QuarkusJdbcDriver.register(dataSourceName, delegate, dataSourceJdbcRuntimeConfig.preparedStatementCacheSize(),
+                metrics);
+        // the driver wraps the connections of the actual driver, which it finds thanks to the datasource name
+        connectionFactoryConfiguration.connectionProviderClass(QuarkusJdbcDriver.class);
+        connectionFactoryConfiguration.jdbcProperty(QuarkusJdbcDriver.DATASOURCE_PROPERTY, dataSourceName);
+    }
+
     private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
             AgroalConnectionPoolConfigurationSupplier poolConfiguration,
             AgroalConnectionFactoryConfigurationSupplier connectionFactoryConfiguration, Class<?> driver, String jdbcUrl,
@@ -449,5 +547,8 @@ public void stop() {
                 dataSource.close();
             }
         }
+        for (String dataSourceName : dataSources.keySet()) {
+            QuarkusJdbcDriver.unregister(dataSourceName);
+        }
     }
 }
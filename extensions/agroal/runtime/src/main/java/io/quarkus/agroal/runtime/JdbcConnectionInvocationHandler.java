@@ -0,0 +1,163 @@
+package io.quarkus.agroal.runtime;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.agroal.runtime.metrics.StatementMetrics;
+
+/**
+ * Wraps a physical connection to cache its prepared statements and record statement metrics.
+ * <p>
+ * The statements prepared with {@link Connection#prepareStatement(String)} are kept open when they are closed, and
+ * handed out again the next time the same SQL is prepared on this connection. At most {@code statementCacheSize} idle
+ * statements are kept, the least recently used one being closed when the limit is reached.
+ */
+class JdbcConnectionInvocationHandler implements InvocationHandler {
+
+    private static final Logger log = Logger.getLogger(JdbcConnectionInvocationHandler.class);
+
+    private final Connection connection;
+    private final StatementMetrics statementMetrics;
+    private final Map<String, PreparedStatement> idleStatements;
+    private final List<PreparedStatement> evictedStatements = new ArrayList<>();
+    private Connection proxy;
+
+    JdbcConnectionInvocationHandler(Connection connection, int statementCacheSize, StatementMetrics statementMetrics) {
+        this.connection = connection;
+        this.statementMetrics = statementMetrics;
+        this.idleStatements = statementCacheSize <= 0 ? null
+                : new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                        if (size() > statementCacheSize) {
+                            evictedStatements.add(eldest.getValue());
+                            return true;
+                        }
+                        return false;
+                    }
+                };
+    }
+
+    void setProxy(Connection proxy) {
+        this.proxy = proxy;
+    }
+
+    Connection proxy() {
+        return proxy;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "prepareStatement":
+                if (idleStatements != null && args.length == 1) {
+                    return prepareCachedStatement((String) args[0]);
+                }
+                return wrapStatement(PreparedStatement.class, invokeDelegate(connection, method, args), (String) args[0]);
+            case "prepareCall":
+                return wrapStatement(CallableStatement.class, invokeDelegate(connection, method, args), (String) args[0]);
+            case "createStatement":
+                return wrapStatement(Statement.class, invokeDelegate(connection, method, args), null);
+            case "close":
+                closeIdleStatements();
+                break;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "QuarkusConnection[" + connection + "]";
+            default:
+                break;
+        }
+        return invokeDelegate(connection, method, args);
+    }
+
+    private Object wrapStatement(Class<? extends Statement> type, Object statement, String sql) {
+        if (statementMetrics == null) {
+            return statement;
+        }
+        return JdbcStatementInvocationHandler.wrap(type, (Statement) statement, this, null,
+                sql == null ? null : statementMetrics.fingerprint(sql), statementMetrics);
+    }
+
+    private Object prepareCachedStatement(String sql) throws SQLException {
+        PreparedStatement statement;
+        synchronized (this) {
+            statement = idleStatements.remove(sql);
+        }
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+        }
+        return JdbcStatementInvocationHandler.wrap(PreparedStatement.class, statement, this, sql,
+                statementMetrics == null ? null : statementMetrics.fingerprint(sql), statementMetrics);
+    }
+
+    /**
+     * Makes a closed statement available to the next {@link Connection#prepareStatement(String)} call with the same SQL.
+     */
+    void release(String sql, PreparedStatement statement) {
+        PreparedStatement duplicate;
+        List<PreparedStatement> evicted;
+        synchronized (this) {
+            duplicate = idleStatements.putIfAbsent(sql, statement);
+            evicted = evictedStatements.isEmpty() ? List.of() : new ArrayList<>(evictedStatements);
+            evictedStatements.clear();
+        }
+        if (duplicate != null) {
+            // the same SQL was prepared twice at the same time: only keep one of the statements
+            closeQuietly(statement);
+        }
+        for (PreparedStatement evictedStatement : evicted) {
+            closeQuietly(evictedStatement);
+        }
+    }
+
+    private void closeIdleStatements() {
+        if (idleStatements == null) {
+            return;
+        }
+        List<PreparedStatement> statements;
+        synchronized (this) {
+            statements = new ArrayList<>(idleStatements.values());
+            idleStatements.clear();
+        }
+        for (PreparedStatement statement : statements) {
+            closeQuietly(statement);
+        }
+    }
+
+    static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Unable to close a cached JDBC resource", e);
+        }
+    }
+
+    static Object invokeDelegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    static <T> T newProxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(JdbcConnectionInvocationHandler.class.getClassLoader(),
+                new Class<?>[] { type }, handler));
+    }
+}
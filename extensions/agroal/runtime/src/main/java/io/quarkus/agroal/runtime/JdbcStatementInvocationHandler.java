@@ -0,0 +1,219 @@
+package io.quarkus.agroal.runtime;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import io.quarkus.agroal.runtime.metrics.StatementMetrics;
+
+/**
+ * Wraps a physical statement to return it to the statement cache of its connection when it is closed, and to record
+ * the execution time and row counts of its executions.
+ * <p>
+ * A cached statement whose settings were changed, e.g. with {@link Statement#setFetchSize(int)}, is closed instead of
+ * being cached, so that the next user of the statement does not inherit these settings. The result sets are wrapped as
+ * well, so that {@link ResultSet#getStatement()} returns the wrapper rather than the physical statement.
+ */
+class JdbcStatementInvocationHandler implements InvocationHandler {
+
+    private final Statement statement;
+    private final JdbcConnectionInvocationHandler connection;
+    private final String cacheKey;
+    private final StatementMetrics.Fingerprint fingerprint;
+    private final StatementMetrics statementMetrics;
+    private Statement proxy;
+    private ResultSet currentResultSet;
+    private StatementMetrics.Fingerprint executedFingerprint;
+    private String batchSql;
+    private boolean batched;
+    private boolean dirty;
+    private boolean closed;
+
+    private JdbcStatementInvocationHandler(Statement statement, JdbcConnectionInvocationHandler connection,
+            String cacheKey, StatementMetrics.Fingerprint fingerprint, StatementMetrics statementMetrics) {
+        this.statement = statement;
+        this.connection = connection;
+        this.cacheKey = cacheKey;
+        this.fingerprint = fingerprint;
+        this.statementMetrics = statementMetrics;
+    }
+
+    /**
+     * @param cacheKey the SQL of the statement if it should be returned to the statement cache when closed
+     * @param fingerprint the metrics of the statement if it is a prepared statement with metrics enabled
+     * @param statementMetrics the metrics of the datasource, or {@code null} if metrics are disabled
+     */
+    static <T extends Statement> T wrap(Class<T> type, Statement statement, JdbcConnectionInvocationHandler connection,
+            String cacheKey, StatementMetrics.Fingerprint fingerprint, StatementMetrics statementMetrics) {
+        JdbcStatementInvocationHandler handler = new JdbcStatementInvocationHandler(statement, connection, cacheKey,
+                fingerprint, statementMetrics);
+        T proxy = JdbcConnectionInvocationHandler.newProxy(type, handler);
+        handler.proxy = proxy;
+        return proxy;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "close":
+                close();
+                return null;
+            case "isClosed":
+                return closed || statement.isClosed();
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "QuarkusStatement[" + statement + "]";
+            default:
+                break;
+        }
+        if (closed) {
+            throw new SQLException("Statement is closed");
+        }
+        switch (name) {
+            case "getConnection":
+                return connection.proxy();
+            case "closeOnCompletion":
+                dirty = true;
+                break;
+            case "addBatch":
+                batched = true;
+                if (args != null && args.length == 1 && batchSql == null) {
+                    batchSql = (String) args[0];
+                }
+                break;
+            case "clearBatch":
+                batchSql = null;
+                break;
+            default:
+                if (method.getDeclaringClass() == Statement.class && name.startsWith("set")) {
+                    dirty = true;
+                }
+                break;
+        }
+
+        if (statementMetrics != null && name.startsWith("execute")) {
+            return execute(method, args);
+        }
+        Object result = JdbcConnectionInvocationHandler.invokeDelegate(statement, method, args);
+        if (name.equals("getResultSet")) {
+            return resultSet((ResultSet) result, executedFingerprint);
+        } else if (name.equals("executeQuery")) {
+            return resultSet((ResultSet) result, null);
+        } else if (result instanceof ResultSet) {
+            // e.g. the generated keys, which are not tracked as the current result set
+            return wrapResultSet((ResultSet) result, null);
+        }
+        return result;
+    }
+
+    private Object execute(Method method, Object[] args) throws Throwable {
+        StatementMetrics.Fingerprint metrics = fingerprint;
+        if (metrics == null) {
+            // plain statements get their SQL when executed
+            String sql = args != null && args.length > 0 ? (String) args[0] : batchSql;
+            if (sql != null) {
+                metrics = statementMetrics.fingerprint(sql);
+            }
+        }
+        long start = System.nanoTime();
+        Object result = JdbcConnectionInvocationHandler.invokeDelegate(statement, method, args);
+        long duration = System.nanoTime() - start;
+        if (method.getName().startsWith("executeBatch") || method.getName().startsWith("executeLargeBatch")) {
+            batchSql = null;
+        }
+        executedFingerprint = metrics;
+        if (metrics != null) {
+            metrics.recordExecution(duration, updateCount(result));
+        }
+        if (result instanceof ResultSet) {
+            return resultSet((ResultSet) result, metrics);
+        }
+        return result;
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Number) {
+            return ((Number) result).longValue();
+        }
+        long count = 0;
+        if (result instanceof int[]) {
+            for (int batchCount : (int[]) result) {
+                count += Math.max(batchCount, 0);
+            }
+        } else if (result instanceof long[]) {
+            for (long batchCount : (long[]) result) {
+                count += Math.max(batchCount, 0);
+            }
+        }
+        return count;
+    }
+
+    private ResultSet resultSet(ResultSet resultSet, StatementMetrics.Fingerprint metrics) {
+        currentResultSet = resultSet;
+        return wrapResultSet(resultSet, metrics);
+    }
+
+    /**
+     * @param metrics the metrics to record the rows read from the result set into, or {@code null}
+     */
+    private ResultSet wrapResultSet(ResultSet resultSet, StatementMetrics.Fingerprint metrics) {
+        if (resultSet == null) {
+            return null;
+        }
+        return JdbcConnectionInvocationHandler.newProxy(ResultSet.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object resultSetProxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "getStatement":
+                        return proxy;
+                    case "equals":
+                        return resultSetProxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(resultSetProxy);
+                    default:
+                        break;
+                }
+                Object result = JdbcConnectionInvocationHandler.invokeDelegate(resultSet, method, args);
+                if (metrics != null && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                    metrics.recordRows(1);
+                }
+                return result;
+            }
+        });
+    }
+
+    private void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (cacheKey == null || dirty) {
+            statement.close();
+            return;
+        }
+        PreparedStatement preparedStatement = (PreparedStatement) statement;
+        try {
+            if (currentResultSet != null) {
+                currentResultSet.close();
+                currentResultSet = null;
+            }
+            preparedStatement.clearParameters();
+            if (batched) {
+                preparedStatement.clearBatch();
+            }
+            preparedStatement.clearWarnings();
+        } catch (SQLException e) {
+            // the statement is not in a state we can reuse
+            statement.close();
+            return;
+        }
+        connection.release(cacheKey, preparedStatement);
+    }
+}
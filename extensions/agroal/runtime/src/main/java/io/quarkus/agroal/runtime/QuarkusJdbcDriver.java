@@ -0,0 +1,104 @@
+package io.quarkus.agroal.runtime;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+import io.quarkus.agroal.runtime.metrics.StatementMetrics;
+
+/**
+ * The {@link Driver} used by datasources with a prepared statement cache or statement metrics.
+ * <p>
+ * Agroal instantiates the driver itself, so the settings of each datasource are registered beforehand and looked up
+ * through the {@value #DATASOURCE_PROPERTY} JDBC property. The connections of the actual driver are then wrapped, so
+ * that the cache and the metrics apply to the physical connections, below the Agroal connection wrappers.
+ */
+public final class QuarkusJdbcDriver implements Driver {
+
+    static final String DATASOURCE_PROPERTY = "quarkus.agroal.datasource";
+
+    private static final ConcurrentMap<String, Settings> SETTINGS = new ConcurrentHashMap<>();
+
+    static void register(String dataSourceName, Driver driver, int statementCacheSize,
+            StatementMetrics statementMetrics) {
+        SETTINGS.put(dataSourceName, new Settings(driver, statementCacheSize, statementMetrics));
+    }
+
+    static void unregister(String dataSourceName) {
+        SETTINGS.remove(dataSourceName);
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        Properties properties = new Properties();
+        if (info != null) {
+            properties.putAll(info);
+        }
+        Object dataSourceName = properties.remove(DATASOURCE_PROPERTY);
+        Settings settings = dataSourceName == null ? null : SETTINGS.get(dataSourceName.toString());
+        if (settings == null) {
+            throw new SQLException("No datasource registered for the JDBC URL " + url);
+        }
+        Driver driver = settings.driver != null ? settings.driver : DriverManager.getDriver(url);
+        Connection connection = driver.connect(url, properties);
+        if (connection == null) {
+            return null;
+        }
+        JdbcConnectionInvocationHandler handler = new JdbcConnectionInvocationHandler(connection,
+                settings.statementCacheSize, settings.statementMetrics);
+        Connection proxy = JdbcConnectionInvocationHandler.newProxy(Connection.class, handler);
+        handler.setProxy(proxy);
+        return proxy;
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        // the actual driver checks the URL when connecting
+        return url != null && url.startsWith("jdbc:");
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    private static final class Settings {
+
+        private final Driver driver;
+        private final int statementCacheSize;
+        private final StatementMetrics statementMetrics;
+
+        private Settings(Driver driver, int statementCacheSize, StatementMetrics statementMetrics) {
+            this.driver = driver;
+            this.statementCacheSize = statementCacheSize;
+            this.statementMetrics = statementMetrics;
+        }
+    }
+}
@@ -13,8 +13,7 @@ class QuarkusNettyConnectionCache implements ConnectionCache {
 
     @Override
     public Acquirable get() {
-        Thread thread = Thread.currentThread();
-        if (thread instanceof FastThreadLocalThread || thread instanceof JBossThread) {
+        if (isCached(Thread.currentThread())) {
             //we only want to cache on threads that we control the lifecycle
             //which are the vert.x and potentially jboss threads
             //JBossThread still works with FastThreadLocal, it is just slower, and for most apps
@@ -28,8 +27,7 @@ public Acquirable get() {
 
     @Override
     public void put(Acquirable acquirable) {
-        Thread thread = Thread.currentThread();
-        if (thread instanceof FastThreadLocalThread || thread instanceof JBossThread) {
+        if (isCached(Thread.currentThread())) {
             connectionCache.set(acquirable);
         }
     }
@@ -53,4 +51,8 @@ public void reset() {
 
         //connectionCache = new FastThreadLocal<>();
     }
+
+    static boolean isCached(Thread thread) {
+        return thread instanceof FastThreadLocalThread || thread instanceof JBossThread;
+    }
 }
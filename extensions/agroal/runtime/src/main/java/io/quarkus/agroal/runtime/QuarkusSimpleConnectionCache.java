@@ -11,8 +11,7 @@ class QuarkusSimpleConnectionCache implements ConnectionCache {
 
     @Override
     public Acquirable get() {
-        Thread thread = Thread.currentThread();
-        if (thread instanceof JBossThread) {
+        if (isCached(Thread.currentThread())) {
             //we only want to cache on threads that we control the lifecycle
             //which are the vert.x and potentially jboss threads
             //JBossThread still works with FastThreadLocal, it is just slower, and for most apps
@@ -26,8 +25,7 @@ public Acquirable get() {
 
     @Override
     public void put(Acquirable acquirable) {
-        Thread thread = Thread.currentThread();
-        if (thread instanceof JBossThread) {
+        if (isCached(Thread.currentThread())) {
             connectionCache.set(acquirable);
         }
     }
@@ -36,4 +34,8 @@ public void put(Acquirable acquirable) {
     public void reset() {
         connectionCache = new ThreadLocal<>();
     }
+
+    static boolean isCached(Thread thread) {
+        return thread instanceof JBossThread;
+    }
 }
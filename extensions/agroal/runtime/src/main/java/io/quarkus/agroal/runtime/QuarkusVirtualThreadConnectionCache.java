@@ -0,0 +1,76 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+
+/**
+ * A connection cache for threads which do not live long enough for a thread local cache to be hit, such as
+ * virtual threads.
+ * <p>
+ * Threads handled by the thread local cache still use it; the connections returned by other threads are pushed to a
+ * lock-free stack shared by all of them, so that the next acquisition gets the most recently used connection without
+ * scanning the whole pool, and without ever holding a monitor that would pin a virtual thread to its carrier.
+ */
+public class QuarkusVirtualThreadConnectionCache implements ConnectionCache {
+
+    private final ConnectionCache threadLocalCache;
+    private final Predicate<Thread> threadLocalCached;
+    private final int capacity;
+
+    private final ConcurrentLinkedDeque<Acquirable> sharedCache = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger sharedCacheSize = new AtomicInteger();
+
+    QuarkusVirtualThreadConnectionCache(ConnectionCache threadLocalCache, Predicate<Thread> threadLocalCached,
+            int capacity) {
+        this.threadLocalCache = threadLocalCache;
+        this.threadLocalCached = threadLocalCached;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Acquirable get() {
+        Acquirable acquirable = threadLocalCache.get();
+        if (acquirable != null) {
+            return acquirable;
+        }
+        // connections acquired from the pool rather than from this cache are still in the stack: skip them
+        while ((acquirable = sharedCache.pollFirst()) != null) {
+            sharedCacheSize.decrementAndGet();
+            if (acquirable.acquire()) {
+                return acquirable;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(Acquirable acquirable) {
+        if (threadLocalCached.test(Thread.currentThread())) {
+            threadLocalCache.put(acquirable);
+        } else if (sharedCacheSize.incrementAndGet() <= capacity) {
+            sharedCache.offerFirst(acquirable);
+        } else {
+            sharedCacheSize.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return the number of connections in the shared stack, including the ones acquired from the pool since they were
+     *         returned
+     */
+    public int sharedSize() {
+        return sharedCacheSize.get();
+    }
+
+    @Override
+    public void reset() {
+        threadLocalCache.reset();
+        while (sharedCache.pollFirst() != null) {
+            sharedCacheSize.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionManager;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.ReadOnly;
+
+/**
+ * Marks the current thread as read-only while a {@link ReadOnly} method runs, so that the datasources with read
+ * replicas take their connections from the replicas.
+ * <p>
+ * This runs before the {@code @Transactional} interceptors, so that a read-only method starting its own transaction is
+ * routed to the replicas, while one joining the transaction of its caller keeps using the primary.
+ * <p>
+ * The pool chosen by a datasource for the first connection acquired while the method runs is kept for the following
+ * connections, so that they can join the same transaction and see the same replication lag.
+ */
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class ReadOnlyInterceptor {
+
+    // the pool chosen by each datasource with read replicas, for the method running on the current thread
+    private static final ThreadLocal<Map<ReadReplicaRoutingDataSource, AgroalDataSource>> READ_ONLY = new ThreadLocal<>();
+
+    private final TransactionManager transactionManager;
+
+    public ReadOnlyInterceptor(TransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * @return whether the current thread runs a {@link ReadOnly} method
+     */
+    public static boolean isReadOnly() {
+        return READ_ONLY.get() != null;
+    }
+
+    /**
+     * @return the pools chosen by the datasources with read replicas while the current {@link ReadOnly} method runs, or
+     *         {@code null} if the current thread does not run a {@link ReadOnly} method
+     */
+    static Map<ReadReplicaRoutingDataSource, AgroalDataSource> chosenPools() {
+        return READ_ONLY.get();
+    }
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        if (isReadOnly() || transactionManager.getStatus() != Status.STATUS_NO_TRANSACTION) {
+            return context.proceed();
+        }
+        READ_ONLY.set(new IdentityHashMap<>());
+        try {
+            return context.proceed();
+        } finally {
+            READ_ONLY.remove();
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package io.quarkus.agroal.runtime;
+
+import java.io.PrintWriter;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.ShardingKeyBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+import io.quarkus.agroal.ReadOnly;
+
+/**
+ * The {@link AgroalDataSource} wrapper used by the datasources with read replicas.
+ * <p>
+ * The connections acquired while a {@link ReadOnly} method runs are taken from the replicas, in a round-robin fashion.
+ * The replica is chosen when the first connection is acquired, and the following connections acquired while the method
+ * runs are taken from the same replica. A replica failing to connect to its database is excluded for the configured exclusion
+ * time, and the connections are
+ * taken from the primary when all the replicas are excluded. A replica failing to provide a connection for another
+ * reason, such as its pool being exhausted, is skipped but not excluded. The other connections are always taken from
+ * the primary.
+ * <p>
+ * {@link #isHealthy(boolean)}, {@link #getMetrics()} and {@link #getConfiguration()} only cover the primary, the replicas
+ * are covered by {@link #isReplicaHealthy(int, boolean)} and {@link #getReplicaMetrics(int)}.
+ */
+public class ReadReplicaRoutingDataSource implements AgroalDataSource {
+
+    private static final Logger log = Logger.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private final String dataSourceName;
+    private final AgroalDataSource primary;
+    private final Replica[] replicas;
+    private final long exclusionTimeNanos;
+    private final AtomicInteger next = new AtomicInteger();
+
+    ReadReplicaRoutingDataSource(String dataSourceName, AgroalDataSource primary, Map<String, AgroalDataSource> replicas,
+            Duration exclusionTime) {
+        this.dataSourceName = dataSourceName;
+        this.primary = primary;
+        this.replicas = new Replica[replicas.size()];
+        int i = 0;
+        for (Map.Entry<String, AgroalDataSource> replica : replicas.entrySet()) {
+            this.replicas[i++] = new Replica(replica.getKey(), replica.getValue());
+        }
+        this.exclusionTimeNanos = exclusionTime.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Map<ReadReplicaRoutingDataSource, AgroalDataSource> chosenPools = ReadOnlyInterceptor.chosenPools();
+        if (chosenPools == null) {
+            return primary.getConnection();
+        }
+        return getReplicaConnection(chosenPools, AgroalDataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Map<ReadReplicaRoutingDataSource, AgroalDataSource> chosenPools = ReadOnlyInterceptor.chosenPools();
+        if (chosenPools == null) {
+            return primary.getConnection(username, password);
+        }
+        return getReplicaConnection(chosenPools, dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection getReplicaConnection(Map<ReadReplicaRoutingDataSource, AgroalDataSource> chosenPools,
+            ConnectionAcquirer acquirer) throws SQLException {
+        AgroalDataSource chosen = chosenPools.get(this);
+        if (chosen != null) {
+            // the connections acquired by a read-only method must not come from different pools
+            try {
+                return acquirer.acquire(chosen);
+            } catch (SQLException e) {
+                for (Replica replica : replicas) {
+                    if (replica.dataSource == chosen && isConnectionFailure(e)) {
+                        replica.exclude(e);
+                    }
+                }
+                throw e;
+            }
+        }
+        return chooseReplicaConnection(chosenPools, acquirer);
+    }
+
+    private Connection chooseReplicaConnection(Map<ReadReplicaRoutingDataSource, AgroalDataSource> chosenPools,
+            ConnectionAcquirer acquirer) throws SQLException {
+        int first = Math.floorMod(next.getAndIncrement(), replicas.length);
+        for (int i = 0; i < replicas.length; i++) {
+            Replica replica = replicas[(first + i) % replicas.length];
+            if (replica.isExcluded()) {
+                continue;
+            }
+            try {
+                Connection connection = acquirer.acquire(replica.dataSource);
+                chosenPools.put(this, replica.dataSource);
+                return connection;
+            } catch (SQLException e) {
+                if (isConnectionFailure(e)) {
+                    replica.exclude(e);
+                } else {
+                    log.debugv(e, "Unable to acquire a connection from read replica {0} of datasource {1}, skipping it",
+                            replica.url, dataSourceName);
+                }
+            }
+        }
+        Connection connection = acquirer.acquire(primary);
+        chosenPools.put(this, primary);
+        return connection;
+    }
+
+    /**
+     * The pool reports its own failures, such as an acquisition timeout, with a plain {@link SQLException}, while the
+     * failures to connect to the database come from the driver.
+     */
+    private static boolean isConnectionFailure(SQLException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLNonTransientConnectionException || cause instanceof SQLTransientConnectionException
+                    || cause instanceof SocketException || cause instanceof UnknownHostException) {
+                return true;
+            }
+            // SQL state class 08 is for the connection exceptions
+            if (cause instanceof SQLException && ((SQLException) cause).getSQLState() != null
+                    && ((SQLException) cause).getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the URLs of the read replicas, the index of a replica in this list identifies it in the other methods
+     */
+    public List<String> replicaUrls() {
+        List<String> urls = new ArrayList<>(replicas.length);
+        for (Replica replica : replicas) {
+            urls.add(replica.url);
+        }
+        return urls;
+    }
+
+    /**
+     * @return whether the read replica at the given index is currently excluded from the routing
+     */
+    public boolean isReplicaExcluded(int index) {
+        return replicas[index].isExcluded();
+    }
+
+    /**
+     * @return whether the pool of the read replica at the given index is healthy
+     * @see AgroalDataSource#isHealthy(boolean)
+     */
+    public boolean isReplicaHealthy(int index, boolean newConnection) throws SQLException {
+        return replicas[index].dataSource.isHealthy(newConnection);
+    }
+
+    /**
+     * @return the metrics of the pool of the read replica at the given index
+     */
+    public AgroalDataSourceMetrics getReplicaMetrics(int index) {
+        return replicas[index].dataSource.getMetrics();
+    }
+
+    /**
+     * @return the URLs of the read replicas currently excluded from the routing
+     */
+    public List<String> excludedReplicaUrls() {
+        List<String> urls = new ArrayList<>();
+        for (Replica replica : replicas) {
+            if (replica.isExcluded()) {
+                urls.add(replica.url);
+            }
+        }
+        return urls;
+    }
+
+    @Override
+    public boolean isHealthy(boolean newConnection) throws SQLException {
+        return primary.isHealthy(newConnection);
+    }
+
+    @Override
+    public AgroalDataSourceConfiguration getConfiguration() {
+        return primary.getConfiguration();
+    }
+
+    @Override
+    public AgroalDataSourceMetrics getMetrics() {
+        return primary.getMetrics();
+    }
+
+    @Override
+    public void flush(FlushMode mode) {
+        primary.flush(mode);
+        for (Replica replica : replicas) {
+            replica.dataSource.flush(mode);
+        }
+    }
+
+    @Override
+    public void setPoolInterceptors(Collection<? extends AgroalPoolInterceptor> interceptors) {
+        primary.setPoolInterceptors(interceptors);
+        for (Replica replica : replicas) {
+            replica.dataSource.setPoolInterceptors(interceptors);
+        }
+    }
+
+    @Override
+    public List<AgroalPoolInterceptor> getPoolInterceptors() {
+        return primary.getPoolInterceptors();
+    }
+
+    @Override
+    public ShardingKeyBuilder createShardingKeyBuilder() throws SQLException {
+        return primary.createShardingKeyBuilder();
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionAcquirer {
+
+        Connection acquire(AgroalDataSource dataSource) throws SQLException;
+    }
+
+    private final class Replica {
+
+        private final String url;
+        private final AgroalDataSource dataSource;
+        private volatile long excludedUntil;
+        private volatile boolean excluded;
+
+        private Replica(String url, AgroalDataSource dataSource) {
+            this.url = url;
+            this.dataSource = dataSource;
+        }
+
+        private boolean isExcluded() {
+            if (excluded && System.nanoTime() - excludedUntil >= 0) {
+                excluded = false;
+                log.infov("Read replica {0} of datasource {1} is used again", url, dataSourceName);
+            }
+            return excluded;
+        }
+
+        private void exclude(SQLException e) {
+            excludedUntil = System.nanoTime() + exclusionTimeNanos;
+            excluded = true;
+            log.warnv(e, "Unable to acquire a connection from read replica {0} of datasource {1}, excluding it for {2}",
+                    url, dataSourceName, Duration.ofNanos(exclusionTimeNanos));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.quarkus.agroal.runtime;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.ShardingKeyBuilder;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * The {@link AgroalDataSource} wrapper used by the {@link ConnectionAcquisitionMode#VIRTUAL_THREADS} acquisition mode.
+ * <p>
+ * It bounds the number of threads waiting for a connection, so that a burst of virtual threads fails fast instead of
+ * piling up until the acquisition timeout, and records the time spent acquiring connections.
+ * Only atomic counters are used, so that virtual threads are never pinned to their carrier.
+ */
+public class VirtualThreadsAgroalDataSource implements AgroalDataSource {
+
+    private final AgroalDataSource delegate;
+    private final int maxWaiters;
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile MetricsFactory.TimeRecorder acquisitionTimeRecorder;
+
+    VirtualThreadsAgroalDataSource(AgroalDataSource delegate, int maxWaiters) {
+        this.delegate = delegate;
+        this.maxWaiters = maxWaiters;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = beforeAcquire();
+        try {
+            return delegate.getConnection();
+        } finally {
+            afterAcquire(start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = beforeAcquire();
+        try {
+            return delegate.getConnection(username, password);
+        } finally {
+            afterAcquire(start);
+        }
+    }
+
+    private long beforeAcquire() throws SQLException {
+        if (waiters.incrementAndGet() > maxWaiters) {
+            waiters.decrementAndGet();
+            rejected.increment();
+            throw new SQLException("Unable to acquire a connection: " + maxWaiters
+                    + " threads are already waiting for a connection");
+        }
+        return System.nanoTime();
+    }
+
+    private void afterAcquire(long start) {
+        waiters.decrementAndGet();
+        MetricsFactory.TimeRecorder recorder = acquisitionTimeRecorder;
+        if (recorder != null) {
+            recorder.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return the number of threads currently waiting for a connection
+     */
+    public int waitingCount() {
+        return waiters.get();
+    }
+
+    /**
+     * @return the number of acquisitions rejected because too many threads were waiting for a connection
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public void setAcquisitionTimeRecorder(MetricsFactory.TimeRecorder acquisitionTimeRecorder) {
+        this.acquisitionTimeRecorder = acquisitionTimeRecorder;
+    }
+
+    @Override
+    public boolean isHealthy(boolean newConnection) throws SQLException {
+        return delegate.isHealthy(newConnection);
+    }
+
+    @Override
+    public AgroalDataSourceConfiguration getConfiguration() {
+        return delegate.getConfiguration();
+    }
+
+    @Override
+    public AgroalDataSourceMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public void flush(FlushMode mode) {
+        delegate.flush(mode);
+    }
+
+    @Override
+    public void setPoolInterceptors(Collection<? extends AgroalPoolInterceptor> interceptors) {
+        delegate.setPoolInterceptors(interceptors);
+    }
+
+    @Override
+    public List<AgroalPoolInterceptor> getPoolInterceptors() {
+        return delegate.getPoolInterceptors();
+    }
+
+    @Override
+    public ShardingKeyBuilder createShardingKeyBuilder() throws SQLException {
+        return delegate.createShardingKeyBuilder();
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -20,6 +20,7 @@
 import io.agroal.api.AgroalDataSource;
 import io.quarkus.agroal.runtime.AgroalDataSourceSupport;
 import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.agroal.runtime.ReadReplicaRoutingDataSource;
 import io.quarkus.arc.Arc;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.datasource.runtime.DataSourceSupport;
@@ -77,7 +78,33 @@ public HealthCheckResponse call() {
                         : "Unable to execute the validation check for DataSource '" + dataSource.getKey() + "': ";
                 builder.down().withData(dsName, data + e.getMessage());
             }
+            checkReadReplicas(builder, dsName, ads);
         }
         return builder.build();
     }
+
+    /**
+     * The read replicas are reported without changing the status, as the connections are taken from the primary when
+     * the replicas are unavailable.
+     */
+    private static void checkReadReplicas(HealthCheckResponseBuilder builder, String dsName, AgroalDataSource ads) {
+        ReadReplicaRoutingDataSource routingDataSource;
+        try {
+            if (!ads.isWrapperFor(ReadReplicaRoutingDataSource.class)) {
+                return;
+            }
+            routingDataSource = ads.unwrap(ReadReplicaRoutingDataSource.class);
+        } catch (SQLException e) {
+            return;
+        }
+        int replicaCount = routingDataSource.replicaUrls().size();
+        for (int i = 0; i < replicaCount; i++) {
+            String key = dsName + " read replica " + i;
+            try {
+                builder.withData(key, routingDataSource.isReplicaHealthy(i, false) ? "UP" : "validation check failed");
+            } catch (SQLException e) {
+                builder.withData(key, "Unable to execute the validation check: " + e.getMessage());
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.quarkus.agroal.runtime.metrics;
 
+import java.sql.SQLException;
 import java.time.Duration;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -7,8 +8,11 @@
 
 import org.jboss.logging.Logger;
 
+import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalDataSourceMetrics;
 import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.agroal.runtime.ReadReplicaRoutingDataSource;
+import io.quarkus.agroal.runtime.VirtualThreadsAgroalDataSource;
 import io.quarkus.arc.Arc;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.annotations.Recorder;
@@ -121,7 +125,90 @@ public void accept(MetricsFactory metricsFactory) {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                StatementMetrics statementMetrics = dataSources.getStatementMetrics(dataSourceName);
+                if (statementMetrics != null) {
+                    statementMetrics.setMetricsFactory(metricsFactory);
+                }
+
+                ReadReplicaRoutingDataSource routingDataSource = unwrap(dataSources.getDataSource(dataSourceName),
+                        ReadReplicaRoutingDataSource.class);
+                if (routingDataSource != null) {
+                    registerReadReplicaMetrics(metricsFactory, tagValue, routingDataSource);
+                }
+
+                VirtualThreadsAgroalDataSource virtualThreadsDataSource = unwrap(dataSources.getDataSource(dataSourceName),
+                        VirtualThreadsAgroalDataSource.class);
+                if (virtualThreadsDataSource != null) {
+                    metricsFactory.builder("agroal.acquisition.waiting.count")
+                            .description("Number of threads acquiring or waiting for a connection.")
+                            .tag("datasource", tagValue)
+                            .buildGauge(virtualThreadsDataSource::waitingCount);
+                    metricsFactory.builder("agroal.acquisition.rejected.count")
+                            .description("Number of acquisitions rejected because too many threads were waiting.")
+                            .tag("datasource", tagValue)
+                            .buildCounter(virtualThreadsDataSource::rejectedCount);
+                    virtualThreadsDataSource.setAcquisitionTimeRecorder(metricsFactory.builder("agroal.acquisition.time")
+                            .description("Time spent acquiring a connection, including the time waiting for one.")
+                            .tag("datasource", tagValue)
+                            .buildTimer());
+                }
             }
         };
     }
+
+    /**
+     * The agroal.* metrics above cover the primary, the read replicas get their own metrics, tagged with their index.
+     */
+    private static void registerReadReplicaMetrics(MetricsFactory metricsFactory, String tagValue,
+            ReadReplicaRoutingDataSource routingDataSource) {
+        int replicaCount = routingDataSource.replicaUrls().size();
+        for (int i = 0; i < replicaCount; i++) {
+            int index = i;
+            AgroalDataSourceMetrics metrics = routingDataSource.getReplicaMetrics(index);
+            String replicaTag = String.valueOf(index);
+
+            metricsFactory.builder("agroal.replica.active.count")
+                    .description("Number of active connections of the read replica.")
+                    .tag("datasource", tagValue)
+                    .tag("replica", replicaTag)
+                    .buildGauge(metrics::activeCount);
+            metricsFactory.builder("agroal.replica.available.count")
+                    .description("Number of idle connections in the pool of the read replica, available to be acquired.")
+                    .tag("datasource", tagValue)
+                    .tag("replica", replicaTag)
+                    .buildGauge(metrics::availableCount);
+            metricsFactory.builder("agroal.replica.awaiting.count")
+                    .description(
+                            "Approximate number of threads blocked, waiting to acquire a connection from the read replica.")
+                    .tag("datasource", tagValue)
+                    .tag("replica", replicaTag)
+                    .buildGauge(metrics::awaitingCount);
+            metricsFactory.builder("agroal.replica.acquire.count")
+                    .description("Number of times an acquire operation succeeded on the read replica.")
+                    .tag("datasource", tagValue)
+                    .tag("replica", replicaTag)
+                    .buildCounter(metrics::acquireCount);
+            metricsFactory.builder("agroal.replica.creation.count")
+                    .description("Number of connections created by the read replica.")
+                    .tag("datasource", tagValue)
+                    .tag("replica", replicaTag)
+                    .buildCounter(metrics::creationCount);
+            metricsFactory.builder("agroal.replica.excluded")
+                    .description("Whether the read replica is excluded from the routing, 1 if it is, 0 otherwise.")
+                    .tag("datasource", tagValue)
+                    .tag("replica", replicaTag)
+                    .buildGauge(() -> routingDataSource.isReplicaExcluded(index) ? 1L : 0L);
+        }
+    }
+
+    private static <T> T unwrap(AgroalDataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type)
+                    ? dataSource.unwrap(type)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Execution time and row counts of the statements executed on a datasource, grouped by statement fingerprint.
+ * <p>
+ * The fingerprint of a statement is its SQL with literals replaced by {@code ?}, so that statements only differing by
+ * their inlined values share the same metrics. The number of fingerprints is bounded: once the limit is reached, the new
+ * statements are grouped under the {@value #OTHER_FINGERPRINT} fingerprint. The fingerprints of the most recently seen
+ * SQL strings are memoized, so that the SQL of the prepared statements is only parsed once.
+ */
+public final class StatementMetrics {
+
+    static final int MAX_FINGERPRINTS = 500;
+    static final int MAX_FINGERPRINT_LENGTH = 256;
+    static final String OTHER_FINGERPRINT = "other";
+    static final int MAX_MEMOIZED_SQL = 2000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w$?])\\d+(?:\\.\\d+)?");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private final String dataSourceTag;
+    private final ConcurrentMap<String, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Fingerprint> sqlFingerprints = new ConcurrentHashMap<>();
+    private volatile MetricsFactory metricsFactory;
+
+    public StatementMetrics(String dataSourceName) {
+        this.dataSourceTag = DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName;
+    }
+
+    /**
+     * @return the metrics of the statements sharing the fingerprint of the given SQL
+     */
+    public Fingerprint fingerprint(String sql) {
+        Fingerprint metrics = sqlFingerprints.get(sql);
+        if (metrics != null) {
+            return metrics;
+        }
+        String fingerprint = fingerprintOf(sql);
+        metrics = fingerprints.get(fingerprint);
+        if (metrics == null) {
+            if (fingerprints.size() >= MAX_FINGERPRINTS) {
+                fingerprint = OTHER_FINGERPRINT;
+            }
+            metrics = fingerprints.computeIfAbsent(fingerprint, Fingerprint::new);
+        }
+        // SQL with inlined literals is rarely executed twice: stop memoizing once the limit is reached
+        if (sqlFingerprints.size() < MAX_MEMOIZED_SQL) {
+            sqlFingerprints.putIfAbsent(sql, metrics);
+        }
+        return metrics;
+    }
+
+    /**
+     * @return the metrics of all the statements executed so far, keyed by fingerprint
+     */
+    public Map<String, Fingerprint> fingerprints() {
+        return Collections.unmodifiableMap(fingerprints);
+    }
+
+    void setMetricsFactory(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+    }
+
+    static String fingerprintOf(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMERIC_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+        fingerprint = PARAMETER_LIST.matcher(fingerprint).replaceAll("(?)");
+        return fingerprint.length() > MAX_FINGERPRINT_LENGTH ? fingerprint.substring(0, MAX_FINGERPRINT_LENGTH)
+                : fingerprint;
+    }
+
+    public final class Fingerprint {
+
+        private final String fingerprint;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private volatile MetricsFactory.TimeRecorder timeRecorder;
+
+        Fingerprint(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        /**
+         * Records an execution of a statement with this fingerprint.
+         *
+         * @param nanos the execution time, in nanoseconds
+         * @param rowCount the number of rows updated by the execution
+         */
+        public void recordExecution(long nanos, long rowCount) {
+            executions.increment();
+            totalTime.add(nanos);
+            if (rowCount > 0) {
+                rows.add(rowCount);
+            }
+            MetricsFactory.TimeRecorder recorder = timeRecorder();
+            if (recorder != null) {
+                recorder.update(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        /**
+         * Records rows read from the result of a statement with this fingerprint.
+         */
+        public void recordRows(long rowCount) {
+            rows.add(rowCount);
+        }
+
+        public String fingerprint() {
+            return fingerprint;
+        }
+
+        public long executionCount() {
+            return executions.sum();
+        }
+
+        public long totalTimeNanos() {
+            return totalTime.sum();
+        }
+
+        public long rowCount() {
+            return rows.sum();
+        }
+
+        private MetricsFactory.TimeRecorder timeRecorder() {
+            MetricsFactory.TimeRecorder recorder = timeRecorder;
+            if (recorder == null) {
+                MetricsFactory factory = metricsFactory;
+                if (factory == null) {
+                    return null;
+                }
+                // registering the same meters twice is harmless, so there is no need to synchronize here
+                factory.builder("agroal.statement.rows")
+                        .description("Number of rows read or updated by the statements with this fingerprint.")
+                        .tag("datasource", dataSourceTag)
+                        .tag("statement", fingerprint)
+                        .buildCounter(rows::sum);
+                recorder = factory.builder("agroal.statement.time")
+                        .description("Execution time of the statements with this fingerprint.")
+                        .tag("datasource", dataSourceTag)
+                        .tag("statement", fingerprint)
+                        .buildTimer();
+                timeRecorder = recorder;
+            }
+            return recorder;
+        }
+    }
+}
@@ -4,7 +4,11 @@
 import java.util.Map;
 import java.util.OptionalInt;
 
+import org.hibernate.cfg.AvailableSettings;
+
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitCache;
+import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.SecondLevelCacheRegionFactoryType;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 
 public class HibernateConfigUtil {
 
@@ -12,11 +16,16 @@ public class HibernateConfigUtil {
      * TODO: reuse the ones from QuarkusInfinispanRegionFactory as soon as they are made public.
      */
     private final static String EXPIRATION_MAX_IDLE = ".expiration.max-idle";
+    private final static String EXPIRATION_LIFESPAN = ".expiration.lifespan";
     private final static String MEMORY_OBJECT_COUNT = ".memory.object-count";
     private static final String HIBERNATE_CACHE_PREFIX = "hibernate.cache.";
 
     public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersistenceUnit config) {
         Map<String, String> cacheRegionsConfigEntries = new HashMap<>();
+        if (config.secondLevelCachingRegionFactory() == SecondLevelCacheRegionFactoryType.CAFFEINE) {
+            cacheRegionsConfigEntries.put(AvailableSettings.CACHE_REGION_FACTORY,
+                    QuarkusCaffeineRegionFactory.class.getName());
+        }
         for (Map.Entry<String, HibernateOrmConfigPersistenceUnitCache> regionEntry : config.cache().entrySet()) {
             String regionName = regionEntry.getKey();
             HibernateOrmConfigPersistenceUnitCache cacheConfig = regionEntry.getValue();
@@ -25,6 +34,10 @@ public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersis
                 cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, EXPIRATION_MAX_IDLE),
                         String.valueOf(cacheConfig.expiration().maxIdle().get().getSeconds()));
             }
+            if (cacheConfig.expiration().lifespan().isPresent()) {
+                cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, EXPIRATION_LIFESPAN),
+                        String.valueOf(cacheConfig.expiration().lifespan().get().getSeconds()));
+            }
             if (cacheConfig.memory().objectCount().isPresent()) {
                 cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, MEMORY_OBJECT_COUNT),
                         String.valueOf(cacheConfig.memory().objectCount().getAsLong()));
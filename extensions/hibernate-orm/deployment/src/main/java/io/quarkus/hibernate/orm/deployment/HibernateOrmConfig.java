@@ -2,10 +2,12 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.TreeMap;
 
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 import io.quarkus.hibernate.orm.runtime.config.DatabaseOrmCompatibilityVersion;
+import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -90,6 +92,12 @@ default Map<String, HibernateOrmConfigPersistenceUnit> namedPersistenceUnits() {
      */
     HibernateOrmConfigMetric metrics();
 
+    /**
+     * Configuration related to the detection of N+1 query patterns.
+     */
+    @ConfigDocSection
+    HibernateOrmConfigNPlusOneDetection nPlusOneDetection();
+
     default boolean isAnyNonPersistenceXmlPropertySet() {
         // Do NOT include persistenceXml in here.
         return defaultPersistenceUnit().isAnyPropertySet() ||
@@ -97,7 +105,8 @@ default boolean isAnyNonPersistenceXmlPropertySet() {
                 log().isAnyPropertySet() ||
                 statistics().isPresent() ||
                 logSessionMetrics().isPresent() ||
-                metrics().isAnyPropertySet();
+                metrics().isAnyPropertySet() ||
+                nPlusOneDetection().isAnyPropertySet();
     }
 
     @ConfigGroup
@@ -168,6 +177,48 @@ interface HibernateOrmConfigDatabase {
         DatabaseOrmCompatibilityVersion ormCompatibilityVersion();
     }
 
+    @ConfigGroup
+    interface HibernateOrmConfigNPlusOneDetection {
+
+        /**
+         * Whether N+1 query patterns should be detected.
+         *
+         * When enabled, Hibernate ORM counts the lazy associations fetched with a separate query in each transaction,
+         * and reports the associations fetched at least `threshold` times:
+         * as a warning with the originating call site in dev mode,
+         * and as the `hibernate.nplusone.detections` metric if metrics are enabled.
+         *
+         * This adds some overhead to each association fetch: it is meant for development and troubleshooting.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The number of times the same association must be fetched with a separate query
+         * in a transaction for it to be reported as an N+1 query pattern.
+         */
+        @WithDefault("10")
+        int threshold();
+
+        /**
+         * A batch fetch size to apply automatically to the associations detected as N+1 query patterns.
+         *
+         * The batch fetch size is applied the next time the persistence unit starts,
+         * e.g. after a live reload in dev mode,
+         * to the associations whose batch fetch size is lower.
+         *
+         * @asciidoclet
+         */
+        @ConfigDocDefault("Batch fetch sizes are not changed automatically.")
+        OptionalInt autoBatchFetchSize();
+
+        default boolean isAnyPropertySet() {
+            return enabled() || autoBatchFetchSize().isPresent();
+        }
+    }
+
     @ConfigGroup
     interface HibernateOrmConfigMetric {
 
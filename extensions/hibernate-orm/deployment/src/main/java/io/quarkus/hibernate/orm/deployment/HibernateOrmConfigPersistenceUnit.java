@@ -210,6 +210,16 @@ public interface HibernateOrmConfigPersistenceUnit {
     @WithDefault("true")
     boolean secondLevelCachingEnabled();
 
+    /**
+     * The implementation of the 2nd level cache.
+     *
+     * Only relevant if 2nd level caching is enabled.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("default")
+    SecondLevelCacheRegionFactoryType secondLevelCachingRegionFactory();
+
     /**
      * Bean Validation configuration.
      */
@@ -261,6 +271,7 @@ default boolean isAnyPropertySet() {
                 jdbc().isAnyPropertySet() ||
                 !cache().isEmpty() ||
                 !secondLevelCachingEnabled() ||
+                secondLevelCachingRegionFactory() != SecondLevelCacheRegionFactoryType.DEFAULT ||
                 multitenant().isPresent() ||
                 multitenantSchemaDatasource().isPresent() ||
                 fetch().isAnyPropertySet() ||
@@ -469,6 +480,23 @@ enum IdOptimizerType {
         }
     }
 
+    enum SecondLevelCacheRegionFactoryType {
+        /**
+         * The region factory integrated by default, based on a local cache derived from Infinispan.
+         */
+        DEFAULT,
+        /**
+         * A region factory storing each region in its own Caffeine cache, evicted according to the W-TinyLFU policy.
+         *
+         * In addition to the size and maximum idle time of each region,
+         * it supports a maximum lifespan through `quarkus.hibernate-orm.cache."region".expiration.lifespan`,
+         * and exposes the number of entries of each region in the Hibernate ORM statistics and metrics.
+         *
+         * @asciidoclet
+         */
+        CAFFEINE
+    }
+
     @ConfigGroup
     interface HibernateOrmConfigPersistenceUnitQuery {
 
@@ -556,6 +584,8 @@ interface HibernateOrmConfigPersistenceUnitJdbc {
 
         /**
          * The number of updates (inserts, updates and deletes) that are sent by the JDBC driver at one time for execution.
+         * <p>
+         * Hibernate Reactive batches up to 50 updates by default.
          */
         OptionalInt statementBatchSize();
 
@@ -583,6 +613,13 @@ interface HibernateOrmConfigPersistenceUnitCacheExpiration {
          * The maximum time before an object of the cache is considered expired.
          */
         Optional<Duration> maxIdle();
+
+        /**
+         * The maximum time before an object of the cache is considered expired, counted from the time it was put
+         * in the cache.
+         * Only supported by the Caffeine region factory.
+         */
+        Optional<Duration> lifespan();
     }
 
     @ConfigGroup
@@ -124,6 +124,7 @@
 import io.quarkus.hibernate.orm.runtime.boot.xml.RecordableXmlMapping;
 import io.quarkus.hibernate.orm.runtime.config.DialectVersions;
 import io.quarkus.hibernate.orm.runtime.dev.HibernateOrmDevIntegrator;
+import io.quarkus.hibernate.orm.runtime.diagnostics.NPlusOneDetectionIntegrator;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticDescriptor;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
 import io.quarkus.hibernate.orm.runtime.proxies.PreGeneratedProxies;
@@ -493,7 +494,8 @@ public void build(RecorderContext recorderContext, HibernateOrmRecorder recorder
             List<PersistenceUnitDescriptorBuildItem> persistenceUnitDescriptorBuildItems,
             List<HibernateOrmIntegrationStaticConfiguredBuildItem> integrationBuildItems,
             BuildProducer<BeanContainerListenerBuildItem> beanContainerListener,
-            LaunchModeBuildItem launchMode) throws Exception {
+            LaunchModeBuildItem launchMode,
+            HibernateOrmConfig hibernateOrmConfig) throws Exception {
         validateHibernatePropertiesNotUsed();
 
         final boolean enableORM = hasEntities(jpaModel);
@@ -526,6 +528,9 @@ public void build(RecorderContext recorderContext, HibernateOrmRecorder recorder
             integratorClasses.add(HibernateOrmDevIntegrator.class);
             integratorClasses.add(SchemaManagementIntegrator.class);
         }
+        if (hibernateOrmConfig.nPlusOneDetection().enabled()) {
+            integratorClasses.add(NPlusOneDetectionIntegrator.class);
+        }
 
         Map<String, List<HibernateOrmIntegrationStaticDescriptor>> integrationStaticDescriptors = HibernateOrmIntegrationStaticConfiguredBuildItem
                 .collectDescriptors(integrationBuildItems);
@@ -996,6 +1001,15 @@ private static void producePersistenceUnitDescriptorFromConfig(
                     String.valueOf(hibernateOrmConfig.logSessionMetrics().orElse(false)));
         }
 
+        // N+1 detection
+        if (hibernateOrmConfig.nPlusOneDetection().enabled()) {
+            descriptor.getProperties().setProperty(NPlusOneDetectionIntegrator.THRESHOLD,
+                    String.valueOf(hibernateOrmConfig.nPlusOneDetection().threshold()));
+            hibernateOrmConfig.nPlusOneDetection().autoBatchFetchSize().ifPresent(
+                    batchFetchSize -> descriptor.getProperties().setProperty(NPlusOneDetectionIntegrator.AUTO_BATCH_FETCH_SIZE,
+                            String.valueOf(batchFetchSize)));
+        }
+
         // sql-load-scripts
         List<String> importFiles = getSqlLoadScript(persistenceUnitConfig.sqlLoadScript(), launchMode);
 
@@ -0,0 +1,74 @@
+package io.quarkus.hibernate.orm;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JPACaffeineCacheTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(CachedEntity.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.second-level-caching-region-factory", "caffeine")
+            .overrideConfigKey("quarkus.hibernate-orm.cache.\"" + CachedEntity.class.getName() + "\".expiration.lifespan",
+                    "1h");
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    Session session;
+
+    @Test
+    public void testRegionFactory() {
+        RegionFactory regionFactory = sessionFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+                .getService(RegionFactory.class);
+        Assertions.assertInstanceOf(QuarkusCaffeineRegionFactory.class, regionFactory);
+    }
+
+    @Test
+    public void testCaching() {
+        QuarkusTransaction.requiringNew().run(() -> session.persist(new CachedEntity(1L, "cached")));
+        sessionFactory.getCache().evictAll();
+        Assertions.assertFalse(sessionFactory.getCache().containsEntity(CachedEntity.class, 1L));
+
+        QuarkusTransaction.requiringNew().run(() -> session.find(CachedEntity.class, 1L));
+        Assertions.assertTrue(sessionFactory.getCache().containsEntity(CachedEntity.class, 1L));
+
+        CachedEntity entity = QuarkusTransaction.requiringNew().call(() -> session.find(CachedEntity.class, 1L));
+        Assertions.assertEquals("cached", entity.name);
+    }
+
+    @Entity
+    @Cacheable
+    public static class CachedEntity {
+
+        @Id
+        public Long id;
+
+        public String name;
+
+        public CachedEntity() {
+        }
+
+        public CachedEntity(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
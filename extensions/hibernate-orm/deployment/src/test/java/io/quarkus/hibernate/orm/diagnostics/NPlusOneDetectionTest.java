@@ -0,0 +1,84 @@
+package io.quarkus.hibernate.orm.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.transaction.UserTransaction;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.batch.MainEntity;
+import io.quarkus.hibernate.orm.batch.OtherEntity;
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.orm.runtime.diagnostics.NPlusOneDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NPlusOneDetectionTest {
+
+    private static final String ROLE = MainEntity.class.getName() + ".others";
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(MainEntity.class)
+                    .addClass(OtherEntity.class)
+                    .addAsResource("application.properties"))
+            .overrideConfigKey("quarkus.hibernate-orm.fetch.batch-size", "-1")
+            .overrideConfigKey("quarkus.hibernate-orm.n-plus-one-detection.enabled", "true")
+            .overrideConfigKey("quarkus.hibernate-orm.n-plus-one-detection.threshold", "5");
+
+    @Inject
+    Session session;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void testDetection() throws Exception {
+        NPlusOneDetector detector = NPlusOneDetector.forPersistenceUnit(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
+        assertThat(detector).isNotNull();
+
+        transaction.begin();
+        for (int i = 0; i < 10; i++) {
+            MainEntity mainEntity = new MainEntity();
+            OtherEntity otherEntity = new OtherEntity();
+            session.persist(otherEntity);
+            mainEntity.others.add(otherEntity);
+            session.persist(mainEntity);
+        }
+        transaction.commit();
+
+        // below the threshold
+        transaction.begin();
+        List<MainEntity> entities = session.createQuery("from MainEntity", MainEntity.class).setMaxResults(4).list();
+        entities.forEach(e -> e.others.size());
+        transaction.commit();
+        assertThat(detector.detectionCounts()).doesNotContainKey(ROLE);
+
+        // reaching the threshold is reported
+        transaction.begin();
+        entities = session.createQuery("from MainEntity", MainEntity.class).setMaxResults(5).list();
+        entities.forEach(e -> e.others.size());
+        transaction.commit();
+        assertThat(detector.detectionCounts()).containsEntry(ROLE, 1L);
+
+        // an N+1 pattern is only reported once per transaction
+        transaction.begin();
+        entities = session.createQuery("from MainEntity", MainEntity.class).list();
+        entities.forEach(e -> e.others.size());
+        transaction.commit();
+        assertThat(detector.detectionCounts()).containsEntry(ROLE, 2L);
+
+        // join fetching does not trigger any detection
+        transaction.begin();
+        entities = session.createQuery("select distinct m from MainEntity m left join fetch m.others", MainEntity.class)
+                .list();
+        entities.forEach(e -> e.others.size());
+        transaction.commit();
+        assertThat(detector.detectionCounts()).containsEntry(ROLE, 2L);
+    }
+}
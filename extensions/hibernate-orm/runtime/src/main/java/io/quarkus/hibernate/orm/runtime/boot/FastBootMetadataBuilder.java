@@ -72,6 +72,7 @@
 import io.quarkus.hibernate.orm.runtime.BuildTimeSettings;
 import io.quarkus.hibernate.orm.runtime.IntegrationSettings;
 import io.quarkus.hibernate.orm.runtime.boot.xml.RecordableXmlMapping;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticDescriptor;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticInitListener;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
@@ -389,8 +390,12 @@ private MergedSettings mergeSettings(QuarkusPersistenceUnitDefinition puDefiniti
             }
         }
 
-        cfg.put(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY,
-                QuarkusInfinispanRegionFactory.class.getName());
+        // The only alternative region factory is the Caffeine one, selected through the Quarkus configuration
+        if (!QuarkusCaffeineRegionFactory.class.getName()
+                .equals(cfg.get(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY))) {
+            cfg.put(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY,
+                    QuarkusInfinispanRegionFactory.class.getName());
+        }
 
         for (HibernateOrmIntegrationStaticDescriptor descriptor : integrationStaticDescriptors) {
             Optional<HibernateOrmIntegrationStaticInitListener> listenerOptional = descriptor.getInitListener();
@@ -0,0 +1,98 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.time.Duration;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Stores the data of a second-level cache region in a Caffeine cache.
+ * <p>
+ * Bounded caches are evicted according to Caffeine's W-TinyLFU policy, which keeps frequently read entries
+ * even when a burst of entries that are read once goes through the region.
+ */
+final class CaffeineStorageAccess implements DomainDataStorageAccess {
+
+    private final Cache<Object, Object> cache;
+
+    CaffeineStorageAccess(CaffeineRegionConfig config) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                // evict and expire on the calling thread rather than on the common pool
+                .executor(Runnable::run);
+        if (config.objectCount >= 0) {
+            builder.maximumSize(config.objectCount);
+        }
+        if (config.maxIdle != null) {
+            builder.expireAfterAccess(config.maxIdle);
+        }
+        if (config.lifespan != null) {
+            builder.expireAfterWrite(config.lifespan);
+        }
+        this.cache = builder.build();
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void clearCache(SharedSessionContractImplementor session) {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return cache.getIfPresent(key) != null;
+    }
+
+    @Override
+    public void evictData() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void evictData(Object key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void release() {
+        cache.invalidateAll();
+        cache.cleanUp();
+    }
+
+    long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * The configuration of a region: a negative object count means the region is unbounded,
+     * a <code>null</code> duration means entries do not expire.
+     */
+    static final class CaffeineRegionConfig {
+
+        final long objectCount;
+        final Duration maxIdle;
+        final Duration lifespan;
+
+        CaffeineRegionConfig(long objectCount, Duration maxIdle, Duration lifespan) {
+            this.objectCount = objectCount;
+            this.maxIdle = maxIdle;
+            this.lifespan = lifespan;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cache.spi.support.TimestampsRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import io.quarkus.hibernate.orm.runtime.cache.CaffeineStorageAccess.CaffeineRegionConfig;
+
+/**
+ * A second-level cache region factory storing each region in its own Caffeine cache.
+ * <p>
+ * Regions are configured with the same <code>hibernate.cache.&lt;region&gt;.*</code> properties as the default region
+ * factory, plus <code>hibernate.cache.&lt;region&gt;.expiration.lifespan</code> to expire entries a fixed time
+ * after they were written. All durations are expressed in seconds.
+ * <p>
+ * All regions expose their size through {@link ExtendedStatisticsSupport}, so that it is available in the Hibernate ORM
+ * statistics and metrics.
+ */
+public final class QuarkusCaffeineRegionFactory extends RegionFactoryTemplate {
+
+    public static final String PREFIX = "hibernate.cache.";
+    public static final String OBJECT_COUNT_SUFFIX = ".memory.object-count";
+    public static final String MAX_IDLE_SUFFIX = ".expiration.max-idle";
+    public static final String LIFESPAN_SUFFIX = ".expiration.lifespan";
+
+    // Same defaults as the default region factory
+    private static final long DEFAULT_OBJECT_COUNT = 10_000;
+    private static final Duration DEFAULT_MAX_IDLE = Duration.ofSeconds(100);
+
+    private Map<String, Object> configValues;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        this.configValues = configValues;
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        // the storage of each region is released when the region is destroyed
+        configValues = null;
+    }
+
+    @Override
+    public DomainDataRegion buildDomainDataRegion(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        verifyStarted();
+        return new CaffeineDomainDataRegion(regionConfig, this,
+                createDomainDataStorageAccess(regionConfig, buildingContext), buildingContext);
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        return new CaffeineStorageAccess(regionConfig(regionConfig.getRegionName(), DEFAULT_OBJECT_COUNT, DEFAULT_MAX_IDLE));
+    }
+
+    @Override
+    public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+        verifyStarted();
+        return new CaffeineQueryResultsRegion(regionName, this,
+                createQueryResultsRegionStorageAccess(regionName, sessionFactory));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(regionConfig(regionName, DEFAULT_OBJECT_COUNT, DEFAULT_MAX_IDLE));
+    }
+
+    @Override
+    public TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+        verifyStarted();
+        return new CaffeineTimestampsRegion(regionName, this,
+                createTimestampsRegionStorageAccess(regionName, sessionFactory));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        // Evicting or expiring update timestamps would make query results be considered up to date, so by default
+        // this region is neither bounded nor expiring.
+        return new CaffeineStorageAccess(regionConfig(regionName, -1, null));
+    }
+
+    private CaffeineRegionConfig regionConfig(String regionName, long defaultObjectCount, Duration defaultMaxIdle) {
+        String objectCount = property(regionName, OBJECT_COUNT_SUFFIX);
+        String maxIdle = property(regionName, MAX_IDLE_SUFFIX);
+        String lifespan = property(regionName, LIFESPAN_SUFFIX);
+        return new CaffeineRegionConfig(
+                objectCount == null ? defaultObjectCount : parseLong(regionName, OBJECT_COUNT_SUFFIX, objectCount),
+                maxIdle == null ? defaultMaxIdle : toDuration(parseLong(regionName, MAX_IDLE_SUFFIX, maxIdle)),
+                lifespan == null ? null : toDuration(parseLong(regionName, LIFESPAN_SUFFIX, lifespan)));
+    }
+
+    private String property(String regionName, String suffix) {
+        Object value = configValues.get(PREFIX + regionName + suffix);
+        return value == null ? null : value.toString().trim();
+    }
+
+    private static long parseLong(String regionName, String suffix, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new CacheException("Invalid value '" + value + "' for property '" + PREFIX + regionName + suffix
+                    + "': expected a number", e);
+        }
+    }
+
+    private static Duration toDuration(long seconds) {
+        // a negative duration means that entries never expire
+        return seconds < 0 ? null : Duration.ofSeconds(seconds);
+    }
+
+    static final class CaffeineDomainDataRegion extends DomainDataRegionImpl implements ExtendedStatisticsSupport {
+
+        CaffeineDomainDataRegion(DomainDataRegionConfig regionConfig, QuarkusCaffeineRegionFactory regionFactory,
+                DomainDataStorageAccess storageAccess, DomainDataRegionBuildingContext buildingContext) {
+            super(regionConfig, regionFactory, storageAccess, regionFactory.getImplicitCacheKeysFactory(),
+                    buildingContext);
+        }
+
+        @Override
+        public long getElementCountInMemory() {
+            return ((CaffeineStorageAccess) getCacheStorageAccess()).size();
+        }
+
+        @Override
+        public long getElementCountOnDisk() {
+            return 0;
+        }
+
+        @Override
+        public long getSizeInMemory() {
+            return -1;
+        }
+    }
+
+    static final class CaffeineQueryResultsRegion extends QueryResultsRegionTemplate
+            implements ExtendedStatisticsSupport {
+
+        CaffeineQueryResultsRegion(String name, RegionFactory regionFactory, StorageAccess storageAccess) {
+            super(name, regionFactory, storageAccess);
+        }
+
+        @Override
+        public long getElementCountInMemory() {
+            return ((CaffeineStorageAccess) getStorageAccess()).size();
+        }
+
+        @Override
+        public long getElementCountOnDisk() {
+            return 0;
+        }
+
+        @Override
+        public long getSizeInMemory() {
+            return -1;
+        }
+    }
+
+    static final class CaffeineTimestampsRegion extends TimestampsRegionTemplate implements ExtendedStatisticsSupport {
+
+        CaffeineTimestampsRegion(String name, RegionFactory regionFactory, StorageAccess storageAccess) {
+            super(name, regionFactory, storageAccess);
+        }
+
+        @Override
+        public long getElementCountInMemory() {
+            return ((CaffeineStorageAccess) getStorageAccess()).size();
+        }
+
+        @Override
+        public long getElementCountOnDisk() {
+            return 0;
+        }
+
+        @Override
+        public long getSizeInMemory() {
+            return -1;
+        }
+    }
+}
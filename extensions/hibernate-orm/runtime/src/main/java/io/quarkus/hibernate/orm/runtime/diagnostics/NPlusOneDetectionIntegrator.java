@@ -0,0 +1,95 @@
+package io.quarkus.hibernate.orm.runtime.diagnostics;
+
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_UNIT_NAME;
+
+import java.util.Map;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.jboss.logging.Logger;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+
+/**
+ * Registers a {@link NPlusOneDetector} in the persistence units with N+1 detection enabled, and applies the automatic
+ * batch fetch size to the associations detected as N+1 patterns before the session factory was (re)started.
+ */
+public class NPlusOneDetectionIntegrator implements Integrator {
+
+    private static final Logger log = Logger.getLogger(NPlusOneDetectionIntegrator.class);
+
+    public static final String THRESHOLD = "quarkus.hibernate-orm.n-plus-one-detection.threshold";
+    public static final String AUTO_BATCH_FETCH_SIZE = "quarkus.hibernate-orm.n-plus-one-detection.auto-batch-fetch-size";
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        Map<String, Object> properties = sessionFactory.getProperties();
+        Object threshold = properties.get(THRESHOLD);
+        if (threshold == null) {
+            // N+1 detection is not enabled for this persistence unit, e.g. if it is defined in a persistence.xml
+            return;
+        }
+        String persistenceUnitName = persistenceUnitName(sessionFactory);
+
+        Object autoBatchFetchSize = properties.get(AUTO_BATCH_FETCH_SIZE);
+        if (autoBatchFetchSize != null) {
+            applyBatchFetchSize(metadata, sessionFactory, persistenceUnitName,
+                    Integer.parseInt(autoBatchFetchSize.toString()));
+        }
+
+        NPlusOneDetector detector = new NPlusOneDetector(sessionFactory, persistenceUnitName,
+                Integer.parseInt(threshold.toString()));
+        EventListenerRegistry eventListenerRegistry = serviceRegistry.getService(EventListenerRegistry.class);
+        // prepend the listeners, so that they see the state before the collection or entity is loaded
+        eventListenerRegistry.prependListeners(EventType.INIT_COLLECTION, detector);
+        eventListenerRegistry.prependListeners(EventType.LOAD, detector);
+        NPlusOneDetector.register(detector);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        NPlusOneDetector.unregister(sessionFactory);
+    }
+
+    private static void applyBatchFetchSize(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            String persistenceUnitName, int batchFetchSize) {
+        int defaultBatchFetchSize = sessionFactory.getSessionFactoryOptions().getDefaultBatchFetchSize();
+        for (String association : NPlusOneDetector.detectedAssociations(persistenceUnitName)) {
+            Collection collection = metadata.getCollectionBinding(association);
+            if (collection != null) {
+                if (effectiveBatchFetchSize(collection.getBatchSize(), defaultBatchFetchSize) < batchFetchSize) {
+                    collection.setBatchSize(batchFetchSize);
+                    logBatchFetchSize(persistenceUnitName, association, batchFetchSize);
+                }
+                continue;
+            }
+            PersistentClass entity = metadata.getEntityBinding(association);
+            if (entity != null && effectiveBatchFetchSize(entity.getBatchSize(), defaultBatchFetchSize) < batchFetchSize) {
+                entity.setBatchSize(batchFetchSize);
+                logBatchFetchSize(persistenceUnitName, association, batchFetchSize);
+            }
+        }
+    }
+
+    private static int effectiveBatchFetchSize(int batchFetchSize, int defaultBatchFetchSize) {
+        return batchFetchSize > 0 ? batchFetchSize : defaultBatchFetchSize;
+    }
+
+    private static void logBatchFetchSize(String persistenceUnitName, String association, int batchFetchSize) {
+        log.infof("Using a batch fetch size of %d for %s in persistence unit '%s', as it was detected as an N+1 query"
+                + " pattern", batchFetchSize, association, persistenceUnitName);
+    }
+
+    private static String persistenceUnitName(SessionFactoryImplementor sessionFactory) {
+        Object persistenceUnitName = sessionFactory.getProperties().get(PERSISTENCE_UNIT_NAME);
+        return persistenceUnitName != null ? persistenceUnitName.toString()
+                : PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
+    }
+}
@@ -0,0 +1,248 @@
+package io.quarkus.hibernate.orm.runtime.diagnostics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Detects N+1 query patterns in the sessions of a persistence unit.
+ * <p>
+ * Within each transaction, or each session when no transaction is involved, this counts the lazy collections and the
+ * entities loaded with a separate query, grouped by collection role and entity name. When the same association is
+ * fetched {@code threshold} times, this is reported once for the transaction: as a warning in dev mode, as a metric when
+ * Hibernate ORM metrics are enabled, and as a candidate for the automatic batch fetch size on the next start.
+ */
+public final class NPlusOneDetector implements InitializeCollectionEventListener, LoadEventListener {
+
+    private static final Logger log = Logger.getLogger(NPlusOneDetector.class);
+
+    private static final ConcurrentMap<String, NPlusOneDetector> DETECTORS = new ConcurrentHashMap<>();
+    // Kept across restarts in dev mode, so that the automatic batch fetch size applies to the next session factory
+    private static final ConcurrentMap<String, Set<String>> DETECTED_ASSOCIATIONS = new ConcurrentHashMap<>();
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final String persistenceUnitName;
+    private final int threshold;
+    private final ConcurrentMap<SharedSessionContractImplementor, SessionTracker> trackers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Detections> detections = new ConcurrentHashMap<>();
+    private volatile MetricsFactory metricsFactory;
+
+    NPlusOneDetector(SessionFactoryImplementor sessionFactory, String persistenceUnitName, int threshold) {
+        this.sessionFactory = sessionFactory;
+        this.persistenceUnitName = persistenceUnitName;
+        this.threshold = threshold;
+    }
+
+    /**
+     * @return the detector of the given persistence unit, or {@code null} if N+1 detection is disabled
+     */
+    public static NPlusOneDetector forPersistenceUnit(String persistenceUnitName) {
+        return DETECTORS.get(persistenceUnitName);
+    }
+
+    static void register(NPlusOneDetector detector) {
+        DETECTORS.put(detector.persistenceUnitName, detector);
+    }
+
+    static void unregister(SessionFactoryImplementor sessionFactory) {
+        // the properties of a closed session factory are not accessible anymore, so we cannot get its name
+        DETECTORS.values().removeIf(detector -> detector.sessionFactory == sessionFactory);
+    }
+
+    static Set<String> detectedAssociations(String persistenceUnitName) {
+        return DETECTED_ASSOCIATIONS.getOrDefault(persistenceUnitName, Collections.emptySet());
+    }
+
+    /**
+     * Registers the detections of this persistence unit as metrics, including the detections that happened before.
+     */
+    public void registerMetrics(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+        for (Detections detections : detections.values()) {
+            detections.register();
+        }
+    }
+
+    /**
+     * @return the number of transactions in which each collection role or entity name was detected as an N+1 pattern
+     */
+    public Map<String, Long> detectionCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Map.Entry<String, Detections> entry : detections.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().count.sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+        if (!event.getCollection().wasInitialized()) {
+            fetched(event.getSession(), event.getCollection().getRole());
+        }
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+        if (loadType != IMMEDIATE_LOAD && loadType != INTERNAL_LOAD_EAGER && loadType != INTERNAL_LOAD_NULLABLE) {
+            // other loads either are explicit or do not hit the database
+            return;
+        }
+        EventSource session = event.getSession();
+        EntityPersister persister = session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(event.getEntityClassName());
+        if (session.getPersistenceContextInternal()
+                .getEntity(session.generateEntityKey(event.getEntityId(), persister)) == null) {
+            fetched(session, persister.getEntityName());
+        }
+    }
+
+    private void fetched(SharedSessionContractImplementor session, String association) {
+        SessionTracker tracker = trackers.get(session);
+        if (tracker == null) {
+            tracker = new SessionTracker(session);
+            trackers.put(session, tracker);
+            session.getEventListenerManager().addListener(tracker);
+        }
+        Fetches fetches = tracker.fetches.get(association);
+        if (fetches == null) {
+            fetches = new Fetches(tracker.statementCount);
+            tracker.fetches.put(association, fetches);
+        }
+        // reported once, when the threshold is reached
+        if (++fetches.count == threshold) {
+            report(association, tracker.statementCount - fetches.firstStatement);
+        }
+    }
+
+    /**
+     * @param statementCount the number of statements executed since the first fetch of the association
+     */
+    private void report(String association, int statementCount) {
+        DETECTED_ASSOCIATIONS.computeIfAbsent(persistenceUnitName, ignored -> ConcurrentHashMap.newKeySet())
+                .add(association);
+        detections.computeIfAbsent(association, Detections::new).increment();
+
+        String message = "Possible N+1 query pattern in persistence unit '%s': %s was fetched with a separate query"
+                + " %d times in the same transaction (%d statements executed since the first of these fetches), from %s."
+                + " Consider fetching it with a join fetch or an entity graph, or loading it in batches with @BatchSize.";
+        if (LaunchMode.current() == LaunchMode.DEVELOPMENT) {
+            log.warnf(message, persistenceUnitName, association, threshold, statementCount, callSite());
+        } else if (log.isDebugEnabled()) {
+            log.debugf(message, persistenceUnitName, association, threshold, statementCount, callSite());
+        }
+    }
+
+    private static String callSite() {
+        return StackWalker.getInstance()
+                .walk(frames -> frames
+                        .filter(frame -> !isInternal(frame.getClassName(), frame.getMethodName()))
+                        .findFirst()
+                        .map(StackWalker.StackFrame::toStackTraceElement)
+                        .map(StackTraceElement::toString)
+                        .orElse("an unknown call site"));
+    }
+
+    private static boolean isInternal(String className, String methodName) {
+        return className.startsWith("org.hibernate.")
+                || className.startsWith("io.quarkus.hibernate.")
+                || className.startsWith("io.quarkus.arc.")
+                || className.startsWith("java.")
+                || className.startsWith("jdk.")
+                || className.startsWith("sun.")
+                || className.contains("$HibernateProxy$")
+                || methodName.startsWith("$$_hibernate_");
+    }
+
+    /**
+     * Tracks the fetches of a session, until the end of the current transaction.
+     */
+    private final class SessionTracker implements SessionEventListener {
+
+        private final transient SharedSessionContractImplementor session;
+        private final Map<String, Fetches> fetches = new HashMap<>();
+        private int statementCount;
+
+        private SessionTracker(SharedSessionContractImplementor session) {
+            this.session = session;
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            statementCount++;
+        }
+
+        @Override
+        public void transactionCompletion(boolean successful) {
+            fetches.clear();
+            statementCount = 0;
+        }
+
+        @Override
+        public void end() {
+            trackers.remove(session);
+        }
+    }
+
+    /**
+     * The fetches of an association in a session, until the end of the current transaction.
+     */
+    private static final class Fetches {
+
+        private final int firstStatement;
+        private int count;
+
+        private Fetches(int firstStatement) {
+            this.firstStatement = firstStatement;
+        }
+    }
+
+    private final class Detections {
+
+        private final String association;
+        private final LongAdder count = new LongAdder();
+        private volatile boolean registered;
+
+        private Detections(String association) {
+            this.association = association;
+        }
+
+        private void increment() {
+            count.increment();
+            if (!registered) {
+                register();
+            }
+        }
+
+        private synchronized void register() {
+            MetricsFactory factory = metricsFactory;
+            if (!registered && factory != null) {
+                registered = true;
+                factory.builder("hibernate.nplusone.detections")
+                        .description("Number of transactions in which an association was fetched with a separate query"
+                                + " at least as many times as the N+1 detection threshold")
+                        .tag("entityManagerFactory", persistenceUnitName)
+                        .tag("association", association)
+                        .buildCounter(count::sum);
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.diagnostics.NPlusOneDetector;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 
@@ -32,6 +33,10 @@ public void accept(MetricsFactory metricsFactory) {
                     if (sessionFactory != null) {
                         registerMetrics(metricsFactory, puName, sessionFactory.getStatistics());
                     }
+                    NPlusOneDetector detector = NPlusOneDetector.forPersistenceUnit(puName);
+                    if (detector != null) {
+                        detector.registerMetrics(metricsFactory);
+                    }
                 }
             }
         };
@@ -103,6 +108,13 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                             "The number of entities/collections put in the second level cache",
                             puName, regionStatistics, CacheRegionStatistics::getPutCount,
                             "region", regionName);
+                    // Only available if the region factory supports extended statistics
+                    if (regionStatistics.getElementCountInMemory() != CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN) {
+                        createBuilder(metricsFactory, "hibernate.second.level.cache.size",
+                                "The number of entities/collections currently in the second level cache",
+                                puName, "region", regionName)
+                                .buildGauge(regionStatistics, CacheRegionStatistics::getElementCountInMemory);
+                    }
                 });
 
         // Entity Information
@@ -12,6 +12,8 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.infinispan.quarkus.hibernate.cache.QuarkusInfinispanRegionFactory;
 
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
+
 public final class QuarkusRegionFactoryInitiator implements StandardServiceInitiator<RegionFactory> {
 
     public static final QuarkusRegionFactoryInitiator INSTANCE = new QuarkusRegionFactoryInitiator();
@@ -44,6 +46,10 @@ public RegionFactory initiateService(Map configurationValues, ServiceRegistryImp
             }
         }
 
+        if (QuarkusCaffeineRegionFactory.class.getName()
+                .equals(configurationValues.get(AvailableSettings.CACHE_REGION_FACTORY))) {
+            return new QuarkusCaffeineRegionFactory();
+        }
         return new QuarkusInfinispanRegionFactory();
     }
 
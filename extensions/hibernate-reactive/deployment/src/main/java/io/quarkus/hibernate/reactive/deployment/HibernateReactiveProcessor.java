@@ -81,6 +81,7 @@ public final class HibernateReactiveProcessor {
 
     private static final String HIBERNATE_REACTIVE = "Hibernate Reactive";
     private static final Logger LOG = Logger.getLogger(HibernateReactiveProcessor.class);
+    private static final int DEFAULT_STATEMENT_BATCH_SIZE = 50;
     static final String[] REFLECTIVE_CONSTRUCTORS_NEEDED = {
             "org.hibernate.reactive.persister.entity.impl.ReactiveSingleTableEntityPersister",
             "org.hibernate.reactive.persister.entity.impl.ReactiveJoinedSubclassEntityPersister",
@@ -362,9 +363,10 @@ private static ParsedPersistenceXmlDescriptor generateReactivePersistenceUnit(
                 fetchSize -> desc.getProperties().setProperty(AvailableSettings.STATEMENT_FETCH_SIZE,
                         String.valueOf(fetchSize)));
 
-        persistenceUnitConfig.jdbc().statementBatchSize().ifPresent(
-                statementBatchSize -> desc.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
-                        String.valueOf(statementBatchSize)));
+        // Batch the statements of a flush by default: Hibernate Reactive sends them with a single executeBatch call,
+        // instead of waiting for the result of each statement before sending the next one
+        desc.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
+                String.valueOf(persistenceUnitConfig.jdbc().statementBatchSize().orElse(DEFAULT_STATEMENT_BATCH_SIZE)));
 
         // Statistics
         if (hibernateOrmConfig.metrics().enabled()
@@ -0,0 +1,33 @@
+package io.quarkus.hibernate.reactive.config.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.reactive.config.MyEntity;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StatementBatchSizeOverrideTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClass(MyEntity.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.statement-batch-size", "1");
+
+    @Inject
+    SessionFactory ormSessionFactory; // This is an ORM SessionFactory, but it's backing Hibernate Reactive.
+
+    @Test
+    public void testOverriddenBatchSize() {
+        assertThat(ormSessionFactory.getProperties()).containsEntry(AvailableSettings.STATEMENT_BATCH_SIZE, "1");
+        assertThat(ormSessionFactory.unwrap(SessionFactoryImplementor.class).getSessionFactoryOptions().getJdbcBatchSize())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,111 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import static org.awaitility.Awaitility.await;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+/**
+ * Verify that the HTTP/2 stream metrics are reported.
+ */
+public class VertxHttp2StreamMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .withApplicationRoot(jar -> jar.addClasses(App.class));
+
+    @TestHTTPResource("/streams")
+    URL url;
+
+    @Test
+    void testStreamMetrics() throws Exception {
+        WebClientOptions options = new WebClientOptions()
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(false);
+        WebClient client = WebClient.create(VertxCoreRecorder.getVertx().get(), options);
+        try {
+            // Both requests are multiplexed on the same connection, the server responds once both streams are open
+            CompletableFuture<String> first = send(client);
+            CompletableFuture<String> second = send(client);
+            Assertions.assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("ok");
+            Assertions.assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("ok");
+        } finally {
+            client.close();
+        }
+
+        Counter streams = Metrics.globalRegistry.find("vertx.http.server.http2.streams").counter();
+        Assertions.assertThat(streams).isNotNull();
+        Assertions.assertThat(streams.count()).isEqualTo(2);
+
+        DistributionSummary connectionStreams = Metrics.globalRegistry.find("vertx.http.server.http2.connection.streams")
+                .summary();
+        Assertions.assertThat(connectionStreams).isNotNull();
+        Assertions.assertThat(connectionStreams.count()).isEqualTo(2);
+        Assertions.assertThat(connectionStreams.max()).isEqualTo(2);
+
+        await().untilAsserted(() -> Assertions.assertThat(
+                Metrics.globalRegistry.find("vertx.http.server.http2.streams.active").gauge().value()).isZero());
+    }
+
+    private CompletableFuture<String> send(WebClient client) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        client.get(url.getPort(), url.getHost(), url.getPath())
+                .send(ar -> {
+                    if (ar.succeeded()) {
+                        result.complete(ar.result().bodyAsString());
+                    } else {
+                        result.completeExceptionally(ar.cause());
+                    }
+                });
+        return result;
+    }
+
+    @ApplicationScoped
+    static class App {
+
+        private final List<RoutingContext> pending = new ArrayList<>();
+
+        public void register(@Observes Router router) {
+            router.get("/streams").handler(rc -> {
+                List<RoutingContext> ready = null;
+                synchronized (pending) {
+                    pending.add(rc);
+                    if (pending.size() == 2) {
+                        ready = new ArrayList<>(pending);
+                        pending.clear();
+                    }
+                }
+                if (ready != null) {
+                    for (RoutingContext ctx : ready) {
+                        ctx.response().end("ok");
+                    }
+                }
+            });
+        }
+
+    }
+}
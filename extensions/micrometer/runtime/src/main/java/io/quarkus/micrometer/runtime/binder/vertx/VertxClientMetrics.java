@@ -15,14 +15,23 @@
 
     private final String type;
     private final Timer processing;
-    private final LongAdder current = new LongAdder();
-    private final LongAdder queue = new LongAdder();
+    private final LongAdder current;
+    private final LongAdder queue;
     private final Counter resetCount;
     private final Counter completed;
     private final Timer queueDelay;
 
     VertxClientMetrics(MeterRegistry registry, String type, Tags tags) {
+        this(registry, type, tags, new InFlight());
+    }
+
+    /**
+     * @param inFlight the requests in flight, shared by the client metrics registered with the same meters
+     */
+    VertxClientMetrics(MeterRegistry registry, String type, Tags tags, InFlight inFlight) {
         this.type = type;
+        this.current = inFlight.current;
+        this.queue = inFlight.queue;
 
         queueDelay = Timer.builder(name("queue.delay"))
                 .description("Time spent in the waiting queue before being processed")
@@ -116,4 +125,16 @@ public void responseEnd(EventTiming event) {
     @Override
     public void close() {
     }
+
+    /**
+     * The requests in flight and the queued requests of a client.
+     * <p>
+     * The registry keeps the gauge registered first, so the client metrics sharing the same meters must also share
+     * this state for the gauges to report all of them.
+     */
+    static final class InFlight {
+
+        private final LongAdder current = new LongAdder();
+        private final LongAdder queue = new LongAdder();
+    }
 }
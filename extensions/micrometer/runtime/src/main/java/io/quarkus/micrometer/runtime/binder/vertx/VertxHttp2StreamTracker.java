@@ -0,0 +1,53 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.vertx.http.runtime.ExtendedQuarkusVertxHttpMetrics.Http2StreamTracker;
+
+/**
+ * Reports the HTTP/2 streams of the HTTP server.
+ */
+class VertxHttp2StreamTracker implements Http2StreamTracker {
+
+    private final AtomicLong activeStreams = new AtomicLong();
+    private final Counter streams;
+    private final DistributionSummary connectionStreams;
+    private final Counter flowControlStalls;
+
+    VertxHttp2StreamTracker(MeterRegistry registry) {
+        this.streams = Counter.builder("vertx.http.server.http2.streams")
+                .description("Number of opened HTTP/2 streams")
+                .register(registry);
+        this.connectionStreams = DistributionSummary.builder("vertx.http.server.http2.connection.streams")
+                .description("Number of concurrent streams of an HTTP/2 connection when a stream is opened")
+                .register(registry);
+        this.flowControlStalls = Counter.builder("vertx.http.server.http2.flow.control.stalls")
+                .description("Number of HTTP/2 streams opened while the connection flow-control window was exhausted")
+                .register(registry);
+        Gauge.builder("vertx.http.server.http2.streams.active", activeStreams, AtomicLong::get)
+                .description("Number of active HTTP/2 streams")
+                .register(registry);
+    }
+
+    @Override
+    public void onStreamOpened(int connectionStreams) {
+        activeStreams.incrementAndGet();
+        streams.increment();
+        this.connectionStreams.record(connectionStreams);
+    }
+
+    @Override
+    public void onStreamClosed() {
+        activeStreams.decrementAndGet();
+    }
+
+    @Override
+    public void onFlowControlStall() {
+        flowControlStalls.increment();
+    }
+
+}
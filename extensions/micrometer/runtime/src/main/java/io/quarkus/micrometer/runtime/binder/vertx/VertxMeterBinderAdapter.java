@@ -1,5 +1,7 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -37,6 +39,8 @@ public class VertxMeterBinderAdapter extends MetricsOptions
     public static final String METRIC_NAME_SEPARATOR = "|";
 
     private HttpBinderConfiguration httpBinderConfiguration;
+    private Http2StreamTracker http2StreamTracker;
+    private final ConcurrentMap<String, VertxClientMetrics.InFlight> clientInFlight = new ConcurrentHashMap<>();
 
     public VertxMeterBinderAdapter() {
     }
@@ -129,15 +133,16 @@ public TCPMetrics<?> createNetClientMetrics(NetClientOptions options) {
         // If the name is set, check if it follows the type/client-name syntax
         String prefix = extractPrefix(namespace);
         String clientName = extractClientName(namespace);
-        if (clientName != null) {
-            return new VertxClientMetrics(Metrics.globalRegistry, prefix, Tags.of(
-                    Tag.of("clientName", clientName),
-                    Tag.of("clientType", type)));
-        } else {
-            return new VertxClientMetrics(Metrics.globalRegistry, prefix, Tags.of(
-                    Tags.of(Tag.of("clientName", "<default>"),
-                            Tag.of("clientType", type))));
+        if (clientName == null) {
+            clientName = "<default>";
         }
+        // Some clients, such as the reactive SQL clients, create metrics for each connection: share their state,
+        // so that the gauges report the requests in flight on all the connections, and not only on the first one.
+        // The meters themselves are looked up again, so that they follow the registry if it is cleared or replaced.
+        Tags tags = Tags.of(Tag.of("clientName", clientName), Tag.of("clientType", type));
+        return new VertxClientMetrics(Metrics.globalRegistry, prefix, tags,
+                clientInFlight.computeIfAbsent(prefix + METRIC_NAME_SEPARATOR + tags,
+                        ignored -> new VertxClientMetrics.InFlight()));
     }
 
     @Override
@@ -226,4 +231,16 @@ public Number get() {
             }
         };
     }
+
+    @Override
+    public synchronized Http2StreamTracker getHttp2StreamTracker() {
+        if (httpBinderConfiguration == null || !httpBinderConfiguration.isServerEnabled()) {
+            return NOOP_HTTP2_STREAM_TRACKER;
+        }
+        if (http2StreamTracker == null) {
+            // the tracker is shared by all HTTP servers
+            http2StreamTracker = new VertxHttp2StreamTracker(Metrics.globalRegistry);
+        }
+        return http2StreamTracker;
+    }
 }
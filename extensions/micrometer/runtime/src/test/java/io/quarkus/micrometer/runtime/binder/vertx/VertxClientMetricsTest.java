@@ -0,0 +1,81 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+
+public class VertxClientMetricsTest {
+
+    SimpleMeterRegistry registry;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(registry);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        Metrics.globalRegistry.remove(registry);
+        Metrics.globalRegistry.clear();
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void testRequestsInFlightOnAllConnections() {
+        VertxMeterBinderAdapter adapter = new VertxMeterBinderAdapter();
+        SocketAddress address = SocketAddress.inetSocketAddress(5432, "localhost");
+
+        // the reactive SQL clients create metrics for each connection
+        ClientMetrics first = adapter.createClientMetrics(address, "sql", "postgresql|ds");
+        ClientMetrics second = adapter.createClientMetrics(address, "sql", "postgresql|ds");
+        ClientMetrics other = adapter.createClientMetrics(address, "sql", "postgresql|other");
+
+        Object firstRequest = first.requestBegin("SELECT 1", null);
+        Object pipelinedRequest = first.requestBegin("SELECT 2", null);
+        second.requestBegin("SELECT 3", null);
+        other.requestBegin("SELECT 4", null);
+        Assertions.assertEquals(3, current("ds"));
+        Assertions.assertEquals(1, current("other"));
+
+        first.responseEnd(firstRequest);
+        first.responseEnd(pipelinedRequest);
+        Assertions.assertEquals(1, current("ds"));
+        Assertions.assertEquals(2, registry.get("postgresql.completed").tag("clientName", "ds").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void testRegistryCleared() {
+        VertxMeterBinderAdapter adapter = new VertxMeterBinderAdapter();
+        SocketAddress address = SocketAddress.inetSocketAddress(5432, "localhost");
+
+        ClientMetrics first = adapter.createClientMetrics(address, "sql", "postgresql|ds");
+        Object firstRequest = first.requestBegin("SELECT 1", null);
+        Assertions.assertEquals(1, current("ds"));
+
+        Metrics.globalRegistry.remove(registry);
+        Metrics.globalRegistry.clear();
+        registry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(registry);
+
+        // the metrics of the new connections are registered again, and still count the requests in flight
+        ClientMetrics second = adapter.createClientMetrics(address, "sql", "postgresql|ds");
+        Object secondRequest = second.requestBegin("SELECT 2", null);
+        Assertions.assertEquals(2, current("ds"));
+        first.responseEnd(firstRequest);
+        second.responseEnd(secondRequest);
+        Assertions.assertEquals(0, current("ds"));
+        Assertions.assertEquals(1, registry.get("postgresql.completed").tag("clientName", "ds").counter().count());
+    }
+
+    private double current(String clientName) {
+        return registry.get("postgresql.current").tag("clientName", clientName).gauge().value();
+    }
+}
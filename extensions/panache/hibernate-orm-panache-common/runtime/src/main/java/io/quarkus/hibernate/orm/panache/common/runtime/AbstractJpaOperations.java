@@ -2,7 +2,10 @@
 
 import static io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -16,6 +19,7 @@
 import jakarta.transaction.TransactionManager;
 
 import org.hibernate.Session;
+import org.jboss.logging.Logger;
 
 import io.agroal.api.AgroalDataSource;
 import io.quarkus.agroal.DataSource;
@@ -29,6 +33,8 @@
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
+    private static final Logger LOG = Logger.getLogger(AbstractJpaOperations.class);
+
     private static volatile Map<String, String> entityToPersistenceUnit = Collections.emptyMap();
 
     public static void setEntityToPersistenceUnit(Map<String, String> map) {
@@ -119,6 +125,61 @@ public void persist(Stream<?> entities) {
         entities.forEach(entity -> persist(entity));
     }
 
+    public void persistInBatches(Iterable<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), batchSize);
+    }
+
+    public void persistInBatches(Stream<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), batchSize);
+    }
+
+    private void persistInBatches(Iterator<?> entities, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than 0: " + batchSize);
+        }
+        long start = System.nanoTime();
+        long count = 0;
+        // the JDBC batch size of each session we changed, to restore it once done
+        Map<Session, Integer> previousBatchSizes = new IdentityHashMap<>();
+        try {
+            int pending = 0;
+            while (entities.hasNext()) {
+                Object entity = entities.next();
+                EntityManager em = getEntityManager(entity.getClass());
+                Session session = em.unwrap(Session.class);
+                if (!previousBatchSizes.containsKey(session)) {
+                    previousBatchSizes.put(session, session.getJdbcBatchSize());
+                    session.setJdbcBatchSize(batchSize);
+                }
+                persist(em, entity);
+                count++;
+                if (++pending == batchSize) {
+                    flushAndClear(previousBatchSizes.keySet());
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                flushAndClear(previousBatchSizes.keySet());
+            }
+        } finally {
+            for (Entry<Session, Integer> entry : previousBatchSizes.entrySet()) {
+                entry.getKey().setJdbcBatchSize(entry.getValue());
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            LOG.debugf("Persisted %d entities in batches of %d in %d ms (%d entities/s)", count, batchSize, millis,
+                    count * 1000 / millis);
+        }
+    }
+
+    private static void flushAndClear(Collection<Session> sessions) {
+        for (Session session : sessions) {
+            session.flush();
+            session.clear();
+        }
+    }
+
     public void delete(Object entity) {
         EntityManager em = getEntityManager(entity.getClass());
         em.remove(em.contains(entity) ? entity : em.unwrap(Session.class).getReference(entity));
@@ -8,6 +8,7 @@
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
@@ -15,13 +16,19 @@
 import jakarta.persistence.Query;
 
 import org.hibernate.Filter;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 
 import io.quarkus.hibernate.orm.panache.common.NestedProjectedClass;
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.KeysetQuery;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public class CommonPanacheQueryImpl<Entity> {
@@ -321,6 +328,22 @@ public <T extends Entity> Stream<T> stream() {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> scroll(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than 0: " + batchSize);
+        }
+        Query jpaQuery = createQuery();
+        if (hints == null || !hints.containsKey(HibernateHints.HINT_FETCH_SIZE)) {
+            jpaQuery.setHint(HibernateHints.HINT_FETCH_SIZE, batchSize);
+        }
+        try (NonThrowingCloseable c = applyFilters()) {
+            ScrollableResults<T> results = jpaQuery.unwrap(org.hibernate.query.Query.class).scroll(ScrollMode.FORWARD_ONLY);
+            return StreamSupport.stream(new ScrollSpliterator<>(results, em.unwrap(Session.class), batchSize), false)
+                    .onClose(results::close);
+        }
+    }
+
     public <T extends Entity> T firstResult() {
         Query jpaQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
@@ -355,6 +378,22 @@ public <T extends Entity> Optional<T> singleResultOptional() {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> KeysetPage<T> keysetPage(Keyset keyset) {
+        KeysetQuery keysetQuery = new KeysetQuery(keyset, query, orderBy, paramsArrayOrMap, em.getMetamodel());
+        Query jpaQuery;
+        try {
+            jpaQuery = em.createQuery(keysetQuery.getQuery());
+        } catch (IllegalArgumentException x) {
+            throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
+        }
+        configureQuery(jpaQuery, keysetQuery.getParamsArrayOrMap());
+        jpaQuery.setMaxResults(keysetQuery.getMaxResults());
+        try (NonThrowingCloseable c = applyFilters()) {
+            return keysetQuery.toPage(jpaQuery.getResultList());
+        }
+    }
+
     private Query createQuery() {
         Query jpaQuery = createBaseQuery();
 
@@ -400,7 +439,11 @@ private Query createBaseQuery() {
                 throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
             }
         }
+        return configureQuery(jpaQuery, paramsArrayOrMap);
+    }
 
+    @SuppressWarnings("unchecked")
+    private Query configureQuery(Query jpaQuery, Object paramsArrayOrMap) {
         if (paramsArrayOrMap instanceof Map) {
             AbstractJpaOperations.bindParameters(jpaQuery, (Map<String, Object>) paramsArrayOrMap);
         } else {
@@ -0,0 +1,72 @@
+package io.quarkus.hibernate.orm.panache.common.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
+/**
+ * Iterates over forward-only {@link ScrollableResults}, detaching the entities read from the session every
+ * <code>batchSize</code> results, so that the persistence context does not grow with the number of results.
+ * <p>
+ * Whether the results are entities is decided on the first result: projections and scalar results are never detached.
+ */
+class ScrollSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final ScrollableResults<T> results;
+    private final Session session;
+    private final int batchSize;
+    private final List<Object> processed;
+    private Boolean detach;
+
+    ScrollSpliterator(ScrollableResults<T> results, Session session, int batchSize) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.results = results;
+        this.session = session;
+        this.batchSize = batchSize;
+        this.processed = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!results.next()) {
+            detachProcessed();
+            return false;
+        }
+        T result = results.get();
+        if (detach == null) {
+            detach = isEntity(result);
+        }
+        if (detach && result != null) {
+            if (processed.size() == batchSize) {
+                detachProcessed();
+            }
+            processed.add(result);
+        }
+        action.accept(result);
+        return true;
+    }
+
+    private boolean isEntity(Object result) {
+        if (result == null) {
+            return false;
+        }
+        try {
+            return session.contains(result);
+        } catch (IllegalArgumentException e) {
+            // not an entity
+            return false;
+        }
+    }
+
+    private void detachProcessed() {
+        for (Object entity : processed) {
+            session.detach(entity);
+        }
+        processed.clear();
+    }
+}
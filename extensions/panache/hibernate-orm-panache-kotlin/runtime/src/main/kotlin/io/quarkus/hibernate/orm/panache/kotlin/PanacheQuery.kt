@@ -1,5 +1,7 @@
 package io.quarkus.hibernate.orm.panache.kotlin
 
+import io.quarkus.panache.common.Keyset
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
 import jakarta.persistence.LockModeType
@@ -223,6 +225,32 @@ fun list(): List<Entity>
      */
     fun stream(): Stream<Entity>
 
+    /**
+     * Returns all the results of the current page or range as a Stream backed by a forward-only
+     * database cursor, so that they can be processed without loading them all in memory. The rows
+     * are fetched from the database `batchSize` at a time, unless the fetch size hint is set, and
+     * the entities read are detached from the persistence context every `batchSize` results.
+     *
+     * The stream must be closed once consumed, and the entities of a batch must not be used once
+     * the next batch has been read.
+     *
+     * @param batchSize the number of rows to fetch at a time, and to keep in the persistence context
+     * @return the results as a Stream, which must be closed
+     * @see [PanacheQuery.stream]
+     */
+    fun scroll(batchSize: Int): Stream<Entity>
+
+    /**
+     * Reads a page of results using keyset pagination: instead of skipping the rows of the previous
+     * pages, the query is restricted to the rows following the last row of the previous page, in
+     * the order of the keyset sort. This ignores the current page or range.
+     *
+     * @param keyset the keyset: the sort, the page size, and the last row of the previous page if any
+     * @return the page of results and the continuation token for the next page
+     * @see [Keyset]
+     */
+    fun keysetPage(keyset: Keyset): KeysetPage<Entity>
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to
      * fetch a single result.
@@ -552,6 +552,30 @@ fun persist(firstEntity: Entity, vararg entities: Entity) {
         INSTANCE.persist(firstEntity, *entities)
     }
 
+    /**
+     * Persist all given entities in batches, for imports of large numbers of entities. The entities
+     * are sent to the database using batches of `batchSize` statements, and the persistence context
+     * is flushed and cleared every `batchSize` entities.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist per batch
+     */
+    fun persistInBatches(entities: Iterable<Entity>, batchSize: Int) {
+        INSTANCE.persistInBatches(entities, batchSize)
+    }
+
+    /**
+     * Persist all given entities in batches, for imports of large numbers of entities. The entities
+     * are sent to the database using batches of `batchSize` statements, and the persistence context
+     * is flushed and cleared every `batchSize` entities.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist per batch
+     */
+    fun persistInBatches(entities: Stream<Entity>, batchSize: Int) {
+        INSTANCE.persistInBatches(entities, batchSize)
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
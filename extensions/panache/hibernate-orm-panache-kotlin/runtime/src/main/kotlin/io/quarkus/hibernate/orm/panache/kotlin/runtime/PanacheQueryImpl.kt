@@ -2,6 +2,8 @@
 
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl
 import io.quarkus.hibernate.orm.panache.kotlin.PanacheQuery
+import io.quarkus.panache.common.Keyset
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
 import jakarta.persistence.EntityManager
@@ -119,6 +121,14 @@ override fun stream(): Stream<Entity> {
         return delegate.stream()
     }
 
+    override fun scroll(batchSize: Int): Stream<Entity> {
+        return delegate.scroll(batchSize)
+    }
+
+    override fun keysetPage(keyset: Keyset): KeysetPage<Entity> {
+        return delegate.keysetPage(keyset)
+    }
+
     override fun firstResult(): Entity? {
         return delegate.firstResult()
     }
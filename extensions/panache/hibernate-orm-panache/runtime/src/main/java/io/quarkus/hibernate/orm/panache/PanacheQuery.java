@@ -13,6 +13,8 @@
 import org.hibernate.annotations.FilterDef;
 
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.exception.PanacheQueryException;
@@ -262,6 +264,39 @@
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns all the results of the current page or range as a {@link Stream} backed by a forward-only database cursor,
+     * so that they can be processed without loading them all in memory. The rows are fetched from the database
+     * <code>batchSize</code> at a time, unless the {@link org.hibernate.jpa.HibernateHints#HINT_FETCH_SIZE} hint is set, and
+     * the entities read are detached from the persistence context every <code>batchSize</code> results.
+     * <p>
+     * Use this to export or process a large number of entities, for example with
+     * <code>Person.findAll().scroll(1000)</code>. The stream must be closed once consumed, and the entities of a batch must
+     * not be used, nor their lazy associations loaded, once the next batch has been read. Changes made to the entities must
+     * be flushed before they are detached, otherwise they are lost.
+     *
+     * @param batchSize the number of rows to fetch from the database at a time, and to keep in the persistence context
+     * @return the results as a {@link Stream}, which must be closed
+     * @throws IllegalArgumentException if <code>batchSize</code> is not strictly positive
+     * @see #stream()
+     */
+    public <T extends Entity> Stream<T> scroll(int batchSize);
+
+    /**
+     * Reads a page of results using keyset pagination: instead of skipping the rows of the previous pages, the query is
+     * restricted to the rows following the last row of the previous page, in the order of the keyset sort. This ignores the
+     * current page or range.
+     * <p>
+     * The query must not define its own sort, nor have a <code>group by</code> or <code>having</code> clause, and must not be
+     * a named query. The results must be entities or projection classes exposing the sort columns.
+     *
+     * @param keyset the keyset: the sort, the page size, and the last row of the previous page if any
+     * @return the page of results and the continuation token for the next page
+     * @throws PanacheQueryException if the query cannot be paginated with a keyset, or if the keyset token is invalid
+     * @see Keyset
+     */
+    public <T extends Entity> KeysetPage<T> keysetPage(Keyset keyset);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
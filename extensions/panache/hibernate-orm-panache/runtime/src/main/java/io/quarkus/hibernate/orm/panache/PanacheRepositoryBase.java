@@ -751,6 +751,40 @@ default void persist(Entity firstEntity, @SuppressWarnings("unchecked") Entity..
         INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities in batches, for imports of large numbers of entities. The entities are sent to the
+     * database using JDBC batches of <code>batchSize</code> statements, and the persistence context is flushed and
+     * cleared every <code>batchSize</code> entities, so that it does not grow with the number of entities.
+     * <p>
+     * As the persistence context is cleared, every entity managed by the current session is detached, including those
+     * loaded before the call.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist per batch
+     * @throws IllegalArgumentException if <code>batchSize</code> is not strictly positive
+     * @see #persist(Iterable)
+     */
+    default void persistInBatches(Iterable<Entity> entities, int batchSize) {
+        INSTANCE.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities in batches, for imports of large numbers of entities. The entities are sent to the
+     * database using JDBC batches of <code>batchSize</code> statements, and the persistence context is flushed and
+     * cleared every <code>batchSize</code> entities, so that it does not grow with the number of entities.
+     * <p>
+     * As the persistence context is cleared, every entity managed by the current session is detached, including those
+     * loaded before the call.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist per batch
+     * @throws IllegalArgumentException if <code>batchSize</code> is not strictly positive
+     * @see #persist(Stream)
+     */
+    default void persistInBatches(Stream<Entity> entities, int batchSize) {
+        INSTANCE.persistInBatches(entities, batchSize);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
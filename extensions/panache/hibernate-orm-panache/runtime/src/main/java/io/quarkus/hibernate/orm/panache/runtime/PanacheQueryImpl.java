@@ -11,6 +11,8 @@
 
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 
@@ -154,6 +156,16 @@ public <T extends Entity> Stream<T> stream() {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Stream<T> scroll(int batchSize) {
+        return delegate.scroll(batchSize);
+    }
+
+    @Override
+    public <T extends Entity> KeysetPage<T> keysetPage(Keyset keyset) {
+        return delegate.keysetPage(keyset);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         return delegate.firstResult();
@@ -5,6 +5,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import jakarta.persistence.LockModeType;
@@ -12,13 +13,16 @@
 import org.hibernate.internal.util.LockModeConverter;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.Mutiny.Session;
+import org.jboss.logging.Logger;
 
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
+    private static final Logger LOG = Logger.getLogger(AbstractJpaOperations.class);
 
     // FIXME: make it configurable?
     static final long TIMEOUT_MS = 5000;
@@ -70,6 +74,39 @@ public Uni<Void> persist(Object... entities) {
         return getSession().chain(session -> session.persistAll(entities));
     }
 
+    public Uni<Void> persistInBatches(Iterable<?> entities, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than 0: " + batchSize);
+        }
+        return getSession().chain(session -> {
+            long start = System.nanoTime();
+            Integer previousBatchSize = session.getBatchSize();
+            session.setBatchSize(batchSize);
+            return Multi.createFrom().iterable(entities)
+                    .group().intoLists().of(batchSize)
+                    .onItem().transformToUniAndConcatenate(batch -> session.persistAll(batch.toArray())
+                            .chain(session::flush)
+                            .invoke(session::clear)
+                            .replaceWith(batch.size()))
+                    .collect().with(Collectors.summingLong(Integer::longValue))
+                    .invoke(count -> {
+                        if (LOG.isDebugEnabled()) {
+                            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+                            LOG.debugf("Persisted %d entities in batches of %d in %d ms (%d entities/s)", count, batchSize,
+                                    millis, count * 1000 / millis);
+                        }
+                    })
+                    .eventually(() -> session.setBatchSize(previousBatchSize))
+                    .replaceWithVoid();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public Uni<Void> persistInBatches(Stream<?> entities, int batchSize) {
+        Stream<Object> stream = (Stream<Object>) entities;
+        return persistInBatches((Iterable<Object>) stream::iterator, batchSize);
+    }
+
     public Uni<Void> delete(Object entity) {
         return getSession().chain(session -> session.remove(entity));
     }
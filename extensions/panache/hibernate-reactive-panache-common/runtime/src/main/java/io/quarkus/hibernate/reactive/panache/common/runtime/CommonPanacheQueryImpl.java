@@ -20,9 +20,12 @@
 
 import io.quarkus.hibernate.reactive.panache.common.NestedProjectedClass;
 import io.quarkus.hibernate.reactive.panache.common.ProjectedFieldName;
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.KeysetQuery;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -338,6 +341,23 @@ public <T extends Entity> Uni<T> singleResult() {
         });
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Uni<KeysetPage<T>> keysetPage(Keyset keyset) {
+        return em.flatMap(session -> {
+            KeysetQuery keysetQuery = new KeysetQuery(keyset, query, orderBy, paramsArrayOrMap,
+                    session.getFactory().getMetamodel());
+            Mutiny.Query<?> jpaQuery;
+            try {
+                jpaQuery = session.createQuery(keysetQuery.getQuery());
+            } catch (IllegalArgumentException x) {
+                throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
+            }
+            configureQuery(jpaQuery, keysetQuery.getParamsArrayOrMap());
+            jpaQuery.setMaxResults(keysetQuery.getMaxResults());
+            return applyFilters(session, () -> jpaQuery.getResultList().map(list -> keysetQuery.toPage((List<T>) list)));
+        });
+    }
+
     private Mutiny.Query<?> createQuery(Mutiny.Session em) {
         Mutiny.Query<?> jpaQuery = createBaseQuery(em);
 
@@ -397,7 +417,11 @@ private Mutiny.Query<?> createBaseQuery(Mutiny.Session em) {
                 throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
             }
         }
+        return configureQuery(jpaQuery, paramsArrayOrMap);
+    }
 
+    @SuppressWarnings("unchecked")
+    private Mutiny.Query<?> configureQuery(Mutiny.Query<?> jpaQuery, Object paramsArrayOrMap) {
         if (paramsArrayOrMap instanceof Map) {
             AbstractJpaOperations.bindParameters(jpaQuery, (Map<String, Object>) paramsArrayOrMap);
         } else {
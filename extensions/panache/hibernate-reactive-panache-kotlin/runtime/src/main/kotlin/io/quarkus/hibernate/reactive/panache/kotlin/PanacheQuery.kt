@@ -1,5 +1,7 @@
 package io.quarkus.hibernate.reactive.panache.kotlin
 
+import io.quarkus.panache.common.Keyset
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
 import io.smallrye.common.annotation.CheckReturnValue
@@ -216,6 +218,17 @@ fun filter(filterName: String): PanacheQuery<Entity>
      */
     @CheckReturnValue fun list(): Uni<List<Entity>>
 
+    /**
+     * Reads a page of results using keyset pagination: instead of skipping the rows of the previous
+     * pages, the query is restricted to the rows following the last row of the previous page, in
+     * the order of the keyset sort. This ignores the current page or range.
+     *
+     * @param keyset the keyset: the sort, the page size, and the last row of the previous page if any
+     * @return the page of results and the continuation token for the next page
+     * @see [Keyset]
+     */
+    @CheckReturnValue fun keysetPage(keyset: Keyset): Uni<KeysetPage<Entity>>
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to
      * fetch a single result.
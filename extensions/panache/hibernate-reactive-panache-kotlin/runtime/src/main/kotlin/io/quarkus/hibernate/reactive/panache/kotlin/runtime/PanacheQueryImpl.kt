@@ -2,6 +2,8 @@
 
 import io.quarkus.hibernate.reactive.panache.common.runtime.CommonPanacheQueryImpl
 import io.quarkus.hibernate.reactive.panache.kotlin.PanacheQuery
+import io.quarkus.panache.common.Keyset
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
 import io.smallrye.mutiny.Uni
@@ -110,6 +112,8 @@ override fun count() = delegate.count()
 
     override fun list(): Uni<List<Entity>> = delegate.list()
 
+    override fun keysetPage(keyset: Keyset): Uni<KeysetPage<Entity>> = delegate.keysetPage(keyset)
+
     override fun firstResult(): Uni<Entity?> = delegate.firstResult()
 
     override fun singleResult(): Uni<Entity> = delegate.singleResult()
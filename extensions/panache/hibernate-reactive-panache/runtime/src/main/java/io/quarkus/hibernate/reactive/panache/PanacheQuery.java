@@ -11,6 +11,8 @@
 import org.hibernate.annotations.FilterDef;
 
 import io.quarkus.hibernate.reactive.panache.common.ProjectedFieldName;
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.exception.PanacheQueryException;
@@ -256,6 +258,22 @@
     @CheckReturnValue
     public <T extends Entity> Uni<List<T>> list();
 
+    /**
+     * Reads a page of results using keyset pagination: instead of skipping the rows of the previous pages, the query is
+     * restricted to the rows following the last row of the previous page, in the order of the keyset sort. This ignores the
+     * current page or range.
+     * <p>
+     * The query must not define its own sort, nor have a <code>group by</code> or <code>having</code> clause, and must not be
+     * a named query. The results must be entities or projection classes exposing the sort columns.
+     *
+     * @param keyset the keyset: the sort, the page size, and the last row of the previous page if any
+     * @return the page of results and the continuation token for the next page
+     * @throws PanacheQueryException if the query cannot be paginated with a keyset, or if the keyset token is invalid
+     * @see Keyset
+     */
+    @CheckReturnValue
+    public <T extends Entity> Uni<KeysetPage<T>> keysetPage(Keyset keyset);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -591,6 +591,44 @@ public default Uni<Void> persist(Entity firstEntity, @SuppressWarnings("unchecke
         return INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities in batches, for imports of large numbers of entities. The entities are sent to the
+     * database using batches of <code>batchSize</code> statements, and the session is flushed and cleared every
+     * <code>batchSize</code> entities, so that it does not grow with the number of entities.
+     * <p>
+     * As the session is cleared, every entity managed by the current session is detached, including those loaded before
+     * the call.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist per batch
+     * @return nothing
+     * @throws IllegalArgumentException if <code>batchSize</code> is not strictly positive
+     * @see #persist(Iterable)
+     */
+    @CheckReturnValue
+    public default Uni<Void> persistInBatches(Iterable<Entity> entities, int batchSize) {
+        return INSTANCE.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities in batches, for imports of large numbers of entities. The entities are sent to the
+     * database using batches of <code>batchSize</code> statements, and the session is flushed and cleared every
+     * <code>batchSize</code> entities, so that it does not grow with the number of entities.
+     * <p>
+     * As the session is cleared, every entity managed by the current session is detached, including those loaded before
+     * the call.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist per batch
+     * @return nothing
+     * @throws IllegalArgumentException if <code>batchSize</code> is not strictly positive
+     * @see #persist(Stream)
+     */
+    @CheckReturnValue
+    public default Uni<Void> persistInBatches(Stream<Entity> entities, int batchSize) {
+        return INSTANCE.persistInBatches(entities, batchSize);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
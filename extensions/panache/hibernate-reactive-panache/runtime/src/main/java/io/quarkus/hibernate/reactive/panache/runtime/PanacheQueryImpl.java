@@ -10,6 +10,8 @@
 
 import io.quarkus.hibernate.reactive.panache.PanacheQuery;
 import io.quarkus.hibernate.reactive.panache.common.runtime.CommonPanacheQueryImpl;
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.smallrye.mutiny.Uni;
@@ -148,6 +150,11 @@ public <T extends Entity> Uni<List<T>> list() {
         return delegate.list();
     }
 
+    @Override
+    public <T extends Entity> Uni<KeysetPage<T>> keysetPage(Keyset keyset) {
+        return delegate.keysetPage(keyset);
+    }
+
     @Override
     public <T extends Entity> Uni<T> firstResult() {
         return delegate.firstResult();
@@ -15,8 +15,11 @@
 
 import io.quarkus.mongodb.FindOptions;
 import io.quarkus.mongodb.panache.common.reactive.Panache;
+import io.quarkus.mongodb.panache.common.runtime.MongoKeysetQuery;
 import io.quarkus.mongodb.panache.common.runtime.MongoPropertyUtil;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
@@ -192,6 +195,29 @@ public <T extends Entity> Multi<T> stream() {
                 : collection.find(getQuery(), options);
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Uni<KeysetPage<T>> keysetPage(Keyset keyset) {
+        MongoKeysetQuery keysetQuery;
+        try {
+            keysetQuery = new MongoKeysetQuery(keyset, mongoQuery, sort);
+        } catch (RuntimeException e) {
+            return Uni.createFrom().failure(e);
+        }
+        FindOptions options = new FindOptions();
+        options.sort(keysetQuery.getSort()).limit(keysetQuery.getMaxResults());
+        if (projections != null) {
+            options.projection(this.projections);
+        }
+        if (this.collation != null) {
+            options.collation(collation);
+        }
+        batchSize.ifPresent(batchSize -> options.batchSize(batchSize));
+        Multi<T> results = Panache.getCurrentSession() != null
+                ? collection.find(Panache.getCurrentSession(), keysetQuery.getQuery(), options)
+                : collection.find(keysetQuery.getQuery(), options);
+        return results.collect().asList().map(list -> keysetQuery.toPage(list, collection.getCodecRegistry()));
+    }
+
     public <T extends Entity> Uni<T> firstResult() {
         Uni<Optional<T>> optionalEntity = firstResultOptional();
         return optionalEntity.map(optional -> optional.orElse(null));
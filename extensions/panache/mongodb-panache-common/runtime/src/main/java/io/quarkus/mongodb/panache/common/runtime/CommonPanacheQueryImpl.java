@@ -19,6 +19,8 @@
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.CountOptions;
 
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
@@ -205,6 +207,30 @@ private <T extends Entity> List<T> list(Integer limit) {
         return list;
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> KeysetPage<T> keysetPage(Keyset keyset) {
+        MongoKeysetQuery keysetQuery = new MongoKeysetQuery(keyset, mongoQuery, sort);
+        List<T> list = new ArrayList<>();
+        FindIterable<T> find = clientSession == null ? collection.find(keysetQuery.getQuery())
+                : collection.find(clientSession, keysetQuery.getQuery());
+        if (this.projections != null) {
+            find.projection(projections);
+        }
+        if (this.collation != null) {
+            find.collation(collation);
+        }
+        batchSize.ifPresent(batchSize -> find.batchSize(batchSize));
+        find.limit(keysetQuery.getMaxResults());
+
+        try (MongoCursor<T> cursor = find.sort(keysetQuery.getSort()).iterator()) {
+            while (cursor.hasNext()) {
+                T entity = cursor.next();
+                list.add(entity);
+            }
+        }
+        return keysetQuery.toPage(list, collection.getCodecRegistry());
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
         return (Stream<T>) list().stream();
@@ -0,0 +1,185 @@
+package io.quarkus.mongodb.panache.common.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import com.mongodb.client.model.Filters;
+
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+/**
+ * Turns a MongoDB query into a query for a page of {@link Keyset} pagination.
+ * <p>
+ * The query is restricted with a filter of the form <code>{$or: [{a: {$gt: v1}}, {a: v1, b: {$gt: v2}}]}</code> on the sort
+ * fields and sorted by the keyset sort. One more document than the page size is read to find out if there is a next page.
+ * The continuation token encodes the values of the sort fields of the last document of a page as Extended JSON, so that
+ * all the BSON types, such as object ids, are preserved.
+ */
+public class MongoKeysetQuery {
+
+    private static final String VALUES = "v";
+    private static final JsonWriterSettings TOKEN_SETTINGS = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED)
+            .build();
+
+    private final Keyset keyset;
+    private final Bson query;
+    private final Document sort;
+
+    /**
+     *
+     * @param keyset the keyset
+     * @param mongoQuery the query, can be null
+     * @param sort the sort of the query, must be null or empty
+     * @throws PanacheQueryException if the query defines its own sort or if the keyset token is invalid
+     */
+    public MongoKeysetQuery(Keyset keyset, Bson mongoQuery, Bson sort) {
+        if (sort != null && !sort.toBsonDocument().isEmpty()) {
+            throw new PanacheQueryException(
+                    "Keyset pagination uses the sort of the keyset, the query must not define its own sort: " + sort);
+        }
+        this.keyset = keyset;
+        this.sort = new Document();
+        for (Sort.Column column : keyset.sort.getColumns()) {
+            if (column.getNullPrecedence() != null) {
+                throw new UnsupportedOperationException("Cannot sort by nulls first or nulls last");
+            }
+            this.sort.append(column.getName(), column.getDirection() == Sort.Direction.Ascending ? 1 : -1);
+        }
+
+        List<?> values = null;
+        if (keyset.getAfterToken() != null) {
+            values = decodeToken(keyset.getAfterToken(), keyset.sort.getColumns().size());
+        } else if (keyset.getAfterValues() != null) {
+            values = Arrays.asList(keyset.getAfterValues());
+        }
+        if (values == null) {
+            this.query = mongoQuery == null ? new BsonDocument() : mongoQuery;
+        } else {
+            Bson filter = filter(keyset.sort, values);
+            this.query = mongoQuery == null ? filter : Filters.and(mongoQuery, filter);
+        }
+    }
+
+    /**
+     * @return the query for the page, including the keyset filter
+     */
+    public Bson getQuery() {
+        return query;
+    }
+
+    /**
+     * @return the sort of the keyset
+     */
+    public Document getSort() {
+        return sort;
+    }
+
+    /**
+     * @return the maximum number of documents to read, one more than the page size
+     */
+    public int getMaxResults() {
+        return keyset.size + 1;
+    }
+
+    /**
+     * Creates the page from the results of the query.
+     *
+     * @param results the results of the query, limited to {@link #getMaxResults()}
+     * @param codecRegistry the codec registry of the collection, used to read the sort fields of the last result
+     * @return the page
+     */
+    public <T> KeysetPage<T> toPage(List<T> results, CodecRegistry codecRegistry) {
+        if (results.size() <= keyset.size) {
+            return new KeysetPage<>(keyset, results, null);
+        }
+        List<T> list = new ArrayList<>(results.subList(0, keyset.size));
+        return new KeysetPage<>(keyset, list, encodeToken(values(list.get(list.size() - 1), keyset.sort, codecRegistry)));
+    }
+
+    static Bson filter(Sort sort, List<?> values) {
+        List<Sort.Column> columns = sort.getColumns();
+        // {a: {$gt: v1}} OR {a: v1, b: {$gt: v2}} OR ...
+        List<Bson> alternatives = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = values.get(i);
+            if (value == null || (value instanceof BsonValue && ((BsonValue) value).isNull())) {
+                throw new PanacheQueryException("Keyset values cannot be null");
+            }
+            List<Bson> conditions = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; j++) {
+                conditions.add(Filters.eq(columns.get(j).getName(), values.get(j)));
+            }
+            Sort.Column column = columns.get(i);
+            conditions.add(column.getDirection() == Sort.Direction.Ascending ? Filters.gt(column.getName(), value)
+                    : Filters.lt(column.getName(), value));
+            alternatives.add(conditions.size() == 1 ? conditions.get(0) : Filters.and(conditions));
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : Filters.or(alternatives);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static List<BsonValue> values(Object result, Sort sort, CodecRegistry codecRegistry) {
+        BsonDocument document;
+        if (result instanceof BsonDocument) {
+            document = (BsonDocument) result;
+        } else {
+            document = new BsonDocument();
+            Codec codec = codecRegistry.get(result.getClass());
+            codec.encode(new BsonDocumentWriter(document), result, EncoderContext.builder().build());
+        }
+        List<BsonValue> values = new ArrayList<>(sort.getColumns().size());
+        for (Sort.Column column : sort.getColumns()) {
+            BsonValue value = document;
+            for (String field : column.getName().split("\\.")) {
+                value = value.isDocument() ? value.asDocument().get(field) : null;
+                if (value == null) {
+                    break;
+                }
+            }
+            if (value == null || value.isNull()) {
+                throw new PanacheQueryException("Keyset field " + column.getName() + " is missing or null in the last result"
+                        + " of the page, the projection must include the sort fields");
+            }
+            values.add(value);
+        }
+        return values;
+    }
+
+    static String encodeToken(List<BsonValue> values) {
+        String json = new BsonDocument(VALUES, new BsonArray(values)).toJson(TOKEN_SETTINGS);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static List<BsonValue> decodeToken(String token, int expectedValues) {
+        BsonArray values;
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            values = BsonDocument.parse(json).getArray(VALUES);
+        } catch (RuntimeException e) {
+            throw new PanacheQueryException("Invalid keyset token: " + token, e);
+        }
+        if (values.size() != expectedValues) {
+            throw new PanacheQueryException(
+                    "Invalid keyset token, expected " + expectedValues + " values but got " + values.size() + ": " + token);
+        }
+        return values.getValues();
+    }
+}
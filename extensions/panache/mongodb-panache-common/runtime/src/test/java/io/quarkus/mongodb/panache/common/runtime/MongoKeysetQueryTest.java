@@ -0,0 +1,113 @@
+package io.quarkus.mongodb.panache.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoClientSettings;
+
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+class MongoKeysetQueryTest {
+
+    private static final CodecRegistry CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            MongoClientSettings.getDefaultCodecRegistry(),
+            CodecRegistries.fromProviders(PojoCodecProvider.builder().automatic(true).build()));
+
+    @Test
+    void testFirstPage() {
+        MongoKeysetQuery query = new MongoKeysetQuery(Keyset.of(Sort.by("name").and("_id"), 10), null, null);
+        assertEquals(new BsonDocument(), query.getQuery());
+        assertEquals(new Document("name", 1).append("_id", 1), query.getSort());
+        assertEquals(11, query.getMaxResults());
+
+        assertThrows(PanacheQueryException.class,
+                () -> new MongoKeysetQuery(Keyset.of(Sort.by("name"), 10), null, new Document("name", 1)));
+    }
+
+    @Test
+    void testFilter() {
+        ObjectId id = new ObjectId();
+        Keyset keyset = Keyset.of(Sort.by("name").and("age", Sort.Direction.Descending).and("_id"), 10).afterValues("Stef", 42,
+                id);
+        MongoKeysetQuery query = new MongoKeysetQuery(keyset, new Document("status", "ALIVE"), null);
+        BsonDocument expected = BsonDocument.parse("{$and: [{status: 'ALIVE'}, {$or: ["
+                + "{name: {$gt: 'Stef'}},"
+                + "{$and: [{name: 'Stef'}, {age: {$lt: 42}}]},"
+                + "{$and: [{name: 'Stef'}, {age: 42}, {_id: {$gt: {$oid: '" + id.toHexString() + "'}}}]}"
+                + "]}]}");
+        assertEquals(expected, query.getQuery().toBsonDocument(BsonDocument.class, CODEC_REGISTRY));
+
+        query = new MongoKeysetQuery(Keyset.of(Sort.descending("_id"), 10).afterValues(id), null, null);
+        assertEquals(BsonDocument.parse("{_id: {$lt: {$oid: '" + id.toHexString() + "'}}}"),
+                query.getQuery().toBsonDocument(BsonDocument.class, CODEC_REGISTRY));
+
+        assertThrows(PanacheQueryException.class,
+                () -> new MongoKeysetQuery(Keyset.of(Sort.by("name"), 10).afterValues((Object) null), null, null));
+    }
+
+    @Test
+    void testToken() {
+        List<BsonValue> values = List.of(new BsonString("Stef"), new BsonInt32(42), new BsonObjectId(new ObjectId()));
+        assertEquals(values, MongoKeysetQuery.decodeToken(MongoKeysetQuery.encodeToken(values), 3));
+        assertThrows(PanacheQueryException.class,
+                () -> MongoKeysetQuery.decodeToken(MongoKeysetQuery.encodeToken(values), 2));
+        assertThrows(PanacheQueryException.class, () -> MongoKeysetQuery.decodeToken("not a token", 3));
+    }
+
+    @Test
+    void testPage() {
+        Keyset keyset = Keyset.of(Sort.by("name").and("_id"), 2);
+        MongoKeysetQuery query = new MongoKeysetQuery(keyset, null, null);
+        Person a = new Person("a");
+        Person b = new Person("b");
+
+        KeysetPage<Person> page = query.toPage(List.of(a, b), CODEC_REGISTRY);
+        assertEquals(List.of(a, b), page.list);
+        assertNull(page.nextToken);
+        assertFalse(page.hasNext());
+
+        page = query.toPage(List.of(a, b, new Person("c")), CODEC_REGISTRY);
+        assertEquals(List.of(a, b), page.list);
+        assertTrue(page.hasNext());
+
+        query = new MongoKeysetQuery(page.next(), null, null);
+        assertEquals(BsonDocument.parse("{$or: [{name: {$gt: 'b'}}, {$and: [{name: 'b'}, {_id: {$gt: {$oid: '"
+                + b.id.toHexString() + "'}}}]}]}"), query.getQuery().toBsonDocument(BsonDocument.class, CODEC_REGISTRY));
+
+        assertThrows(PanacheQueryException.class,
+                () -> new MongoKeysetQuery(Keyset.of(Sort.by("age"), 1), null, null).toPage(List.of(a, b), CODEC_REGISTRY));
+    }
+
+    public static class Person {
+        public ObjectId id;
+        public String name;
+
+        public Person() {
+        }
+
+        Person(String name) {
+            this.id = new ObjectId();
+            this.name = name;
+        }
+    }
+}
@@ -2,6 +2,8 @@
 
 import com.mongodb.ReadPreference
 import com.mongodb.client.model.Collation
+import io.quarkus.panache.common.Keyset
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import io.smallrye.mutiny.Multi
 import io.smallrye.mutiny.Uni
@@ -179,6 +181,18 @@ fun list(): Uni<List<Entity>>
      */
     fun stream(): Multi<Entity>
 
+    /**
+     * Reads a page of results using keyset pagination: instead of skipping the documents of the
+     * previous pages, the query is restricted to the documents following the last document of the
+     * previous page, in the order of the keyset sort. This ignores the current page or range.
+     *
+     * @param keyset the keyset: the sort, the page size, and the last document of the previous page
+     *   if any
+     * @return the page of results and the continuation token for the next page
+     * @see [Keyset]
+     */
+    fun keysetPage(keyset: Keyset): Uni<KeysetPage<Entity>>
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to
      * fetch a single result.
@@ -5,6 +5,8 @@
 import io.quarkus.mongodb.panache.common.reactive.runtime.CommonReactivePanacheQueryImpl
 import io.quarkus.mongodb.panache.kotlin.reactive.ReactivePanacheQuery
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection
+import io.quarkus.panache.common.Keyset
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import io.smallrye.mutiny.Multi
 import io.smallrye.mutiny.Uni
@@ -106,6 +108,10 @@ override fun stream(): Multi<Entity> {
         return delegate.stream()
     }
 
+    override fun keysetPage(keyset: Keyset): Uni<KeysetPage<Entity>> {
+        return delegate.keysetPage(keyset)
+    }
+
     override fun firstResult(): Uni<Entity?> {
         return delegate.firstResult()
     }
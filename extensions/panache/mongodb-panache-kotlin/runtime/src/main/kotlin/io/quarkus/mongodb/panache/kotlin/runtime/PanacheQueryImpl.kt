@@ -6,6 +6,8 @@
 import com.mongodb.client.model.Collation
 import io.quarkus.mongodb.panache.common.runtime.CommonPanacheQueryImpl
 import io.quarkus.mongodb.panache.kotlin.PanacheQuery
+import io.quarkus.panache.common.Keyset
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import java.util.stream.Stream
 import org.bson.conversions.Bson
@@ -108,6 +110,10 @@ override fun stream(): Stream<Entity> {
         return delegate.stream()
     }
 
+    override fun keysetPage(keyset: Keyset): KeysetPage<Entity> {
+        return delegate.keysetPage(keyset)
+    }
+
     override fun firstResult(): Entity? {
         return delegate.firstResult()
     }
@@ -7,6 +7,8 @@
 import com.mongodb.ReadPreference;
 import com.mongodb.client.model.Collation;
 
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 
 /**
@@ -192,6 +194,21 @@
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Reads a page of results using keyset pagination: instead of skipping the documents of the previous pages, the query is
+     * restricted to the documents following the last document of the previous page, in the order of the keyset sort. This
+     * ignores the current page or range.
+     * <p>
+     * The query must not define its own sort. The keyset sort columns are document field names, and the projection, if any,
+     * must include them.
+     *
+     * @param keyset the keyset: the sort, the page size, and the last document of the previous page if any
+     * @return the page of results and the continuation token for the next page
+     * @throws PanacheQueryException if the query defines its own sort, or if the keyset token is invalid
+     * @see Keyset
+     */
+    public <T extends Entity> KeysetPage<T> keysetPage(Keyset keyset);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -11,6 +11,8 @@
 import io.quarkus.mongodb.panache.common.reactive.runtime.CommonReactivePanacheQueryImpl;
 import io.quarkus.mongodb.panache.reactive.ReactivePanacheQuery;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -127,6 +129,11 @@ public <T extends Entity> Multi<T> stream() {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Uni<KeysetPage<T>> keysetPage(Keyset keyset) {
+        return delegate.keysetPage(keyset);
+    }
+
     @Override
     public <T extends Entity> Uni<T> firstResult() {
         return delegate.firstResult();
@@ -13,6 +13,8 @@
 
 import io.quarkus.mongodb.panache.PanacheQuery;
 import io.quarkus.mongodb.panache.common.runtime.CommonPanacheQueryImpl;
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
@@ -129,6 +131,11 @@ public <T extends Entity> Stream<T> stream() {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> KeysetPage<T> keysetPage(Keyset keyset) {
+        return delegate.keysetPage(keyset);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         return delegate.firstResult();
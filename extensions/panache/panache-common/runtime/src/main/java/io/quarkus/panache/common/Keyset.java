@@ -0,0 +1,112 @@
+package io.quarkus.panache.common;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Utility class to represent keyset (also known as seek) pagination information. Keyset instances are immutable.
+ * </p>
+ * <p>
+ * Instead of skipping the rows of the previous pages like {@link Page} does, a keyset restricts the query to the rows that
+ * come after the last row of the previous page according to its {@link Sort}, so that reading a page costs the same
+ * regardless of how deep it is. The sort must therefore define a total order: its last column should be unique (typically
+ * the identifier) and none of its columns should be nullable.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <code><pre>
+ * KeysetPage&lt;Person&gt; page = Person.findAll().keysetPage(Keyset.of(Sort.by("name").and("id"), 25));
+ * while (page.hasNext()) {
+ *     page = Person.findAll().keysetPage(page.next());
+ * }
+ * </pre></code>
+ *
+ * @see KeysetPage
+ */
+public class Keyset {
+
+    /**
+     * The sort defining the order of the pages and the columns of the keyset.
+     */
+    public final Sort sort;
+
+    /**
+     * The page size.
+     */
+    public final int size;
+
+    private final String afterToken;
+    private final Object[] afterValues;
+
+    private Keyset(Sort sort, int size, String afterToken, Object[] afterValues) {
+        if (sort == null || sort.getColumns().isEmpty())
+            throw new IllegalArgumentException("Keyset sort must have at least one column");
+        if (size <= 0)
+            throw new IllegalArgumentException("Keyset size must be > 0 : " + size);
+        this.sort = sort;
+        this.size = size;
+        this.afterToken = afterToken;
+        this.afterValues = afterValues;
+    }
+
+    /**
+     * Builds a keyset for the first page of the given sort and size.
+     *
+     * @param sort the sort, with at least one column
+     * @param size the page size
+     * @throws IllegalArgumentException if the sort has no column
+     * @throws IllegalArgumentException if the page size is less than or equal to 0
+     */
+    public static Keyset of(Sort sort, int size) {
+        return new Keyset(sort, size, null, null);
+    }
+
+    /**
+     * Returns a new keyset for the page following the row identified by the given continuation token.
+     *
+     * @param token a continuation token obtained from {@link KeysetPage#nextToken}
+     * @return a new keyset with the same sort and size, starting after the given token
+     */
+    public Keyset afterToken(String token) {
+        return new Keyset(sort, size, Objects.requireNonNull(token, "token"), null);
+    }
+
+    /**
+     * Returns a new keyset for the page following the row with the given values, one for each column of the sort.
+     *
+     * @param values the values of the sort columns of the last seen row
+     * @return a new keyset with the same sort and size, starting after the given values
+     * @throws IllegalArgumentException if the number of values does not match the number of sort columns
+     */
+    public Keyset afterValues(Object... values) {
+        if (values.length != sort.getColumns().size())
+            throw new IllegalArgumentException("Keyset requires " + sort.getColumns().size() + " values, got " + values.length);
+        return new Keyset(sort, size, null, values.clone());
+    }
+
+    /**
+     * Returns true if this keyset is for the first page, i.e. does not start after a given row.
+     *
+     * @return true if this keyset is for the first page
+     */
+    public boolean isFirst() {
+        return afterToken == null && afterValues == null;
+    }
+
+    /**
+     * @return the continuation token this keyset starts after, or null
+     */
+    public String getAfterToken() {
+        return afterToken;
+    }
+
+    /**
+     * @return the values this keyset starts after, or null
+     */
+    public Object[] getAfterValues() {
+        return afterValues == null ? null : afterValues.clone();
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkus.panache.common;
+
+import java.util.List;
+
+/**
+ * A page of results obtained with keyset pagination, along with the opaque continuation token identifying its last row.
+ *
+ * @param <T> the type of the results
+ * @see Keyset
+ */
+public class KeysetPage<T> {
+
+    /**
+     * The keyset this page was read with.
+     */
+    public final Keyset keyset;
+
+    /**
+     * The results of this page.
+     */
+    public final List<T> list;
+
+    /**
+     * The continuation token identifying the last row of this page, or null if this is the last page.
+     */
+    public final String nextToken;
+
+    public KeysetPage(Keyset keyset, List<T> list, String nextToken) {
+        this.keyset = keyset;
+        this.list = list;
+        this.nextToken = nextToken;
+    }
+
+    /**
+     * Returns true if there are more results after this page.
+     *
+     * @return true if there are more results after this page
+     */
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+
+    /**
+     * Returns the keyset for the next page.
+     *
+     * @return the keyset for the next page
+     * @throws IllegalStateException if this is the last page
+     */
+    public Keyset next() {
+        if (nextToken == null)
+            throw new IllegalStateException("There is no page after the last page");
+        return keyset.afterToken(nextToken);
+    }
+}
@@ -0,0 +1,524 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+/**
+ * Turns an HQL query into a query for a page of {@link Keyset} pagination.
+ * <p>
+ * The query is restricted with a predicate of the form <code>(a, b) &gt; (?1, ?2)</code> on the sort columns, expanded into
+ * a disjunction if the columns are not all sorted in the same direction, and ordered by the keyset sort. One more row than
+ * the page size is read to find out if there is a next page. The continuation token encodes the values of the sort columns of
+ * the last row of a page. Enum values are encoded by name only, their type is resolved from the mapping of the sort columns.
+ */
+public final class KeysetQuery {
+
+    static final String PARAMETER_PREFIX = "panacheKeyset";
+
+    private static final byte TOKEN_VERSION = 2;
+
+    private static final Pattern WHERE_PATTERN = Pattern.compile("\\bwhere\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern UNSUPPORTED_CLAUSE_PATTERN = Pattern.compile("\\b(order\\s+by|group\\s+by|having)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern FROM_PATTERN = Pattern.compile(
+            "\\bfrom\\s+([\\w.$]+)(?:\\s+(?:as\\s+)?(?!(?:where|join|left|right|inner|cross|full)\\b)(\\w+))?",
+            Pattern.CASE_INSENSITIVE);
+
+    private final Keyset keyset;
+    private final String alias;
+    private final String query;
+    private final Object paramsArrayOrMap;
+
+    /**
+     *
+     * @param keyset the keyset
+     * @param query the HQL query expanded from the Panache-Query
+     * @param orderBy the order by clause of the query, must be null or empty
+     * @param paramsArrayOrMap the parameters of the query, either an array or a map
+     * @param metamodel the metamodel used to resolve the types of the sort columns, can be null
+     * @throws PanacheQueryException if the query cannot be paginated with a keyset
+     */
+    public KeysetQuery(Keyset keyset, String query, String orderBy, Object paramsArrayOrMap, Metamodel metamodel) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Keyset pagination is not supported for named queries: " + query);
+        }
+        if (orderBy != null && !orderBy.isEmpty()) {
+            throw new PanacheQueryException(
+                    "Keyset pagination uses the sort of the keyset, the query must not define its own sort: " + query);
+        }
+        String masked = maskNestedParts(query);
+        if (UNSUPPORTED_CLAUSE_PATTERN.matcher(masked).find()) {
+            throw new PanacheQueryException(
+                    "Keyset pagination is not supported for queries with an order by, group by or having clause: " + query);
+        }
+        this.keyset = keyset;
+        this.alias = alias(masked);
+
+        Object[] values = null;
+        if (keyset.getAfterToken() != null) {
+            List<Sort.Column> columns = keyset.sort.getColumns();
+            values = decodeToken(keyset.getAfterToken(), columns.size(),
+                    i -> columnType(metamodel, masked, columns.get(i).getName()));
+        } else if (keyset.getAfterValues() != null) {
+            values = keyset.getAfterValues();
+        }
+        if (values == null) {
+            this.query = query + PanacheJpaUtil.toOrderBy(keyset.sort);
+            this.paramsArrayOrMap = paramsArrayOrMap;
+            return;
+        }
+        for (Object value : values) {
+            if (value == null) {
+                throw new PanacheQueryException("Keyset values cannot be null");
+            }
+        }
+
+        List<String> parameters = new ArrayList<>(values.length);
+        if (paramsArrayOrMap instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> params = new HashMap<>((Map<String, Object>) paramsArrayOrMap);
+            for (int i = 0; i < values.length; i++) {
+                params.put(PARAMETER_PREFIX + i, values[i]);
+                parameters.add(":" + PARAMETER_PREFIX + i);
+            }
+            this.paramsArrayOrMap = params;
+        } else {
+            Object[] params = paramsArrayOrMap == null ? new Object[0] : (Object[]) paramsArrayOrMap;
+            Object[] newParams = new Object[params.length + values.length];
+            System.arraycopy(params, 0, newParams, 0, params.length);
+            for (int i = 0; i < values.length; i++) {
+                newParams[params.length + i] = values[i];
+                parameters.add("?" + (params.length + i + 1));
+            }
+            this.paramsArrayOrMap = newParams;
+        }
+
+        String predicate = predicate(keyset.sort, parameters);
+        Matcher where = WHERE_PATTERN.matcher(masked);
+        String restricted;
+        if (where.find()) {
+            restricted = query.substring(0, where.end()) + " (" + query.substring(where.end()).trim() + ") AND " + predicate;
+        } else {
+            restricted = query + " WHERE " + predicate;
+        }
+        this.query = restricted + PanacheJpaUtil.toOrderBy(keyset.sort);
+    }
+
+    /**
+     * @return the HQL query for the page, including the order by clause
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return the parameters of the query for the page, including the keyset values
+     */
+    public Object getParamsArrayOrMap() {
+        return paramsArrayOrMap;
+    }
+
+    /**
+     * @return the maximum number of results to read, one more than the page size
+     */
+    public int getMaxResults() {
+        return keyset.size + 1;
+    }
+
+    /**
+     * Creates the page from the results of the query.
+     *
+     * @param results the results of the query, limited to {@link #getMaxResults()}
+     * @return the page
+     */
+    public <T> KeysetPage<T> toPage(List<T> results) {
+        if (results.size() <= keyset.size) {
+            return new KeysetPage<>(keyset, results, null);
+        }
+        List<T> list = new ArrayList<>(results.subList(0, keyset.size));
+        return new KeysetPage<>(keyset, list, encodeToken(values(list.get(list.size() - 1), keyset.sort, alias)));
+    }
+
+    static String predicate(Sort sort, List<String> parameters) {
+        List<Sort.Column> columns = sort.getColumns();
+        List<String> names = new ArrayList<>(columns.size());
+        boolean sameDirection = true;
+        for (Sort.Column column : columns) {
+            names.add(sort.isEscapingEnabled() ? PanacheJpaUtil.escapeColumnName(column.getName()).toString()
+                    : column.getName());
+            sameDirection &= column.getDirection() == columns.get(0).getDirection();
+        }
+        if (columns.size() == 1) {
+            return names.get(0) + operator(columns.get(0)) + parameters.get(0);
+        }
+        if (sameDirection) {
+            // row value comparison, Hibernate emulates it for the databases that do not support it
+            return "(" + String.join(", ", names) + ")" + operator(columns.get(0)) + "(" + String.join(", ", parameters)
+                    + ")";
+        }
+        // a > ?1 OR (a = ?1 AND b < ?2) OR ...
+        StringBuilder predicate = new StringBuilder("(");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                predicate.append(" OR ");
+            }
+            predicate.append("(");
+            for (int j = 0; j < i; j++) {
+                predicate.append(names.get(j)).append(" = ").append(parameters.get(j)).append(" AND ");
+            }
+            predicate.append(names.get(i)).append(operator(columns.get(i))).append(parameters.get(i)).append(")");
+        }
+        return predicate.append(")").toString();
+    }
+
+    private static String operator(Sort.Column column) {
+        return column.getDirection() == Sort.Direction.Ascending ? " > " : " < ";
+    }
+
+    /**
+     * Replaces the string literals and the parenthesized parts of a query with spaces, so that the clauses of the top-level
+     * query can be found.
+     */
+    static String maskNestedParts(String query) {
+        StringBuilder masked = new StringBuilder(query.length());
+        int depth = 0;
+        boolean inString = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (inString) {
+                if (c == '\'') {
+                    inString = false;
+                }
+                masked.append(' ');
+            } else if (c == '\'') {
+                inString = true;
+                masked.append(' ');
+            } else if (c == '(') {
+                depth++;
+                masked.append(' ');
+            } else if (c == ')') {
+                depth--;
+                masked.append(' ');
+            } else {
+                masked.append(depth > 0 ? ' ' : c);
+            }
+        }
+        return masked.toString();
+    }
+
+    /**
+     * @return the alias of the entity the query selects from, or null if it has none
+     */
+    static String alias(String maskedQuery) {
+        Matcher from = FROM_PATTERN.matcher(maskedQuery);
+        return from.find() ? from.group(2) : null;
+    }
+
+    /**
+     * Resolves the Java type of a sort column from the mapping of the entity the query selects from.
+     *
+     * @return the type, or null if it cannot be resolved
+     */
+    static Class<?> columnType(Metamodel metamodel, String maskedQuery, String column) {
+        if (metamodel == null) {
+            return null;
+        }
+        Matcher from = FROM_PATTERN.matcher(maskedQuery);
+        if (!from.find()) {
+            return null;
+        }
+        ManagedType<?> type = null;
+        for (EntityType<?> entity : metamodel.getEntities()) {
+            if (entity.getName().equals(from.group(1)) || entity.getJavaType().getName().equals(from.group(1))) {
+                type = entity;
+                break;
+            }
+        }
+        Class<?> javaType = null;
+        String[] path = column.split("\\.");
+        for (int i = 0; i < path.length; i++) {
+            String name = PanacheJpaUtil.unquoteColumnName(path[i]);
+            if (isAlias(path, i, name, from.group(2))) {
+                continue;
+            }
+            if (type == null) {
+                return null;
+            }
+            Attribute<?, ?> attribute;
+            try {
+                attribute = type.getAttribute(name);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            javaType = attribute.getJavaType();
+            type = attribute instanceof SingularAttribute
+                    && ((SingularAttribute<?, ?>) attribute).getType() instanceof ManagedType
+                            ? (ManagedType<?>) ((SingularAttribute<?, ?>) attribute).getType()
+                            : null;
+        }
+        return javaType;
+    }
+
+    /**
+     * Reads the values of the sort columns from a result, using the getters or the fields of the column paths.
+     *
+     * @param alias the alias of the entity the query selects from, skipped at the start of the column paths, can be null
+     */
+    static Object[] values(Object result, Sort sort, String alias) {
+        List<Sort.Column> columns = sort.getColumns();
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            String column = columns.get(i).getName();
+            String[] path = column.split("\\.");
+            Object value = result;
+            for (int j = 0; j < path.length; j++) {
+                String property = PanacheJpaUtil.unquoteColumnName(path[j]);
+                if (!isAlias(path, j, property, alias)) {
+                    value = property(value, property, column);
+                }
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    /**
+     * @return whether the element at the given index of a column path is the alias of the entity the query selects from
+     */
+    private static boolean isAlias(String[] path, int index, String name, String alias) {
+        return index == 0 && path.length > 1 && name.equals(alias);
+    }
+
+    private static Object property(Object target, String property, String column) {
+        if (target == null) {
+            throw new PanacheQueryException("Keyset column " + column + " is null in the last result of the page");
+        }
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        try {
+            // prefer the getters, they work on proxies
+            for (String name : new String[] { "get" + capitalized, "is" + capitalized, property }) {
+                try {
+                    Method method = target.getClass().getMethod(name);
+                    if (method.getReturnType() != void.class) {
+                        return method.invoke(target);
+                    }
+                } catch (NoSuchMethodException e) {
+                    // try the next one
+                }
+            }
+            for (Class<?> type = target.getClass(); type != Object.class; type = type.getSuperclass()) {
+                try {
+                    Field field = type.getDeclaredField(property);
+                    field.setAccessible(true);
+                    return field.get(target);
+                } catch (NoSuchFieldException e) {
+                    // try the superclass
+                }
+            }
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+            throw new PanacheQueryException("Unable to read the keyset column " + column + " of " + target.getClass(), e);
+        }
+        throw new PanacheQueryException("Unable to read the keyset column " + column + " of " + target.getClass()
+                + ", the results of keyset paginated queries must be entities or projection classes");
+    }
+
+    /**
+     * Encodes the values of the sort columns in an opaque, URL-safe token.
+     */
+    static String encodeToken(Object[] values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(TOKEN_VERSION);
+            out.writeByte(values.length);
+            for (Object value : values) {
+                writeValue(out, value);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            throw new PanacheQueryException("Keyset values cannot be null");
+        } else if (value instanceof String) {
+            out.writeByte('S');
+            out.writeUTF((String) value);
+        } else if (value instanceof Long) {
+            out.writeByte('J');
+            out.writeLong((Long) value);
+        } else if (value instanceof Integer) {
+            out.writeByte('I');
+            out.writeInt((Integer) value);
+        } else if (value instanceof Short) {
+            out.writeByte('s');
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte('b');
+            out.writeByte((Byte) value);
+        } else if (value instanceof Double) {
+            out.writeByte('D');
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte('F');
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte('Z');
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Character) {
+            out.writeByte('C');
+            out.writeChar((Character) value);
+        } else if (value instanceof Enum) {
+            out.writeByte('E');
+            out.writeUTF(((Enum<?>) value).name());
+        } else {
+            out.writeByte(textTag(value));
+            out.writeUTF(value.toString());
+        }
+    }
+
+    private static char textTag(Object value) {
+        if (value instanceof BigDecimal) {
+            return 'd';
+        } else if (value instanceof BigInteger) {
+            return 'i';
+        } else if (value instanceof UUID) {
+            return 'U';
+        } else if (value instanceof LocalDate) {
+            return 'l';
+        } else if (value instanceof LocalDateTime) {
+            return 'T';
+        } else if (value instanceof LocalTime) {
+            return 't';
+        } else if (value instanceof Instant) {
+            return 'N';
+        } else if (value instanceof OffsetDateTime) {
+            return 'O';
+        } else if (value instanceof ZonedDateTime) {
+            return 'z';
+        }
+        throw new PanacheQueryException("Unsupported keyset column type " + value.getClass().getName());
+    }
+
+    /**
+     * Decodes a token created by {@link #encodeToken(Object[])}.
+     *
+     * @param columnTypes the types of the sort columns by index, used to read the enum values
+     * @throws PanacheQueryException if the token is invalid or does not have the expected number of values
+     */
+    static Object[] decodeToken(String token, int expectedValues, IntFunction<Class<?>> columnTypes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != TOKEN_VERSION) {
+                throw new PanacheQueryException("Invalid keyset token: " + token);
+            }
+            int count = in.readByte();
+            if (count != expectedValues) {
+                throw new PanacheQueryException(
+                        "Invalid keyset token, expected " + expectedValues + " values but got " + count + ": " + token);
+            }
+            Object[] values = new Object[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = readValue(in, i, columnTypes);
+            }
+            if (in.available() > 0) {
+                throw new PanacheQueryException("Invalid keyset token: " + token);
+            }
+            return values;
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof PanacheQueryException) {
+                throw (PanacheQueryException) e;
+            }
+            throw new PanacheQueryException("Invalid keyset token: " + token, e);
+        }
+    }
+
+    private static Object readValue(DataInputStream in, int column, IntFunction<Class<?>> columnTypes)
+            throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case 'S':
+                return in.readUTF();
+            case 'J':
+                return in.readLong();
+            case 'I':
+                return in.readInt();
+            case 's':
+                return in.readShort();
+            case 'b':
+                return in.readByte();
+            case 'D':
+                return in.readDouble();
+            case 'F':
+                return in.readFloat();
+            case 'Z':
+                return in.readBoolean();
+            case 'C':
+                return in.readChar();
+            case 'E':
+                return readEnum(columnTypes.apply(column), in.readUTF());
+            case 'd':
+                return new BigDecimal(in.readUTF());
+            case 'i':
+                return new BigInteger(in.readUTF());
+            case 'U':
+                return UUID.fromString(in.readUTF());
+            case 'l':
+                return LocalDate.parse(in.readUTF());
+            case 'T':
+                return LocalDateTime.parse(in.readUTF());
+            case 't':
+                return LocalTime.parse(in.readUTF());
+            case 'N':
+                return Instant.parse(in.readUTF());
+            case 'O':
+                return OffsetDateTime.parse(in.readUTF());
+            case 'z':
+                return ZonedDateTime.parse(in.readUTF());
+            default:
+                throw new IOException("Unknown value type " + tag);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object readEnum(Class<?> type, String name) throws IOException {
+        if (type == null || !type.isEnum()) {
+            throw new PanacheQueryException("Unable to resolve the enum type of the keyset value " + name);
+        }
+        return Enum.valueOf((Class) type, name);
+    }
+}
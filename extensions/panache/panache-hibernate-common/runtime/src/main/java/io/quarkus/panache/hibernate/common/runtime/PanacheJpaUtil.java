@@ -35,11 +35,53 @@ public class PanacheJpaUtil {
     static final Pattern WITH_PATTERN = Pattern.compile("^\\s*WITH\\s+.*",
             Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
+    private static final QueryCache COUNT_QUERIES = new QueryCache();
+
+    private static final ClassValue<String> ENTITY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            // FIXME: not true?
+            // Escape the entity name just in case some keywords are used
+            // in package names that will prevent ORM from executing a query
+            return "`%s`".formatted(type.getName());
+        }
+    };
+
+    // One cache per query kind, and per single parameter or not, see #cache(Class, QueryKind, int)
+    private static final ClassValue<QueryCache[]> ENTITY_QUERIES = new ClassValue<>() {
+        @Override
+        protected QueryCache[] computeValue(Class<?> type) {
+            QueryCache[] caches = new QueryCache[QueryKind.values().length * 2];
+            for (int i = 0; i < caches.length; i++) {
+                caches[i] = new QueryCache();
+            }
+            return caches;
+        }
+    };
+
+    private enum QueryKind {
+        FIND,
+        COUNT,
+        UPDATE,
+        DELETE
+    }
+
+    private static QueryCache cache(Class<?> entityClass, QueryKind kind, int paramCount) {
+        // The expansion of a query only depends on the number of parameters if there is exactly one
+        return ENTITY_QUERIES.get(entityClass)[kind.ordinal() * 2 + (paramCount == 1 ? 1 : 0)];
+    }
+
     /**
      * This turns an HQL (already expanded from Panache-QL) query into a count query, using text manipulation
      * if we can, because it's faster, or fall back to using the ORM HQL parser in {@link #getCountQueryUsingParser(String)}
+     * <p>
+     * The count queries are cached.
      */
     public static String getFastCountQuery(String query) {
+        return COUNT_QUERIES.get(query, PanacheJpaUtil::doGetFastCountQuery);
+    }
+
+    private static String doGetFastCountQuery(String query) {
         // try to generate a good count query from the existing query
         String countQuery;
         // there are no fast ways to get rid of fetches, or WITH
@@ -97,17 +139,17 @@ public static String getCountQueryUsingParser(String query) {
     }
 
     public static String getEntityName(Class<?> entityClass) {
-        // FIXME: not true?
-        // Escape the entity name just in case some keywords are used
-        // in package names that will prevent ORM from executing a query
-        return "`%s`".formatted(entityClass.getName());
+        return ENTITY_NAMES.get(entityClass);
     }
 
     public static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null) {
             return "FROM " + getEntityName(entityClass);
         }
+        return cache(entityClass, QueryKind.FIND, paramCount).get(query, q -> doCreateFindQuery(entityClass, q, paramCount));
+    }
 
+    private static String doCreateFindQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmed = query.replace('\n', ' ').replace('\r', ' ').trim();
         if (trimmed.isEmpty()) {
             return "FROM " + getEntityName(entityClass);
@@ -137,9 +179,14 @@ public static boolean isNamedQuery(String query) {
     }
 
     public static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
-        if (query == null)
+        if (query == null) {
             return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+        }
+        return cache(entityClass, QueryKind.COUNT, paramCount).get(query,
+                q -> doCreateCountQuery(entityClass, q, paramCount));
+    }
 
+    private static String doCreateCountQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmed = query.trim();
         if (trimmed.isEmpty())
             return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
@@ -170,7 +217,11 @@ public static String createUpdateQuery(Class<?> entityClass, String query, int p
         if (query == null) {
             throw new PanacheQueryException("Query string cannot be null");
         }
+        return cache(entityClass, QueryKind.UPDATE, paramCount).get(query,
+                q -> doCreateUpdateQuery(entityClass, q, paramCount));
+    }
 
+    private static String doCreateUpdateQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmed = query.trim();
         if (trimmed.isEmpty()) {
             throw new PanacheQueryException("Query string cannot be empty");
@@ -197,9 +248,14 @@ public static String createUpdateQuery(Class<?> entityClass, String query, int p
     }
 
     public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
-        if (query == null)
+        if (query == null) {
             return "DELETE FROM " + getEntityName(entityClass);
+        }
+        return cache(entityClass, QueryKind.DELETE, paramCount).get(query,
+                q -> doCreateDeleteQuery(entityClass, q, paramCount));
+    }
 
+    private static String doCreateDeleteQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmed = query.trim();
         if (trimmed.isEmpty())
             return "DELETE FROM " + getEntityName(entityClass);
@@ -254,7 +310,7 @@ public static String toOrderBy(Sort sort) {
         return sb.toString();
     }
 
-    private static StringBuilder escapeColumnName(String columnName) {
+    static StringBuilder escapeColumnName(String columnName) {
         StringBuilder sb = new StringBuilder();
         String[] path = columnName.split("\\.");
         for (int j = 0; j < path.length; j++) {
@@ -265,7 +321,7 @@ private static StringBuilder escapeColumnName(String columnName) {
         return sb;
     }
 
-    private static String unquoteColumnName(String columnName) {
+    static String unquoteColumnName(String columnName) {
         String unquotedColumnName;
         //Note HQL uses backticks to escape/quote special words that are used as identifiers
         if (columnName.charAt(0) == '`' && columnName.charAt(columnName.length() - 1) == '`') {
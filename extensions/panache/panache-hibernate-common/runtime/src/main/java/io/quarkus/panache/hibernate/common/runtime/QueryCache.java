@@ -0,0 +1,39 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Caches the HQL queries expanded from Panache-QL queries, so that the string manipulations and regular expression matches
+ * are only performed once per query string.
+ * <p>
+ * The number of cached queries of each cache is bounded: once the bound is reached, new queries are still expanded but no
+ * longer cached. Queries with inlined values instead of parameters would otherwise grow the cache indefinitely. The number
+ * of caches only depends on the number of entities, so the total number of cached queries is bounded too.
+ */
+final class QueryCache {
+
+    static final int MAX_CACHED_QUERIES = 1024;
+
+    private final AtomicInteger cachedQueries = new AtomicInteger();
+
+    private final Map<String, String> queries = new ConcurrentHashMap<>();
+
+    String get(String query, Function<String, String> expansion) {
+        String expanded = queries.get(query);
+        if (expanded == null) {
+            expanded = expansion.apply(query);
+            if (cachedQueries.get() < MAX_CACHED_QUERIES && queries.putIfAbsent(query, expanded) == null) {
+                cachedQueries.incrementAndGet();
+            }
+        }
+        return expanded;
+    }
+
+    int size() {
+        return cachedQueries.get();
+    }
+
+}
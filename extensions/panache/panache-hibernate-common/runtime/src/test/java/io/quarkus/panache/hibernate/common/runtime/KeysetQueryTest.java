@@ -0,0 +1,228 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public class KeysetQueryTest {
+
+    private static final IntFunction<Class<?>> NO_TYPES = i -> null;
+
+    @Test
+    public void testFirstPage() {
+        KeysetQuery query = new KeysetQuery(Keyset.of(Sort.by("name").and("id"), 10), "FROM Person WHERE age > ?1", null,
+                new Object[] { 18 }, null);
+        Assertions.assertEquals("FROM Person WHERE age > ?1 ORDER BY `name` , `id`", query.getQuery());
+        Assertions.assertArrayEquals(new Object[] { 18 }, (Object[]) query.getParamsArrayOrMap());
+        Assertions.assertEquals(11, query.getMaxResults());
+    }
+
+    @Test
+    public void testPositionalParameters() {
+        Keyset keyset = Keyset.of(Sort.by("name").and("id"), 10).afterValues("Stef", 42L);
+        KeysetQuery query = new KeysetQuery(keyset, "FROM Person WHERE age > ?1 OR age IS NULL", null, new Object[] { 18 },
+                null);
+        Assertions.assertEquals(
+                "FROM Person WHERE (age > ?1 OR age IS NULL) AND (`name`, `id`) > (?2, ?3) ORDER BY `name` , `id`",
+                query.getQuery());
+        Assertions.assertArrayEquals(new Object[] { 18, "Stef", 42L }, (Object[]) query.getParamsArrayOrMap());
+
+        query = new KeysetQuery(keyset, "FROM Person", null, new Object[0], null);
+        Assertions.assertEquals("FROM Person WHERE (`name`, `id`) > (?1, ?2) ORDER BY `name` , `id`", query.getQuery());
+    }
+
+    @Test
+    public void testNamedParameters() {
+        Keyset keyset = Keyset.of(Sort.descending("id"), 10).afterValues(42L);
+        KeysetQuery query = new KeysetQuery(keyset, "FROM Person p WHERE p.name = :name", null, Map.of("name", "Stef"), null);
+        Assertions.assertEquals("FROM Person p WHERE (p.name = :name) AND `id` < :panacheKeyset0 ORDER BY `id` DESC",
+                query.getQuery());
+        Assertions.assertEquals(Map.of("name", "Stef", "panacheKeyset0", 42L), query.getParamsArrayOrMap());
+    }
+
+    @Test
+    public void testMixedDirections() {
+        Keyset keyset = Keyset.of(Sort.by("name").and("age", Sort.Direction.Descending).and("id"), 10).afterValues("Stef", 42,
+                1L);
+        KeysetQuery query = new KeysetQuery(keyset, "FROM Person", null, null, null);
+        Assertions.assertEquals("FROM Person WHERE ((`name` > ?1) OR (`name` = ?1 AND `age` < ?2)"
+                + " OR (`name` = ?1 AND `age` = ?2 AND `id` > ?3)) ORDER BY `name` , `age` DESC , `id`", query.getQuery());
+    }
+
+    @Test
+    public void testNestedWhere() {
+        Keyset keyset = Keyset.of(Sort.by("id"), 10).afterValues(42L);
+        KeysetQuery query = new KeysetQuery(keyset,
+                "FROM Person WHERE name IN (SELECT name FROM Dog WHERE owner = 'where') AND age > 18", null, null, null);
+        Assertions.assertEquals(
+                "FROM Person WHERE (name IN (SELECT name FROM Dog WHERE owner = 'where') AND age > 18) AND `id` > ?1 ORDER BY `id`",
+                query.getQuery());
+    }
+
+    @Test
+    public void testUnsupportedQueries() {
+        Keyset keyset = Keyset.of(Sort.by("id"), 10);
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> new KeysetQuery(keyset, "FROM Person", " ORDER BY name", null, null));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> new KeysetQuery(keyset, "FROM Person ORDER BY name", null, null, null));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> new KeysetQuery(keyset, "SELECT name, count(*) FROM Person GROUP BY name", null, null, null));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> new KeysetQuery(keyset, "#Person.findAll", null, null, null));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> new KeysetQuery(keyset.afterValues((Object) null), "FROM Person", null, null, null));
+    }
+
+    @Test
+    public void testToken() {
+        Object[] values = { "Stef", 42L, 3, BigDecimal.TEN, UUID.randomUUID(), LocalDate.of(2024, 1, 31),
+                Sort.Direction.Descending,
+                true };
+        Assertions.assertArrayEquals(values, KeysetQuery.decodeToken(KeysetQuery.encodeToken(values), values.length,
+                i -> i == 6 ? Sort.Direction.class : null));
+
+        String token = KeysetQuery.encodeToken(new Object[] { "Stef", 42L });
+        Assertions.assertThrows(PanacheQueryException.class, () -> KeysetQuery.decodeToken(token, 3, NO_TYPES));
+        Assertions.assertThrows(PanacheQueryException.class, () -> KeysetQuery.decodeToken("not a token", 2, NO_TYPES));
+        Assertions.assertThrows(PanacheQueryException.class, () -> KeysetQuery.decodeToken(token.substring(2), 2, NO_TYPES));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> KeysetQuery.encodeToken(new Object[] { new Object() }));
+    }
+
+    @Test
+    public void testEnumToken() {
+        String token = KeysetQuery.encodeToken(new Object[] { Status.ALIVE, 42L });
+        // the token does not name the enum type, it is resolved from the mapping
+        Assertions.assertFalse(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                .contains(Status.class.getName()));
+
+        Keyset keyset = Keyset.of(Sort.by("status").and("id"), 10).afterToken(token);
+        KeysetQuery query = new KeysetQuery(keyset, "FROM Person", null, null, metamodel());
+        Assertions.assertArrayEquals(new Object[] { Status.ALIVE, 42L }, (Object[]) query.getParamsArrayOrMap());
+
+        keyset = Keyset.of(Sort.by("p.status").and("p.id"), 10).afterToken(token);
+        query = new KeysetQuery(keyset, "FROM Person p WHERE p.id > 0", null, null, metamodel());
+        Assertions.assertArrayEquals(new Object[] { Status.ALIVE, 42L }, (Object[]) query.getParamsArrayOrMap());
+
+        Keyset unresolved = Keyset.of(Sort.by("status").and("id"), 10).afterToken(token);
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> new KeysetQuery(unresolved, "FROM Person", null, null, null));
+        Keyset notEnum = Keyset.of(Sort.by("id").and("status"), 10).afterToken(token);
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> new KeysetQuery(notEnum, "FROM Person", null, null, metamodel()));
+    }
+
+    private static Metamodel metamodel() {
+        Attribute<?, ?> status = proxy(SingularAttribute.class, (method, args) -> Status.class);
+        Attribute<?, ?> id = proxy(SingularAttribute.class, (method, args) -> Long.class);
+        EntityType<?> person = proxy(EntityType.class, (method, args) -> {
+            switch (method) {
+                case "getName":
+                    return "Person";
+                case "getJavaType":
+                    return Person.class;
+                case "getAttribute":
+                    if ("status".equals(args[0])) {
+                        return status;
+                    } else if ("id".equals(args[0])) {
+                        return id;
+                    }
+                    throw new IllegalArgumentException((String) args[0]);
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+        return proxy(Metamodel.class, (method, args) -> Set.of(person));
+    }
+
+    /**
+     * Creates a proxy answering the getters, by method name.
+     */
+    private static <T> T proxy(Class<T> type, BiFunction<String, Object[], Object> answers) {
+        return type.cast(Proxy.newProxyInstance(KeysetQueryTest.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> method.getName().equals("getType") ? null : answers.apply(method.getName(), args)));
+    }
+
+    @Test
+    public void testPage() {
+        Keyset keyset = Keyset.of(Sort.by("name").and("owner.id"), 2);
+        KeysetQuery query = new KeysetQuery(keyset, "FROM Dog", null, null, null);
+
+        KeysetPage<Dog> page = query.toPage(List.of(new Dog("a", 1), new Dog("b", 2)));
+        Assertions.assertEquals(2, page.list.size());
+        Assertions.assertFalse(page.hasNext());
+
+        page = query.toPage(List.of(new Dog("a", 1), new Dog("b", 2), new Dog("c", 3)));
+        Assertions.assertEquals(2, page.list.size());
+        Assertions.assertTrue(page.hasNext());
+        Assertions.assertArrayEquals(new Object[] { "b", 2L }, KeysetQuery.decodeToken(page.nextToken, 2, NO_TYPES));
+
+        query = new KeysetQuery(page.next(), "FROM Dog", null, null, null);
+        Assertions.assertArrayEquals(new Object[] { "b", 2L }, (Object[]) query.getParamsArrayOrMap());
+    }
+
+    @Test
+    public void testAliasedPage() {
+        Keyset keyset = Keyset.of(Sort.by("d.name").and("d.owner.id"), 1);
+        KeysetQuery query = new KeysetQuery(keyset, "FROM Dog d", null, null, null);
+
+        KeysetPage<Dog> page = query.toPage(List.of(new Dog("a", 1), new Dog("b", 2)));
+        Assertions.assertArrayEquals(new Object[] { "a", 1L }, KeysetQuery.decodeToken(page.nextToken, 2, NO_TYPES));
+
+        query = new KeysetQuery(page.next(), "FROM Dog AS d WHERE d.name <> ?1", null, new Object[] { "c" }, null);
+        Assertions.assertEquals("FROM Dog AS d WHERE (d.name <> ?1) AND (`d`.`name`, `d`.`owner`.`id`) > (?2, ?3)"
+                + " ORDER BY `d`.`name` , `d`.`owner`.`id`", query.getQuery());
+        Assertions.assertArrayEquals(new Object[] { "c", "a", 1L }, (Object[]) query.getParamsArrayOrMap());
+    }
+
+    public enum Status {
+        ALIVE,
+        DECEASED
+    }
+
+    public static class Dog {
+
+        public String name;
+        private final Person owner;
+
+        Dog(String name, long ownerId) {
+            this.name = name;
+            this.owner = new Person(ownerId);
+        }
+
+        public Person getOwner() {
+            return owner;
+        }
+    }
+
+    public static class Person {
+
+        private final Long id;
+
+        Person(Long id) {
+            this.id = id;
+        }
+    }
+}
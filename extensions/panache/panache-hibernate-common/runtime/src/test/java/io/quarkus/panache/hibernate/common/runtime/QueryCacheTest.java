@@ -0,0 +1,75 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public class QueryCacheTest {
+
+    @Test
+    public void testExpansion() {
+        QueryCache cache = new QueryCache();
+        AtomicInteger expansions = new AtomicInteger();
+        Assertions.assertEquals("FOO", cache.get("foo", q -> {
+            expansions.incrementAndGet();
+            return q.toUpperCase();
+        }));
+        Assertions.assertEquals("FOO", cache.get("foo", q -> {
+            expansions.incrementAndGet();
+            return q.toUpperCase();
+        }));
+        Assertions.assertEquals(1, expansions.get());
+    }
+
+    @Test
+    public void testCachedQueries() {
+        String entityName = PanacheJpaUtil.getEntityName(QueryCacheTest.class);
+        Assertions.assertSame(entityName, PanacheJpaUtil.getEntityName(QueryCacheTest.class));
+
+        // The single parameter shorthand depends on the number of parameters
+        Assertions.assertEquals("FROM " + entityName + " WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(QueryCacheTest.class, "name", 1));
+        Assertions.assertEquals("FROM " + entityName + " WHERE name",
+                PanacheJpaUtil.createFindQuery(QueryCacheTest.class, "name", 2));
+        Assertions.assertEquals("FROM " + entityName + " WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(QueryCacheTest.class, "name", 1));
+
+        // The same query string expands differently for each kind of query
+        Assertions.assertEquals("SELECT COUNT(*) FROM " + entityName + " WHERE name = ?1",
+                PanacheJpaUtil.createCountQuery(QueryCacheTest.class, "name", 1));
+        Assertions.assertEquals("DELETE FROM " + entityName + " WHERE name = ?1",
+                PanacheJpaUtil.createDeleteQuery(QueryCacheTest.class, "name", 1));
+        Assertions.assertEquals("UPDATE " + entityName + " SET name = ?1",
+                PanacheJpaUtil.createUpdateQuery(QueryCacheTest.class, "name", 1));
+
+        // And for each entity
+        Assertions.assertEquals("FROM " + PanacheJpaUtil.getEntityName(CountTest.class) + " WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(CountTest.class, "name", 1));
+
+        // Invalid queries are not cached
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createUpdateQuery(QueryCacheTest.class, " ", 0));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createUpdateQuery(QueryCacheTest.class, " ", 0));
+    }
+
+    @Test
+    public void testMaxCachedQueries() {
+        QueryCache cache = new QueryCache();
+        for (int i = 0; i <= QueryCache.MAX_CACHED_QUERIES; i++) {
+            cache.get("foo = " + i, String::toUpperCase);
+        }
+        Assertions.assertEquals(QueryCache.MAX_CACHED_QUERIES, cache.size());
+        // Queries are still expanded when the cache is full
+        Assertions.assertEquals("BAR", cache.get("bar", String::toUpperCase));
+        Assertions.assertEquals(QueryCache.MAX_CACHED_QUERIES, cache.size());
+        // The other caches have their own bound
+        QueryCache other = new QueryCache();
+        other.get("bar", String::toUpperCase);
+        Assertions.assertEquals(1, other.size());
+    }
+
+}
@@ -0,0 +1,34 @@
+package io.quarkus.qute.deployment;
+
+import java.util.Optional;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.qute.runtime.QuteConfig;
+import io.quarkus.qute.runtime.metrics.QuteMetricsRecorder;
+import io.quarkus.qute.runtime.metrics.RenderMetrics;
+
+public class MetricsProcessor {
+
+    @BuildStep
+    void registerBean(QuteConfig config, BuildProducer<AdditionalBeanBuildItem> beans) {
+        if (config.metricsEnabled) {
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(RenderMetrics.class));
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(QuteConfig config, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            QuteMetricsRecorder recorder, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.metricsEnabled && metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
+
+}
@@ -13,6 +13,7 @@
 import io.quarkus.qute.Locate;
 import io.quarkus.qute.Locate.Locates;
 import io.quarkus.qute.Location;
+import io.quarkus.qute.Mapper;
 import io.quarkus.qute.NamespaceResolver;
 import io.quarkus.qute.SectionHelperFactory;
 import io.quarkus.qute.Template;
@@ -33,6 +34,7 @@ final class Names {
     static final DotName MESSAGE_PARAM = DotName.createSimple(MessageParam.class.getName());
     static final DotName LOCALIZED = DotName.createSimple(Localized.class.getName());
     static final DotName TEMPLATE = DotName.createSimple(Template.class.getName());
+    static final DotName MAPPER = DotName.createSimple(Mapper.class.getName());
     static final DotName ITERABLE = DotName.createSimple(Iterable.class.getName());
     static final DotName ITERATOR = DotName.createSimple(Iterator.class.getName());
     static final DotName STREAM = DotName.createSimple(Stream.class.getName());
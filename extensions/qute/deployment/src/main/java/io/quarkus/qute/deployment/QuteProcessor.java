@@ -752,7 +752,8 @@ public void beforeParsing(ParserHelper parserHelper) {
                 }
 
                 analysis.add(new TemplateAnalysis(null, template.getGeneratedId(), template.getExpressions(),
-                        template.getParameterDeclarations(), path.getPath(), template.getFragmentIds()));
+                        template.getParameterDeclarations(), path.getPath(), template.getFragmentIds(),
+                        template.getNodes()));
             }
         }
 
@@ -1881,6 +1882,42 @@ static String findTemplatePath(TemplatesAnalysisBuildItem analysis, String id) {
         return null;
     }
 
+    @BuildStep
+    void compileTemplates(QuteConfig config, TemplatesAnalysisBuildItem templatesAnalysis,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+
+        if (!config.compileTemplates || !incorrectExpressions.isEmpty()) {
+            // Skip compilation if disabled or a validation error occurs
+            return;
+        }
+        long start = System.nanoTime();
+
+        IndexView index = beanArchiveIndex.getIndex();
+        TemplateCompiler compiler = new TemplateCompiler(new GeneratedClassGizmoAdaptor(generatedClasses, true), index,
+                new FixedJavaMemberLookupConfig(index, initDefaultMembersFilter(), false), templateExtensionMethods,
+                config.iterationMetadataPrefix);
+        int compiled = 0;
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            if (analysis.id != null || analysis.nodes.isEmpty() || analysis.path.startsWith(TemplatePathBuildItem.TAGS)) {
+                // Skip message bundle templates and user tags
+                continue;
+            }
+            String className = compiler.compile(analysis.path, analysis.nodes);
+            if (className != null) {
+                compiledTemplates.produce(new CompiledTemplateBuildItem(analysis.path, className));
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(className).build());
+                compiled++;
+            }
+        }
+        LOGGER.debugf("Compiled %s of %s templates in %s ms", compiled, templatesAnalysis.getAnalysis().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
     @BuildStep
     void generateValueResolvers(QuteConfig config, BuildProducer<GeneratedClassBuildItem> generatedClasses,
             BeanArchiveIndexBuildItem beanArchiveIndex,
@@ -2465,7 +2502,8 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
             List<GeneratedValueResolverBuildItem> generatedValueResolvers, List<TemplatePathBuildItem> templatePaths,
             Optional<TemplateVariantsBuildItem> templateVariants,
             List<TemplateGlobalProviderBuildItem> templateInitializers,
-            TemplateRootsBuildItem templateRoots) {
+            TemplateRootsBuildItem templateRoots,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
 
         List<String> templates = new ArrayList<>();
         List<String> tags = new ArrayList<>();
@@ -2490,7 +2528,9 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
                         .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
                         tags, variants, templateInitializers.stream()
                                 .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
-                        templateRoots.getPaths().stream().map(p -> p + "/").collect(Collectors.toSet())))
+                        templateRoots.getPaths().stream().map(p -> p + "/").collect(Collectors.toSet()),
+                        compiledTemplates.stream().collect(Collectors.toMap(CompiledTemplateBuildItem::getTemplatePath,
+                                CompiledTemplateBuildItem::getClassName))))
                 .done());
     }
 
@@ -2974,7 +3014,7 @@ private static TemplateExtensionMethodBuildItem findTemplateExtensionMethod(Info
         return null;
     }
 
-    private static AnnotationTarget findProperty(String name, ClassInfo clazz, JavaMemberLookupConfig config) {
+    static AnnotationTarget findProperty(String name, ClassInfo clazz, JavaMemberLookupConfig config) {
         // Attempts to find a property with the specified name
         // i.e. a public non-static non-synthetic field with the given name or a public non-static non-synthetic method with no params and the given name
         Set<DotName> interfaceNames = config.declaredMembersOnly() ? null : new HashSet<>();
@@ -0,0 +1,691 @@
+package io.quarkus.qute.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.WhileLoop;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.CompiledTemplate.RenderContext;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.IncludeSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.ParameterDeclarationNode;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.deployment.QuteProcessor.JavaMemberLookupConfig;
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Compiles a template to a {@link CompiledTemplate} class.
+ * <p>
+ * Only a subset of templates is supported. A template can contain text, output expressions, parameter declarations without a
+ * default value, {@code #if} sections with a single operand and an optional {@code #else} block, {@code #for}/{@code #each}
+ * sections that iterate over an array or a {@link Iterable} with an optional {@code #else} block, and {@code #include}
+ * sections without parameters and inserts outside a loop. Every expression must be a chain of properties and the first part
+ * must be either a
+ * type-safe parameter or an alias of an enclosing loop.
+ * <p>
+ * The generated {@link CompiledTemplate#accepts(RenderContext)} checks the type-safe parameters and the included templates
+ * before the rendering starts. The generated {@link CompiledTemplate#render(RenderContext)} never declines, i.e. a
+ * {@code null} intermediate value results in the same "not found" result as if the expression was evaluated.
+ */
+class TemplateCompiler {
+
+    private static final Logger LOGGER = Logger.getLogger(TemplateCompiler.class);
+
+    static final String PACKAGE = "io.quarkus.qute.generated";
+    static final String PREFIX = "CompiledTemplate_";
+
+    private static final MethodDescriptor CTX_GET_DATA = MethodDescriptor.ofMethod(RenderContext.class, "getData",
+            Object.class, String.class);
+    private static final MethodDescriptor CTX_APPEND = MethodDescriptor.ofMethod(RenderContext.class, "append",
+            void.class, String.class);
+    private static final MethodDescriptor CTX_APPEND_VALUE = MethodDescriptor.ofMethod(RenderContext.class, "appendValue",
+            void.class, Object.class, int.class);
+    private static final MethodDescriptor CTX_PROPERTY_NOT_FOUND = MethodDescriptor.ofMethod(RenderContext.class,
+            "propertyNotFound", Object.class, String.class, int.class);
+    private static final MethodDescriptor CTX_ITERABLE_NOT_FOUND = MethodDescriptor.ofMethod(RenderContext.class,
+            "iterableNotFound", void.class, int.class);
+    private static final MethodDescriptor CTX_ACCEPTS_INCLUDE = MethodDescriptor.ofMethod(RenderContext.class,
+            "acceptsInclude", boolean.class, String.class);
+    private static final MethodDescriptor CTX_INCLUDE = MethodDescriptor.ofMethod(RenderContext.class, "include",
+            void.class, String.class);
+    private static final MethodDescriptor BOOLEANS_IS_FALSY = MethodDescriptor.ofMethod(Booleans.class, "isFalsy",
+            boolean.class, Object.class);
+    private static final MethodDescriptor ITERABLE_ITERATOR = MethodDescriptor.ofMethod(Iterable.class, "iterator",
+            Iterator.class);
+    private static final MethodDescriptor ITERATOR_HAS_NEXT = MethodDescriptor.ofMethod(Iterator.class, "hasNext",
+            boolean.class);
+    private static final MethodDescriptor ITERATOR_NEXT = MethodDescriptor.ofMethod(Iterator.class, "next", Object.class);
+
+    private static final String ELSE = "else";
+    private static final String ALIAS = "alias";
+    private static final String ITERABLE = "iterable";
+    private static final String TEMPLATE = "template";
+    private static final String DEFAULT_ALIAS = "it";
+    // _isolated=false and _ignoreFragments=false are added by default
+    private static final Set<String> INCLUDE_DEFAULT_PARAMS = Set.of("_isolated", "_ignoreFragments");
+
+    // Iterables with a single type argument that represents the element type
+    private static final Set<DotName> ITERABLES = Set.of(DotName.createSimple(Iterable.class),
+            DotName.createSimple(java.util.Collection.class), DotName.createSimple(java.util.List.class),
+            DotName.createSimple(java.util.Set.class), DotName.createSimple(java.util.SortedSet.class),
+            DotName.createSimple(java.util.Queue.class), DotName.createSimple(java.util.Deque.class),
+            DotName.createSimple(java.util.ArrayList.class), DotName.createSimple(java.util.LinkedList.class),
+            DotName.createSimple(java.util.HashSet.class), DotName.createSimple(java.util.LinkedHashSet.class),
+            DotName.createSimple(java.util.TreeSet.class));
+
+    // Values of these types might be resolved asynchronously
+    private static final Set<DotName> ASYNC_TYPES = Set.of(DotName.OBJECT_NAME, Names.COMPLETION_STAGE,
+            DotName.createSimple(CompletableFuture.class), DotName.createSimple(Future.class), Names.UNI);
+
+    // Names handled by the built-in value resolvers for any base object
+    private static final Set<String> RESERVED_NAMES = Set.of("this", "raw", "safe", "or", "orEmpty", "ifTruthy");
+
+    private static final List<String> ITERATION_METADATA = List.of("count", "index", "indexParity", "hasNext", "isLast",
+            "isFirst", "odd", "isOdd", "even", "isEven");
+
+    private final ClassOutput classOutput;
+    private final IndexView index;
+    private final JavaMemberLookupConfig lookupConfig;
+    private final List<TemplateExtensionMethodBuildItem> extensionMethods;
+    private final String iterationMetadataPrefix;
+
+    TemplateCompiler(ClassOutput classOutput, IndexView index, JavaMemberLookupConfig lookupConfig,
+            List<TemplateExtensionMethodBuildItem> extensionMethods, String iterationMetadataPrefix) {
+        this.classOutput = classOutput;
+        this.index = index;
+        this.lookupConfig = lookupConfig;
+        this.extensionMethods = extensionMethods;
+        this.iterationMetadataPrefix = iterationMetadataPrefix;
+    }
+
+    /**
+     *
+     * @param templatePath
+     * @param nodes
+     * @return the name of the generated class or {@code null} if the template cannot be compiled
+     */
+    String compile(String templatePath, List<TemplateNode> nodes) {
+        String className = PACKAGE + "." + PREFIX + HashUtil.sha1(templatePath);
+        // Note that the class is only written to the output when the class creator is closed
+        ClassCreator clazz = ClassCreator.builder().classOutput(classOutput).className(className)
+                .interfaces(CompiledTemplate.class).build();
+        try {
+            MethodCreator render = clazz.getMethodCreator("render", void.class, RenderContext.class);
+            Generator generator = new Generator(render.getMethodParam(0), expressionNodeIndexes(nodes),
+                    expressionIndexes(nodes));
+            generator.nodes(nodes, render, null);
+            render.returnValue(null);
+            generator.accepts(clazz.getMethodCreator("accepts", boolean.class, RenderContext.class));
+        } catch (NotCompilableException e) {
+            LOGGER.debugf("Template %s not compiled: %s", templatePath, e.getMessage());
+            return null;
+        }
+        MethodCreator getStructureHash = clazz.getMethodCreator("getStructureHash", int.class);
+        getStructureHash.returnValue(getStructureHash.load(CompiledTemplate.structureHash(nodes)));
+        clazz.close();
+        return className;
+    }
+
+    private static Map<TemplateNode, Integer> expressionNodeIndexes(List<TemplateNode> nodes) {
+        // The same depth-first order is used to find the expression nodes at runtime
+        Map<TemplateNode, Integer> indexes = new IdentityHashMap<>();
+        addExpressionNodeIndexes(nodes, indexes);
+        return indexes;
+    }
+
+    private static void addExpressionNodeIndexes(List<TemplateNode> nodes, Map<TemplateNode, Integer> indexes) {
+        for (TemplateNode node : nodes) {
+            if (node.isExpression()) {
+                indexes.put(node, indexes.size());
+            } else if (node.isSection()) {
+                for (SectionBlock block : node.asSection().getBlocks()) {
+                    addExpressionNodeIndexes(block.getNodes(), indexes);
+                }
+            }
+        }
+    }
+
+    private static Map<Expression, Integer> expressionIndexes(List<TemplateNode> nodes) {
+        // The same order is used by Template#getExpressions() at runtime
+        Map<Expression, Integer> indexes = new IdentityHashMap<>();
+        for (TemplateNode node : nodes) {
+            for (Expression expression : node.getExpressions()) {
+                indexes.put(expression, indexes.size());
+            }
+        }
+        return indexes;
+    }
+
+    private class Generator {
+
+        private final ResultHandle ctx;
+        private final Map<TemplateNode, Integer> expressionNodeIndexes;
+        private final Map<Expression, Integer> expressionIndexes;
+        // Type-safe parameters and included templates checked by accepts()
+        private final Map<String, Type> parameters = new LinkedHashMap<>();
+        private final Set<String> includes = new LinkedHashSet<>();
+
+        Generator(ResultHandle ctx, Map<TemplateNode, Integer> expressionNodeIndexes,
+                Map<Expression, Integer> expressionIndexes) {
+            this.ctx = ctx;
+            this.expressionNodeIndexes = expressionNodeIndexes;
+            this.expressionIndexes = expressionIndexes;
+        }
+
+        void accepts(MethodCreator accepts) {
+            ResultHandle ctx = accepts.getMethodParam(0);
+            for (Entry<String, Type> parameter : parameters.entrySet()) {
+                ResultHandle value = accepts.invokeInterfaceMethod(CTX_GET_DATA, ctx, accepts.load(parameter.getKey()));
+                accepts.ifNull(value).trueBranch().returnBoolean(false);
+                accepts.ifFalse(accepts.instanceOf(value, parameter.getValue().name().toString())).trueBranch()
+                        .returnBoolean(false);
+            }
+            for (String include : includes) {
+                accepts.ifFalse(accepts.invokeInterfaceMethod(CTX_ACCEPTS_INCLUDE, ctx, accepts.load(include))).trueBranch()
+                        .returnBoolean(false);
+            }
+            accepts.returnBoolean(true);
+        }
+
+        void nodes(List<TemplateNode> nodes, BytecodeCreator bc, LoopScope scope) {
+            for (TemplateNode node : nodes) {
+                if (node.isText()) {
+                    bc.invokeInterfaceMethod(CTX_APPEND, ctx, bc.load(node.asText().getValue()));
+                } else if (node.isExpression()) {
+                    Value value = resolve(node.asExpression().getExpression(), bc, scope);
+                    bc.invokeInterfaceMethod(CTX_APPEND_VALUE, ctx, orNotFound(bc, value),
+                            bc.load(expressionNodeIndexes.get(node)));
+                } else if (node.isSection()) {
+                    section(node.asSection(), bc, scope);
+                } else if (node instanceof ParameterDeclarationNode) {
+                    if (((ParameterDeclarationNode) node).getDefaultValue() != null) {
+                        throw new NotCompilableException("parameter declaration with a default value: " + node);
+                    }
+                } else {
+                    throw new NotCompilableException("unsupported node: " + node);
+                }
+            }
+        }
+
+        private void section(SectionNode section, BytecodeCreator bc, LoopScope scope) {
+            Class<?> helperClass = section.getHelper().getClass();
+            if (helperClass == IfSectionHelper.class) {
+                ifSection(section, bc, scope);
+            } else if (helperClass == LoopSectionHelper.class) {
+                loopSection(section, bc, scope);
+            } else if (helperClass == IncludeSectionHelper.class) {
+                includeSection(section, bc, scope);
+            } else {
+                throw new NotCompilableException("unsupported section: " + section.getName());
+            }
+        }
+
+        private void ifSection(SectionNode section, BytecodeCreator bc, LoopScope scope) {
+            SectionBlock main = section.getBlocks().get(0);
+            if (main.parameters.size() != 1 || main.expressions.size() != 1) {
+                throw new NotCompilableException("#if with multiple operands");
+            }
+            Expression condition = main.expressions.values().iterator().next();
+            if (!condition.toOriginalString().equals(main.parameters.values().iterator().next())) {
+                throw new NotCompilableException("#if with an operator");
+            }
+            SectionBlock elseBlock = elseBlock(section);
+            ResultHandle falsy = bc.invokeStaticMethod(BOOLEANS_IS_FALSY, orNotFound(bc, resolve(condition, bc, scope)));
+            BranchResult branch = bc.ifTrue(falsy);
+            if (elseBlock != null) {
+                nodes(elseBlock.getNodes(), branch.trueBranch(), scope);
+            }
+            nodes(main.getNodes(), branch.falseBranch(), scope);
+        }
+
+        private void loopSection(SectionNode section, BytecodeCreator bc, LoopScope scope) {
+            SectionBlock main = section.getBlocks().get(0);
+            Expression iterableExpr = main.expressions.get(ITERABLE);
+            if (iterableExpr == null) {
+                throw new NotCompilableException("#for without an iterable");
+            }
+            String alias = main.parameters.get(ALIAS);
+            if (alias == null || Parameter.EMPTY.equals(alias)) {
+                alias = DEFAULT_ALIAS;
+            }
+            SectionBlock elseBlock = elseBlock(section);
+            Value iterable = resolve(iterableExpr, bc, scope);
+            if (iterable.notFound != null) {
+                bc.ifNull(iterable.notFound).falseBranch().invokeInterfaceMethod(CTX_ITERABLE_NOT_FOUND, ctx,
+                        bc.load(expressionIndexes.get(iterableExpr)));
+            }
+            // A null iterable is a no-op, i.e. the else block is not rendered either
+            bc = bc.ifNull(iterable.handle).falseBranch();
+            if (iterable.type.kind() == Kind.ARRAY) {
+                Type elementType = iterable.type.asArrayType().componentType();
+                if (elementType.kind() != Kind.CLASS && elementType.kind() != Kind.PARAMETERIZED_TYPE) {
+                    throw new NotCompilableException("unsupported array: " + iterable.type);
+                }
+                ResultHandle length = bc.arrayLength(iterable.handle);
+                BranchResult empty = bc.ifZero(length);
+                if (elseBlock != null) {
+                    nodes(elseBlock.getNodes(), empty.trueBranch(), scope);
+                }
+                BytecodeCreator notEmpty = empty.falseBranch();
+                AssignableResultHandle idx = notEmpty.createVariable(int.class);
+                notEmpty.assign(idx, notEmpty.load(0));
+                WhileLoop loop = notEmpty.whileLoop(c -> c.ifIntegerLessThan(idx, length));
+                BytecodeCreator block = loop.block();
+                ResultHandle element = block.readArrayValue(iterable.handle, idx);
+                nodes(main.getNodes(), block, new LoopScope(alias, element, elementType, scope));
+                block.assign(idx, block.increment(idx));
+            } else {
+                Type elementType = iterableElementType(iterable.type);
+                ResultHandle iterator = bc.invokeInterfaceMethod(ITERABLE_ITERATOR, iterable.handle);
+                BranchResult hasNext = bc.ifTrue(bc.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator));
+                if (elseBlock != null) {
+                    nodes(elseBlock.getNodes(), hasNext.falseBranch(), scope);
+                }
+                WhileLoop loop = hasNext.trueBranch()
+                        .whileLoop(c -> c.ifTrue(c.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator)));
+                BytecodeCreator block = loop.block();
+                ResultHandle element = block.checkCast(block.invokeInterfaceMethod(ITERATOR_NEXT, iterator),
+                        elementType.name().toString());
+                nodes(main.getNodes(), block, new LoopScope(alias, element, elementType, scope));
+            }
+        }
+
+        private void includeSection(SectionNode section, BytecodeCreator bc, LoopScope scope) {
+            if (scope != null) {
+                // The included template would only see the data, not the iteration variables of the enclosing loops
+                throw new NotCompilableException("#include in a loop");
+            }
+            SectionBlock main = section.getBlocks().get(0);
+            String templateId = main.parameters.get(TEMPLATE);
+            if (section.getBlocks().size() > 1 || !main.isEmpty() || templateId == null
+                    || templateId.startsWith("'") || templateId.startsWith("\"") || templateId.contains("$")) {
+                throw new NotCompilableException("#include with inserts or an unsupported template id");
+            }
+            for (Entry<String, String> param : main.parameters.entrySet()) {
+                if (!param.getKey().equals(TEMPLATE)
+                        && !(INCLUDE_DEFAULT_PARAMS.contains(param.getKey()) && "false".equals(param.getValue()))) {
+                    throw new NotCompilableException("#include with parameters");
+                }
+            }
+            includes.add(templateId);
+            bc.invokeInterfaceMethod(CTX_INCLUDE, ctx, bc.load(templateId));
+        }
+
+        private SectionBlock elseBlock(SectionNode section) {
+            List<SectionBlock> blocks = section.getBlocks();
+            if (blocks.size() == 1) {
+                return null;
+            }
+            if (blocks.size() > 2) {
+                throw new NotCompilableException("multiple blocks in #" + section.getName());
+            }
+            SectionBlock block = blocks.get(1);
+            if (!ELSE.equals(block.label) || !block.parameters.isEmpty()) {
+                throw new NotCompilableException("unsupported block in #" + section.getName() + ": " + block.label);
+            }
+            return block;
+        }
+
+        private Value resolve(Expression expression, BytecodeCreator bc, LoopScope scope) {
+            if (expression.isLiteral() || expression.hasNamespace()) {
+                throw new NotCompilableException("literal or namespace expression: " + expression.toOriginalString());
+            }
+            List<Expression.Part> parts = expression.getParts();
+            Expression.Part first = parts.get(0);
+            if (first.isVirtualMethod()) {
+                throw new NotCompilableException("virtual method: " + expression.toOriginalString());
+            }
+            ResultHandle value;
+            Type type;
+            // Loop elements may be null, type-safe parameters are checked by accepts()
+            boolean nullable;
+            LoopScope loop = scope != null ? scope.find(first.getName()) : null;
+            if (loop != null) {
+                value = loop.element;
+                type = loop.elementType;
+                nullable = true;
+            } else {
+                if (scope != null && isIterationMetadata(first.getName(), scope)) {
+                    throw new NotCompilableException("iteration metadata: " + expression.toOriginalString());
+                }
+                type = parameterType(first.getTypeInfo(), expression);
+                Type declared = parameters.putIfAbsent(first.getName(), type);
+                if (declared != null && !declared.equals(type)) {
+                    throw new NotCompilableException("parameter of multiple types: " + expression.toOriginalString());
+                }
+                value = bc.checkCast(bc.invokeInterfaceMethod(CTX_GET_DATA, ctx, bc.load(first.getName())),
+                        type.name().toString());
+                nullable = false;
+            }
+            if (parts.size() == 1) {
+                checkResultType(type, expression);
+                return new Value(value, type, null);
+            }
+
+            // The chain is left if a base object is null
+            AssignableResultHandle result = bc.createVariable(Object.class);
+            AssignableResultHandle notFound = bc.createVariable(Object.class);
+            bc.assign(result, bc.loadNull());
+            bc.assign(notFound, bc.loadNull());
+            BytecodeCreator chain = bc.createScope();
+            for (int i = 1; i < parts.size(); i++) {
+                Expression.Part part = parts.get(i);
+                if (part.isVirtualMethod() || RESERVED_NAMES.contains(part.getName())) {
+                    throw new NotCompilableException("unsupported part: " + expression.toOriginalString());
+                }
+                for (TemplateExtensionMethodBuildItem extensionMethod : extensionMethods) {
+                    if (!extensionMethod.hasNamespace() && extensionMethod.matchesName(part.getName())) {
+                        throw new NotCompilableException("matching extension method: " + expression.toOriginalString());
+                    }
+                }
+                ClassInfo clazz = receiverClass(type, expression);
+                AnnotationTarget member = QuteProcessor.findProperty(part.getName(), clazz, lookupConfig);
+                if (member == null) {
+                    throw new NotCompilableException("property not found: " + expression.toOriginalString());
+                }
+                if (nullable) {
+                    BytecodeCreator isNull = chain.ifNull(value).trueBranch();
+                    isNull.assign(notFound, isNull.invokeInterfaceMethod(CTX_PROPERTY_NOT_FOUND, ctx,
+                            isNull.load(part.getName()), isNull.load(expressionIndexes.get(expression))));
+                    isNull.breakScope(chain);
+                }
+                if (member.kind() == AnnotationTarget.Kind.FIELD) {
+                    FieldInfo field = member.asField();
+                    if (Modifier.isStatic(field.flags()) || !isAccessible(field.declaringClass())) {
+                        throw new NotCompilableException("inaccessible field: " + field);
+                    }
+                    type = field.type();
+                    value = chain.readInstanceField(FieldDescriptor.of(field), value);
+                } else {
+                    MethodInfo method = member.asMethod();
+                    if (!isAccessible(method.declaringClass())) {
+                        throw new NotCompilableException("inaccessible method: " + method);
+                    }
+                    type = method.returnType();
+                    if (method.declaringClass().isInterface()) {
+                        value = chain.invokeInterfaceMethod(MethodDescriptor.of(method), value);
+                    } else {
+                        value = chain.invokeVirtualMethod(MethodDescriptor.of(method), value);
+                    }
+                }
+                if (Types.containsTypeVariable(type)) {
+                    throw new NotCompilableException("type variable: " + expression.toOriginalString());
+                }
+                nullable = true;
+            }
+            checkResultType(type, expression);
+            chain.assign(result, box(chain, new Value(value, type, null)));
+            Type resultType = boxedType(type);
+            return new Value(bc.checkCast(result, resultType.name().toString()), resultType, notFound);
+        }
+
+        /**
+         *
+         * @return the value, or the "not found" result if a base object of the expression was null
+         */
+        private ResultHandle orNotFound(BytecodeCreator bc, Value value) {
+            if (value.notFound == null) {
+                return box(bc, value);
+            }
+            AssignableResultHandle result = bc.createVariable(Object.class);
+            bc.assign(result, value.handle);
+            BytecodeCreator notFound = bc.ifNull(value.notFound).falseBranch();
+            notFound.assign(result, value.notFound);
+            return result;
+        }
+
+        private boolean isIterationMetadata(String name, LoopScope scope) {
+            for (LoopScope loop = scope; loop != null; loop = loop.parent) {
+                String prefix = metadataPrefix(loop.alias);
+                if (prefix == null) {
+                    if (ITERATION_METADATA.contains(name)) {
+                        return true;
+                    }
+                } else if (name.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    private String metadataPrefix(String alias) {
+        if (iterationMetadataPrefix.isBlank()
+                || LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_NONE.equals(iterationMetadataPrefix)) {
+            return null;
+        } else if (LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE.equals(iterationMetadataPrefix)) {
+            return alias + "_";
+        } else if (LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_QM.equals(iterationMetadataPrefix)) {
+            return alias + "?";
+        }
+        return iterationMetadataPrefix;
+    }
+
+    private Type parameterType(String typeInfo, Expression expression) {
+        // Only type-safe parameters without hints are supported, e.g. |org.acme.Item|
+        // The hint of a loop iterable is ignored, e.g. |java.util.List<org.acme.Item>|<loop-element>
+        if (typeInfo != null && typeInfo.endsWith(LoopSectionHelper.Factory.HINT_ELEMENT)) {
+            typeInfo = typeInfo.substring(0, typeInfo.length() - LoopSectionHelper.Factory.HINT_ELEMENT.length());
+        }
+        if (typeInfo == null || !typeInfo.startsWith("|") || !typeInfo.endsWith("|")
+                || typeInfo.indexOf('|', 1) != typeInfo.length() - 1) {
+            throw new NotCompilableException("not a type-safe parameter: " + expression.toOriginalString());
+        }
+        Type type = TypeInfos.resolveTypeFromTypeInfo(typeInfo);
+        if (type == null || !isAccessible(type.name())) {
+            throw new NotCompilableException("unsupported parameter type: " + expression.toOriginalString());
+        }
+        return type;
+    }
+
+    private ClassInfo receiverClass(Type type, Expression expression) {
+        if (type.kind() != Kind.CLASS && type.kind() != Kind.PARAMETERIZED_TYPE) {
+            throw new NotCompilableException("unsupported type " + type + ": " + expression.toOriginalString());
+        }
+        // JDK types are handled by built-in value resolvers
+        ClassInfo clazz = type.name().toString().startsWith("java.") ? null : index.getClassByName(type.name());
+        if (clazz == null || !isAccessible(clazz) || Types.isImplementorOf(clazz, Names.MAPPER, index)) {
+            throw new NotCompilableException("unsupported type " + type + ": " + expression.toOriginalString());
+        }
+        return clazz;
+    }
+
+    private void checkResultType(Type type, Expression expression) {
+        if (type.kind() == Kind.PRIMITIVE || type.kind() == Kind.ARRAY) {
+            return;
+        }
+        // The value resolvers wait for asynchronous results but a compiled template does not
+        ClassInfo clazz = index.getClassByName(type.name());
+        if (ASYNC_TYPES.contains(type.name()) || type.name().toString().startsWith("io.smallrye.mutiny.")
+                || (clazz != null && (Types.isImplementorOf(clazz, Names.COMPLETION_STAGE, index)
+                        || Types.isImplementorOf(clazz, Names.UNI, index)))) {
+            throw new NotCompilableException("possibly asynchronous result: " + expression.toOriginalString());
+        }
+    }
+
+    private Type iterableElementType(Type type) {
+        if (type.kind() == Kind.PARAMETERIZED_TYPE && ITERABLES.contains(type.name())
+                && type.asParameterizedType().arguments().size() == 1) {
+            Type elementType = type.asParameterizedType().arguments().get(0);
+            if (elementType.kind() == Kind.WILDCARD_TYPE) {
+                elementType = elementType.asWildcardType().extendsBound();
+            }
+            if ((elementType.kind() == Kind.CLASS || elementType.kind() == Kind.PARAMETERIZED_TYPE)
+                    && isAccessible(elementType.name())) {
+                return elementType;
+            }
+        }
+        throw new NotCompilableException("unsupported iterable: " + type);
+    }
+
+    private boolean isAccessible(DotName name) {
+        ClassInfo clazz = index.getClassByName(name);
+        if (clazz == null) {
+            // Classes from the JDK are not indexed
+            return name.toString().startsWith("java.");
+        }
+        return isAccessible(clazz);
+    }
+
+    private boolean isAccessible(ClassInfo clazz) {
+        while (clazz != null) {
+            if (!Modifier.isPublic(clazz.flags())) {
+                return false;
+            }
+            DotName enclosing = clazz.enclosingClass();
+            clazz = enclosing != null ? index.getClassByName(enclosing) : null;
+        }
+        return true;
+    }
+
+    private static ResultHandle box(BytecodeCreator bc, Value value) {
+        if (value.type.kind() != Kind.PRIMITIVE) {
+            return value.handle;
+        }
+        PrimitiveType.Primitive primitive = value.type.asPrimitiveType().primitive();
+        Class<?> primitiveClass = primitiveClass(primitive);
+        Class<?> wrapperClass = wrapperClass(primitive);
+        return bc.invokeStaticMethod(MethodDescriptor.ofMethod(wrapperClass, "valueOf", wrapperClass, primitiveClass),
+                value.handle);
+    }
+
+    private static Type boxedType(Type type) {
+        if (type.kind() != Kind.PRIMITIVE) {
+            return type;
+        }
+        return Type.create(DotName.createSimple(wrapperClass(type.asPrimitiveType().primitive())), Kind.CLASS);
+    }
+
+    private static Class<?> primitiveClass(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case BOOLEAN:
+                return boolean.class;
+            case BYTE:
+                return byte.class;
+            case CHAR:
+                return char.class;
+            case SHORT:
+                return short.class;
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            case DOUBLE:
+                return double.class;
+            default:
+                throw new IllegalArgumentException("Unsupported primitive: " + primitive);
+        }
+    }
+
+    private static Class<?> wrapperClass(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case BOOLEAN:
+                return Boolean.class;
+            case BYTE:
+                return Byte.class;
+            case CHAR:
+                return Character.class;
+            case SHORT:
+                return Short.class;
+            case INT:
+                return Integer.class;
+            case LONG:
+                return Long.class;
+            case FLOAT:
+                return Float.class;
+            case DOUBLE:
+                return Double.class;
+            default:
+                throw new IllegalArgumentException("Unsupported primitive: " + primitive);
+        }
+    }
+
+    static final class Value {
+
+        final ResultHandle handle;
+        final Type type;
+        // The "not found" result if a base object was null; null for a single part expression
+        final ResultHandle notFound;
+
+        Value(ResultHandle handle, Type type, ResultHandle notFound) {
+            this.handle = handle;
+            this.type = type;
+            this.notFound = notFound;
+        }
+
+    }
+
+    static final class LoopScope {
+
+        final String alias;
+        final ResultHandle element;
+        final Type elementType;
+        final LoopScope parent;
+
+        LoopScope(String alias, ResultHandle element, Type elementType, LoopScope parent) {
+            this.alias = alias;
+            this.element = element;
+            this.elementType = elementType;
+            this.parent = parent;
+        }
+
+        LoopScope find(String name) {
+            for (LoopScope scope = this; scope != null; scope = scope.parent) {
+                if (scope.alias.equals(name)) {
+                    return scope;
+                }
+            }
+            return null;
+        }
+
+    }
+
+    static final class NotCompilableException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        NotCompilableException(String message) {
+            super(message);
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.qute.deployment;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -9,6 +10,7 @@
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.qute.Expression;
 import io.quarkus.qute.ParameterDeclaration;
+import io.quarkus.qute.TemplateNode;
 
 /**
  * Represents the result of analysis of all templates.
@@ -45,14 +47,24 @@ public static final class TemplateAnalysis {
 
         public final Set<String> fragmentIds;
 
+        // The top-level nodes of the template; empty for message bundle templates
+        public final List<TemplateNode> nodes;
+
         public TemplateAnalysis(String id, String generatedId, List<Expression> expressions,
                 List<ParameterDeclaration> parameterDeclarations, String path, Set<String> fragmentIds) {
+            this(id, generatedId, expressions, parameterDeclarations, path, fragmentIds, Collections.emptyList());
+        }
+
+        public TemplateAnalysis(String id, String generatedId, List<Expression> expressions,
+                List<ParameterDeclaration> parameterDeclarations, String path, Set<String> fragmentIds,
+                List<TemplateNode> nodes) {
             this.id = id;
             this.generatedId = generatedId;
             this.expressions = expressions;
             this.parameterDeclarations = parameterDeclarations;
             this.path = path;
             this.fragmentIds = fragmentIds;
+            this.nodes = nodes;
         }
 
         Expression findExpression(int id) {
@@ -16,6 +16,7 @@
 import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.devui.spi.JsonRPCProvidersBuildItem;
 import io.quarkus.devui.spi.page.CardPageBuildItem;
 import io.quarkus.devui.spi.page.Page;
 import io.quarkus.qute.ParameterDeclaration;
@@ -28,6 +29,8 @@
 import io.quarkus.qute.deployment.TemplateVariantsBuildItem;
 import io.quarkus.qute.deployment.TemplatesAnalysisBuildItem;
 import io.quarkus.qute.deployment.TemplatesAnalysisBuildItem.TemplateAnalysis;
+import io.quarkus.qute.runtime.QuteConfig;
+import io.quarkus.qute.runtime.devui.QuteJsonRPCService;
 
 public class QuteDevUIProcessor {
 
@@ -41,6 +44,7 @@ public void pages(
             List<TemplateDataBuildItem> templateDatas,
             List<ImplicitValueResolverBuildItem> implicitTemplateDatas,
             List<TemplateGlobalBuildItem> templateGlobals,
+            QuteConfig config,
             BuildProducer<CardPageBuildItem> cardPages) {
 
         CardPageBuildItem pageBuildItem = new CardPageBuildItem();
@@ -113,9 +117,23 @@ public int compare(TemplateExtensionMethodBuildItem m1, TemplateExtensionMethodB
                     .staticLabel(String.valueOf(sortedTemplateGlobals.size())));
         }
 
+        if (config.metricsEnabled) {
+            pageBuildItem.addPage(Page.webComponentPageBuilder()
+                    .title("Render Metrics")
+                    .icon("font-awesome-solid:gauge-high")
+                    .componentLink("qwc-qute-render-metrics.js"));
+        }
+
         cardPages.produce(pageBuildItem);
     }
 
+    @BuildStep(onlyIf = IsDevelopment.class)
+    void jsonRpcService(QuteConfig config, BuildProducer<JsonRPCProvidersBuildItem> jsonRpcProviders) {
+        if (config.metricsEnabled) {
+            jsonRpcProviders.produce(new JsonRPCProvidersBuildItem(QuteJsonRPCService.class));
+        }
+    }
+
     private List<Map<String, String>> createTemplateGlobalsJson(List<TemplateGlobalBuildItem> sortedTemplateGlobals) {
         List<Map<String, String>> globals = new ArrayList<>();
         for (TemplateGlobalBuildItem global : sortedTemplateGlobals) {
@@ -0,0 +1,116 @@
+import { LitElement, html, css} from 'lit';
+import { JsonRpc } from 'jsonrpc';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+import '@vaadin/grid';
+import '@vaadin/button';
+import '@vaadin/progress-bar';
+
+
+/**
+ * This component shows the render metrics collected at runtime.
+ */
+export class QwcQuteRenderMetrics extends LitElement {
+
+    jsonRpc = new JsonRpc(this);
+
+    static styles = css`
+       :host {
+          display: flex;
+          flex-direction: column;
+          gap: 10px;
+        }
+        .metrics-table {
+          padding-bottom: 10px;
+        }
+        .toolbar {
+          display: flex;
+          gap: 10px;
+          padding-left: 10px;
+        }
+        code {
+          font-size: 85%;
+        }
+        .annotation {
+          color: var(--lumo-contrast-50pct);
+        }
+        `;
+
+    static properties = {
+        _metrics: {state: true}
+    };
+
+    connectedCallback() {
+        super.connectedCallback();
+        this._refresh();
+    }
+
+    render() {
+        if (!this._metrics) {
+            return html`<vaadin-progress-bar indeterminate></vaadin-progress-bar>`;
+        }
+        return html`
+            <div class="toolbar">
+                <vaadin-button @click="${this._refresh}">Refresh</vaadin-button>
+                <vaadin-button @click="${this._reset}">Reset</vaadin-button>
+            </div>
+            <h4>Templates</h4>
+            <vaadin-grid .items="${this._metrics.templates}" class="metrics-table" theme="no-border" all-rows-visible>
+                <vaadin-grid-column auto-width
+                    header="Template"
+                    ${columnBodyRenderer(this._renderId, [])}
+                    resizable>
+                </vaadin-grid-column>
+                <vaadin-grid-column auto-width header="Count" path="count" resizable></vaadin-grid-column>
+                <vaadin-grid-column auto-width header="Failures" path="failures" resizable></vaadin-grid-column>
+                <vaadin-grid-column auto-width header="Total [µs]" path="totalMicros" resizable></vaadin-grid-column>
+                <vaadin-grid-column auto-width header="Avg [µs]" path="avgMicros" resizable></vaadin-grid-column>
+                <vaadin-grid-column auto-width header="Max [µs]" path="maxMicros" resizable></vaadin-grid-column>
+            </vaadin-grid>
+            <h4>Slowest expressions</h4>
+            <vaadin-grid .items="${this._metrics.expressions}" class="metrics-table" theme="no-border" all-rows-visible>
+                <vaadin-grid-column auto-width
+                    header="Expression"
+                    ${columnBodyRenderer(this._renderExpression, [])}
+                    resizable>
+                </vaadin-grid-column>
+                <vaadin-grid-column auto-width header="Count" path="count" resizable></vaadin-grid-column>
+                <vaadin-grid-column auto-width header="Total [µs]" path="totalMicros" resizable></vaadin-grid-column>
+                <vaadin-grid-column auto-width header="Avg [µs]" path="avgMicros" resizable></vaadin-grid-column>
+                <vaadin-grid-column auto-width header="Max [µs]" path="maxMicros" resizable></vaadin-grid-column>
+            </vaadin-grid>
+            <h4>Resolvers</h4>
+            <vaadin-grid .items="${this._resolvers()}" class="metrics-table" theme="no-border" all-rows-visible>
+                <vaadin-grid-column auto-width header="Kind" path="kind" resizable></vaadin-grid-column>
+                <vaadin-grid-column auto-width header="Resolved" path="count" resizable></vaadin-grid-column>
+            </vaadin-grid>
+            `;
+    }
+
+    _refresh() {
+        this.jsonRpc.getRenderMetrics().then(jsonRpcResponse => {
+            this._metrics = jsonRpcResponse.result;
+        });
+    }
+
+    _reset() {
+        this.jsonRpc.reset().then(() => this._refresh());
+    }
+
+    _resolvers() {
+        return Object.entries(this._metrics.resolvers).map(([kind, count]) => ({kind, count}));
+    }
+
+    _renderId(template) {
+        return html`
+            <code>${template.id}</code>
+        `;
+    }
+
+    _renderExpression(expression) {
+        return html`
+            <code>${expression.expression}</code> <span class="annotation">${expression.template}:${expression.line}</span>
+        `;
+    }
+
+}
+customElements.define('qwc-qute-render-metrics', QwcQuteRenderMetrics);
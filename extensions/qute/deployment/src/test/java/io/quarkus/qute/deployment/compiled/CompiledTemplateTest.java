@@ -0,0 +1,131 @@
+package io.quarkus.qute.deployment.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTemplateTest {
+
+    private static final String LOOP_INCLUDE = "{@java.util.List<io.quarkus.qute.deployment.compiled.Item> list}"
+            + "{#for item in list}{#include row /}{/for}";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Item.class)
+                    .addAsResource(new StringAsset("{@java.util.List<io.quarkus.qute.deployment.compiled.Item> list}"
+                            + "<ul>{#for item in list}"
+                            + "<li>{item.name}:{item.owner.name}{#if item.age} ({item.age}){/if}</li>"
+                            + "{#else}"
+                            + "<li>none</li>"
+                            + "{/for}</ul>"
+                            + "{#include footer /}"), "templates/foo.html")
+                    .addAsResource(new StringAsset("{@java.util.List<io.quarkus.qute.deployment.compiled.Item> list}"
+                            + "<footer>{#for item in list}[{item.name}]{/for}</footer>"), "templates/footer.html")
+                    .addAsResource(new StringAsset("{@java.util.List<io.quarkus.qute.deployment.compiled.Item> list}"
+                            + "{#for item in list}{item_count}{/for}"), "templates/metadata.html")
+                    .addAsResource(new StringAsset(LOOP_INCLUDE), "templates/loop.html")
+                    .addAsResource(new StringAsset("{@io.quarkus.qute.deployment.compiled.Item item}[{item.name}]"),
+                            "templates/row.html"))
+            .overrideConfigKey("quarkus.qute.compile-templates", "true");
+
+    @Inject
+    Template foo;
+
+    @Inject
+    Template metadata;
+
+    @Inject
+    Template loop;
+
+    @Inject
+    Engine engine;
+
+    @BeforeEach
+    void reset() {
+        Item.CALLERS.clear();
+    }
+
+    @Test
+    public void testCompiledTemplate() throws ClassNotFoundException {
+        assertCompiled("foo.html");
+        assertCompiled("footer.html");
+        Item owner = new Item("owner", null, null);
+        assertEquals("<ul><li>bravo:owner (10)</li><li>&lt;alpha&gt;:owner</li></ul><footer>[bravo][&lt;alpha&gt;]</footer>",
+                foo.data("list", List.of(new Item("bravo", 10l, owner), new Item("<alpha>", null, owner))).render());
+        // Every getter is invoked once, from the compiled templates
+        String fooClass = compiledClassName("foo.html");
+        String footerClass = compiledClassName("footer.html");
+        assertEquals(List.of(fooClass, fooClass, fooClass, fooClass, footerClass, footerClass), Item.CALLERS);
+        assertEquals("<ul><li>none</li></ul><footer></footer>", foo.data("list", List.of()).render());
+    }
+
+    @Test
+    public void testIncludedTemplateReloaded() {
+        // {#include footer /} is rendered by the compiled template when loaded again by the id without suffix
+        engine.removeTemplates(id -> id.startsWith("footer"));
+        assertEquals("<ul><li>bravo:owner</li></ul><footer>[bravo]</footer>",
+                foo.data("list", List.of(new Item("bravo", null, new Item("owner", null, null)))).render());
+        assertEquals(List.of(compiledClassName("foo.html"), compiledClassName("foo.html"), compiledClassName("footer.html")),
+                Item.CALLERS);
+    }
+
+    @Test
+    public void testNullIntermediateValue() {
+        // The compiled template does not decline once started, the strict rendering error is the same
+        TemplateException expected = assertThrows(TemplateException.class,
+                () -> foo.data("list", List.of(new Item("bravo", 10l, null))).render());
+        assertEquals("EVALUATOR_PROPERTY_NOT_FOUND", expected.getCode().getName());
+        assertEquals(List.of(compiledClassName("foo.html")), Item.CALLERS);
+    }
+
+    @Test
+    public void testDeclined() {
+        // The compiled template declines the data before the rendering starts and the template is rendered as usual
+        assertEquals("<ul><li>bravo:owner</li></ul><footer>[bravo]</footer>",
+                foo.data("list", new Item[] { new Item("bravo", null, new Item("owner", null, null)) }).render());
+        assertEquals(3, Item.CALLERS.size());
+        assertEquals(0, Item.CALLERS.stream().filter(c -> c.startsWith(compiledClassName(""))).count());
+    }
+
+    @Test
+    public void testNotCompiled() {
+        assertThrows(ClassNotFoundException.class, () -> assertCompiled("metadata.html"));
+        assertEquals("12", metadata.data("list", List.of(new Item("bravo", 10l, null), new Item("alpha", 1l, null))).render());
+    }
+
+    @Test
+    public void testIncludeInLoop() throws ClassNotFoundException {
+        // The included template must see the iteration variable, not the item from the data
+        assertThrows(ClassNotFoundException.class, () -> assertCompiled("loop.html"));
+        assertCompiled("row.html");
+        List<Item> list = List.of(new Item("alpha", null, null), new Item("bravo", null, null));
+        Item item = new Item("charlie", null, null);
+        String interpreted = engine.parse(LOOP_INCLUDE).data("list", list).data("item", item).render();
+        assertEquals("[alpha][bravo]", interpreted);
+        assertEquals(interpreted, loop.data("list", list).data("item", item).render());
+    }
+
+    private static String compiledClassName(String path) {
+        return "io.quarkus.qute.generated.CompiledTemplate_" + (path.isEmpty() ? "" : HashUtil.sha1(path));
+    }
+
+    private static void assertCompiled(String path) throws ClassNotFoundException {
+        Thread.currentThread().getContextClassLoader().loadClass(compiledClassName(path));
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.quarkus.qute.deployment.compiled;
+
+import java.lang.StackWalker.Option;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class Item {
+
+    // The classes that invoked getName()
+    static final List<String> CALLERS = new CopyOnWriteArrayList<>();
+
+    private final String name;
+
+    public final Long age;
+
+    public final Item owner;
+
+    public Item(String name, Long age, Item owner) {
+        this.name = name;
+        this.age = age;
+        this.owner = owner;
+    }
+
+    public String getName() {
+        CALLERS.add(StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE).getCallerClass().getName());
+        return name;
+    }
+
+}
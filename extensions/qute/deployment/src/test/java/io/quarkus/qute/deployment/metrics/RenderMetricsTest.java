@@ -0,0 +1,71 @@
+package io.quarkus.qute.deployment.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.deployment.Foo;
+import io.quarkus.qute.runtime.metrics.RenderMetrics;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RenderMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Foo.class)
+                    .addAsResource(new StringAsset("{@io.quarkus.qute.deployment.Foo foo}{foo.name}"), "templates/foo.html"))
+            .overrideConfigKey("quarkus.qute.metrics.enabled", "true");
+
+    @Inject
+    Template foo;
+
+    @Inject
+    RenderMetrics metrics;
+
+    @Inject
+    Engine engine;
+
+    @Test
+    public void testMetrics() {
+        assertEquals("bravo", foo.data("foo", new Foo("bravo", 10l)).render());
+        assertEquals("alpha", foo.data("foo", new Foo("alpha", 1l)).render());
+
+        List<Map<String, Object>> templates = metrics.getTemplates();
+        assertEquals(1, templates.size());
+        assertEquals("foo.html", templates.get(0).get("id"));
+        assertEquals(2l, templates.get(0).get("count"));
+        List<Map<String, Object>> expressions = metrics.getSlowestExpressions(10);
+        assertEquals(1, expressions.size());
+        assertEquals("{foo.name}", expressions.get(0).get("expression"));
+        assertEquals(2l, expressions.get(0).get("count"));
+        // Foo is used in a type-safe expression and so a value resolver is generated
+        assertTrue(metrics.getResolvers().get("generated") >= 2);
+        assertEquals(0l, metrics.getResolvers().get("reflection"));
+
+        metrics.reset();
+        assertEquals(0l, metrics.getTemplates().get(0).get("count"));
+        assertTrue(metrics.getSlowestExpressions(10).isEmpty());
+
+        // Templates without an id get a new id each time they are parsed
+        assertEquals("charlie", engine.parse("{name}").data("name", "charlie").render());
+        assertEquals("delta", engine.parse("{name}").data("name", "delta").render());
+        templates = metrics.getTemplates();
+        assertEquals(2, templates.size());
+        // foo.html was reset, so the other templates come first
+        assertEquals("OTHER", templates.get(0).get("id"));
+        assertEquals(2l, templates.get(0).get("count"));
+        assertTrue(metrics.getSlowestExpressions(10).isEmpty());
+    }
+
+}
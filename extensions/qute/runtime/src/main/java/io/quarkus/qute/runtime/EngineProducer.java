@@ -34,6 +34,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EvalContext;
@@ -42,6 +43,7 @@
 import io.quarkus.qute.NamespaceResolver;
 import io.quarkus.qute.Qute;
 import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.RenderListener;
 import io.quarkus.qute.Resolver;
 import io.quarkus.qute.Results;
 import io.quarkus.qute.SectionHelperFactory;
@@ -87,7 +89,7 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             Event<EngineBuilder> builderReady, Event<Engine> engineReady, ContentTypes contentTypes,
             LaunchMode launchMode, LocalesBuildTimeConfig locales, @All List<TemplateLocator> locators,
             @All List<SectionHelperFactory<?>> sectionHelperFactories, @All List<ValueResolver> valueResolvers,
-            @All List<NamespaceResolver> namespaceResolvers) {
+            @All List<NamespaceResolver> namespaceResolvers, @All List<RenderListener> renderListeners) {
         this.contentTypes = contentTypes;
         this.suffixes = config.suffixes;
         this.templateRoots = context.getTemplateRoots();
@@ -198,6 +200,23 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             LOGGER.debugf("Registered UserTagSectionHelper for %s [%s]", tagName, tagTemplateId);
             builder.addSectionHelper(new UserTagSectionHelper.Factory(tagName, tagTemplateId));
         }
+        // Add compiled templates
+        Set<String> templatePaths = Set.copyOf(context.getTemplatePaths());
+        for (Entry<String, String> e : context.getCompiledTemplates().entrySet()) {
+            CompiledTemplate compiledTemplate = createCompiledTemplate(e.getValue());
+            builder.addCompiledTemplate(e.getKey(), compiledTemplate);
+            LOGGER.debugf("Added compiled template for %s: %s", e.getKey(), e.getValue());
+            // Templates are also located by the id without suffix, e.g. {#include footer /}
+            String id = idWithoutSuffix(e.getKey(), templatePaths);
+            if (id != null) {
+                builder.addCompiledTemplate(id, compiledTemplate);
+                LOGGER.debugf("Added compiled template for %s: %s", id, e.getValue());
+            }
+        }
+        // Add render listeners, e.g. to collect metrics
+        for (RenderListener renderListener : renderListeners) {
+            builder.addRenderListener(renderListener);
+        }
         // Add locator
         builder.addLocator(this::locate);
         registerCustomLocators(builder, locators);
@@ -316,6 +335,20 @@ private Resolver createResolver(String resolverClassName) {
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClazz);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     private TemplateGlobalProvider createGlobalProvider(String initializerClassName) {
         try {
             Class<?> initializerClazz = Thread.currentThread()
@@ -360,6 +393,35 @@ private Optional<TemplateLocation> locate(String path) {
         return Optional.empty();
     }
 
+    /**
+     *
+     * @param path
+     * @param templatePaths
+     * @return the id without suffix that is located to the given path, or {@code null}
+     * @see #locate(String)
+     */
+    private String idWithoutSuffix(String path, Set<String> templatePaths) {
+        for (String suffix : suffixes) {
+            if (path.endsWith("." + suffix)) {
+                String id = path.substring(0, path.length() - (suffix.length() + 1));
+                if (templatePaths.contains(id)) {
+                    // The path without suffix is tried first
+                    return null;
+                }
+                for (String other : suffixes) {
+                    if (other.equals(suffix)) {
+                        return id;
+                    }
+                    if (templatePaths.contains(id + "." + other)) {
+                        // The suffixes are tried in the given order
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
     private URL locatePath(String path) {
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         if (cl == null) {
@@ -88,6 +88,32 @@ public class QuteConfig {
     @ConfigItem(defaultValue = "UTF-8")
     public Charset defaultCharset;
 
+    /**
+     * If set to {@code true} then the templates that consist of supported constructs only are compiled to Java classes during
+     * the build. A compiled template renders the output directly, i.e. without evaluating the expressions through value
+     * resolvers.
+     * <p>
+     * A template is compiled if it contains text, output expressions, parameter declarations without a default value,
+     * {@code #if} sections with a single operand, {@code #for}/{@code #each} sections that iterate over an array or a
+     * {@link Iterable}, and {@code #include} sections without parameters. Every expression must be a chain of properties and
+     * the first part must be a type-safe parameter or an alias of an enclosing loop. Other templates are rendered as usual.
+     * <p>
+     * Note that custom value resolvers and template extension methods registered at runtime are not taken into account.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compileTemplates;
+
+    /**
+     * If set to {@code true} then the engine collects the render times per template, the evaluation times per expression and
+     * the number of expression parts resolved by each kind of resolver, e.g. generated value resolvers vs. the reflection
+     * fallback. The template render times and the resolver counts are exported if a metrics extension is present, e.g.
+     * {@code quarkus-micrometer}. In the development mode, all the statistics are also displayed in the Dev UI.
+     * <p>
+     * If disabled then the engine does not measure anything.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "false")
+    public boolean metricsEnabled;
+
     /**
      * Development mode configuration.
      */
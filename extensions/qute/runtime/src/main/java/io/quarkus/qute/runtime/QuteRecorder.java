@@ -12,7 +12,7 @@ public class QuteRecorder {
 
     public Supplier<Object> createContext(List<String> resolverClasses,
             List<String> templatePaths, List<String> tags, Map<String, List<String>> variants,
-            List<String> templateGlobalProviderClasses, Set<String> templateRoots) {
+            List<String> templateGlobalProviderClasses, Set<String> templateRoots, Map<String, String> compiledTemplates) {
         return new Supplier<Object>() {
 
             @Override
@@ -48,6 +48,11 @@ public List<String> getTemplateGlobalProviderClasses() {
                     public Set<String> getTemplateRoots() {
                         return templateRoots;
                     }
+
+                    @Override
+                    public Map<String, String> getCompiledTemplates() {
+                        return compiledTemplates;
+                    }
                 };
             }
         };
@@ -67,6 +72,12 @@ public interface QuteContext {
 
         Set<String> getTemplateRoots();
 
+        /**
+         *
+         * @return the map of template paths to compiled template classes
+         */
+        Map<String, String> getCompiledTemplates();
+
     }
 
 }
@@ -36,6 +36,7 @@
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.TemplateInstanceBase;
+import io.quarkus.qute.TemplateNode;
 import io.quarkus.qute.Variant;
 import io.quarkus.qute.runtime.QuteRecorder.QuteContext;
 import io.quarkus.runtime.LaunchMode;
@@ -237,6 +238,14 @@ public Set<String> getFragmentIds() {
             throw ambiguousTemplates("getFragmentIds()");
         }
 
+        @Override
+        public List<TemplateNode> getNodes() {
+            if (unambiguousTemplate != null) {
+                return unambiguousTemplate.get().getNodes();
+            }
+            throw ambiguousTemplates("getNodes()");
+        }
+
         private UnsupportedOperationException ambiguousTemplates(String method) {
             return new UnsupportedOperationException("Ambiguous injected templates do not support " + method);
         }
@@ -299,6 +308,18 @@ public Set<String> getFragmentIds() {
                 return InjectableTemplate.this.getFragmentIds();
             }
 
+            @Override
+            public List<TemplateNode> getNodes() {
+                if (unambiguousTemplate != null) {
+                    Fragment fragment = unambiguousTemplate.get().getFragment(identifier);
+                    if (fragment == null) {
+                        throw new IllegalStateException("Fragment [" + identifier + "] not found in " + path);
+                    }
+                    return fragment.getNodes();
+                }
+                throw ambiguousTemplates("getNodes()");
+            }
+
             @Override
             public TemplateInstance instance() {
                 TemplateInstance instance = new InjectableFragmentTemplateInstanceImpl(identifier);
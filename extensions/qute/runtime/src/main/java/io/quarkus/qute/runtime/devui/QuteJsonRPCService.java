@@ -0,0 +1,35 @@
+package io.quarkus.qute.runtime.devui;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.qute.runtime.metrics.RenderMetrics;
+import io.smallrye.common.annotation.NonBlocking;
+
+@Singleton
+public class QuteJsonRPCService {
+
+    private static final int EXPRESSIONS_LIMIT = 50;
+
+    @Inject
+    RenderMetrics metrics;
+
+    @NonBlocking
+    public Map<String, Object> getRenderMetrics() {
+        Map<String, Object> ret = new HashMap<>();
+        ret.put("templates", metrics.getTemplates());
+        ret.put("expressions", metrics.getSlowestExpressions(EXPRESSIONS_LIMIT));
+        ret.put("resolvers", metrics.getResolvers());
+        return ret;
+    }
+
+    @NonBlocking
+    public Map<String, Object> reset() {
+        metrics.reset();
+        return getRenderMetrics();
+    }
+
+}
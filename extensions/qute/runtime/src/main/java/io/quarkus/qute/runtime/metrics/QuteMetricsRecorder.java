@@ -0,0 +1,21 @@
+package io.quarkus.qute.runtime.metrics;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class QuteMetricsRecorder {
+
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(RenderMetrics.class).get().init(metricsFactory);
+            }
+        };
+    }
+
+}
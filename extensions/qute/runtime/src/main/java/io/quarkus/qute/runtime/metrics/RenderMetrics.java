@@ -0,0 +1,255 @@
+package io.quarkus.qute.runtime.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.NamespaceResolver;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.RenderListener;
+import io.quarkus.qute.Resolver;
+import io.quarkus.qute.Template;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Collects the render times per template, the evaluation times per expression and the number of resolutions per kind of
+ * resolver.
+ * <p>
+ * The render times and the resolver counts are also exported via the {@link MetricsFactory} if a metrics extension is present.
+ * The expression statistics are not exported because of the high cardinality.
+ * <p>
+ * The templates without an id, e.g. parsed on the fly with {@link io.quarkus.qute.Engine#parse(String)}, get a new id each
+ * time and so they are recorded under the {@value #OTHER_TEMPLATE} id, without expression statistics. The number of
+ * recorded templates is bounded, the templates rendered once the bound is reached are recorded as
+ * {@value #OTHER_TEMPLATE} too.
+ */
+@Singleton
+public class RenderMetrics implements RenderListener {
+
+    static final String RENDER_METRIC = "qute.template.render";
+    static final String RESOLVER_METRIC = "qute.resolver.resolved";
+    static final String OTHER_TEMPLATE = "OTHER";
+
+    // Protects the metrics registry from templates with generated ids
+    private static final int MAX_TEMPLATES = 1000;
+
+    // Suffix of the value resolvers generated during the build
+    private static final String GENERATED_SUFFIX = "_ValueResolver";
+
+    private final Map<String, Stats> templates = new ConcurrentHashMap<>();
+    // template generated id -> expression generated id -> stats
+    private final Map<String, Map<Integer, ExpressionStats>> expressions = new ConcurrentHashMap<>();
+    private final Map<ResolverKind, LongAdder> resolvers;
+
+    private volatile MetricsFactory metricsFactory;
+
+    public RenderMetrics() {
+        Map<ResolverKind, LongAdder> resolvers = new ConcurrentHashMap<>();
+        for (ResolverKind kind : ResolverKind.values()) {
+            resolvers.put(kind, new LongAdder());
+        }
+        this.resolvers = resolvers;
+    }
+
+    void init(MetricsFactory metricsFactory) {
+        for (ResolverKind kind : ResolverKind.values()) {
+            LongAdder adder = resolvers.get(kind);
+            metricsFactory.builder(RESOLVER_METRIC)
+                    .description("Number of expression parts resolved by a specific kind of resolver")
+                    .tag("kind", kind.tag)
+                    .buildCounter(adder::sum);
+        }
+        this.metricsFactory = metricsFactory;
+    }
+
+    @Override
+    public void templateRendered(Template template, long durationNanos, Throwable failure) {
+        String id = template.getId().equals(template.getGeneratedId()) ? OTHER_TEMPLATE : template.getId();
+        Stats stats = templates.get(id);
+        if (stats == null) {
+            if (templates.size() >= MAX_TEMPLATES) {
+                id = OTHER_TEMPLATE;
+            }
+            stats = templates.computeIfAbsent(id, k -> new Stats());
+        }
+        if (stats.timer == null) {
+            MetricsFactory factory = metricsFactory;
+            if (factory != null) {
+                stats.timer = factory.builder(RENDER_METRIC)
+                        .description("Template rendering time")
+                        .tag("template", id)
+                        .buildTimer();
+            }
+        }
+        stats.update(durationNanos);
+        if (failure != null) {
+            stats.failures.increment();
+        }
+    }
+
+    @Override
+    public void expressionEvaluated(Expression expression, long durationNanos) {
+        if (expression.getGeneratedId() == -1 || expression.getOrigin() == null) {
+            // Not created by a parser
+            return;
+        }
+        String generatedId = expression.getOrigin().getTemplateGeneratedId();
+        if (generatedId.equals(expression.getOrigin().getTemplateId())) {
+            // Template without an id
+            return;
+        }
+        Map<Integer, ExpressionStats> templateExpressions = expressions.get(generatedId);
+        if (templateExpressions == null) {
+            if (expressions.size() >= MAX_TEMPLATES) {
+                return;
+            }
+            templateExpressions = expressions.computeIfAbsent(generatedId, k -> new ConcurrentHashMap<>());
+        }
+        templateExpressions.computeIfAbsent(expression.getGeneratedId(), k -> new ExpressionStats(expression))
+                .update(durationNanos);
+    }
+
+    @Override
+    public void valueResolved(Resolver resolver) {
+        resolvers.get(ResolverKind.of(resolver)).increment();
+    }
+
+    /**
+     *
+     * @return the template statistics sorted by the total render time
+     */
+    public List<Map<String, Object>> getTemplates() {
+        List<Map<String, Object>> ret = new ArrayList<>();
+        templates.entrySet().stream().sorted(Comparator.comparingLong(e -> -e.getValue().total.sum())).forEach(e -> {
+            Map<String, Object> map = e.getValue().toMap();
+            map.put("id", e.getKey());
+            map.put("failures", e.getValue().failures.sum());
+            ret.add(map);
+        });
+        return ret;
+    }
+
+    /**
+     *
+     * @param limit
+     * @return the expression statistics sorted by the total evaluation time
+     */
+    public List<Map<String, Object>> getSlowestExpressions(int limit) {
+        List<Map<String, Object>> ret = new ArrayList<>();
+        expressions.values().stream().flatMap(m -> m.values().stream())
+                .sorted(Comparator.comparingLong(s -> -s.total.sum()))
+                .limit(limit)
+                .forEach(s -> {
+                    Map<String, Object> map = s.toMap();
+                    map.put("expression", "{" + s.expression.toOriginalString() + "}");
+                    map.put("template", s.expression.getOrigin().getTemplateId());
+                    map.put("line", s.expression.getOrigin().getLine());
+                    ret.add(map);
+                });
+        return ret;
+    }
+
+    /**
+     *
+     * @return the number of resolutions per kind of resolver
+     */
+    public Map<String, Long> getResolvers() {
+        Map<String, Long> ret = new LinkedHashMap<>();
+        for (ResolverKind kind : ResolverKind.values()) {
+            ret.put(kind.tag, resolvers.get(kind).sum());
+        }
+        return ret;
+    }
+
+    public void reset() {
+        templates.values().forEach(Stats::reset);
+        expressions.clear();
+        resolvers.values().forEach(LongAdder::reset);
+    }
+
+    enum ResolverKind {
+
+        GENERATED("generated"),
+        REFLECTION("reflection"),
+        NAMESPACE("namespace"),
+        OTHER("other");
+
+        final String tag;
+
+        ResolverKind(String tag) {
+            this.tag = tag;
+        }
+
+        static ResolverKind of(Resolver resolver) {
+            if (resolver instanceof ReflectionValueResolver) {
+                return REFLECTION;
+            } else if (resolver.getClass().getName().endsWith(GENERATED_SUFFIX)) {
+                return GENERATED;
+            } else if (resolver instanceof NamespaceResolver) {
+                return NAMESPACE;
+            }
+            return OTHER;
+        }
+
+    }
+
+    static class Stats {
+
+        final LongAdder count = new LongAdder();
+        final LongAdder total = new LongAdder();
+        final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        final LongAdder failures = new LongAdder();
+        // Only set for templates if metrics are exported
+        volatile TimeRecorder timer;
+
+        void update(long durationNanos) {
+            count.increment();
+            total.add(durationNanos);
+            max.accumulate(durationNanos);
+            TimeRecorder timer = this.timer;
+            if (timer != null) {
+                timer.update(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void reset() {
+            count.reset();
+            total.reset();
+            max.reset();
+            failures.reset();
+        }
+
+        Map<String, Object> toMap() {
+            long count = this.count.sum();
+            long total = this.total.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count);
+            map.put("totalMicros", TimeUnit.NANOSECONDS.toMicros(total));
+            map.put("avgMicros", count > 0 ? TimeUnit.NANOSECONDS.toMicros(total / count) : 0);
+            map.put("maxMicros", TimeUnit.NANOSECONDS.toMicros(max.get()));
+            return map;
+        }
+
+    }
+
+    static class ExpressionStats extends Stats {
+
+        final Expression expression;
+
+        ExpressionStats(Expression expression) {
+            this.expression = expression;
+        }
+
+    }
+
+}
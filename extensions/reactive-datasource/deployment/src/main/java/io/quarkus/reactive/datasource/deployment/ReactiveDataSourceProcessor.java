@@ -4,6 +4,8 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.quarkus.reactive.datasource.ReadOnly;
+import io.quarkus.reactive.datasource.runtime.ReadOnlyInterceptor;
 
 class ReactiveDataSourceProcessor {
 
@@ -12,4 +14,11 @@ void addQualifierAsBean(BuildProducer<AdditionalBeanBuildItem> additionalBeans)
         // add the @ReactiveDataSource class otherwise it won't be registered as a qualifier
         additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(ReactiveDataSource.class).build());
     }
+
+    @BuildStep
+    void readOnly(BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        // routes the connections of the @ReadOnly methods to the read replicas
+        additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClasses(ReadOnly.class, ReadOnlyInterceptor.class)
+                .build());
+    }
 }
@@ -0,0 +1,30 @@
+package io.quarkus.reactive.datasource;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Routes the connections acquired and the queries executed by the annotated method to the read replicas of the reactive
+ * datasources.
+ * <p>
+ * Only the datasources with {@code read-replica-urls} are affected, the other ones keep using their URLs.
+ * The routing applies while the method runs and, if the method returns a {@link io.smallrye.mutiny.Uni}, until the
+ * {@code Uni} subscribed within the same duplicated Vert.x context terminates. All the connections acquired from a
+ * datasource meanwhile come from the same replica. The method must be called on a duplicated Vert.x context, which is the
+ * case of the HTTP requests, otherwise the routing does not apply.
+ */
+@Inherited
+@InterceptorBinding
+@Target({ METHOD, TYPE })
+@Retention(RUNTIME)
+@Documented
+public @interface ReadOnly {
+}
@@ -23,6 +23,18 @@ public interface DataSourceReactiveRuntimeConfig {
     @WithDefault("false")
     boolean cachePreparedStatements();
 
+    /**
+     * The maximum number of inflight database commands that can be pipelined on a connection.
+     * <p>
+     * Pipelining sends the commands without waiting for the result of the previous ones, which improves the throughput
+     * of a connection when many statements are executed concurrently, for instance when Hibernate Reactive flushes a batch.
+     * <p>
+     * Only PostgreSQL and MySQL support pipelining, this is ignored by the other clients.
+     * The PostgreSQL and MySQL specific {@code pipelining-limit} properties take precedence over this one.
+     * By default, the default of the client is used.
+     */
+    OptionalInt pipeliningLimit();
+
     /**
      * The datasource URLs.
      * <p>
@@ -32,6 +44,23 @@ public interface DataSourceReactiveRuntimeConfig {
      */
     Optional<List<String>> url();
 
+    /**
+     * The URLs of the read replicas of the datasource.
+     * <p>
+     * When set, the connections acquired and the queries executed by the methods annotated with
+     * {@code @io.quarkus.reactive.datasource.ReadOnly} use the read replicas, in a round-robin fashion, instead of the
+     * datasource URLs. Each replica has its own pool, configured like the pool of the datasource.
+     */
+    Optional<List<String>> readReplicaUrls();
+
+    /**
+     * How long a read replica is excluded from the routing after failing to connect to its database.
+     * <p>
+     * The datasource URLs are used when all the read replicas are excluded.
+     */
+    @WithDefault("30S")
+    Duration readReplicaExclusionTime();
+
     /**
      * The datasource pool maximum size.
      */
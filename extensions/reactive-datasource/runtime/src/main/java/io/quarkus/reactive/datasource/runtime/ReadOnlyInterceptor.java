@@ -0,0 +1,71 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import io.quarkus.reactive.datasource.ReadOnly;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+
+/**
+ * Marks the current duplicated Vert.x context as read-only while a {@link ReadOnly} method runs, and while the
+ * {@link Uni} it returns runs, so that the reactive datasources with read replicas route their connections to the
+ * replicas.
+ * <p>
+ * The connections of a reactive pipeline are acquired when it is subscribed, i.e. after the method returned, so the
+ * hint is carried by the context local data rather than by the calling thread.
+ */
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class ReadOnlyInterceptor {
+
+    // the pool chosen by each datasource with read replicas, for the read-only scope of the context
+    private static final String READ_ONLY = ReadOnlyInterceptor.class.getName() + ".chosenPools";
+
+    /**
+     * @return the pools chosen by the datasources with read replicas in the read-only scope of the current context, or
+     *         {@code null} if the current context is not read-only
+     */
+    static Map<ReadReplicaRoutingPool, Pool> chosenPools() {
+        Context context = Vertx.currentContext();
+        return context != null && VertxContext.isDuplicatedContext(context) ? context.getLocal(READ_ONLY) : null;
+    }
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        Context vertxContext = Vertx.currentContext();
+        if (vertxContext == null || !VertxContext.isDuplicatedContext(vertxContext) || chosenPools() != null) {
+            return context.proceed();
+        }
+        Map<ReadReplicaRoutingPool, Pool> chosenPools = new ConcurrentHashMap<>();
+        Object result;
+        vertxContext.putLocal(READ_ONLY, chosenPools);
+        try {
+            result = context.proceed();
+        } finally {
+            vertxContext.removeLocal(READ_ONLY);
+        }
+        if (result instanceof Uni) {
+            Uni<?> uni = (Uni<?>) result;
+            return Uni.createFrom().deferred(() -> {
+                Context subscriptionContext = Vertx.currentContext();
+                if (subscriptionContext == null || !VertxContext.isDuplicatedContext(subscriptionContext)
+                        || chosenPools() != null) {
+                    return uni;
+                }
+                subscriptionContext.putLocal(READ_ONLY, chosenPools);
+                return uni.onTermination().invoke(() -> subscriptionContext.removeLocal(READ_ONLY));
+            });
+        }
+        return result;
+    }
+}
@@ -0,0 +1,217 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.reactive.datasource.ReadOnly;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.ClosedConnectionException;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PrepareOptions;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+
+/**
+ * The {@link Pool} wrapper used by the reactive datasources with read replicas.
+ * <p>
+ * The connections acquired and the queries executed in the read-only scope of a {@link ReadOnly} method are routed to the
+ * replicas, in a round-robin fashion. The replica is chosen once per read-only scope, and the following connections and
+ * queries of the scope use the same replica. A replica failing to connect to its database is excluded for the configured
+ * exclusion time, and the scope moves to another replica, or to the primary when all the replicas are excluded. The other
+ * connections and queries always use the primary.
+ * <p>
+ * Only the failures to acquire a connection exclude a replica, the failures of the queries executed directly on the pool
+ * are reported as is. {@link #size()} only covers the primary.
+ */
+public class ReadReplicaRoutingPool implements Pool {
+
+    private static final Logger log = Logger.getLogger(ReadReplicaRoutingPool.class);
+
+    private final String dataSourceName;
+    private final Pool primary;
+    private final Replica[] replicas;
+    private final long exclusionTimeNanos;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRoutingPool(String dataSourceName, Pool primary, Map<String, Pool> replicas, Duration exclusionTime) {
+        this.dataSourceName = dataSourceName;
+        this.primary = primary;
+        this.replicas = new Replica[replicas.size()];
+        int i = 0;
+        for (Map.Entry<String, Pool> replica : replicas.entrySet()) {
+            this.replicas[i++] = new Replica(replica.getKey(), replica.getValue());
+        }
+        this.exclusionTimeNanos = exclusionTime.toNanos();
+    }
+
+    @Override
+    public Future<SqlConnection> getConnection() {
+        Map<ReadReplicaRoutingPool, Pool> chosenPools = ReadOnlyInterceptor.chosenPools();
+        if (chosenPools == null) {
+            return primary.getConnection();
+        }
+        return getConnection(chosenPools, 1);
+    }
+
+    private Future<SqlConnection> getConnection(Map<ReadReplicaRoutingPool, Pool> chosenPools, int attempt) {
+        Pool pool = chosenPools.computeIfAbsent(this, ignored -> choose());
+        return pool.getConnection().recover(failure -> {
+            Replica replica = replica(pool);
+            if (replica == null || !isConnectionFailure(failure)) {
+                return Future.failedFuture(failure);
+            }
+            replica.exclude(failure);
+            // the scope moves to another replica, unless a concurrent acquisition already moved it
+            chosenPools.replace(this, pool, attempt < replicas.length ? choose() : primary);
+            return getConnection(chosenPools, attempt + 1);
+        });
+    }
+
+    @Override
+    public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        getConnection().onComplete(handler);
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return pool().query(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        return pool().preparedQuery(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql, PrepareOptions options) {
+        return pool().preparedQuery(sql, options);
+    }
+
+    private Pool pool() {
+        Map<ReadReplicaRoutingPool, Pool> chosenPools = ReadOnlyInterceptor.chosenPools();
+        return chosenPools == null ? primary : chosenPools.computeIfAbsent(this, ignored -> choose());
+    }
+
+    private Pool choose() {
+        int first = Math.floorMod(next.getAndIncrement(), replicas.length);
+        for (int i = 0; i < replicas.length; i++) {
+            Replica replica = replicas[(first + i) % replicas.length];
+            if (!replica.isExcluded()) {
+                return replica.pool;
+            }
+        }
+        return primary;
+    }
+
+    private Replica replica(Pool pool) {
+        for (Replica replica : replicas) {
+            if (replica.pool == pool) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isConnectionFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketException || cause instanceof UnknownHostException
+                    || cause instanceof ClosedConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the URLs of the read replicas currently excluded from the routing
+     */
+    public List<String> excludedReplicaUrls() {
+        List<String> urls = new ArrayList<>();
+        for (Replica replica : replicas) {
+            if (replica.isExcluded()) {
+                urls.add(replica.url);
+            }
+        }
+        return urls;
+    }
+
+    @Override
+    public Pool connectHandler(Handler<SqlConnection> handler) {
+        primary.connectHandler(handler);
+        for (Replica replica : replicas) {
+            replica.pool.connectHandler(handler);
+        }
+        return this;
+    }
+
+    @Override
+    public Pool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+        primary.connectionProvider(provider);
+        for (Replica replica : replicas) {
+            replica.pool.connectionProvider(provider);
+        }
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return primary.size();
+    }
+
+    @Override
+    public Future<Void> close() {
+        List<Future<Void>> closed = new ArrayList<>(replicas.length + 1);
+        closed.add(primary.close());
+        for (Replica replica : replicas) {
+            closed.add(replica.pool.close());
+        }
+        return Future.join(closed).mapEmpty();
+    }
+
+    @Override
+    public void close(Handler<AsyncResult<Void>> handler) {
+        close().onComplete(handler);
+    }
+
+    private final class Replica {
+
+        private final String url;
+        private final Pool pool;
+        private volatile long excludedUntil;
+        private volatile boolean excluded;
+
+        private Replica(String url, Pool pool) {
+            this.url = url;
+            this.pool = pool;
+        }
+
+        private boolean isExcluded() {
+            if (excluded && System.nanoTime() - excludedUntil >= 0) {
+                excluded = false;
+                log.infov("Read replica {0} of reactive datasource {1} is used again", url, dataSourceName);
+            }
+            return excluded;
+        }
+
+        private void exclude(Throwable failure) {
+            excludedUntil = System.nanoTime() + exclusionTimeNanos;
+            excluded = true;
+            log.warnv(failure, "Unable to connect to read replica {0} of reactive datasource {1}, excluding it for {2}",
+                    url, dataSourceName, Duration.ofNanos(exclusionTimeNanos));
+        }
+    }
+}
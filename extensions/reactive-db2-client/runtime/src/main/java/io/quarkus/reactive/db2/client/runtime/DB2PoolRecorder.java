@@ -11,8 +11,10 @@
 import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePfxTrustOptions;
 
 import java.lang.annotation.Annotation;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -42,6 +44,7 @@
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.db2client.DB2ConnectOptions;
 import io.vertx.db2client.DB2Pool;
+import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.Utils;
 
@@ -113,11 +116,24 @@ private DB2Pool initialize(VertxInternal vertx,
         }
         PoolOptions poolOptions = toPoolOptions(eventLoopCount, dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveDB2Config);
-        DB2ConnectOptions db2ConnectOptions = toConnectOptions(dataSourceName, dataSourceRuntimeConfig,
-                dataSourceReactiveRuntimeConfig, dataSourceReactiveDB2Config);
+        DB2ConnectOptions db2ConnectOptions = toConnectOptions(dataSourceName, dataSourceReactiveRuntimeConfig.url(),
+                dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactiveDB2Config);
         Supplier<Future<DB2ConnectOptions>> databasesSupplier = toDatabasesSupplier(vertx, List.of(db2ConnectOptions),
                 dataSourceRuntimeConfig);
-        return createPool(vertx, poolOptions, db2ConnectOptions, dataSourceName, databasesSupplier, context);
+        DB2Pool pool = createPool(vertx, poolOptions, db2ConnectOptions, dataSourceName, databasesSupplier, context);
+        if (dataSourceReactiveRuntimeConfig.readReplicaUrls().isPresent()) {
+            // each read replica gets its own pool, with the options of the datasource
+            Map<String, Pool> replicas = new LinkedHashMap<>();
+            for (String url : dataSourceReactiveRuntimeConfig.readReplicaUrls().get()) {
+                DB2ConnectOptions replicaConnectOptions = toConnectOptions(dataSourceName, Optional.of(List.of(url)),
+                        dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactiveDB2Config);
+                replicas.put(url, createPool(vertx, poolOptions, replicaConnectOptions, dataSourceName,
+                        toDatabasesSupplier(vertx, List.of(replicaConnectOptions), dataSourceRuntimeConfig), context));
+            }
+            pool = new DB2ReadReplicaRoutingPool(dataSourceName, pool, replicas,
+                    dataSourceReactiveRuntimeConfig.readReplicaExclusionTime());
+        }
+        return pool;
     }
 
     private Supplier<Future<DB2ConnectOptions>> toDatabasesSupplier(Vertx vertx, List<DB2ConnectOptions> db2ConnectOptionsList,
@@ -170,13 +186,13 @@ private PoolOptions toPoolOptions(Integer eventLoopCount,
         return poolOptions;
     }
 
-    private DB2ConnectOptions toConnectOptions(String dataSourceName, DataSourceRuntimeConfig dataSourceRuntimeConfig,
-            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
+    private DB2ConnectOptions toConnectOptions(String dataSourceName, Optional<List<String>> dataSourceUrls,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig, DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveDB2Config dataSourceReactiveDB2Config) {
         DB2ConnectOptions connectOptions;
 
-        if (dataSourceReactiveRuntimeConfig.url().isPresent()) {
-            List<String> urls = dataSourceReactiveRuntimeConfig.url().get();
+        if (dataSourceUrls.isPresent()) {
+            List<String> urls = dataSourceUrls.get();
             if (urls.size() > 1) {
                 log.warn("The Reactive DB2 client does not support multiple URLs. The first one will be used, and " +
                         "others will be ignored.");
@@ -0,0 +1,35 @@
+package io.quarkus.reactive.db2.client.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.quarkus.reactive.datasource.runtime.ReadReplicaRoutingPool;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.db2client.DB2Pool;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.SqlConnection;
+
+/**
+ * The {@link ReadReplicaRoutingPool} of the {@link DB2Pool} datasources.
+ */
+class DB2ReadReplicaRoutingPool extends ReadReplicaRoutingPool implements DB2Pool {
+
+    DB2ReadReplicaRoutingPool(String dataSourceName, DB2Pool primary, Map<String, Pool> replicas, Duration exclusionTime) {
+        super(dataSourceName, primary, replicas, exclusionTime);
+    }
+
+    @Override
+    public DB2Pool connectHandler(Handler<SqlConnection> handler) {
+        super.connectHandler(handler);
+        return this;
+    }
+
+    @Override
+    public DB2Pool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+        super.connectionProvider(provider);
+        return this;
+    }
+}
@@ -11,8 +11,10 @@
 import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePfxTrustOptions;
 
 import java.lang.annotation.Annotation;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -42,6 +44,7 @@
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.mssqlclient.MSSQLConnectOptions;
 import io.vertx.mssqlclient.MSSQLPool;
+import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.Utils;
 
@@ -115,11 +118,24 @@ private MSSQLPool initialize(VertxInternal vertx,
             SyntheticCreationalContext<MSSQLPool> context) {
         PoolOptions poolOptions = toPoolOptions(eventLoopCount, dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveMSSQLConfig);
-        MSSQLConnectOptions mssqlConnectOptions = toMSSQLConnectOptions(dataSourceName, dataSourceRuntimeConfig,
-                dataSourceReactiveRuntimeConfig, dataSourceReactiveMSSQLConfig);
+        MSSQLConnectOptions mssqlConnectOptions = toMSSQLConnectOptions(dataSourceName, dataSourceReactiveRuntimeConfig.url(),
+                dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactiveMSSQLConfig);
         Supplier<Future<MSSQLConnectOptions>> databasesSupplier = toDatabasesSupplier(vertx, List.of(mssqlConnectOptions),
                 dataSourceRuntimeConfig);
-        return createPool(vertx, poolOptions, mssqlConnectOptions, dataSourceName, databasesSupplier, context);
+        MSSQLPool pool = createPool(vertx, poolOptions, mssqlConnectOptions, dataSourceName, databasesSupplier, context);
+        if (dataSourceReactiveRuntimeConfig.readReplicaUrls().isPresent()) {
+            // each read replica gets its own pool, with the options of the datasource
+            Map<String, Pool> replicas = new LinkedHashMap<>();
+            for (String url : dataSourceReactiveRuntimeConfig.readReplicaUrls().get()) {
+                MSSQLConnectOptions replicaConnectOptions = toMSSQLConnectOptions(dataSourceName, Optional.of(List.of(url)),
+                        dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactiveMSSQLConfig);
+                replicas.put(url, createPool(vertx, poolOptions, replicaConnectOptions, dataSourceName,
+                        toDatabasesSupplier(vertx, List.of(replicaConnectOptions), dataSourceRuntimeConfig), context));
+            }
+            pool = new MSSQLReadReplicaRoutingPool(dataSourceName, pool, replicas,
+                    dataSourceReactiveRuntimeConfig.readReplicaExclusionTime());
+        }
+        return pool;
     }
 
     private Supplier<Future<MSSQLConnectOptions>> toDatabasesSupplier(Vertx vertx,
@@ -173,12 +189,12 @@ private PoolOptions toPoolOptions(Integer eventLoopCount,
         return poolOptions;
     }
 
-    private MSSQLConnectOptions toMSSQLConnectOptions(String dataSourceName, DataSourceRuntimeConfig dataSourceRuntimeConfig,
-            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
+    private MSSQLConnectOptions toMSSQLConnectOptions(String dataSourceName, Optional<List<String>> dataSourceUrls,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig, DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveMSSQLConfig dataSourceReactiveMSSQLConfig) {
         MSSQLConnectOptions mssqlConnectOptions;
-        if (dataSourceReactiveRuntimeConfig.url().isPresent()) {
-            List<String> urls = dataSourceReactiveRuntimeConfig.url().get();
+        if (dataSourceUrls.isPresent()) {
+            List<String> urls = dataSourceUrls.get();
             if (urls.size() > 1) {
                 log.warn("The Reactive MSSQL client does not support multiple URLs. The first one will be used, and " +
                         "others will be ignored.");
@@ -0,0 +1,68 @@
+package io.quarkus.reactive.mysql.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.mysqlclient.MySQLPool;
+
+public class PipeliningLimitTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-pipelining-limit.properties")
+            .withApplicationRoot((jar) -> jar
+                    .addClass(DefaultMySQLPoolCreator.class)
+                    .addClass(GenericMySQLPoolCreator.class));
+
+    @Inject
+    MySQLPool defaultClient;
+
+    @Inject
+    @ReactiveDataSource("generic")
+    MySQLPool genericClient;
+
+    @Test
+    public void testMySQLLimitTakesPrecedence() {
+        // creating a query does not connect, but it makes the pool get created
+        defaultClient.query("SELECT 1");
+        assertEquals(10, DefaultMySQLPoolCreator.pipeliningLimit);
+    }
+
+    @Test
+    public void testGenericLimit() {
+        genericClient.query("SELECT 1");
+        assertEquals(3, GenericMySQLPoolCreator.pipeliningLimit);
+    }
+
+    @Singleton
+    public static class DefaultMySQLPoolCreator implements MySQLPoolCreator {
+
+        static volatile int pipeliningLimit;
+
+        @Override
+        public MySQLPool create(Input input) {
+            pipeliningLimit = input.mySQLConnectOptionsList().get(0).getPipeliningLimit();
+            return MySQLPool.pool(input.vertx(), input.mySQLConnectOptionsList(), input.poolOptions());
+        }
+    }
+
+    @Singleton
+    @ReactiveDataSource("generic")
+    public static class GenericMySQLPoolCreator implements MySQLPoolCreator {
+
+        static volatile int pipeliningLimit;
+
+        @Override
+        public MySQLPool create(Input input) {
+            pipeliningLimit = input.mySQLConnectOptionsList().get(0).getPipeliningLimit();
+            return MySQLPool.pool(input.vertx(), input.mySQLConnectOptionsList(), input.poolOptions());
+        }
+    }
+}
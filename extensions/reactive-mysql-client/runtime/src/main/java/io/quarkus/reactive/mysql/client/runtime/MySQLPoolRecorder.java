@@ -12,8 +12,10 @@
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -43,6 +45,7 @@
 import io.vertx.mysqlclient.MySQLConnectOptions;
 import io.vertx.mysqlclient.MySQLPool;
 import io.vertx.mysqlclient.SslMode;
+import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.Utils;
 
@@ -113,11 +116,26 @@ private MySQLPool initialize(VertxInternal vertx,
         }
         PoolOptions poolOptions = toPoolOptions(eventLoopCount, dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveMySQLConfig);
-        List<MySQLConnectOptions> mySQLConnectOptions = toMySQLConnectOptions(dataSourceName, dataSourceRuntimeConfig,
+        List<MySQLConnectOptions> mySQLConnectOptions = toMySQLConnectOptions(dataSourceName,
+                dataSourceReactiveRuntimeConfig.url(), dataSourceRuntimeConfig,
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveMySQLConfig);
         Supplier<Future<MySQLConnectOptions>> databasesSupplier = toDatabasesSupplier(vertx, mySQLConnectOptions,
                 dataSourceRuntimeConfig);
-        return createPool(vertx, poolOptions, mySQLConnectOptions, dataSourceName, databasesSupplier, context);
+        MySQLPool pool = createPool(vertx, poolOptions, mySQLConnectOptions, dataSourceName, databasesSupplier, context);
+        if (dataSourceReactiveRuntimeConfig.readReplicaUrls().isPresent()) {
+            // each read replica gets its own pool, with the options of the datasource
+            Map<String, Pool> replicas = new LinkedHashMap<>();
+            for (String url : dataSourceReactiveRuntimeConfig.readReplicaUrls().get()) {
+                List<MySQLConnectOptions> replicaConnectOptions = toMySQLConnectOptions(dataSourceName,
+                        Optional.of(List.of(url)),
+                        dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactiveMySQLConfig);
+                replicas.put(url, createPool(vertx, poolOptions, replicaConnectOptions, dataSourceName,
+                        toDatabasesSupplier(vertx, replicaConnectOptions, dataSourceRuntimeConfig), context));
+            }
+            pool = new MySQLReadReplicaRoutingPool(dataSourceName, pool, replicas,
+                    dataSourceReactiveRuntimeConfig.readReplicaExclusionTime());
+        }
+        return pool;
     }
 
     private Supplier<Future<MySQLConnectOptions>> toDatabasesSupplier(Vertx vertx,
@@ -176,13 +194,12 @@ private PoolOptions toPoolOptions(Integer eventLoopCount,
         return poolOptions;
     }
 
-    private List<MySQLConnectOptions> toMySQLConnectOptions(String dataSourceName,
-            DataSourceRuntimeConfig dataSourceRuntimeConfig,
-            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
+    private List<MySQLConnectOptions> toMySQLConnectOptions(String dataSourceName, Optional<List<String>> dataSourceUrls,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig, DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveMySQLConfig dataSourceReactiveMySQLConfig) {
         List<MySQLConnectOptions> mysqlConnectOptionsList = new ArrayList<>();
-        if (dataSourceReactiveRuntimeConfig.url().isPresent()) {
-            List<String> urls = dataSourceReactiveRuntimeConfig.url().get();
+        if (dataSourceUrls.isPresent()) {
+            List<String> urls = dataSourceUrls.get();
             urls.forEach(url -> {
                 // clean up the URL to make migrations easier
                 if (url.startsWith("vertx-reactive:mysql://")) {
@@ -222,6 +239,8 @@ private List<MySQLConnectOptions> toMySQLConnectOptions(String dataSourceName,
 
             if (dataSourceReactiveMySQLConfig.pipeliningLimit().isPresent()) {
                 mysqlConnectOptions.setPipeliningLimit(dataSourceReactiveMySQLConfig.pipeliningLimit().getAsInt());
+            } else if (dataSourceReactiveRuntimeConfig.pipeliningLimit().isPresent()) {
+                mysqlConnectOptions.setPipeliningLimit(dataSourceReactiveRuntimeConfig.pipeliningLimit().getAsInt());
             }
 
             dataSourceReactiveMySQLConfig.useAffectedRows().ifPresent(mysqlConnectOptions::setUseAffectedRows);
@@ -0,0 +1,35 @@
+package io.quarkus.reactive.mysql.client.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.quarkus.reactive.datasource.runtime.ReadReplicaRoutingPool;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.mysqlclient.MySQLPool;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.SqlConnection;
+
+/**
+ * The {@link ReadReplicaRoutingPool} of the {@link MySQLPool} datasources.
+ */
+class MySQLReadReplicaRoutingPool extends ReadReplicaRoutingPool implements MySQLPool {
+
+    MySQLReadReplicaRoutingPool(String dataSourceName, MySQLPool primary, Map<String, Pool> replicas, Duration exclusionTime) {
+        super(dataSourceName, primary, replicas, exclusionTime);
+    }
+
+    @Override
+    public MySQLPool connectHandler(Handler<SqlConnection> handler) {
+        super.connectHandler(handler);
+        return this;
+    }
+
+    @Override
+    public MySQLPool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+        super.connectionProvider(provider);
+        return this;
+    }
+}
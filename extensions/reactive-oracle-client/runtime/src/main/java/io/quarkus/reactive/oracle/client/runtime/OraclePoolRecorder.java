@@ -5,8 +5,10 @@
 import static io.quarkus.reactive.datasource.runtime.UnitisedTime.unitised;
 
 import java.lang.annotation.Annotation;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -36,6 +38,7 @@
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.oracleclient.OracleConnectOptions;
 import io.vertx.oracleclient.OraclePool;
+import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.Utils;
 
@@ -109,11 +112,25 @@ private OraclePool initialize(VertxInternal vertx,
         }
         PoolOptions poolOptions = toPoolOptions(eventLoopCount, dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactiveOracleConfig);
-        OracleConnectOptions oracleConnectOptions = toOracleConnectOptions(dataSourceName, dataSourceRuntimeConfig,
+        OracleConnectOptions oracleConnectOptions = toOracleConnectOptions(dataSourceName,
+                dataSourceReactiveRuntimeConfig.url(), dataSourceRuntimeConfig,
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveOracleConfig);
         Supplier<Future<OracleConnectOptions>> databasesSupplier = toDatabasesSupplier(vertx, List.of(oracleConnectOptions),
                 dataSourceRuntimeConfig);
-        return createPool(vertx, poolOptions, oracleConnectOptions, dataSourceName, databasesSupplier, context);
+        OraclePool pool = createPool(vertx, poolOptions, oracleConnectOptions, dataSourceName, databasesSupplier, context);
+        if (dataSourceReactiveRuntimeConfig.readReplicaUrls().isPresent()) {
+            // each read replica gets its own pool, with the options of the datasource
+            Map<String, Pool> replicas = new LinkedHashMap<>();
+            for (String url : dataSourceReactiveRuntimeConfig.readReplicaUrls().get()) {
+                OracleConnectOptions replicaConnectOptions = toOracleConnectOptions(dataSourceName, Optional.of(List.of(url)),
+                        dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactiveOracleConfig);
+                replicas.put(url, createPool(vertx, poolOptions, replicaConnectOptions, dataSourceName,
+                        toDatabasesSupplier(vertx, List.of(replicaConnectOptions), dataSourceRuntimeConfig), context));
+            }
+            pool = new OracleReadReplicaRoutingPool(dataSourceName, pool, replicas,
+                    dataSourceReactiveRuntimeConfig.readReplicaExclusionTime());
+        }
+        return pool;
     }
 
     private Supplier<Future<OracleConnectOptions>> toDatabasesSupplier(Vertx vertx,
@@ -167,12 +184,12 @@ private PoolOptions toPoolOptions(Integer eventLoopCount,
         return poolOptions;
     }
 
-    private OracleConnectOptions toOracleConnectOptions(String dataSourceName, DataSourceRuntimeConfig dataSourceRuntimeConfig,
-            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
+    private OracleConnectOptions toOracleConnectOptions(String dataSourceName, Optional<List<String>> dataSourceUrls,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig, DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactiveOracleConfig dataSourceReactiveOracleConfig) {
         OracleConnectOptions oracleConnectOptions;
-        if (dataSourceReactiveRuntimeConfig.url().isPresent()) {
-            List<String> urls = dataSourceReactiveRuntimeConfig.url().get();
+        if (dataSourceUrls.isPresent()) {
+            List<String> urls = dataSourceUrls.get();
             if (urls.size() > 1) {
                 log.warn("The Reactive Oracle client does not support multiple URLs. The first one will be used, and " +
                         "others will be ignored.");
@@ -0,0 +1,36 @@
+package io.quarkus.reactive.oracle.client.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.quarkus.reactive.datasource.runtime.ReadReplicaRoutingPool;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.oracleclient.OraclePool;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.SqlConnection;
+
+/**
+ * The {@link ReadReplicaRoutingPool} of the {@link OraclePool} datasources.
+ */
+class OracleReadReplicaRoutingPool extends ReadReplicaRoutingPool implements OraclePool {
+
+    OracleReadReplicaRoutingPool(String dataSourceName, OraclePool primary, Map<String, Pool> replicas,
+            Duration exclusionTime) {
+        super(dataSourceName, primary, replicas, exclusionTime);
+    }
+
+    @Override
+    public OraclePool connectHandler(Handler<SqlConnection> handler) {
+        super.connectHandler(handler);
+        return this;
+    }
+
+    @Override
+    public OraclePool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+        super.connectionProvider(provider);
+        return this;
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkus.reactive.pg.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.pgclient.PgPool;
+
+public class PipeliningLimitTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-pipelining-limit.properties")
+            .withApplicationRoot((jar) -> jar
+                    .addClass(DefaultPgPoolCreator.class)
+                    .addClass(GenericPgPoolCreator.class));
+
+    @Inject
+    PgPool defaultClient;
+
+    @Inject
+    @ReactiveDataSource("generic")
+    PgPool genericClient;
+
+    @Test
+    public void testPostgreSQLLimitTakesPrecedence() {
+        // creating a query does not connect, but it makes the pool get created
+        defaultClient.query("SELECT 1");
+        assertEquals(10, DefaultPgPoolCreator.pipeliningLimit);
+    }
+
+    @Test
+    public void testGenericLimit() {
+        genericClient.query("SELECT 1");
+        assertEquals(3, GenericPgPoolCreator.pipeliningLimit);
+    }
+
+    @Singleton
+    public static class DefaultPgPoolCreator implements PgPoolCreator {
+
+        static volatile int pipeliningLimit;
+
+        @Override
+        public PgPool create(Input input) {
+            pipeliningLimit = input.pgConnectOptionsList().get(0).getPipeliningLimit();
+            return PgPool.pool(input.vertx(), input.pgConnectOptionsList(), input.poolOptions());
+        }
+    }
+
+    @Singleton
+    @ReactiveDataSource("generic")
+    public static class GenericPgPoolCreator implements PgPoolCreator {
+
+        static volatile int pipeliningLimit;
+
+        @Override
+        public PgPool create(Input input) {
+            pipeliningLimit = input.pgConnectOptionsList().get(0).getPipeliningLimit();
+            return PgPool.pool(input.vertx(), input.pgConnectOptionsList(), input.poolOptions());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.quarkus.reactive.pg.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.reactive.datasource.ReadOnly;
+import io.quarkus.reactive.datasource.runtime.ReadReplicaRoutingPool;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.VertxContextSupport;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.pgclient.PgPool;
+
+public class ReadReplicaExclusionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-read-replica-exclusion.properties")
+            .withApplicationRoot((jar) -> jar
+                    .addClass(ApplicationNames.class));
+
+    @Inject
+    ApplicationNames applicationNames;
+
+    @Inject
+    io.vertx.pgclient.PgPool pool;
+
+    @Test
+    public void testUnreachableReplicaIsExcluded() throws Throwable {
+        // the first replica does not accept connections, the call moves to the second one
+        assertEquals("replica", VertxContextSupport.subscribeAndAwait(() -> applicationNames.connection()));
+        assertEquals(List.of("vertx-reactive:postgresql://localhost:5499/hibernate_orm_test"),
+                ((ReadReplicaRoutingPool) ClientProxy.unwrap(pool)).excludedReplicaUrls());
+        assertEquals("replica", VertxContextSupport.subscribeAndAwait(() -> applicationNames.connection()));
+    }
+
+    @ApplicationScoped
+    public static class ApplicationNames {
+
+        @Inject
+        PgPool pool;
+
+        @ReadOnly
+        public Uni<String> connection() {
+            return pool.withConnection(connection -> connection.query("SHOW application_name").execute())
+                    .map(rows -> rows.iterator().next().getString(0));
+        }
+    }
+}
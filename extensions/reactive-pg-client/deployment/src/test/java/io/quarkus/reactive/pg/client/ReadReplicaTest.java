@@ -0,0 +1,67 @@
+package io.quarkus.reactive.pg.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.reactive.datasource.ReadOnly;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.VertxContextSupport;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.pgclient.PgPool;
+
+public class ReadReplicaTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-read-replicas.properties")
+            .withApplicationRoot((jar) -> jar
+                    .addClass(ApplicationNames.class));
+
+    @Inject
+    ApplicationNames applicationNames;
+
+    @Test
+    public void testReadOnlyUsesOneReplicaPerCall() throws Throwable {
+        List<String> first = VertxContextSupport.subscribeAndAwait(() -> applicationNames.twoConnections());
+        List<String> second = VertxContextSupport.subscribeAndAwait(() -> applicationNames.twoConnections());
+        assertTrue(first.get(0).startsWith("replica"), first.toString());
+        assertEquals(first.get(0), first.get(1));
+        assertTrue(second.get(0).startsWith("replica"), second.toString());
+        assertEquals(second.get(0), second.get(1));
+        assertNotEquals(first.get(0), second.get(0));
+    }
+
+    @Test
+    public void testOtherCallsUsePrimary() throws Throwable {
+        assertEquals("primary", VertxContextSupport.subscribeAndAwait(() -> applicationNames.connection()));
+        // the read-only scope ends with the Uni of the read-only method
+        assertEquals("primary", VertxContextSupport.subscribeAndAwait(() -> applicationNames.twoConnections()
+                .chain(ignored -> applicationNames.connection())));
+    }
+
+    @ApplicationScoped
+    public static class ApplicationNames {
+
+        @Inject
+        PgPool pool;
+
+        @ReadOnly
+        public Uni<List<String>> twoConnections() {
+            return connection().chain(first -> connection().map(second -> List.of(first, second)));
+        }
+
+        public Uni<String> connection() {
+            return pool.withConnection(connection -> connection.query("SHOW application_name").execute())
+                    .map(rows -> rows.iterator().next().getString(0));
+        }
+    }
+}
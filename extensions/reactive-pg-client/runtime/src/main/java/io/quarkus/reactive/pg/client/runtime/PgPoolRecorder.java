@@ -12,8 +12,10 @@
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -42,6 +44,7 @@
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgPool;
 import io.vertx.pgclient.SslMode;
+import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.Utils;
 
@@ -112,11 +115,24 @@ private PgPool initialize(VertxInternal vertx,
         }
         PoolOptions poolOptions = toPoolOptions(eventLoopCount, dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactivePostgreSQLConfig);
-        List<PgConnectOptions> pgConnectOptionsList = toPgConnectOptions(dataSourceName, dataSourceRuntimeConfig,
-                dataSourceReactiveRuntimeConfig, dataSourceReactivePostgreSQLConfig);
+        List<PgConnectOptions> pgConnectOptionsList = toPgConnectOptions(dataSourceName, dataSourceReactiveRuntimeConfig.url(),
+                dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactivePostgreSQLConfig);
         Supplier<Future<PgConnectOptions>> databasesSupplier = toDatabasesSupplier(vertx, pgConnectOptionsList,
                 dataSourceRuntimeConfig);
-        return createPool(vertx, poolOptions, pgConnectOptionsList, dataSourceName, databasesSupplier, context);
+        PgPool pool = createPool(vertx, poolOptions, pgConnectOptionsList, dataSourceName, databasesSupplier, context);
+        if (dataSourceReactiveRuntimeConfig.readReplicaUrls().isPresent()) {
+            // each read replica gets its own pool, with the options of the datasource
+            Map<String, Pool> replicas = new LinkedHashMap<>();
+            for (String url : dataSourceReactiveRuntimeConfig.readReplicaUrls().get()) {
+                List<PgConnectOptions> replicaConnectOptions = toPgConnectOptions(dataSourceName, Optional.of(List.of(url)),
+                        dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, dataSourceReactivePostgreSQLConfig);
+                replicas.put(url, createPool(vertx, poolOptions, replicaConnectOptions, dataSourceName,
+                        toDatabasesSupplier(vertx, replicaConnectOptions, dataSourceRuntimeConfig), context));
+            }
+            pool = new PgReadReplicaRoutingPool(dataSourceName, pool, replicas,
+                    dataSourceReactiveRuntimeConfig.readReplicaExclusionTime());
+        }
+        return pool;
     }
 
     private Supplier<Future<PgConnectOptions>> toDatabasesSupplier(Vertx vertx, List<PgConnectOptions> pgConnectOptionsList,
@@ -169,13 +185,13 @@ private PoolOptions toPoolOptions(Integer eventLoopCount,
         return poolOptions;
     }
 
-    private List<PgConnectOptions> toPgConnectOptions(String dataSourceName, DataSourceRuntimeConfig dataSourceRuntimeConfig,
-            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
+    private List<PgConnectOptions> toPgConnectOptions(String dataSourceName, Optional<List<String>> dataSourceUrls,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig, DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig) {
         List<PgConnectOptions> pgConnectOptionsList = new ArrayList<>();
 
-        if (dataSourceReactiveRuntimeConfig.url().isPresent()) {
-            List<String> urls = dataSourceReactiveRuntimeConfig.url().get();
+        if (dataSourceUrls.isPresent()) {
+            List<String> urls = dataSourceUrls.get();
             urls.forEach(url -> {
                 // clean up the URL to make migrations easier
                 if (url.matches("^vertx-reactive:postgre(?:s|sql)://.*$")) {
@@ -212,6 +228,8 @@ private List<PgConnectOptions> toPgConnectOptions(String dataSourceName, DataSou
 
             if (dataSourceReactivePostgreSQLConfig.pipeliningLimit().isPresent()) {
                 pgConnectOptions.setPipeliningLimit(dataSourceReactivePostgreSQLConfig.pipeliningLimit().getAsInt());
+            } else if (dataSourceReactiveRuntimeConfig.pipeliningLimit().isPresent()) {
+                pgConnectOptions.setPipeliningLimit(dataSourceReactiveRuntimeConfig.pipeliningLimit().getAsInt());
             }
 
             if (dataSourceReactivePostgreSQLConfig.sslMode().isPresent()) {
@@ -19,4 +19,17 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a JAX-RS resource method is rendered
+     * directly into the HTTP response buffers instead of being rendered into a {@link String} first. The output is flushed
+     * once the size of the buffer exceeds {@code quarkus.rest.output-buffer-size}, so that large pages are streamed to the
+     * client.
+     * <p>
+     * Note that the response is committed once the first buffer is flushed, i.e. if the rendering fails afterwards then the
+     * error cannot be reflected in the response status. Moreover, a template instance wrapped in a
+     * {@link jakarta.ws.rs.core.Response} is always rendered into a {@link String}.
+     */
+    @WithDefault("false")
+    boolean streaming();
+
 }
@@ -0,0 +1,61 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TemplateInstanceStreamingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("quarkus.rest.qute.streaming=true\n"
+                            + "quarkus.rest.output-buffer-size=64"),
+                            "application.properties")
+                    .addAsResource(new StringAsset("{#for i in total}Hi {name}!{/for}"), "templates/item.txt"));
+
+    @Test
+    public void testSingleBuffer() {
+        when().get("/test?total=2").then()
+                .statusCode(200)
+                .contentType(Matchers.startsWith(MediaType.TEXT_PLAIN))
+                .header("Content-Length", "14")
+                .body(Matchers.is("Hi Joe!Hi Joe!"));
+    }
+
+    @Test
+    public void testChunked() {
+        when().get("/test?total=100").then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body(Matchers.is("Hi Joe!".repeat(100)));
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template item;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance get(@QueryParam("total") int total) {
+            return item.data("name", "Joe", "total", total);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxBufferImpl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.quarkus.arc.Arc;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Utf8Consumer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Renders a {@link TemplateInstance} directly into the HTTP response.
+ * <p>
+ * The static text of the template is written as pre-encoded UTF-8 bytes and other chunks are encoded directly into a pooled
+ * buffer. The buffer is flushed once its size exceeds the configured output buffer size, i.e.
+ * {@code quarkus.rest.output-buffer-size}. If the whole output fits into a single buffer then the response is not chunked.
+ * <p>
+ * If the write queue of the response is full after a buffer is flushed, i.e. the client does not consume the data fast enough,
+ * then the rendering is paused until the queue is drained. This is only possible if the rendering does not run on an event
+ * loop thread, e.g. for a {@code @Blocking} resource method. Otherwise the flushed buffers are queued by Vert.x.
+ * <p>
+ * Note that the response is committed once the first buffer is flushed. If the rendering fails afterwards then the error can
+ * no longer be reflected in the response status.
+ */
+public class TemplateInstanceMessageBodyWriter implements ServerMessageBodyWriter<TemplateInstance> {
+
+    private volatile Engine engine;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeResponse(TemplateInstance instance, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ResteasyReactiveRequestContext requestContext = (ResteasyReactiveRequestContext) context;
+        HttpServerResponse response = requestContext.unwrap(HttpServerResponse.class);
+        if (response == null) {
+            // Not a Vert.x response - render the template as usual
+            requestContext.suspend();
+            Util.toUni(instance, engine()).subscribe().with(r -> {
+                context.serverResponse().end(r);
+                requestContext.resume();
+            }, requestContext::resume);
+            return;
+        }
+        requestContext.suspend();
+        ResponseOutput output = new ResponseOutput(response,
+                requestContext.getDeployment().getResteasyReactiveConfig().getOutputBufferSize());
+        CompletionStage<Void> rendered;
+        try {
+            rendered = instance.consume(output);
+        } catch (Throwable e) {
+            output.discard();
+            requestContext.resume(e);
+            return;
+        }
+        Engine engine = engine();
+        if (!engine.useAsyncTimeout()) {
+            // Make sure the timeout is always used
+            rendered = rendered.toCompletableFuture().orTimeout(instance.getTimeout(), TimeUnit.MILLISECONDS);
+        }
+        rendered.whenComplete((r, t) -> {
+            if (t == null) {
+                output.end();
+                requestContext.resume();
+            } else {
+                output.discard();
+                if (t instanceof CompletionException && t.getCause() != null) {
+                    t = t.getCause();
+                }
+                if (t instanceof TimeoutException) {
+                    t = new TemplateException(
+                            instance + " rendering timeout [" + instance.getTimeout() + "ms] occurred");
+                }
+                requestContext.resume(t);
+            }
+        });
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        entityStream.write(instance.render().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Engine engine() {
+        if (engine == null) {
+            synchronized (this) {
+                if (engine == null) {
+                    engine = Arc.container().instance(Engine.class).get();
+                }
+            }
+        }
+        return engine;
+    }
+
+    static final class ResponseOutput implements Utf8Consumer {
+
+        // The closed connection is detected while waiting for the drain handler
+        private static final long DRAIN_CHECK_INTERVAL = 500;
+
+        private final HttpServerResponse response;
+        private final int flushThreshold;
+        // A lock instead of synchronized so that a virtual thread waiting for the drain handler does not pin its carrier
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition drained = lock.newCondition();
+        private ByteBuf buffer;
+        private boolean done;
+
+        ResponseOutput(HttpServerResponse response, int flushThreshold) {
+            this.response = response;
+            this.flushThreshold = flushThreshold;
+        }
+
+        @Override
+        public void accept(String value) {
+            lock.lock();
+            try {
+                ByteBufUtil.writeUtf8(buffer(), value);
+                flushIfNeeded();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void acceptUtf8(byte[] value) {
+            lock.lock();
+            try {
+                buffer().writeBytes(value);
+                flushIfNeeded();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void end() {
+            lock.lock();
+            try {
+                if (done) {
+                    return;
+                }
+                done = true;
+                if (buffer != null) {
+                    response.end(new VertxBufferImpl(buffer), null);
+                    buffer = null;
+                } else {
+                    response.end((Handler<AsyncResult<Void>>) null);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void discard() {
+            lock.lock();
+            try {
+                done = true;
+                if (buffer != null) {
+                    buffer.release();
+                    buffer = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private ByteBuf buffer() {
+            if (done) {
+                throw new IllegalStateException("Rendering already finished");
+            }
+            if (buffer == null) {
+                buffer = PooledByteBufAllocator.DEFAULT.directBuffer(flushThreshold);
+            }
+            return buffer;
+        }
+
+        private void flushIfNeeded() {
+            if (buffer.readableBytes() >= flushThreshold) {
+                if (!response.isChunked() && !response.headWritten()) {
+                    response.setChunked(true);
+                }
+                response.write(new VertxBufferImpl(buffer), null);
+                buffer = null;
+                if (response.writeQueueFull() && !Context.isOnEventLoopThread()) {
+                    awaitDrain();
+                }
+            }
+        }
+
+        private void awaitDrain() {
+            response.drainHandler(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    lock.lock();
+                    try {
+                        drained.signalAll();
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            });
+            try {
+                while (response.writeQueueFull() && !response.closed()) {
+                    drained.await(DRAIN_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the response to be drained", e);
+            } finally {
+                response.drainHandler(null);
+            }
+        }
+
+    }
+
+}
@@ -16,6 +16,22 @@
 public class TemplateResponseUniHandler implements ServerRestHandler {
 
     private volatile Engine engine;
+    private boolean streaming;
+
+    public TemplateResponseUniHandler() {
+    }
+
+    public TemplateResponseUniHandler(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
@@ -26,6 +42,13 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
 
         requestContext.requireCDIRequestScope();
 
+        if (streaming) {
+            // The template instance is rendered directly into the response by TemplateInstanceMessageBodyWriter
+            requestContext.setResponseContentType(setSelectedVariant((TemplateInstance) result, requestContext.getRequest(),
+                    requestContext.getHttpHeaders().getAcceptableLanguages()));
+            return;
+        }
+
         if (engine == null) {
             synchronized (this) {
                 if (engine == null) {
@@ -18,9 +18,11 @@
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.resteasy.reactive.server.runtime.observability.ObservabilityCustomizer;
 import io.quarkus.resteasy.reactive.server.runtime.observability.ObservabilityIntegrationRecorder;
+import io.quarkus.resteasy.reactive.server.runtime.observability.RequestTimingCustomizer;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 
 public class ObservabilityProcessor {
 
@@ -40,6 +42,20 @@ public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndp
         });
     }
 
+    @BuildStep
+    MethodScannerBuildItem requestTimingMethodScanner(HttpBuildTimeConfig httpBuildTimeConfig) {
+        if (!httpBuildTimeConfig.requestTiming.enabled) {
+            return null;
+        }
+        return new MethodScannerBuildItem(new MethodScanner() {
+            @Override
+            public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+                    Map<String, Object> methodContext) {
+                return Collections.singletonList(new RequestTimingCustomizer());
+            }
+        });
+    }
+
     @BuildStep
     @Record(value = ExecutionTime.STATIC_INIT)
     FilterBuildItem preAuthFailureFilter(Capabilities capabilities,
@@ -0,0 +1,62 @@
+package io.quarkus.resteasy.reactive.server.test.headers;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.jboss.resteasy.reactive.RestQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.Blocking;
+
+public class ServerTimingTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(TestResource.class))
+            .overrideConfigKey("quarkus.http.request-timing.enabled", "true")
+            .overrideConfigKey("quarkus.http.request-timing.server-timing-header", "true");
+
+    @Test
+    void testNonBlocking() {
+        String serverTiming = when().get("/timing/fast")
+                .then()
+                .statusCode(200)
+                .extract().header("Server-Timing");
+        assertThat(serverTiming).contains("route;dur=", "params;dur=", "invoke;dur=", "serialize;dur=", "total;dur=");
+    }
+
+    @Test
+    void testBlocking() {
+        String serverTiming = when().get("/timing/slow/1?sleep=50")
+                .then()
+                .statusCode(200)
+                .extract().header("Server-Timing");
+        assertThat(serverTiming).contains("route;dur=", "dispatch;dur=", "invoke;dur=", "total;dur=");
+        String invoke = serverTiming.replaceAll(".*invoke;dur=([0-9.]+).*", "$1");
+        assertThat(Double.parseDouble(invoke)).isGreaterThanOrEqualTo(50);
+    }
+
+    @Path("timing")
+    public static class TestResource {
+
+        @GET
+        @Path("fast")
+        public String fast() {
+            return "fast";
+        }
+
+        @Blocking
+        @GET
+        @Path("slow/{id}")
+        public String slow(@PathParam("id") String id, @RestQuery long sleep) throws InterruptedException {
+            Thread.sleep(sleep);
+            return id;
+        }
+    }
+}
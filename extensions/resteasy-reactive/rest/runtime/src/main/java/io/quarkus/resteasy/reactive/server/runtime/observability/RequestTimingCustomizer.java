@@ -0,0 +1,45 @@
+package io.quarkus.resteasy.reactive.server.runtime.observability;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.resteasy.reactive.common.model.ResourceClass;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.vertx.http.runtime.timing.RequestTimings;
+
+public class RequestTimingCustomizer implements HandlerChainCustomizer {
+    @Override
+    public List<ServerRestHandler> handlers(Phase phase, ResourceClass resourceClass,
+            ServerResourceMethod serverResourceMethod) {
+        switch (phase) {
+            case AFTER_MATCH:
+                String basePath = resourceClass.getPath();
+                RequestTimingPhaseHandler matched = new RequestTimingPhaseHandler();
+                matched.setPhase(RequestTimings.Phase.MATCHED);
+                if (basePath == null) {
+                    matched.setTemplatePath(serverResourceMethod.getPath());
+                    matched.setSubResource(true);
+                } else {
+                    matched.setTemplatePath(basePath + serverResourceMethod.getPath());
+                }
+                return Collections.singletonList(matched);
+            case RESOLVE_METHOD_PARAMETERS:
+                return handler(RequestTimings.Phase.DISPATCHED);
+            case BEFORE_METHOD_INVOKE:
+                return handler(RequestTimings.Phase.INVOCATION_STARTED);
+            case AFTER_METHOD_INVOKE:
+                return handler(RequestTimings.Phase.INVOCATION_ENDED);
+            default:
+                return Collections.emptyList();
+        }
+    }
+
+    private static List<ServerRestHandler> handler(RequestTimings.Phase phase) {
+        RequestTimingPhaseHandler handler = new RequestTimingPhaseHandler();
+        handler.setPhase(phase);
+        return Collections.singletonList(handler);
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkus.resteasy.reactive.server.runtime.observability;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.vertx.http.runtime.timing.RequestTimings;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Marks a phase of the request in the {@link RequestTimings} attached to the request.
+ */
+public class RequestTimingPhaseHandler implements ServerRestHandler {
+
+    // make mutable to allow for bytecode serialization
+    private RequestTimings.Phase phase;
+
+    private String templatePath;
+
+    private boolean isSubResource;
+
+    public RequestTimings.Phase getPhase() {
+        return phase;
+    }
+
+    public void setPhase(RequestTimings.Phase phase) {
+        this.phase = phase;
+    }
+
+    public String getTemplatePath() {
+        return templatePath;
+    }
+
+    public void setTemplatePath(String templatePath) {
+        this.templatePath = templatePath == null ? null
+                : ObservabilityHandler.MULTIPLE_SLASH_PATTERN.matcher(templatePath).replaceAll("/");
+    }
+
+    public boolean isSubResource() {
+        return isSubResource;
+    }
+
+    public void setSubResource(boolean subResource) {
+        isSubResource = subResource;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        RoutingContext routingContext = requestContext.unwrap(RoutingContext.class);
+        if (routingContext == null) {
+            return;
+        }
+        RequestTimings timings = routingContext.get(RequestTimings.CONTEXT_KEY);
+        if (timings == null) {
+            return;
+        }
+        timings.mark(phase);
+        if (templatePath != null) {
+            if (isSubResource && timings.getRoute() != null) {
+                timings.setRoute(timings.getRoute() + templatePath);
+            } else {
+                timings.setRoute(templatePath);
+            }
+        }
+    }
+
+}
@@ -34,6 +34,7 @@
 import java.util.function.Predicate;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Singleton;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
@@ -54,6 +55,7 @@
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.BuildExtension;
 import io.quarkus.arc.processor.ObserverInfo;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -72,6 +74,8 @@
 import io.quarkus.deployment.builditem.nativeimage.NativeImageSecurityProviderBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeReinitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.gizmo.CatchBlockCreator;
@@ -86,6 +90,8 @@
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.security.deployment.PermissionSecurityChecks.PermissionSecurityChecksBuilder;
+import io.quarkus.security.runtime.IdentityCache;
+import io.quarkus.security.runtime.IdentityCacheRecorder;
 import io.quarkus.security.runtime.IdentityProviderManagerCreator;
 import io.quarkus.security.runtime.QuarkusSecurityRolesAllowedConfigBuilder;
 import io.quarkus.security.runtime.SecurityBuildTimeConfig;
@@ -117,6 +123,7 @@ public class SecurityProcessor {
 
     private static final Logger log = Logger.getLogger(SecurityProcessor.class);
     private static final DotName STARTUP_EVENT_NAME = DotName.createSimple(StartupEvent.class.getName());
+    private static final String CAFFEINE_CLASS_NAME = "com.github.benmanes.caffeine.cache.Caffeine";
 
     SecurityConfig security;
 
@@ -852,6 +859,30 @@ AdditionalBeanBuildItem authorizationController(LaunchModeBuildItem launchMode)
         return AdditionalBeanBuildItem.builder().addBeanClass(controllerClass).build();
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void identityCache(SecurityBuildTimeConfig config, IdentityCacheRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, BuildProducer<SyntheticBeanBuildItem> syntheticBeans,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (!config.identityCache().enabled()) {
+            return;
+        }
+        if (!QuarkusClassLoader.isClassPresentAtRuntime(CAFFEINE_CLASS_NAME)) {
+            throw new ConfigurationException("The identity cache enabled with 'quarkus.security.identity-cache.enabled'"
+                    + " requires the quarkus-caffeine extension, add it to the dependencies of the application");
+        }
+        RuntimeValue<IdentityCache> identityCache = recorder.createIdentityCache();
+        syntheticBeans.produce(SyntheticBeanBuildItem.configure(IdentityCache.class)
+                .scope(Singleton.class)
+                .unremovable()
+                .setRuntimeInit()
+                .runtimeValue(identityCache)
+                .done());
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics(identityCache)));
+        }
+    }
+
     @BuildStep
     void validateStartUpObserversNotSecured(SynthesisFinishedBuildItem synthesisFinished,
             ValidationPhaseBuildItem validationPhase,
@@ -0,0 +1,27 @@
+package io.quarkus.security.test.cache;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.runtime.IdentityCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class IdentityCacheDisabledTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest();
+
+    @Inject
+    Instance<IdentityCache> identityCache;
+
+    @Test
+    public void testNoIdentityCacheBean() {
+        assertTrue(identityCache.isUnsatisfied());
+    }
+
+}
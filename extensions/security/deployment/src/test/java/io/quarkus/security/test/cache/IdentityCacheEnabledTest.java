@@ -0,0 +1,30 @@
+package io.quarkus.security.test.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.runtime.IdentityCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class IdentityCacheEnabledTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.security.identity-cache.enabled", "true");
+
+    @Inject
+    Instance<IdentityCache> identityCache;
+
+    @Test
+    public void testIdentityCacheBean() {
+        assertTrue(identityCache.isResolvable());
+        assertEquals(0, identityCache.get().size());
+    }
+
+}
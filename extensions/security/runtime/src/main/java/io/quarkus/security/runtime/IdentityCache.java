@@ -0,0 +1,147 @@
+package io.quarkus.security.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+
+/**
+ * A bounded and time-limited cache of identities created for successful {@link UsernamePasswordAuthenticationRequest}s,
+ * backed by Caffeine. When the cache is full, Caffeine's W-TinyLFU policy decides which identity is evicted, based on how
+ * frequently and how recently the identities were used.
+ * <p>
+ * The cache key is a salted SHA-256 hash of the username and the password, the password itself is never stored. The salt is
+ * generated randomly for every cache instance. Failed verifications are not cached.
+ * <p>
+ * The cache is only used by the {@link io.quarkus.security.identity.IdentityProviderManager} if
+ * {@code quarkus.security.identity-cache.enabled=true}, which requires the {@code quarkus-caffeine} extension. The identities
+ * of a specific user should be invalidated if the user's
+ * password or roles change.
+ */
+public class IdentityCache {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private final Cache<String, Entry> entries;
+    private final byte[] salt;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public IdentityCache(int maxSize, Duration timeToLive) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The max size of the identity cache must be greater than zero: " + maxSize);
+        }
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(timeToLive)
+                // evict and expire on the calling thread rather than on the common pool
+                .executor(Runnable::run)
+                .evictionListener(new RemovalListener<String, Entry>() {
+                    @Override
+                    public void onRemoval(String key, Entry value, RemovalCause cause) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+        this.salt = new byte[32];
+        new SecureRandom().nextBytes(salt);
+    }
+
+    /**
+     * Removes all cached identities of the specified user.
+     *
+     * @param username
+     */
+    public void invalidate(String username) {
+        entries.asMap().values().removeIf(e -> e.username.equals(username));
+    }
+
+    /**
+     * Removes all cached identities.
+     */
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    /**
+     *
+     * @return the approximate number of cached identities
+     */
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    String key(UsernamePasswordAuthenticationRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(salt);
+        digest.update(request.getUsername().getBytes(StandardCharsets.UTF_8));
+        // Separate the username from the password
+        digest.update((byte) 0);
+        ByteBuffer password = StandardCharsets.UTF_8.encode(CharBuffer.wrap(request.getPassword().getPassword()));
+        digest.update(password.duplicate());
+        if (password.hasArray()) {
+            Arrays.fill(password.array(), (byte) 0);
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    SecurityIdentity get(String key) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.identity;
+    }
+
+    void put(String key, String username, SecurityIdentity identity) {
+        entries.put(key, new Entry(username, identity));
+    }
+
+    private static final class Entry {
+
+        final String username;
+        final SecurityIdentity identity;
+
+        Entry(String username, SecurityIdentity identity) {
+            this.username = username;
+            this.identity = identity;
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.quarkus.security.runtime;
+
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.config.SmallRyeConfig;
+
+@Recorder
+public class IdentityCacheRecorder {
+
+    public RuntimeValue<IdentityCache> createIdentityCache() {
+        SecurityConfig config = ConfigProvider.getConfig().unwrap(SmallRyeConfig.class)
+                .getConfigMapping(SecurityConfig.class);
+        return new RuntimeValue<>(
+                new IdentityCache(config.identityCache().maxSize(), config.identityCache().timeToLive()));
+    }
+
+    public Consumer<MetricsFactory> registerMetrics(RuntimeValue<IdentityCache> identityCache) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                IdentityCache cache = identityCache.getValue();
+                metricsFactory.builder("security.identity.cache.requests")
+                        .description("Number of identity cache lookups")
+                        .tag("result", "hit")
+                        .buildCounter(cache::getHitCount);
+                metricsFactory.builder("security.identity.cache.requests")
+                        .description("Number of identity cache lookups")
+                        .tag("result", "miss")
+                        .buildCounter(cache::getMissCount);
+                metricsFactory.builder("security.identity.cache.evictions")
+                        .description("Number of identities evicted from the identity cache")
+                        .buildCounter(cache::getEvictionCount);
+                metricsFactory.builder("security.identity.cache.size")
+                        .description("Number of cached identities")
+                        .buildGauge(cache::size);
+            }
+        };
+    }
+
+}
@@ -31,6 +31,12 @@ public class IdentityProviderManagerCreator {
     @Inject
     BlockingSecurityExecutor blockingExecutor;
 
+    /**
+     * Only available if {@code quarkus.security.identity-cache.enabled=true}.
+     */
+    @Inject
+    Instance<IdentityCache> identityCache;
+
     @ApplicationScoped
     @DefaultBean
     @Produces
@@ -61,6 +67,9 @@ public IdentityProviderManager ipm() {
             builder.addSecurityIdentityAugmentor(i);
         }
         builder.setBlockingExecutor(blockingExecutor);
+        if (identityCache.isResolvable()) {
+            builder.setIdentityCache(identityCache.get());
+        }
         return builder.build();
     }
 
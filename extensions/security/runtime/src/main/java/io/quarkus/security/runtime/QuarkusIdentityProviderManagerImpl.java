@@ -8,6 +8,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -21,6 +22,7 @@
 import io.quarkus.security.identity.SecurityIdentityAugmentor;
 import io.quarkus.security.identity.request.AnonymousAuthenticationRequest;
 import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
 import io.quarkus.security.spi.runtime.BlockingSecurityExecutor;
 import io.smallrye.mutiny.Uni;
 
@@ -33,9 +35,11 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers;
     private final SecurityIdentityAugmentor[] augmenters;
     private final AuthenticationRequestContext blockingRequestContext;
+    private final IdentityCache identityCache;
 
     QuarkusIdentityProviderManagerImpl(Builder builder) {
         this.providers = builder.providers;
+        this.identityCache = builder.identityCache;
         this.augmenters = builder.augmentors.toArray(SecurityIdentityAugmentor[]::new);
         this.blockingRequestContext = new AuthenticationRequestContext() {
             @Override
@@ -61,6 +65,9 @@ public Uni<SecurityIdentity> authenticate(AuthenticationRequest request) {
                 return Uni.createFrom().failure(new IllegalArgumentException(
                         "No IdentityProviders were registered to handle AuthenticationRequest " + request));
             }
+            if (identityCache != null && request instanceof UsernamePasswordAuthenticationRequest) {
+                return handleCachedProviders((List) providers, (UsernamePasswordAuthenticationRequest) request);
+            }
             if (providers.size() == 1) {
                 return handleSingleProvider(providers.get(0), request);
             }
@@ -106,9 +113,65 @@ public SecurityIdentity authenticateBlocking(AuthenticationRequest request) {
             throw new IllegalArgumentException(
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request);
         }
+        if (identityCache != null && request instanceof UsernamePasswordAuthenticationRequest) {
+            return (SecurityIdentity) handleCachedProviders((List) providers, (UsernamePasswordAuthenticationRequest) request)
+                    .await().indefinitely();
+        }
         return (SecurityIdentity) handleProvider(0, (List) providers, request).await().indefinitely();
     }
 
+    private Uni<SecurityIdentity> handleCachedProviders(List<IdentityProvider<UsernamePasswordAuthenticationRequest>> providers,
+            UsernamePasswordAuthenticationRequest request) {
+        // the key is computed and the cache is checked when the returned Uni is subscribed to
+        Uni<SecurityIdentity> authenticated = Uni.createFrom().deferred(new Supplier<Uni<? extends SecurityIdentity>>() {
+            @Override
+            public Uni<? extends SecurityIdentity> get() {
+                String key = identityCache.key(request);
+                SecurityIdentity cached = identityCache.get(key);
+                if (cached != null) {
+                    return Uni.createFrom().item(cached);
+                }
+                return handleProviderWithoutAugmentation(0, providers, request)
+                        .onItem().invoke(new Consumer<SecurityIdentity>() {
+                            @Override
+                            public void accept(SecurityIdentity securityIdentity) {
+                                identityCache.put(key, request.getUsername(), securityIdentity);
+                            }
+                        });
+            }
+        });
+        if (augmenters.length > 0) {
+            // the augmented identity is not cached as the augmentation may depend on the request attributes
+            authenticated = authenticated
+                    .flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
+                        @Override
+                        public Uni<? extends SecurityIdentity> apply(SecurityIdentity securityIdentity) {
+                            return handleIdentityFromProvider(0, securityIdentity, request.getAttributes());
+                        }
+                    });
+        }
+        return authenticated;
+    }
+
+    private <T extends AuthenticationRequest> Uni<SecurityIdentity> handleProviderWithoutAugmentation(int pos,
+            List<IdentityProvider<T>> providers, T request) {
+        if (pos == providers.size()) {
+            //we failed to authentication
+            log.debug("Authentication failed as providers would authenticate the request");
+            return Uni.createFrom().failure(new AuthenticationFailedException());
+        }
+        return providers.get(pos).authenticate(request, blockingRequestContext)
+                .onItem().transformToUni(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
+                    @Override
+                    public Uni<SecurityIdentity> apply(SecurityIdentity securityIdentity) {
+                        if (securityIdentity != null) {
+                            return Uni.createFrom().item(securityIdentity);
+                        }
+                        return handleProviderWithoutAugmentation(pos + 1, providers, request);
+                    }
+                });
+    }
+
     private <T extends AuthenticationRequest> Uni<SecurityIdentity> handleProvider(int pos,
             List<IdentityProvider<T>> providers, T request) {
         if (pos == providers.size()) {
@@ -170,6 +233,7 @@ public static class Builder {
         private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers = new HashMap<>();
         private final List<SecurityIdentityAugmentor> augmentors = new ArrayList<>();
         private BlockingSecurityExecutor blockingExecutor;
+        private IdentityCache identityCache;
         private boolean built = false;
 
         /**
@@ -215,6 +279,15 @@ public Builder setBlockingExecutor(Executor blockingExecutor) {
             return this;
         }
 
+        /**
+         * @param identityCache The cache of identities created for {@link UsernamePasswordAuthenticationRequest}s
+         * @return this builder
+         */
+        public Builder setIdentityCache(IdentityCache identityCache) {
+            this.identityCache = identityCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
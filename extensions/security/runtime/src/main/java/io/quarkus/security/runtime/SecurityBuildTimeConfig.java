@@ -34,4 +34,24 @@ public interface SecurityBuildTimeConfig {
     @WithDefault("false")
     boolean denyUnannotated();
 
+    /**
+     * Identity cache configuration.
+     */
+    IdentityCacheBuildTimeConfig identityCache();
+
+    interface IdentityCacheBuildTimeConfig {
+
+        /**
+         * Whether the identities created for successful username and password verifications should be cached.
+         * If enabled, repeated requests with the same credentials do not verify the password again until the cached
+         * identity expires. Use {@link IdentityCache#invalidate(String)} to remove the identities of a user whose
+         * password or roles have changed.
+         * <p>
+         * The cache requires the {@code quarkus-caffeine} extension.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+    }
+
 }
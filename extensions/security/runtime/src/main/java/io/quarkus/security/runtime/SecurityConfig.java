@@ -1,5 +1,7 @@
 package io.quarkus.security.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -17,6 +19,11 @@ public interface SecurityConfig {
      */
     SecurityEventsConfig events();
 
+    /**
+     * Identity cache configuration.
+     */
+    IdentityCacheConfig identityCache();
+
     interface SecurityEventsConfig {
 
         /**
@@ -27,4 +34,25 @@ interface SecurityEventsConfig {
 
     }
 
+    /**
+     * The identity cache is enabled with {@code quarkus.security.identity-cache.enabled}, see
+     * {@link SecurityBuildTimeConfig.IdentityCacheBuildTimeConfig#enabled()}.
+     */
+    interface IdentityCacheConfig {
+
+        /**
+         * The maximum number of cached identities. When the cache is full, the identities that are used the least
+         * frequently and recently are evicted first.
+         */
+        @WithDefault("1000")
+        int maxSize();
+
+        /**
+         * How long a cached identity is valid.
+         */
+        @WithDefault("5M")
+        Duration timeToLive();
+
+    }
+
 }
@@ -0,0 +1,132 @@
+package io.quarkus.security.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.IdentityProviderManager;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+
+public class IdentityCacheTest {
+
+    @Test
+    public void testCachedIdentity() {
+        CountingProvider provider = new CountingProvider();
+        IdentityCache cache = new IdentityCache(10, Duration.ofMinutes(5));
+        IdentityProviderManager manager = manager(provider, cache);
+
+        SecurityIdentity identity = manager.authenticateBlocking(request("alice", "secret"));
+        assertEquals("alice", identity.getPrincipal().getName());
+        assertSame(identity, manager.authenticateBlocking(request("alice", "secret")));
+        assertEquals(1, provider.verifications.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // Failed verifications are not cached
+        assertThrows(AuthenticationFailedException.class,
+                () -> manager.authenticate(request("alice", "wrong")).await().indefinitely());
+        assertThrows(AuthenticationFailedException.class,
+                () -> manager.authenticate(request("alice", "wrong")).await().indefinitely());
+        assertEquals(3, provider.verifications.get());
+
+        cache.invalidate("alice");
+        assertEquals(0, cache.size());
+        manager.authenticate(request("alice", "secret")).await().indefinitely();
+        assertEquals(4, provider.verifications.get());
+    }
+
+    @Test
+    public void testExpirationAndEviction() throws InterruptedException {
+        CountingProvider provider = new CountingProvider();
+        IdentityCache cache = new IdentityCache(2, Duration.ofMillis(50));
+        IdentityProviderManager manager = manager(provider, cache);
+
+        manager.authenticateBlocking(request("alice", "secret"));
+        Thread.sleep(100);
+        manager.authenticateBlocking(request("alice", "secret"));
+        assertEquals(2, provider.verifications.get());
+
+        // The expired identity is evicted when replaced
+        assertEquals(1, cache.getEvictionCount());
+
+        manager.authenticateBlocking(request("bob", "secret"));
+        manager.authenticateBlocking(request("charlie", "secret"));
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testLookupOnSubscription() {
+        CountingProvider provider = new CountingProvider();
+        IdentityCache cache = new IdentityCache(10, Duration.ofMinutes(5));
+        IdentityProviderManager manager = manager(provider, cache);
+
+        Uni<SecurityIdentity> first = manager.authenticate(request("alice", "secret"));
+        Uni<SecurityIdentity> second = manager.authenticate(request("alice", "secret"));
+        assertEquals(0, cache.getMissCount());
+        first.await().indefinitely();
+        second.await().indefinitely();
+        // The second Uni was created before the first one was subscribed to, and still uses the cached identity
+        assertEquals(1, provider.verifications.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testKey() {
+        IdentityCache cache = new IdentityCache(10, Duration.ofMinutes(5));
+        assertEquals(cache.key(request("alice", "secret")), cache.key(request("alice", "secret")));
+        assertNotEquals(cache.key(request("alice", "secret")), cache.key(request("alic", "esecret")));
+        // Every cache uses a different salt
+        assertNotEquals(cache.key(request("alice", "secret")),
+                new IdentityCache(10, Duration.ofMinutes(5)).key(request("alice", "secret")));
+    }
+
+    private static IdentityProviderManager manager(CountingProvider provider, IdentityCache cache) {
+        return QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(new AnonymousIdentityProvider())
+                .addProvider(provider)
+                .setBlockingExecutor(Runnable::run)
+                .setIdentityCache(cache)
+                .build();
+    }
+
+    private static UsernamePasswordAuthenticationRequest request(String username, String password) {
+        return new UsernamePasswordAuthenticationRequest(username, new PasswordCredential(password.toCharArray()));
+    }
+
+    static class CountingProvider implements IdentityProvider<UsernamePasswordAuthenticationRequest> {
+
+        final AtomicInteger verifications = new AtomicInteger();
+
+        @Override
+        public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
+            return UsernamePasswordAuthenticationRequest.class;
+        }
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+                AuthenticationRequestContext context) {
+            verifications.incrementAndGet();
+            if (!"secret".equals(new String(request.getPassword().getPassword()))) {
+                return Uni.createFrom().nullItem();
+            }
+            return Uni.createFrom().item(QuarkusSecurityIdentity.builder()
+                    .setPrincipal(new QuarkusPrincipal(request.getUsername()))
+                    .build());
+        }
+
+    }
+
+}
@@ -0,0 +1,34 @@
+package io.quarkus.devui.deployment.menu;
+
+import io.quarkus.deployment.IsDevelopment;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.devui.deployment.InternalPageBuildItem;
+import io.quarkus.devui.runtime.eventloop.EventLoopJsonRPCService;
+import io.quarkus.devui.spi.JsonRPCProvidersBuildItem;
+import io.quarkus.devui.spi.page.Page;
+
+/**
+ * This creates Event Loops Page
+ */
+public class EventLoopsProcessor {
+    private static final String NAMESPACE = "devui-event-loops";
+
+    @BuildStep(onlyIf = IsDevelopment.class)
+    InternalPageBuildItem createEventLoopsPage() {
+
+        InternalPageBuildItem eventLoopsPage = new InternalPageBuildItem("Event Loops", 27);
+
+        eventLoopsPage.addPage(Page.webComponentPageBuilder()
+                .namespace(NAMESPACE)
+                .title("Event Loops")
+                .icon("font-awesome-solid:arrows-spin")
+                .componentLink("qwc-event-loops.js"));
+
+        return eventLoopsPage;
+    }
+
+    @BuildStep(onlyIf = IsDevelopment.class)
+    JsonRPCProvidersBuildItem createJsonRPCService() {
+        return new JsonRPCProvidersBuildItem(NAMESPACE, EventLoopJsonRPCService.class);
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.vertx.http.deployment;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The handler that applies the compression policies to the responses of the main HTTP server, produced if the compression
+ * support is enabled.
+ */
+public final class CompressionPolicyHandlerBuildItem extends SimpleBuildItem {
+    private final Handler<RoutingContext> handler;
+
+    public CompressionPolicyHandlerBuildItem(Handler<RoutingContext> handler) {
+        this.handler = handler;
+    }
+
+    public Handler<RoutingContext> getHandler() {
+        return handler;
+    }
+}
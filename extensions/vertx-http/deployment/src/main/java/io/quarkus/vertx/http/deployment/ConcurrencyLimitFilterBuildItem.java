@@ -0,0 +1,21 @@
+package io.quarkus.vertx.http.deployment;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.vertx.http.runtime.filters.ConcurrencyLimitFilter;
+
+/**
+ * The filter that limits the number of concurrently processed requests of the main HTTP server. The value is empty if the
+ * concurrency limit is disabled.
+ */
+public final class ConcurrencyLimitFilterBuildItem extends SimpleBuildItem {
+    private final RuntimeValue<ConcurrencyLimitFilter> filter;
+
+    public ConcurrencyLimitFilterBuildItem(RuntimeValue<ConcurrencyLimitFilter> filter) {
+        this.filter = filter;
+    }
+
+    public RuntimeValue<ConcurrencyLimitFilter> getFilter() {
+        return filter;
+    }
+}
@@ -12,8 +12,12 @@
 public final class FilterBuildItem extends MultiBuildItem {
 
     //predefined system priorities
+    public static final int EVENT_LOOP_MONITOR = 500;
+    public static final int REQUEST_TIMING = 400;
     public static final int CORS = 300;
+    public static final int RATE_LIMIT = 250;
     public static final int AUTHENTICATION = 200;
+    public static final int PRINCIPAL_RATE_LIMIT = 150;
     public static final int AUTHORIZATION = 100;
     private static final int AUTH_FAILURE_HANDLER = Integer.MIN_VALUE + 1;
 
@@ -0,0 +1,23 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.List;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.vertx.http.runtime.PrecompressedStaticResource;
+
+/**
+ * Holds the static resources indexed and compressed during the build.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final List<PrecompressedStaticResource> resources;
+
+    public PrecompressedStaticResourcesBuildItem(List<PrecompressedStaticResource> resources) {
+        this.resources = resources;
+    }
+
+    public List<PrecompressedStaticResource> getResources() {
+        return resources;
+    }
+
+}
@@ -2,12 +2,24 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -17,21 +29,33 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.paths.FilteredPathTree;
 import io.quarkus.paths.PathFilter;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.PrecompressedStaticResource;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
+    // The webjars are usually large and have their own versioned paths
+    private static final String WEBJARS = "/webjars/";
+
     @BuildStep
     void collectStaticResources(Capabilities capabilities,
             List<AdditionalStaticResourceBuildItem> additionalStaticResources,
@@ -49,13 +73,99 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep
+    void precompressStaticResources(HttpBuildTimeConfig httpBuildTimeConfig, LaunchModeBuildItem launchMode,
+            Optional<StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedResources) {
+        if (!httpBuildTimeConfig.staticResourcesPrecompress || staticResources.isEmpty()
+                || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            // In the dev mode the static resources may change at any time
+            return;
+        }
+        Set<String> compressMediaTypes = httpBuildTimeConfig.compressMediaTypes.isPresent()
+                ? Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get())
+                : Set.of();
+        boolean brotli = Brotli4jLoader.isAvailable();
+        if (!brotli) {
+            LOG.debugf(Brotli4jLoader.getUnavailabilityCause(),
+                    "Brotli is not available - static resources are only compressed with gzip");
+        }
+        long maxSize = httpBuildTimeConfig.staticResourcesPrecompressMaxSize.asLongValue();
+        long maxTotalSize = httpBuildTimeConfig.staticResourcesPrecompressMaxTotalSize.asLongValue();
+        Map<String, PrecompressedStaticResource> resources = new LinkedHashMap<>();
+        long[] totalSize = new long[1];
+        visitRuntimeMetaInfResources(visit -> {
+            if (Files.isDirectory(visit.getPath())) {
+                return;
+            }
+            String path = visit.getRelativePath("/").substring(StaticResourcesRecorder.META_INF_RESOURCES.length());
+            if (path.startsWith(WEBJARS) || resources.containsKey(path)) {
+                // The first resource found on the classpath is served
+                return;
+            }
+            try {
+                long size = Files.size(visit.getPath());
+                if (size > maxSize || totalSize[0] + size > maxTotalSize) {
+                    return;
+                }
+                byte[] content = Files.readAllBytes(visit.getPath());
+                byte[] gzip = null;
+                byte[] br = null;
+                String contentType = MimeMapping.getMimeTypeForFilename(path);
+                if (contentType != null && compressMediaTypes.contains(contentType)) {
+                    // A compressed variant is only used if it's smaller than the original content
+                    gzip = gzip(content);
+                    if (gzip.length >= content.length) {
+                        gzip = null;
+                    }
+                    if (brotli) {
+                        br = Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+                        if (br.length >= content.length) {
+                            br = null;
+                        }
+                    }
+                }
+                // All the variants are held in memory at runtime
+                size += (gzip != null ? gzip.length : 0) + (br != null ? br.length : 0);
+                if (totalSize[0] + size > maxTotalSize) {
+                    return;
+                }
+                totalSize[0] += size;
+                if (gzip != null) {
+                    produceVariant(path + PrecompressedStaticResource.GZIP_SUFFIX, gzip, generatedResources,
+                            nativeImageResources);
+                }
+                if (br != null) {
+                    produceVariant(path + PrecompressedStaticResource.BROTLI_SUFFIX, br, generatedResources,
+                            nativeImageResources);
+                }
+                resources.put(path, new PrecompressedStaticResource(path, HashUtil.sha1(content), gzip != null,
+                        br != null, Files.getLastModifiedTime(visit.getPath()).toMillis()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to precompress the static resource: " + path, e);
+            }
+        });
+        LOG.debugf("%s static resources of total size %s bytes are served from memory", resources.size(), totalSize[0]);
+        if (!resources.isEmpty()) {
+            precompressedResources.produce(new PrecompressedStaticResourcesBuildItem(new ArrayList<>(resources.values())));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedResources,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            if (precompressedResources.isPresent()) {
+                defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                        precompressedResources.get().getResources())));
+            } else {
+                defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            }
         }
     }
 
@@ -90,6 +200,26 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
         }
     }
 
+    private static void produceVariant(String path, byte[] content,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+        String name = PrecompressedStaticResource.PRECOMPRESSED_RESOURCES + path;
+        generatedResources.produce(new GeneratedResourceBuildItem(name, content));
+        nativeImageResources.produce(new NativeImageResourceBuildItem(name));
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
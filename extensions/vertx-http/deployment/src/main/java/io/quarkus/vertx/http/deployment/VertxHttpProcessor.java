@@ -43,6 +43,8 @@
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
 import io.quarkus.runtime.LaunchMode;
@@ -65,12 +67,21 @@
 import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeBuilder;
 import io.quarkus.vertx.http.runtime.cors.CORSRecorder;
+import io.quarkus.vertx.http.runtime.eventloop.EventLoopMonitor;
+import io.quarkus.vertx.http.runtime.eventloop.EventLoopMonitorRecorder;
+import io.quarkus.vertx.http.runtime.filters.ConcurrencyLimitFilter;
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.ratelimit.RateLimitPolicies;
+import io.quarkus.vertx.http.runtime.ratelimit.RateLimitRecorder;
+import io.quarkus.vertx.http.runtime.timing.RequestTimingMetrics;
+import io.quarkus.vertx.http.runtime.timing.RequestTimingRecorder;
+import io.vertx.core.Handler;
 import io.vertx.core.http.impl.Http1xServerRequest;
 import io.vertx.core.impl.VertxImpl;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 
 class VertxHttpProcessor {
 
@@ -157,6 +168,85 @@ FilterBuildItem cors(CORSRecorder recorder) {
         return new FilterBuildItem(recorder.corsHandler(), FilterBuildItem.CORS);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void rateLimit(RateLimitRecorder recorder, HttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, BuildProducer<FilterBuildItem> filters,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        RuntimeValue<RateLimitPolicies> policies = recorder.createPolicies(httpBuildTimeConfig.rootPath);
+        filters.produce(new FilterBuildItem(recorder.rateLimitHandler(policies, false), FilterBuildItem.RATE_LIMIT));
+        filters.produce(
+                new FilterBuildItem(recorder.rateLimitHandler(policies, true), FilterBuildItem.PRINCIPAL_RATE_LIMIT));
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics(policies)));
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void requestTiming(HttpBuildTimeConfig httpBuildTimeConfig, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            RequestTimingRecorder recorder, BuildProducer<FilterBuildItem> filters,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (httpBuildTimeConfig.requestTiming.enabled) {
+            RuntimeValue<RequestTimingMetrics> timingMetrics = recorder.createMetrics();
+            filters.produce(new FilterBuildItem(
+                    recorder.requestTimingHandler(httpBuildTimeConfig.requestTiming.serverTimingHeader, timingMetrics),
+                    FilterBuildItem.REQUEST_TIMING));
+            if (metricsCapability.isPresent()) {
+                metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics(timingMetrics)));
+            }
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void eventLoopMonitor(HttpBuildTimeConfig httpBuildTimeConfig, CoreVertxBuildItem vertx, ShutdownContextBuildItem shutdown,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, EventLoopMonitorRecorder recorder,
+            BuildProducer<FilterBuildItem> filters, BuildProducer<SyntheticBeanBuildItem> syntheticBeans,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (!httpBuildTimeConfig.eventLoopMonitor.enabled) {
+            return;
+        }
+        RuntimeValue<EventLoopMonitor> monitor = recorder.startMonitor(vertx.getVertx(), shutdown);
+        filters.produce(new FilterBuildItem(recorder.monitorHandler(monitor), FilterBuildItem.EVENT_LOOP_MONITOR));
+        // Exposed for the Dev UI
+        syntheticBeans.produce(SyntheticBeanBuildItem.configure(EventLoopMonitor.class)
+                .scope(BuiltinScope.SINGLETON.getInfo())
+                .setRuntimeInit()
+                .unremovable()
+                .runtimeValue(monitor).done());
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics(monitor)));
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    ConcurrencyLimitFilterBuildItem concurrencyLimit(HttpRootPathBuildItem httpRootPath,
+            NonApplicationRootPathBuildItem nonApplicationRootPath, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            VertxHttpRecorder recorder, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        RuntimeValue<ConcurrencyLimitFilter> filter = recorder.createConcurrencyLimitFilter(httpRootPath.getRootPath(),
+                nonApplicationRootPath.getNonApplicationRootPath());
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerConcurrencyLimitMetrics(filter)));
+        }
+        return new ConcurrencyLimitFilterBuildItem(filter);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void compressionPolicy(HttpBuildTimeConfig httpBuildTimeConfig, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            VertxHttpRecorder recorder, BuildProducer<CompressionPolicyHandlerBuildItem> compressionPolicyHandler,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (httpBuildTimeConfig.enableCompression) {
+            Handler<RoutingContext> handler = recorder.createCompressionPolicyHandler(metricsCapability.isPresent());
+            compressionPolicyHandler.produce(new CompressionPolicyHandlerBuildItem(handler));
+            if (metricsCapability.isPresent()) {
+                metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerCompressionMetrics(handler)));
+            }
+        }
+    }
+
     @BuildStep
     AdditionalBeanBuildItem additionalBeans() {
         return AdditionalBeanBuildItem.builder()
@@ -330,11 +420,14 @@ ServiceStartBuildItem finalizeRouter(
             HttpBuildTimeConfig httpBuildTimeConfig,
             List<RequireBodyHandlerBuildItem> requireBodyHandlerBuildItems,
             BodyHandlerBuildItem bodyHandlerBuildItem,
+            Optional<CompressionPolicyHandlerBuildItem> compressionPolicyHandler,
+            ConcurrencyLimitFilterBuildItem concurrencyLimitFilter,
             BuildProducer<ShutdownListenerBuildItem> shutdownListenerBuildItemBuildProducer,
             ShutdownConfig shutdownConfig,
             LiveReloadConfig lrc,
             CoreVertxBuildItem core, // Injected to be sure that Vert.x has been produced before calling this method.
-            ExecutorBuildItem executorBuildItem)
+            ExecutorBuildItem executorBuildItem,
+            ShutdownContextBuildItem shutdown)
             throws BuildException, IOException {
 
         Optional<DefaultRouteBuildItem> defaultRoute;
@@ -392,7 +485,9 @@ ServiceStartBuildItem finalizeRouter(
                 nonApplicationRootPathBuildItem.getNonApplicationRootPath(),
                 launchMode.getLaunchMode(),
                 getBodyHandlerRequiredConditions(requireBodyHandlerBuildItems), bodyHandlerBuildItem.getHandler(),
-                gracefulShutdownFilter, shutdownConfig, executorBuildItem.getExecutorProxy());
+                compressionPolicyHandler.map(CompressionPolicyHandlerBuildItem::getHandler).orElse(null),
+                gracefulShutdownFilter, concurrencyLimitFilter.getFilter(), shutdownConfig,
+                executorBuildItem.getExecutorProxy(), shutdown);
 
         return new ServiceStartBuildItem("vertx-http");
     }
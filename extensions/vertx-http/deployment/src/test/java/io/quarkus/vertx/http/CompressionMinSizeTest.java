@@ -0,0 +1,82 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+
+public class CompressionMinSizeTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.compression-min-size=1K\n" +
+            "quarkus.http.compressors=gzip\n";
+
+    static String longString = "Hello World;".repeat(1000);
+    static String shortString = "Hello World;".repeat(10);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(BeanRegisteringRouteUsingObserves.class));
+
+    @Test
+    public void test() {
+        RestAssured.given().get("/compress/long").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(longString));
+
+        RestAssured.given().get("/compress/short").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .header("content-length", Matchers.equalTo(Integer.toString(shortString.length())))
+                .body(Matchers.equalTo(shortString));
+
+        // The compression is enabled in a headers end handler
+        RestAssured.given().get("/compress/short-late").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(Matchers.equalTo(shortString));
+
+        // The body size is not known in advance
+        RestAssured.given().get("/compress/chunked").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(shortString));
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRouteUsingObserves {
+
+        public void register(@Observes Router router) {
+            router.route("/compress/long").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(longString);
+            });
+            router.route("/compress/short").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(shortString);
+            });
+            router.route("/compress/short-late").handler(rc -> {
+                rc.addHeadersEndHandler(v -> rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING));
+                rc.response().end(shortString);
+            });
+            router.route("/compress/chunked").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().setChunked(true);
+                rc.response().end(shortString);
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.get;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.ext.web.Router;
+
+public class ConcurrencyLimitTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.concurrency-limit.enabled=true\n" +
+            "quarkus.http.concurrency-limit.initial-limit=1\n" +
+            "quarkus.http.concurrency-limit.min-limit=1\n" +
+            "quarkus.http.concurrency-limit.max-limit=1\n" +
+            "quarkus.http.concurrency-limit.never-shed-paths=/ping\n";
+
+    static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(MyBean.class));
+
+    @Test
+    public void testExcessRequestsAreShed() throws Exception {
+        CompletableFuture<Integer> slow = CompletableFuture.supplyAsync(() -> get("/slow").statusCode());
+        try {
+            Awaitility.await().atMost(Duration.ofSeconds(10))
+                    .untilAsserted(() -> get("/fast").then().statusCode(503).header("Retry-After", "1"));
+            get("/ping").then().statusCode(200);
+        } finally {
+            RELEASE.countDown();
+        }
+        Assertions.assertEquals(200, slow.get(10, TimeUnit.SECONDS));
+        Awaitility.await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> get("/fast").then().statusCode(200));
+    }
+
+    @ApplicationScoped
+    public static class MyBean {
+
+        public void register(@Observes Router router) {
+            router.route("/fast").handler(rc -> rc.response().end("fast"));
+            router.route("/ping").handler(rc -> rc.response().end("pong"));
+            router.route("/slow").blockingHandler(rc -> {
+                try {
+                    RELEASE.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                rc.response().end("slow");
+            });
+        }
+
+    }
+
+}
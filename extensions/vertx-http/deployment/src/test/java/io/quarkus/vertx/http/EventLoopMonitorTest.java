@@ -0,0 +1,74 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.get;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.runtime.eventloop.EventLoopMonitor;
+import io.vertx.ext.web.Router;
+
+public class EventLoopMonitorTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.event-loop-monitor.enabled=true\n" +
+            "quarkus.http.event-loop-monitor.blocking-threshold=20ms\n" +
+            "quarkus.http.event-loop-monitor.stack-sampling=true\n";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(MyBean.class));
+
+    @Inject
+    EventLoopMonitor monitor;
+
+    @Test
+    public void testBlockingRouteIsReported() {
+        get("/fast").then().statusCode(200).body(is("fast"));
+        get("/slow").then().statusCode(200).body(is("slow"));
+
+        // The execution is recorded after the response was sent
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            List<EventLoopMonitor.Offender> offenders = monitor.getTopOffenders(10);
+            Assertions.assertEquals(1, offenders.size());
+            EventLoopMonitor.Offender offender = offenders.get(0);
+            Assertions.assertEquals("/slow", offender.getRoute());
+            Assertions.assertEquals(1, offender.getCount());
+            Assertions.assertTrue(offender.getMaxTime() >= 200_000_000L);
+            Assertions.assertNotNull(offender.getStack());
+            Assertions.assertTrue(offender.getStack().contains("Thread.sleep"), offender.getStack());
+        });
+    }
+
+    @ApplicationScoped
+    public static class MyBean {
+
+        public void register(@Observes Router router) {
+            router.route("/fast").handler(rc -> rc.response().end("fast"));
+            router.route("/slow").handler(rc -> {
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                rc.response().end("slow");
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.quarkus.vertx.http;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesPrecompressMaxTotalSizeTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.static-resources.precompress=true\n"
+                            + "quarkus.http.static-resources.precompress-max-total-size=300\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg")
+                    .addAsResource("static-file.html", "META-INF/resources/other.svg"));
+
+    @Test
+    public void shouldIndexResourcesUpToTheLimit() {
+        // Only one of the resources of 273 bytes fits into the limit
+        String first = RestAssured.given().get("/image.svg").then().statusCode(200).extract().header("ETag");
+        String second = RestAssured.given().get("/other.svg").then().statusCode(200).extract().header("ETag");
+        assertTrue(first == null ^ second == null);
+    }
+
+}
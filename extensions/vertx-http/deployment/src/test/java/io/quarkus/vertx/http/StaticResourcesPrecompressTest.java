@@ -0,0 +1,106 @@
+package io.quarkus.vertx.http;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesPrecompressTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.static-resources.precompress=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg")
+                    .addAsResource("static-file.html", "META-INF/resources/webjars/lib/1.0/index.html"));
+
+    @Test
+    public void shouldServeGzipVariant() {
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip").get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Length", Integer::parseInt, Matchers.greaterThan(0))
+                .header("Vary", "accept-encoding")
+                .header("ETag", Matchers.endsWith("-gzip\""))
+                .header("Last-Modified", Matchers.notNullValue())
+                .body(Matchers.containsString("This is the title of the webpage!"))
+                .extract().header("ETag");
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag).get("/static-file.html")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void shouldHandleIfModifiedSince() {
+        String lastModified = RestAssured.given().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .extract().header("Last-Modified");
+
+        RestAssured.given().header("If-Modified-Since", lastModified).get("/static-file.html")
+                .then()
+                .statusCode(304);
+        RestAssured.given().header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT").get("/static-file.html")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void shouldNotIndexWebjars() {
+        // The webjars are served by the StaticHandler, which does not set an ETag
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/webjars/lib/1.0/index.html")
+                .then()
+                .statusCode(200)
+                .header("ETag", Matchers.nullValue())
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeIdentity() {
+        RestAssured.given().header("Accept-Encoding", "gzip;q=0, identity").get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .header("Content-Length", "273")
+                .header("ETag", Matchers.not(Matchers.endsWith("-gzip\"")))
+                .body(Matchers.containsString("This is the title of the webpage!"));
+
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .header("Vary", Matchers.nullValue())
+                .header("Content-Length", "273");
+    }
+
+    @Test
+    public void shouldServeBrotliVariant() {
+        assumeTrue(Brotli4jLoader.isAvailable());
+        RestAssured.given().header("Accept-Encoding", "gzip, br").head("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "br")
+                .header("ETag", Matchers.endsWith("-br\""));
+    }
+
+    @Test
+    public void shouldDelegateRangeRequests() {
+        RestAssured.given().header("Range", "bytes=0-3").get("/static-file.html")
+                .then()
+                .statusCode(206)
+                .header("Content-Length", "4");
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.quarkus.vertx.http.filters;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.ext.web.Router;
+
+public class RateLimitRootPathTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.root-path=/app\n" +
+            "quarkus.http.rate-limit.all.paths=*\n" +
+            "quarkus.http.rate-limit.all.limit=3\n" +
+            "quarkus.http.rate-limit.all.period=1H\n" +
+            "quarkus.http.rate-limit.limited.paths=limited\n" +
+            "quarkus.http.rate-limit.limited.limit=1\n" +
+            "quarkus.http.rate-limit.limited.period=1H\n";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(MyBean.class));
+
+    @Test
+    public void testRelativePaths() {
+        given().get("/limited").then().statusCode(200).body(is("OK"));
+        given().get("/limited").then().statusCode(429);
+        // The rejected request did not consume a token of the other policy
+        given().get("/other").then().statusCode(200).body(is("OK"));
+        given().get("/other").then().statusCode(200).body(is("OK"));
+        given().get("/other").then().statusCode(429);
+    }
+
+    @ApplicationScoped
+    public static class MyBean {
+
+        public void register(@Observes Router router) {
+            router.route("/limited").handler(rc -> rc.response().end("OK"));
+            router.route("/other").handler(rc -> rc.response().end("OK"));
+        }
+
+    }
+
+}
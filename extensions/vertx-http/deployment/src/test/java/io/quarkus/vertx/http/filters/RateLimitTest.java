@@ -0,0 +1,61 @@
+package io.quarkus.vertx.http.filters;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.ext.web.Router;
+
+public class RateLimitTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.rate-limit.api.paths=/api/*\n" +
+            "quarkus.http.rate-limit.api.methods=POST\n" +
+            "quarkus.http.rate-limit.api.limit=2\n" +
+            "quarkus.http.rate-limit.api.period=1H\n" +
+            "quarkus.http.rate-limit.tenant.paths=/tenant\n" +
+            "quarkus.http.rate-limit.tenant.key=header\n" +
+            "quarkus.http.rate-limit.tenant.header=X-Tenant\n" +
+            "quarkus.http.rate-limit.tenant.limit=1\n" +
+            "quarkus.http.rate-limit.tenant.period=1H\n";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(MyBean.class));
+
+    @Test
+    public void testLimitByIp() {
+        given().post("/api/hello").then().statusCode(200).body(is("OK"));
+        given().post("/api/hello").then().statusCode(200).body(is("OK"));
+        given().post("/api/hello").then().statusCode(429).header("Retry-After", "1800");
+        // Only POST requests are limited
+        given().get("/api/hello").then().statusCode(200).body(is("OK"));
+    }
+
+    @Test
+    public void testLimitByHeader() {
+        given().header("X-Tenant", "a").get("/tenant").then().statusCode(200);
+        given().header("X-Tenant", "a").get("/tenant").then().statusCode(429).header("Retry-After", "3600");
+        given().header("X-Tenant", "b").get("/tenant").then().statusCode(200);
+    }
+
+    @ApplicationScoped
+    public static class MyBean {
+
+        public void register(@Observes Router router) {
+            router.route("/api/hello").handler(rc -> rc.response().end("OK"));
+            router.route("/tenant").handler(rc -> rc.response().end("OK"));
+        }
+
+    }
+
+}
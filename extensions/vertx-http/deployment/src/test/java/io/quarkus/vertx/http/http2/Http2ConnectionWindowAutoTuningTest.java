@@ -0,0 +1,73 @@
+package io.quarkus.vertx.http.http2;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.handler.codec.http2.Http2ConnectionHandler;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+public class Http2ConnectionWindowAutoTuningTest {
+
+    @TestHTTPResource(value = "/window")
+    URL url;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(MyBean.class))
+            .overrideConfigKey("quarkus.http.initial-window-size", "300000")
+            .overrideConfigKey("quarkus.http.http2-connection-window-size", "200000")
+            .overrideConfigKey("quarkus.http.http2-connection-window-auto-tuning", "true");
+
+    @Test
+    public void testConnectionWindowGrows() throws ExecutionException, InterruptedException {
+        WebClientOptions options = new WebClientOptions()
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(false);
+        WebClient client = WebClient.create(VertxCoreRecorder.getVertx().get(), options);
+        try {
+            CompletableFuture<String> result = new CompletableFuture<>();
+            client.get(url.getPort(), "localhost", "/window")
+                    .send(ar -> {
+                        if (ar.succeeded()) {
+                            result.complete(ar.result().bodyAsString());
+                        } else {
+                            result.completeExceptionally(ar.cause());
+                        }
+                    });
+            // one active stream with the initial window of 300000 octets
+            Assertions.assertEquals("300000", result.get());
+        } finally {
+            client.close();
+        }
+    }
+
+    @ApplicationScoped
+    static class MyBean {
+
+        public void register(@Observes Router router) {
+            router.get("/window").handler(rc -> {
+                Http2ConnectionHandler handler = (Http2ConnectionHandler) ((ConnectionBase) rc.request().connection())
+                        .channelHandlerContext().handler();
+                int window = handler.decoder().flowController()
+                        .initialWindowSize(handler.connection().connectionStream());
+                rc.response().end(String.valueOf(window));
+            });
+        }
+
+    }
+}
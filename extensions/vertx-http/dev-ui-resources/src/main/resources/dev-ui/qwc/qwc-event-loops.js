@@ -0,0 +1,103 @@
+import { QwcHotReloadElement, html, css} from 'qwc-hot-reload-element';
+
+import { JsonRpc } from 'jsonrpc';
+import '@vaadin/grid';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+import '@vaadin/grid/vaadin-grid-sort-column.js';
+import '@vaadin/button';
+import '@vaadin/details';
+import '@vaadin/progress-bar';
+/**
+ * This component shows the event loop lag and the routes that blocked the event loops
+ */
+export class QwcEventLoops extends QwcHotReloadElement {
+
+  jsonRpc = new JsonRpc("devui-event-loops", true);
+
+  static styles = css`
+      .event-loops {
+        height: 100%;
+        width: 100%;
+        display: flex;
+        flex-direction: column;
+        overflow: hidden;
+        gap: 15px;
+      }
+
+      .summary {
+        display: flex;
+        align-items: center;
+        gap: 20px;
+      }
+
+      .datatable {
+        width: 100%;
+      }
+
+      pre {
+        font-size: small;
+      }`;
+
+  static properties = {
+    _stats: { state: true }
+  };
+
+  constructor() {
+    super();
+    this.hotReload();
+  }
+
+  hotReload(){
+    this.jsonRpc.getEventLoopStats().then(e => {
+      this._stats = e.result;
+    });
+  }
+
+  render() {
+      if (!this._stats) {
+          return html`
+            <div style="color: var(--lumo-secondary-text-color);width: 95%;" >
+                <div>Loading event loop statistics...</div>
+                <vaadin-progress-bar indeterminate></vaadin-progress-bar>
+            </div>
+            `;
+      }
+      if (!this._stats.enabled) {
+          return html`<p>The event loop monitor is disabled, set <code>quarkus.http.event-loop-monitor.enabled=true</code> to enable it.</p>`;
+      }
+      return html`<div class="event-loops">
+            <div class="summary">
+                <span>Mean lag: <strong>${this._ms(this._stats.meanLag)}</strong></span>
+                <span>Max lag: <strong>${this._ms(this._stats.maxLag)}</strong></span>
+                <vaadin-button theme="small" @click=${() => this.hotReload()}>Refresh</vaadin-button>
+            </div>
+            <vaadin-grid .items="${this._stats.eventLoops}" class="datatable" theme="row-stripes" all-rows-visible>
+                <vaadin-grid-sort-column resizable header="Event loop" path="thread"></vaadin-grid-sort-column>
+                <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Last lag (ms)" path="lastLag"
+                    ${columnBodyRenderer((item) => this._ms(item.lastLag), [])}></vaadin-grid-sort-column>
+                <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Max lag (ms)" path="maxLag"
+                    ${columnBodyRenderer((item) => this._ms(item.maxLag), [])}></vaadin-grid-sort-column>
+            </vaadin-grid>
+            <vaadin-grid .items="${this._stats.offenders}" class="datatable" theme="row-stripes">
+                <vaadin-grid-sort-column resizable header="Blocking route" path="route"
+                    ${columnBodyRenderer(this._routeRenderer, [])}></vaadin-grid-sort-column>
+                <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Count" path="count"></vaadin-grid-sort-column>
+                <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Total (ms)" path="totalTime"
+                    ${columnBodyRenderer((item) => this._ms(item.totalTime), [])}></vaadin-grid-sort-column>
+                <vaadin-grid-sort-column auto-width resizable flex-grow="0" header="Max (ms)" path="maxTime"
+                    ${columnBodyRenderer((item) => this._ms(item.maxTime), [])}></vaadin-grid-sort-column>
+            </vaadin-grid></div>`;
+  }
+
+  _routeRenderer(item) {
+    if (item.stack) {
+      return html`<vaadin-details summary="${item.route}"><pre>${item.stack}</pre></vaadin-details>`;
+    }
+    return html`<code>${item.route}</code>`;
+  }
+
+  _ms(value) {
+    return value.toFixed(3);
+  }
+}
+customElements.define('qwc-event-loops', QwcEventLoops);
@@ -0,0 +1,58 @@
+package io.quarkus.devui.runtime.eventloop;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import io.quarkus.vertx.http.runtime.eventloop.EventLoopMonitor;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@ApplicationScoped
+public class EventLoopJsonRPCService {
+
+    private static final int TOP_OFFENDERS = 20;
+
+    @Inject
+    Instance<EventLoopMonitor> eventLoopMonitor;
+
+    public JsonObject getEventLoopStats() {
+        JsonObject response = new JsonObject();
+        if (!eventLoopMonitor.isResolvable()) {
+            response.put("enabled", false);
+            return response;
+        }
+        EventLoopMonitor monitor = eventLoopMonitor.get();
+        response.put("enabled", true);
+        response.put("meanLag", toMillis(monitor.getMeanLag()));
+        response.put("maxLag", toMillis(monitor.getMaxLag()));
+
+        JsonArray eventLoops = new JsonArray();
+        for (EventLoopMonitor.EventLoop eventLoop : monitor.getEventLoops()) {
+            eventLoops.add(new JsonObject()
+                    .put("thread", eventLoop.getThread())
+                    .put("lastLag", toMillis(eventLoop.getLastLag()))
+                    .put("maxLag", toMillis(eventLoop.getMaxLag())));
+        }
+        response.put("eventLoops", eventLoops);
+
+        JsonArray offenders = new JsonArray();
+        for (EventLoopMonitor.Offender offender : monitor.getTopOffenders(TOP_OFFENDERS)) {
+            offenders.add(new JsonObject()
+                    .put("route", offender.getRoute())
+                    .put("count", offender.getCount())
+                    .put("totalTime", toMillis(offender.getTotalTime()))
+                    .put("maxTime", toMillis(offender.getMaxTime()))
+                    .put("stack", offender.getStack()));
+        }
+        response.put("offenders", offenders);
+        return response;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
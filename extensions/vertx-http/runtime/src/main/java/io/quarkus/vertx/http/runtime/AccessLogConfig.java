@@ -77,6 +77,21 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * If enabled then the log file is written in batches by a dedicated thread. Messages are queued in a bounded lock-free
+     * buffer and the messages that do not fit in the buffer are dropped.
+     *
+     * Only applies if the access log is written to a separate file.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean batched;
+
+    /**
+     * The maximum number of messages queued if batching is enabled. The value is rounded up to the next power of two.
+     */
+    @ConfigItem(defaultValue = "16384")
+    public int queueSize;
+
     /**
      * If rerouted requests should be consolidated into one log entry
      */
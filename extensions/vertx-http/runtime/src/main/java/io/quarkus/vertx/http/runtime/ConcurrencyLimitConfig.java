@@ -0,0 +1,78 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConvertWith;
+import io.quarkus.runtime.configuration.TrimmedStringConverter;
+
+@ConfigGroup
+public class ConcurrencyLimitConfig {
+
+    /**
+     * If enabled then the number of concurrently processed requests is limited, and the limit is adjusted continuously from
+     * the observed latency. Requests that exceed the limit are rejected with {@code 503 Service Unavailable} before their
+     * body is read.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The limit used until enough latency samples are collected.
+     */
+    @ConfigItem(defaultValue = "20")
+    public int initialLimit;
+
+    /**
+     * The lower bound of the limit.
+     */
+    @ConfigItem(defaultValue = "10")
+    public int minLimit;
+
+    /**
+     * The upper bound of the limit.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxLimit;
+
+    /**
+     * How much the latency may exceed the long-term latency before the limit is reduced, e.g. {@code 1.5} means 50% more.
+     */
+    @ConfigItem(defaultValue = "1.5")
+    public double tolerance;
+
+    /**
+     * How fast the limit follows the computed value, between {@code 0} and {@code 1}.
+     */
+    @ConfigItem(defaultValue = "0.2")
+    public double smoothing;
+
+    /**
+     * The interval in which the latency samples are aggregated and the limit is updated.
+     */
+    @ConfigItem(defaultValue = "500ms")
+    public Duration sampleWindow;
+
+    /**
+     * The paths of requests that are never rejected and not counted against the limit. If the path ends in /* then this is
+     * treated as a path prefix, otherwise it is treated as an exact match.
+     * <p>
+     * The non-application endpoints, such as the health checks, are never rejected either.
+     */
+    @ConfigItem
+    @ConvertWith(TrimmedStringConverter.class)
+    public Optional<List<String>> neverShedPaths;
+
+    /**
+     * The paths of requests that are rejected first. These requests are rejected once the number of concurrent requests
+     * reaches 75% of the limit, so that the remaining capacity is left for the other requests. If the path ends in /* then
+     * this is treated as a path prefix, otherwise it is treated as an exact match.
+     */
+    @ConfigItem
+    @ConvertWith(TrimmedStringConverter.class)
+    public Optional<List<String>> lowPriorityPaths;
+
+}
@@ -25,6 +25,23 @@ public void initialize(int maxConnections, AtomicInteger current) {
         }
     };
 
+    /**
+     * A no-op HTTP/2 stream tracker.
+     */
+    Http2StreamTracker NOOP_HTTP2_STREAM_TRACKER = new Http2StreamTracker() {
+        @Override
+        public void onStreamOpened(int connectionStreams) {
+        }
+
+        @Override
+        public void onStreamClosed() {
+        }
+
+        @Override
+        public void onFlowControlStall() {
+        }
+    };
+
     /**
      * Gets a tracker to report the number of active HTTP connection, the number of rejected connections, etc.
      *
@@ -32,10 +49,35 @@ public void initialize(int maxConnections, AtomicInteger current) {
      */
     ConnectionTracker getHttpConnectionTracker();
 
+    /**
+     * Gets a tracker to report the HTTP/2 streams and the flow-control stalls.
+     *
+     * @return the tracker.
+     */
+    default Http2StreamTracker getHttp2StreamTracker() {
+        return NOOP_HTTP2_STREAM_TRACKER;
+    }
+
     interface ConnectionTracker {
 
         void onConnectionRejected();
 
         void initialize(int maxConnections, AtomicInteger current);
     }
+
+    interface Http2StreamTracker {
+
+        /**
+         * @param connectionStreams the number of active streams of the connection, including the opened stream
+         */
+        void onStreamOpened(int connectionStreams);
+
+        void onStreamClosed();
+
+        /**
+         * A stream was opened while the connection-level flow-control window for the data sent by the server was
+         * exhausted.
+         */
+        void onFlowControlStall();
+    }
 }
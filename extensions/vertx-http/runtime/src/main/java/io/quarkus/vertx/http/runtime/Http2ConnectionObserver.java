@@ -0,0 +1,85 @@
+package io.quarkus.vertx.http.runtime;
+
+import org.jboss.logging.Logger;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2ConnectionAdapter;
+import io.netty.handler.codec.http2.Http2ConnectionHandler;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2LocalFlowController;
+import io.netty.handler.codec.http2.Http2RemoteFlowController;
+import io.netty.handler.codec.http2.Http2Stream;
+import io.quarkus.vertx.http.runtime.ExtendedQuarkusVertxHttpMetrics.Http2StreamTracker;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.net.impl.ConnectionBase;
+
+/**
+ * Observes the streams of HTTP/2 connections in order to report the stream metrics and to auto-tune the connection-level
+ * flow-control window. HTTP/1.x connections are ignored.
+ * <p>
+ * The listener callbacks are invoked on the event loop of the connection.
+ */
+class Http2ConnectionObserver implements Handler<HttpConnection> {
+
+    private static final Logger LOGGER = Logger.getLogger(Http2ConnectionObserver.class.getName());
+
+    private final Http2StreamTracker tracker;
+    private final boolean connectionWindowAutoTuning;
+
+    Http2ConnectionObserver(Http2StreamTracker tracker, boolean connectionWindowAutoTuning) {
+        this.tracker = tracker;
+        this.connectionWindowAutoTuning = connectionWindowAutoTuning;
+    }
+
+    @Override
+    public void handle(HttpConnection event) {
+        if (!(event instanceof ConnectionBase)) {
+            return;
+        }
+        ChannelHandler handler = ((ConnectionBase) event).channelHandlerContext().handler();
+        if (!(handler instanceof Http2ConnectionHandler)) {
+            return;
+        }
+        Http2ConnectionHandler http2Handler = (Http2ConnectionHandler) handler;
+        Http2Connection connection = http2Handler.connection();
+        Http2LocalFlowController localFlowController = http2Handler.decoder().flowController();
+        Http2RemoteFlowController remoteFlowController = http2Handler.encoder().flowController();
+        connection.addListener(new Http2ConnectionAdapter() {
+
+            @Override
+            public void onStreamActive(Http2Stream stream) {
+                int activeStreams = connection.numActiveStreams();
+                tracker.onStreamOpened(activeStreams);
+                if (remoteFlowController.windowSize(connection.connectionStream()) <= 0) {
+                    tracker.onFlowControlStall();
+                }
+                if (connectionWindowAutoTuning) {
+                    growConnectionWindow(connection, localFlowController, activeStreams);
+                }
+            }
+
+            @Override
+            public void onStreamClosed(Http2Stream stream) {
+                tracker.onStreamClosed();
+            }
+        });
+    }
+
+    private static void growConnectionWindow(Http2Connection connection, Http2LocalFlowController localFlowController,
+            int activeStreams) {
+        Http2Stream connectionStream = connection.connectionStream();
+        long target = Math.min(Integer.MAX_VALUE, (long) activeStreams * localFlowController.initialWindowSize());
+        int current = localFlowController.initialWindowSize(connectionStream);
+        if (target > current) {
+            try {
+                // sends a WINDOW_UPDATE frame for the connection stream
+                localFlowController.incrementWindowSize(connectionStream, (int) (target - current));
+            } catch (Http2Exception e) {
+                LOGGER.debugf(e, "Unable to increment the HTTP/2 connection window");
+            }
+        }
+    }
+
+}
@@ -9,9 +9,12 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.runtime.annotations.ConvertWith;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.NormalizeRootHttpPathConverter;
 import io.quarkus.vertx.http.Compressed;
 import io.quarkus.vertx.http.Uncompressed;
+import io.quarkus.vertx.http.runtime.eventloop.EventLoopMonitorBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.timing.RequestTimingConfig;
 import io.vertx.core.http.ClientAuth;
 
 @ConfigRoot(name = "http", phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
@@ -102,4 +105,66 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * The compression algorithms supported by the server. If not set then {@code gzip} and {@code deflate} are supported.
+     * <p>
+     * The algorithm is selected according to the {@code Accept-Encoding} header of the request. If the client accepts
+     * multiple algorithms with the same weight then {@code br} is preferred over {@code zstd}, {@code gzip} and
+     * {@code deflate}. The {@code br} and {@code zstd} algorithms are ignored if the corresponding native library is not
+     * available.
+     */
+    @ConfigItem
+    public Optional<List<Compressor>> compressors;
+
+    /**
+     * The minimum size of a response body that is compressed. Smaller responses are not compressed because the saving does
+     * not outweigh the CPU time spent on compression. Only applies to responses with a known {@code Content-Length}.
+     */
+    @ConfigItem(defaultValue = "0")
+    public MemorySize compressionMinSize;
+
+    /**
+     * If enabled then the static resources found in {@code META-INF/resources} are indexed during the build and served from
+     * memory with a precomputed {@code ETag} and {@code Content-Length}. The resources from {@code META-INF/resources/webjars}
+     * are not indexed.
+     * <p>
+     * Resources with a media type listed in {@link #compressMediaTypes} are also compressed during the build, using gzip and
+     * brotli if the native brotli library is available. The encoding is negotiated from the {@code Accept-Encoding} header
+     * and no compression is performed at runtime.
+     */
+    @ConfigItem(name = "static-resources.precompress")
+    public boolean staticResourcesPrecompress;
+
+    /**
+     * The maximum size of a static resource that is indexed when {@code quarkus.http.static-resources.precompress} is
+     * enabled. Larger resources are served from the classpath.
+     */
+    @ConfigItem(name = "static-resources.precompress-max-size", defaultValue = "1M")
+    public MemorySize staticResourcesPrecompressMaxSize;
+
+    /**
+     * The maximum total size of the static resources that are indexed when {@code quarkus.http.static-resources.precompress}
+     * is enabled, including the compressed variants. The resources found once the limit is reached are served from the
+     * classpath.
+     */
+    @ConfigItem(name = "static-resources.precompress-max-total-size", defaultValue = "16M")
+    public MemorySize staticResourcesPrecompressMaxTotalSize;
+
+    /**
+     * The request timing config
+     */
+    public RequestTimingConfig requestTiming;
+
+    /**
+     * The event loop monitor config
+     */
+    public EventLoopMonitorBuildTimeConfig eventLoopMonitor;
+
+    public enum Compressor {
+        GZIP,
+        DEFLATE,
+        BR,
+        ZSTD
+    }
 }
@@ -0,0 +1,134 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Adds the {@code Content-Encoding: identity} HTTP header that disables the compression by default. Subsequent handlers can
+ * remove the header to enable the compression for the current HTTP response.
+ * <p>
+ * Right before the headers are written, a response with a known body size smaller than
+ * {@link HttpBuildTimeConfig#compressionMinSize} is excluded from the compression.
+ */
+public class HttpCompressionPolicyHandler implements Handler<RoutingContext> {
+
+    static final String RESPONSES_METRIC = "http.server.compression.responses";
+    static final String BYTES_METRIC = "http.server.compression.bytes";
+
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder skippedResponses = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+
+    private final long minSize;
+    private final Set<String> encodings;
+    private final boolean metricsEnabled;
+
+    /**
+     *
+     * @param minSize the minimum size of a compressed response body
+     * @param encodings the encodings supported by the server compressors, used to determine whether a response is compressed
+     * @param metricsEnabled whether the compressed responses are counted
+     */
+    public HttpCompressionPolicyHandler(long minSize, Set<String> encodings, boolean metricsEnabled) {
+        this.minSize = minSize;
+        this.encodings = encodings;
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * Registers the compression metrics.
+     *
+     * @param metricsFactory
+     */
+    public void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder(RESPONSES_METRIC)
+                .description("Number of responses compressed by the server")
+                .tag("result", "compressed")
+                .buildCounter(compressedResponses::sum);
+        metricsFactory.builder(RESPONSES_METRIC)
+                .description("Number of responses not compressed because the body is smaller than the minimum size")
+                .tag("result", "skipped")
+                .buildCounter(skippedResponses::sum);
+        metricsFactory.builder(BYTES_METRIC)
+                .description("Uncompressed size of the compressed responses with a known body size")
+                .unit("bytes")
+                .buildCounter(compressedBytes::sum);
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        // Add "Content-Encoding: identity" header that disables the compression
+        // This header can be removed to enable the compression
+        ctx.response().putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+        String acceptEncoding;
+        if ((minSize > 0 || metricsEnabled)
+                && ctx.request().method() != HttpMethod.HEAD
+                && (acceptEncoding = ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING)) != null
+                && acceptsEncoding(acceptEncoding)) {
+            // Headers end handlers are invoked in reverse order, i.e. this handler is invoked after the handlers
+            // registered by the routes that may enable the compression
+            ctx.addHeadersEndHandler(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    HttpServerResponse response = ctx.response();
+                    applyPolicy(response.getStatusCode(), response.headers());
+                }
+            });
+        }
+        ctx.next();
+    }
+
+    void applyPolicy(int statusCode, MultiMap headers) {
+        if (headers.contains(HttpHeaders.CONTENT_ENCODING)) {
+            // The compression is disabled or the body is already encoded
+            return;
+        }
+        if (statusCode < 200 || statusCode == 204 || statusCode == 304) {
+            // These responses have no body and are never compressed
+            return;
+        }
+        String contentLength = headers.get(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            long length;
+            try {
+                length = Long.parseLong(contentLength);
+            } catch (NumberFormatException e) {
+                return;
+            }
+            if (length == 0) {
+                return;
+            }
+            if (length < minSize) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                skippedResponses.increment();
+                return;
+            }
+            compressedBytes.add(length);
+        }
+        compressedResponses.increment();
+    }
+
+    /**
+     * The response is only compressed if the client accepts one of the encodings supported by the server compressors.
+     */
+    boolean acceptsEncoding(String acceptEncoding) {
+        if (PrecompressedStaticResourcesHandler.accepts(acceptEncoding, "*")) {
+            return true;
+        }
+        for (String encoding : encodings) {
+            if (PrecompressedStaticResourcesHandler.accepts(acceptEncoding, encoding)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
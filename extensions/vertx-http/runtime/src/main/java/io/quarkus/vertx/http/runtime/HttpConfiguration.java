@@ -10,6 +10,8 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.vertx.http.runtime.cors.CORSConfig;
+import io.quarkus.vertx.http.runtime.eventloop.EventLoopMonitorConfig;
+import io.quarkus.vertx.http.runtime.ratelimit.RateLimitConfig;
 
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
 public class HttpConfiguration {
@@ -117,6 +119,22 @@ public class HttpConfiguration {
      */
     public CORSConfig cors;
 
+    /**
+     * Rate limit policies, keyed by the policy name.
+     */
+    @ConfigItem
+    public Map<String, RateLimitConfig> rateLimit;
+
+    /**
+     * The concurrency limit config
+     */
+    public ConcurrencyLimitConfig concurrencyLimit;
+
+    /**
+     * The event loop monitor config
+     */
+    public EventLoopMonitorConfig eventLoopMonitor;
+
     /**
      * The SSL config
      */
@@ -217,6 +235,23 @@ public class HttpConfiguration {
     @ConfigItem
     public OptionalInt initialWindowSize;
 
+    /**
+     * Set the HTTP/2 connection window size (in octets), i.e. the connection-level flow-control window for the data
+     * received by the server. The window is shared by all streams of a connection, therefore it should be large enough
+     * to not limit the concurrent streams, e.g. {@code max-concurrent-streams * initial-window-size}.
+     * The initial value is {@code 2^16-1} (65,535) octets.
+     */
+    @ConfigItem
+    public OptionalInt http2ConnectionWindowSize;
+
+    /**
+     * If enabled then the HTTP/2 connection window grows with the number of concurrent streams of a connection, so that
+     * it is never smaller than the number of active streams multiplied by the initial stream window size.
+     * The connection window never shrinks.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean http2ConnectionWindowAutoTuning;
+
     /**
      * Path to a unix domain socket
      */
@@ -0,0 +1,87 @@
+package io.quarkus.vertx.http.runtime;
+
+/**
+ * A static resource indexed during the build.
+ *
+ * @see HttpBuildTimeConfig#staticResourcesPrecompress
+ */
+public class PrecompressedStaticResource {
+
+    /**
+     * The location of the compressed variants, the path of the resource is appended.
+     */
+    public static final String PRECOMPRESSED_RESOURCES = "META-INF/quarkus-precompressed-resources";
+
+    public static final String GZIP_SUFFIX = ".gz";
+    public static final String BROTLI_SUFFIX = ".br";
+
+    private String path;
+    private String etag;
+    private boolean gzip;
+    private boolean brotli;
+    private long lastModified;
+
+    public PrecompressedStaticResource() {
+    }
+
+    public PrecompressedStaticResource(String path, String etag, boolean gzip, boolean brotli, long lastModified) {
+        this.path = path;
+        this.etag = etag;
+        this.gzip = gzip;
+        this.brotli = brotli;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     *
+     * @return the path relative to {@code META-INF/resources}, starting with a slash
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     *
+     * @return the hash of the uncompressed content
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    public boolean isBrotli() {
+        return brotli;
+    }
+
+    public void setBrotli(boolean brotli) {
+        this.brotli = brotli;
+    }
+
+    /**
+     *
+     * @return the last modification time of the resource in milliseconds since the epoch
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+    }
+
+}
@@ -0,0 +1,266 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.Utils;
+
+/**
+ * Serves the static resources indexed during the build from memory.
+ * <p>
+ * The content and the headers of all variants are computed when the handler is created. The variant is selected according to
+ * the {@code Accept-Encoding} header. Range requests and resources that are not indexed are passed to the next handler.
+ */
+class PrecompressedStaticResourcesHandler implements Handler<RoutingContext> {
+
+    private static final Logger LOG = Logger.getLogger(PrecompressedStaticResourcesHandler.class);
+
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+
+    private final Map<String, Entry> entries;
+    private final String indexPage;
+    private final String cacheControl;
+    private final boolean rangeSupport;
+
+    PrecompressedStaticResourcesHandler(List<PrecompressedStaticResource> resources, String indexPage,
+            StaticResourcesConfig config, ClassLoader classLoader) {
+        this.indexPage = indexPage;
+        this.cacheControl = config.cachingEnabled ? "public, immutable, max-age=" + config.maxAge.toSeconds() : null;
+        this.rangeSupport = config.enableRangeSupport;
+        Map<String, Entry> entries = new HashMap<>();
+        for (PrecompressedStaticResource resource : resources) {
+            if (!config.includeHidden && resource.getPath().contains("/.")) {
+                continue;
+            }
+            try {
+                Entry entry = load(resource, classLoader);
+                if (entry != null) {
+                    entries.put(resource.getPath(), entry);
+                }
+            } catch (IOException e) {
+                LOG.warnf(e, "Unable to load the precompressed static resource: %s", resource.getPath());
+            }
+        }
+        this.entries = entries;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        if (request.method() == HttpMethod.OPTIONS || request.headers().contains(HttpHeaderNames.RANGE)) {
+            ctx.next();
+            return;
+        }
+        String rel = ctx.mountPoint() == null ? ctx.normalizedPath()
+                : ctx.normalizedPath().substring(
+                        ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
+        if (rel.endsWith("/")) {
+            rel = rel.concat(indexPage);
+        }
+        Entry entry = entries.get(rel);
+        if (entry == null) {
+            ctx.next();
+            return;
+        }
+        Variant variant = entry.select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, variant.etag);
+        if (entry.hasVariants()) {
+            headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (rangeSupport) {
+            // Range requests are served by the next handler
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+        if (entry.lastModified != null) {
+            headers.set(HttpHeaders.LAST_MODIFIED, entry.lastModified);
+        }
+        if (isNotModified(request, variant.etag, entry.lastModifiedMillis)) {
+            response.setStatusCode(304).end();
+            return;
+        }
+        if (entry.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, entry.contentType);
+        }
+        if (variant.encoding != null) {
+            // This also prevents the response from being compressed again
+            headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        }
+        headers.set(HttpHeaders.CONTENT_LENGTH, variant.contentLength);
+        if (request.method() == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            response.end(variant.content);
+        }
+    }
+
+    private static Entry load(PrecompressedStaticResource resource, ClassLoader classLoader) throws IOException {
+        byte[] content = read(classLoader, StaticResourcesRecorder.META_INF_RESOURCES + resource.getPath());
+        if (content == null) {
+            return null;
+        }
+        String contentType = MimeMapping.getMimeTypeForFilename(resource.getPath());
+        if (contentType != null && contentType.startsWith("text")) {
+            contentType = contentType + ";charset=UTF-8";
+        }
+        Variant identity = new Variant(content, null, "\"" + resource.getEtag() + "\"");
+        Variant gzip = null;
+        Variant brotli = null;
+        if (resource.isGzip()) {
+            gzip = loadVariant(classLoader, resource, PrecompressedStaticResource.GZIP_SUFFIX, GZIP);
+        }
+        if (resource.isBrotli()) {
+            brotli = loadVariant(classLoader, resource, PrecompressedStaticResource.BROTLI_SUFFIX, BROTLI);
+        }
+        return new Entry(contentType, identity, gzip, brotli, resource.getLastModified());
+    }
+
+    private static Variant loadVariant(ClassLoader classLoader, PrecompressedStaticResource resource, String suffix,
+            String encoding) throws IOException {
+        byte[] content = read(classLoader, PrecompressedStaticResource.PRECOMPRESSED_RESOURCES + resource.getPath() + suffix);
+        // Each variant needs a distinct entity tag
+        return content != null ? new Variant(content, encoding, "\"" + resource.getEtag() + "-" + encoding + "\"") : null;
+    }
+
+    private static byte[] read(ClassLoader classLoader, String name) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            return in != null ? in.readAllBytes() : null;
+        }
+    }
+
+    static boolean isNotModified(HttpServerRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-Modified-Since is ignored if If-None-Match is present
+            return matches(ifNoneMatch, etag);
+        }
+        String ifModifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince == null || lastModified <= 0) {
+            return false;
+        }
+        try {
+            return lastModified <= Utils.parseRFC1123DateTime(ifModifiedSince);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String value : ifNoneMatch.split(",")) {
+            value = value.trim();
+            if (value.startsWith("W/")) {
+                // Weak comparison
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean accepts(String acceptEncoding, String encoding) {
+        for (String value : acceptEncoding.split(",")) {
+            int semicolon = value.indexOf(';');
+            String name = (semicolon == -1 ? value : value.substring(0, semicolon)).trim();
+            if (name.equalsIgnoreCase(encoding)) {
+                return semicolon == -1 || !isZeroQuality(value.substring(semicolon + 1));
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static final class Entry {
+
+        final String contentType;
+        final Variant identity;
+        final Variant gzip;
+        final Variant brotli;
+        final String lastModified;
+        final long lastModifiedMillis;
+
+        Entry(String contentType, Variant identity, Variant gzip, Variant brotli, long lastModified) {
+            this.contentType = contentType;
+            this.identity = identity;
+            this.gzip = gzip;
+            this.brotli = brotli;
+            // The HTTP date has a precision of one second
+            this.lastModifiedMillis = lastModified > 0 ? lastModified - lastModified % 1000 : 0;
+            this.lastModified = lastModified > 0 ? Utils.formatRFC1123DateTime(lastModified) : null;
+        }
+
+        boolean hasVariants() {
+            return gzip != null || brotli != null;
+        }
+
+        Variant select(String acceptEncoding) {
+            if (acceptEncoding == null || !hasVariants()) {
+                return identity;
+            }
+            // Brotli is preferred because the content is usually smaller
+            if (brotli != null && accepts(acceptEncoding, BROTLI)) {
+                return brotli;
+            }
+            if (gzip != null && accepts(acceptEncoding, GZIP)) {
+                return gzip;
+            }
+            return identity;
+        }
+
+    }
+
+    static final class Variant {
+
+        final Buffer content;
+        final String contentLength;
+        final String encoding;
+        final String etag;
+
+        Variant(byte[] content, String encoding, String etag) {
+            // The buffer is not reference counted and can be written multiple times
+            this.content = Buffer.buffer(content);
+            this.contentLength = String.valueOf(content.length);
+            this.encoding = encoding;
+            this.etag = etag;
+        }
+
+    }
+
+}
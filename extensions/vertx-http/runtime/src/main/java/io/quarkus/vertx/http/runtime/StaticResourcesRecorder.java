@@ -39,6 +39,10 @@ public static void setHotDeploymentResources(List<Path> resources) {
     }
 
     public Consumer<Route> start(Set<String> knownPaths) {
+        return start(knownPaths, List.of());
+    }
+
+    public Consumer<Route> start(Set<String> knownPaths, List<PrecompressedStaticResource> precompressedResources) {
         if (httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.compressMediaTypes.isPresent()) {
             this.compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
         }
@@ -71,6 +75,15 @@ public void handle(RoutingContext ctx) {
         }
         if (!knownPaths.isEmpty()) {
             ClassLoader currentCl = Thread.currentThread().getContextClassLoader();
+            // normalize index page like StaticHandler because its not expose
+            // TODO: create a converter to normalize filename in config.indexPage?
+            final String indexPage = (config.indexPage.charAt(0) == '/')
+                    ? config.indexPage.substring(1)
+                    : config.indexPage;
+            if (!precompressedResources.isEmpty()) {
+                // Resources indexed during the build are served from memory
+                handlers.add(new PrecompressedStaticResourcesHandler(precompressedResources, indexPage, config, currentCl));
+            }
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES)
                     .setDefaultContentEncoding("UTF-8")
                     .setCachingEnabled(config.cachingEnabled)
@@ -80,11 +93,6 @@ public void handle(RoutingContext ctx) {
                     .setMaxCacheSize(config.maxCacheSize)
                     .setCacheEntryTimeout(config.cacheEntryTimeout.toMillis())
                     .setMaxAgeSeconds(config.maxAge.toSeconds());
-            // normalize index page like StaticHandler because its not expose
-            // TODO: create a converter to normalize filename in config.indexPage?
-            final String indexPage = (config.indexPage.charAt(0) == '/')
-                    ? config.indexPage.substring(1)
-                    : config.indexPage;
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
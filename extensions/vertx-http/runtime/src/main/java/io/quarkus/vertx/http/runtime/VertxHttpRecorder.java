@@ -3,6 +3,7 @@
 import static io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle.setContextSafe;
 import static io.quarkus.vertx.http.runtime.options.HttpServerOptionsUtils.RANDOM_PORT_MAIN_HTTP;
 import static io.quarkus.vertx.http.runtime.options.HttpServerOptionsUtils.RANDOM_PORT_MANAGEMENT;
+import static io.quarkus.vertx.http.runtime.options.HttpServerOptionsUtils.getCompressionEncodings;
 import static io.quarkus.vertx.http.runtime.options.HttpServerOptionsUtils.getInsecureRequestStrategy;
 
 import java.io.File;
@@ -16,6 +17,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -58,6 +60,7 @@
 import io.quarkus.runtime.configuration.ConfigInstantiator;
 import io.quarkus.runtime.configuration.ConfigUtils;
 import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.config.VertxConfiguration;
@@ -66,12 +69,14 @@
 import io.quarkus.vertx.http.runtime.HttpConfiguration.InsecureRequests;
 import io.quarkus.vertx.http.runtime.devmode.RemoteSyncHandler;
 import io.quarkus.vertx.http.runtime.devmode.VertxHttpHotReplacementSetup;
+import io.quarkus.vertx.http.runtime.filters.ConcurrencyLimitFilter;
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.Filters;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.BatchingAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
@@ -366,9 +371,9 @@ public void finalizeRouter(BeanContainer container, Consumer<Route> defaultRoute
             RuntimeValue<Router> frameworkRouter, RuntimeValue<Router> managementRouter,
             String rootPath, String nonRootPath,
             LaunchMode launchMode, BooleanSupplier[] requireBodyHandlerConditions,
-            Handler<RoutingContext> bodyHandler,
-            GracefulShutdownFilter gracefulShutdownFilter, ShutdownConfig shutdownConfig,
-            Executor executor) {
+            Handler<RoutingContext> bodyHandler, Handler<RoutingContext> compressionPolicyHandler,
+            GracefulShutdownFilter gracefulShutdownFilter, RuntimeValue<ConcurrencyLimitFilter> concurrencyLimitFilter,
+            ShutdownConfig shutdownConfig, Executor executor, ShutdownContext shutdown) {
         HttpConfiguration httpConfiguration = this.httpConfiguration.getValue();
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
@@ -403,7 +408,7 @@ public void finalizeRouter(BeanContainer container, Consumer<Route> defaultRoute
             defaultRouteHandler.accept(httpRouteRouter.route().order(RouteConstants.ROUTE_ORDER_DEFAULT));
         }
 
-        applyCompression(httpBuildTimeConfig.enableCompression, httpRouteRouter);
+        applyCompression(compressionPolicyHandler, httpRouteRouter);
         httpRouteRouter.route().last().failureHandler(
                 new QuarkusErrorHandler(launchMode.isDevOrTest(), httpConfiguration.unhandledErrorContentTypeDefault));
 
@@ -473,13 +478,35 @@ public void handle(RoutingContext event) {
             quarkusWrapperNeeded = true;
         }
 
+        if (concurrencyLimitFilter.getValue() != null) {
+            concurrencyLimitFilter.getValue().next(root);
+            root = concurrencyLimitFilter.getValue();
+            quarkusWrapperNeeded = true;
+        }
+
         AccessLogConfig accessLog = httpConfiguration.accessLog;
         if (accessLog.enabled) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
-                        accessLog.rotate);
+                if (accessLog.batched) {
+                    BatchingAccessLogReceiver batchingReceiver = new BatchingAccessLogReceiver(outputDir.toPath(),
+                            accessLog.baseFileName, accessLog.logSuffix, accessLog.rotate, accessLog.queueSize);
+                    shutdown.addLastShutdownTask(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                batchingReceiver.close();
+                            } catch (IOException e) {
+                                LOGGER.error("Unable to close the access log", e);
+                            }
+                        }
+                    });
+                    receiver = batchingReceiver;
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
+                            accessLog.rotate);
+                }
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
@@ -554,7 +581,9 @@ public void handle(RoutingContext event) {
             }
 
             HttpServerCommonHandlers.applyHeaders(managementConfiguration.getValue().header, mr);
-            applyCompression(managementBuildTimeConfig.enableCompression, mr);
+            if (managementBuildTimeConfig.enableCompression) {
+                applyCompression(new HttpCompressionPolicyHandler(0, Set.of(), false), mr);
+            }
 
             Handler<HttpServerRequest> handler = HttpServerCommonHandlers.enforceDuplicatedContext(mr);
             handler = HttpServerCommonHandlers.applyProxy(managementConfiguration.getValue().proxy, handler, vertx);
@@ -565,17 +594,9 @@ public void handle(RoutingContext event) {
         }
     }
 
-    private void applyCompression(boolean enableCompression, Router httpRouteRouter) {
-        if (enableCompression) {
-            httpRouteRouter.route().order(RouteConstants.ROUTE_ORDER_COMPRESSION).handler(new Handler<RoutingContext>() {
-                @Override
-                public void handle(RoutingContext ctx) {
-                    // Add "Content-Encoding: identity" header that disables the compression
-                    // This header can be removed to enable the compression
-                    ctx.response().putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
-                    ctx.next();
-                }
-            });
+    private void applyCompression(Handler<RoutingContext> compressionPolicyHandler, Router httpRouteRouter) {
+        if (compressionPolicyHandler != null) {
+            httpRouteRouter.route().order(RouteConstants.ROUTE_ORDER_COMPRESSION).handler(compressionPolicyHandler);
         }
     }
 
@@ -1174,9 +1195,26 @@ private void setupUnixDomainSocketHttpServer(HttpServer httpServer, HttpServerOp
             });
         }
 
+        private Http2ConnectionObserver createHttp2ConnectionObserver() {
+            if (!quarkusConfig.http2) {
+                return null;
+            }
+            var tracker = vertx.isMetricsEnabled()
+                    && ((VertxInternal) vertx).metricsSPI() instanceof ExtendedQuarkusVertxHttpMetrics
+                            ? ((ExtendedQuarkusVertxHttpMetrics) ((VertxInternal) vertx).metricsSPI()).getHttp2StreamTracker()
+                            : ExtendedQuarkusVertxHttpMetrics.NOOP_HTTP2_STREAM_TRACKER;
+            if (!quarkusConfig.http2ConnectionWindowAutoTuning
+                    && tracker == ExtendedQuarkusVertxHttpMetrics.NOOP_HTTP2_STREAM_TRACKER) {
+                return null;
+            }
+            return new Http2ConnectionObserver(tracker, quarkusConfig.http2ConnectionWindowAutoTuning);
+        }
+
         private void setupTcpHttpServer(HttpServer httpServer, HttpServerOptions options, boolean https,
                 Promise<Void> startFuture, AtomicInteger remainingCount, AtomicInteger currentConnectionCount) {
 
+            final Http2ConnectionObserver http2ConnectionObserver = createHttp2ConnectionObserver();
+
             if (quarkusConfig.limits.maxConnections.isPresent() && quarkusConfig.limits.maxConnections.getAsInt() > 0) {
                 var tracker = vertx.isMetricsEnabled()
                         ? ((ExtendedQuarkusVertxHttpMetrics) ((VertxInternal) vertx).metricsSPI()).getHttpConnectionTracker()
@@ -1206,8 +1244,13 @@ public void handle(Void event) {
                                 currentConnectionCount.decrementAndGet();
                             }
                         });
+                        if (http2ConnectionObserver != null) {
+                            http2ConnectionObserver.handle(event);
+                        }
                     }
                 });
+            } else if (http2ConnectionObserver != null) {
+                httpServer.connectionHandler(http2ConnectionObserver);
             }
             httpServer.listen(options.getPort(), options.getHost(), new Handler<>() {
                 @Override
@@ -1459,6 +1502,44 @@ public void run() {
         };
     }
 
+    /**
+     * @return the concurrency limit filter, or an empty value if the concurrency limit is disabled
+     */
+    public RuntimeValue<ConcurrencyLimitFilter> createConcurrencyLimitFilter(String rootPath, String nonRootPath) {
+        HttpConfiguration httpConfiguration = this.httpConfiguration.getValue();
+        if (!httpConfiguration.concurrencyLimit.enabled) {
+            return new RuntimeValue<>();
+        }
+        // The non-application endpoints, e.g. health checks, are never rejected
+        String neverShedPrefix = nonRootPath.equals(rootPath) || nonRootPath.equals("/") ? null : nonRootPath;
+        return new RuntimeValue<>(new ConcurrencyLimitFilter(httpConfiguration.concurrencyLimit, neverShedPrefix));
+    }
+
+    public Consumer<MetricsFactory> registerConcurrencyLimitMetrics(RuntimeValue<ConcurrencyLimitFilter> filter) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (filter.getValue() != null) {
+                    filter.getValue().registerMetrics(metricsFactory);
+                }
+            }
+        };
+    }
+
+    public Handler<RoutingContext> createCompressionPolicyHandler(boolean metricsEnabled) {
+        return new HttpCompressionPolicyHandler(httpBuildTimeConfig.compressionMinSize.asLongValue(),
+                getCompressionEncodings(httpBuildTimeConfig), metricsEnabled);
+    }
+
+    public Consumer<MetricsFactory> registerCompressionMetrics(Handler<RoutingContext> compressionPolicyHandler) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                ((HttpCompressionPolicyHandler) compressionPolicyHandler).registerMetrics(metricsFactory);
+            }
+        };
+    }
+
     public Handler<RoutingContext> createBodyHandler() {
         Optional<MemorySize> maxBodySize = httpConfiguration.getValue().limits.maxBodySize;
         return configureAndGetBody(maxBodySize, httpConfiguration.getValue().body);
@@ -8,6 +8,15 @@
  */
 public class CompositeExchangeAttribute implements ExchangeAttribute {
 
+    private static final int MAX_BUILDER_CAPACITY = 8 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
     private final ExchangeAttribute[] attributes;
 
     public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
@@ -18,14 +27,24 @@ public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
-        final StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < attributes.length; ++i) {
-            final String val = attributes[i].readAttribute(exchange);
-            if (val != null) {
-                sb.append(val);
+        // The builder is reused by all attributes read on the same thread, nested composites append after the current content
+        final StringBuilder sb = BUILDER.get();
+        final int start = sb.length();
+        try {
+            for (int i = 0; i < attributes.length; ++i) {
+                final String val = attributes[i].readAttribute(exchange);
+                if (val != null) {
+                    sb.append(val);
+                }
+            }
+            return sb.substring(start);
+        } finally {
+            sb.setLength(start);
+            if (start == 0 && sb.capacity() > MAX_BUILDER_CAPACITY) {
+                // Do not keep exceptionally large builders around
+                BUILDER.remove();
             }
         }
-        return sb.toString();
     }
 
     @Override
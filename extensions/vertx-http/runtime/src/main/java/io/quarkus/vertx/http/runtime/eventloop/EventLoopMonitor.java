@@ -0,0 +1,406 @@
+package io.quarkus.vertx.http.runtime.eventloop;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Measures the lag of the event loops and attributes long executions on the event loops to the HTTP routes.
+ * <p>
+ * A probe task is scheduled on every event loop in the configured interval. The lag is the delay between the time the probe
+ * was scheduled for and the time it actually ran, i.e. the time the event loop was busy with other tasks. The lag is
+ * reported for the whole event loop, whereas the {@link EventLoopMonitorHandler} measures the time each request executes
+ * on the event loop before it returns, and reports the routes that exceed the blocking threshold.
+ */
+public final class EventLoopMonitor {
+
+    private static final Logger LOGGER = Logger.getLogger(EventLoopMonitor.class.getName());
+
+    static final String OTHER_ROUTE = "OTHER";
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private static final int MAX_STACK_DEPTH = 20;
+    // At most one stack is logged as a warning in this interval, the other ones are logged at the DEBUG level
+    private static final long WARNING_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+
+    private final long probeInterval;
+    private final long blockingThreshold;
+    private final int maxRoutes;
+    private final boolean stackSampling;
+
+    private final List<Probe> probes = new CopyOnWriteArrayList<>();
+    private final Map<Thread, Execution> executions = new ConcurrentHashMap<>();
+    private final Map<String, Offender> offenders = new ConcurrentHashMap<>();
+    private final ThreadLocal<Execution> currentExecution = new ThreadLocal<>();
+
+    private final LongAdder lagCount = new LongAdder();
+    private final LongAdder lagTotal = new LongAdder();
+    private final AtomicLong lagMax = new AtomicLong();
+    private volatile MetricsFactory metricsFactory;
+    private volatile TimeRecorder lagRecorder;
+    // Only used by the sampler thread
+    private long nextWarning = System.nanoTime();
+    private int suppressedWarnings;
+
+    private volatile boolean running;
+    private Thread sampler;
+
+    EventLoopMonitor(EventLoopMonitorConfig config) {
+        this.probeInterval = config.probeInterval.toNanos();
+        this.blockingThreshold = config.blockingThreshold.toNanos();
+        this.maxRoutes = config.maxRoutes;
+        this.stackSampling = config.stackSampling;
+    }
+
+    void registerMetrics(MetricsFactory factory) {
+        lagRecorder = factory.builder("vertx.eventloop.lag")
+                .description("The delay of tasks scheduled on the event loops")
+                .buildTimer();
+        metricsFactory = factory;
+    }
+
+    void start(Vertx vertx) {
+        running = true;
+        for (EventExecutor executor : ((VertxInternal) vertx).getEventLoopGroup()) {
+            Probe probe = new Probe(executor);
+            probes.add(probe);
+            probe.schedule();
+        }
+        if (stackSampling) {
+            sampler = new Thread(this::sampleStacks, "event-loop-monitor");
+            sampler.setDaemon(true);
+            sampler.start();
+        }
+    }
+
+    void stop() {
+        running = false;
+        for (Probe probe : probes) {
+            probe.cancel();
+        }
+        if (sampler != null) {
+            sampler.interrupt();
+        }
+    }
+
+    /**
+     * @return the number of lag measurements
+     */
+    public long getLagCount() {
+        return lagCount.sum();
+    }
+
+    /**
+     * @return the mean lag of all event loops in nanoseconds
+     */
+    public long getMeanLag() {
+        long count = lagCount.sum();
+        return count == 0 ? 0 : lagTotal.sum() / count;
+    }
+
+    /**
+     * @return the max lag of all event loops in nanoseconds
+     */
+    public long getMaxLag() {
+        return lagMax.get();
+    }
+
+    /**
+     * @return the event loops that were probed so far
+     */
+    public List<EventLoop> getEventLoops() {
+        List<EventLoop> result = new ArrayList<>(probes.size());
+        for (Probe probe : probes) {
+            if (probe.threadName != null) {
+                result.add(new EventLoop(probe.threadName, probe.lastLag, probe.maxLag));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param limit
+     * @return the routes that blocked an event loop for the longest total time, in descending order
+     */
+    public List<Offender> getTopOffenders(int limit) {
+        List<Offender> result = new ArrayList<>(offenders.values());
+        result.sort(Comparator.comparingLong(Offender::getTotalTime).reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    Execution enter(String description) {
+        Execution execution = currentExecution.get();
+        if (execution == null) {
+            execution = new Execution();
+            currentExecution.set(execution);
+            executions.put(Thread.currentThread(), execution);
+        } else if (execution.start != 0) {
+            // Nested execution, e.g. a rerouted request, is measured by the outer execution
+            return null;
+        }
+        execution.description = description;
+        execution.sampledStack = null;
+        execution.start = System.nanoTime();
+        return execution;
+    }
+
+    void exit(Execution execution, RoutingContext event) {
+        long duration = System.nanoTime() - execution.start;
+        execution.start = 0;
+        if (duration >= blockingThreshold) {
+            offender(EventLoopMonitorHandler.route(event)).record(duration, execution.sampledStack, metricsFactory);
+        }
+    }
+
+    private Offender offender(String route) {
+        Offender offender = offenders.get(route);
+        if (offender == null) {
+            if (offenders.size() >= maxRoutes) {
+                route = OTHER_ROUTE;
+            }
+            offender = offenders.computeIfAbsent(route, Offender::new);
+        }
+        return offender;
+    }
+
+    private void recordLag(long lag) {
+        lagCount.increment();
+        lagTotal.add(lag);
+        lagMax.accumulateAndGet(lag, Math::max);
+        TimeRecorder recorder = lagRecorder;
+        if (recorder != null) {
+            recorder.update(lag, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void sampleStacks() {
+        long interval = TimeUnit.NANOSECONDS.toMillis(probeInterval);
+        while (running) {
+            try {
+                Thread.sleep(Math.max(1, interval));
+            } catch (InterruptedException e) {
+                return;
+            }
+            long now = System.nanoTime();
+            for (Map.Entry<Thread, Execution> e : executions.entrySet()) {
+                Execution execution = e.getValue();
+                long start = execution.start;
+                if (start != 0 && execution.sampledStack == null && now - start >= blockingThreshold) {
+                    StackTraceElement[] stack = e.getKey().getStackTrace();
+                    if (execution.start != start) {
+                        // The execution completed in the meantime
+                        continue;
+                    }
+                    execution.sampledStack = toString(stack);
+                    logStack(e.getKey(), execution, stack, now - start, now);
+                }
+            }
+        }
+    }
+
+    // Only called by the sampler thread
+    private void logStack(Thread thread, Execution execution, StackTraceElement[] stack, long duration, long now) {
+        BlockedExecution blocked = new BlockedExecution();
+        blocked.setStackTrace(stack);
+        if (now - nextWarning >= 0) {
+            nextWarning = now + WARNING_INTERVAL;
+            LOGGER.warnf(blocked, "Thread %s has been executing %s for %d ms (%d similar warnings suppressed)",
+                    thread.getName(), execution.description, TimeUnit.NANOSECONDS.toMillis(duration), suppressedWarnings);
+            suppressedWarnings = 0;
+        } else {
+            suppressedWarnings++;
+            LOGGER.debugf(blocked, "Thread %s has been executing %s for %d ms", thread.getName(), execution.description,
+                    TimeUnit.NANOSECONDS.toMillis(duration));
+        }
+    }
+
+    private static String toString(StackTraceElement[] stack) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < stack.length && i < MAX_STACK_DEPTH; i++) {
+            sb.append("at ").append(stack[i]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    static final class Execution {
+
+        volatile long start;
+        volatile String description;
+        volatile String sampledStack;
+
+    }
+
+    /**
+     * The statistics of a single event loop.
+     */
+    public static final class EventLoop {
+
+        private final String thread;
+        private final long lastLag;
+        private final long maxLag;
+
+        EventLoop(String thread, long lastLag, long maxLag) {
+            this.thread = thread;
+            this.lastLag = lastLag;
+            this.maxLag = maxLag;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * @return the last measured lag in nanoseconds
+         */
+        public long getLastLag() {
+            return lastLag;
+        }
+
+        /**
+         * @return the max lag in nanoseconds
+         */
+        public long getMaxLag() {
+            return maxLag;
+        }
+
+    }
+
+    /**
+     * A route that blocked an event loop for longer than the blocking threshold.
+     */
+    public static final class Offender {
+
+        private final String route;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final AtomicLong maxTime = new AtomicLong();
+        private volatile String stack;
+        private volatile TimeRecorder recorder;
+
+        Offender(String route) {
+            this.route = route;
+        }
+
+        void record(long duration, String sampledStack, MetricsFactory factory) {
+            count.increment();
+            totalTime.add(duration);
+            maxTime.accumulateAndGet(duration, Math::max);
+            if (sampledStack != null) {
+                stack = sampledStack;
+            }
+            TimeRecorder recorder = this.recorder;
+            if (recorder == null) {
+                if (factory == null) {
+                    return;
+                }
+                recorder = this.recorder = factory.builder("vertx.eventloop.blocking")
+                        .description("The time HTTP requests blocked an event loop for longer than the threshold")
+                        .tag("route", route)
+                        .buildTimer();
+            }
+            recorder.update(duration, TimeUnit.NANOSECONDS);
+        }
+
+        public String getRoute() {
+            return route;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * @return the total blocking time in nanoseconds
+         */
+        public long getTotalTime() {
+            return totalTime.sum();
+        }
+
+        /**
+         * @return the max blocking time in nanoseconds
+         */
+        public long getMaxTime() {
+            return maxTime.get();
+        }
+
+        /**
+         * @return the last sampled stack, or {@code null} if no stack was sampled
+         */
+        public String getStack() {
+            return stack;
+        }
+
+    }
+
+    private final class Probe implements Runnable {
+
+        private final EventExecutor executor;
+        private volatile ScheduledFuture<?> future;
+        private long expected;
+        volatile String threadName;
+        volatile long lastLag;
+        volatile long maxLag;
+
+        Probe(EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        void schedule() {
+            if (!running || executor.isShuttingDown()) {
+                return;
+            }
+            expected = System.nanoTime() + probeInterval;
+            future = executor.schedule(this, probeInterval, TimeUnit.NANOSECONDS);
+        }
+
+        void cancel() {
+            ScheduledFuture<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            long lag = Math.max(0, System.nanoTime() - expected);
+            if (threadName == null) {
+                threadName = Thread.currentThread().getName();
+            }
+            lastLag = lag;
+            if (lag > maxLag) {
+                maxLag = lag;
+            }
+            recordLag(lag);
+            schedule();
+        }
+
+    }
+
+    /**
+     * Carries the stack of a sampled event loop thread.
+     */
+    private static final class BlockedExecution extends Exception {
+
+        BlockedExecution() {
+            super("Thread blocked", null, false, true);
+        }
+
+    }
+
+}
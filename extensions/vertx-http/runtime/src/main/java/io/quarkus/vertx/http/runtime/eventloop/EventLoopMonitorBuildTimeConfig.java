@@ -0,0 +1,16 @@
+package io.quarkus.vertx.http.runtime.eventloop;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class EventLoopMonitorBuildTimeConfig {
+
+    /**
+     * If enabled then the lag of the event loops is measured continuously and the HTTP requests that occupy an event loop
+     * for too long are attributed to their routes.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+}
@@ -0,0 +1,38 @@
+package io.quarkus.vertx.http.runtime.eventloop;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class EventLoopMonitorConfig {
+
+    /**
+     * The interval in which a probe task is scheduled on every event loop. The lag is the delay between the time the probe
+     * was scheduled for and the time it was executed.
+     */
+    @ConfigItem(defaultValue = "100ms")
+    public Duration probeInterval;
+
+    /**
+     * The time a request may execute on an event loop without returning before it is reported as blocking.
+     */
+    @ConfigItem(defaultValue = "50ms")
+    public Duration blockingThreshold;
+
+    /**
+     * If enabled then the stack of an event loop thread is sampled and logged when it executes a request for longer than
+     * the {@code blocking-threshold}. The stacks are sampled in the {@code probe-interval}, by a dedicated thread.
+     */
+    @ConfigItem
+    public boolean stackSampling;
+
+    /**
+     * The maximum number of distinct routes that are tracked. Requests for further routes are reported as the
+     * {@code OTHER} route.
+     */
+    @ConfigItem(defaultValue = "500")
+    public int maxRoutes;
+
+}
@@ -0,0 +1,62 @@
+package io.quarkus.vertx.http.runtime.eventloop;
+
+import io.quarkus.vertx.http.runtime.timing.RequestTimings;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.http.impl.HttpServerRequestInternal;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Measures the time a request executes on the event loop before the handler chain returns, e.g. before the request is
+ * dispatched to a worker thread or suspended.
+ */
+public class EventLoopMonitorHandler implements Handler<RoutingContext> {
+
+    // Set by the observability integration of Quarkus REST
+    private static final String URL_PATH_TEMPLATE = "UrlPathTemplate";
+
+    private final EventLoopMonitor monitor;
+
+    EventLoopMonitorHandler(EventLoopMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        if (!Context.isOnEventLoopThread()) {
+            event.next();
+            return;
+        }
+        EventLoopMonitor.Execution execution = monitor
+                .enter(event.request().method().name() + " " + event.normalizedPath());
+        if (execution == null) {
+            event.next();
+            return;
+        }
+        try {
+            event.next();
+        } finally {
+            monitor.exit(execution, event);
+        }
+    }
+
+    static String route(RoutingContext event) {
+        RequestTimings timings = event.get(RequestTimings.CONTEXT_KEY);
+        if (timings != null && timings.getRoute() != null) {
+            return timings.getRoute();
+        }
+        if (event.request() instanceof HttpServerRequestInternal) {
+            String template = ((HttpServerRequestInternal) event.request()).context().getLocal(URL_PATH_TEMPLATE);
+            if (template != null) {
+                return template;
+            }
+        }
+        Route route = event.currentRoute();
+        if (route != null && route.getPath() != null) {
+            return route.getPath();
+        }
+        return EventLoopMonitor.UNKNOWN_ROUTE;
+    }
+
+}
@@ -0,0 +1,43 @@
+package io.quarkus.vertx.http.runtime.eventloop;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class EventLoopMonitorRecorder {
+    final HttpConfiguration configuration;
+
+    public EventLoopMonitorRecorder(HttpConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    public RuntimeValue<EventLoopMonitor> startMonitor(Supplier<Vertx> vertx, ShutdownContext shutdown) {
+        EventLoopMonitor monitor = new EventLoopMonitor(configuration.eventLoopMonitor);
+        monitor.start(vertx.get());
+        shutdown.addShutdownTask(monitor::stop);
+        return new RuntimeValue<>(monitor);
+    }
+
+    public Handler<RoutingContext> monitorHandler(RuntimeValue<EventLoopMonitor> monitor) {
+        return new EventLoopMonitorHandler(monitor.getValue());
+    }
+
+    public Consumer<MetricsFactory> registerMetrics(RuntimeValue<EventLoopMonitor> monitor) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                monitor.getValue().registerMetrics(metricsFactory);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,211 @@
+package io.quarkus.vertx.http.runtime.filters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.vertx.http.runtime.ConcurrencyLimitConfig;
+import io.quarkus.vertx.http.runtime.security.ImmutablePathMatcher;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Limits the number of concurrently processed requests with a limit that adapts to the observed latency.
+ * <p>
+ * The latency samples are aggregated in windows. At the end of every window, the average latency of the window is compared
+ * to the long-term average: if the latency grows, requests queue up somewhere in the application and the limit is reduced
+ * proportionally, otherwise the limit grows by the square root of the current limit. The limit is only increased if the
+ * application actually used at least half of it during the window.
+ * <p>
+ * The filter runs before the routing, so rejected requests are cheap: the body is never read. They get a 503 response with
+ * a {@code Retry-After} header set to the sample window, as the limit is adjusted at the end of every window.
+ */
+public class ConcurrencyLimitFilter implements Handler<HttpServerRequest> {
+
+    private static final Logger log = Logger.getLogger(ConcurrencyLimitFilter.class);
+
+    // The number of windows the long-term latency is averaged over
+    private static final int LONG_WINDOW = 20;
+    private static final double LOW_PRIORITY_SHARE = 0.75;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long sampleWindow;
+    private final String retryAfter;
+    private final String neverShedPrefix;
+    private final ImmutablePathMatcher<Priority> priorities;
+
+    private volatile Handler<HttpServerRequest> next;
+    private volatile double limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder shed = new LongAdder();
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final LongAdder windowLatency = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private volatile double longLatency;
+
+    /**
+     * @param config
+     * @param neverShedPrefix the path prefix of the requests that are never rejected, or {@code null}
+     */
+    public ConcurrencyLimitFilter(ConcurrencyLimitConfig config, String neverShedPrefix) {
+        if (config.minLimit < 1 || config.maxLimit < config.minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limit bounds: " + config.minLimit + ".." + config.maxLimit);
+        }
+        this.minLimit = config.minLimit;
+        this.maxLimit = config.maxLimit;
+        this.tolerance = config.tolerance;
+        this.smoothing = config.smoothing;
+        this.sampleWindow = config.sampleWindow.toNanos();
+        // Retry-After is expressed in whole seconds
+        this.retryAfter = Long.toString(Math.max(1, (sampleWindow + 999_999_999) / 1_000_000_000));
+        this.limit = Math.max(minLimit, Math.min(maxLimit, config.initialLimit));
+        this.neverShedPrefix = neverShedPrefix;
+        var builder = ImmutablePathMatcher.<Priority> builder();
+        if (config.lowPriorityPaths.isPresent()) {
+            for (String path : config.lowPriorityPaths.get()) {
+                builder.addPath(path, Priority.LOW);
+            }
+        }
+        if (config.neverShedPaths.isPresent()) {
+            for (String path : config.neverShedPaths.get()) {
+                builder.addPath(path, Priority.CRITICAL);
+            }
+        }
+        this.priorities = builder.hasPaths() ? builder.build() : null;
+    }
+
+    public void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder("http.server.concurrency.limit")
+                .description("The current limit of concurrently processed HTTP requests")
+                .buildGauge(this::getLimit);
+        metricsFactory.builder("http.server.concurrency.in.flight")
+                .description("The number of concurrently processed HTTP requests")
+                .buildGauge(this::getInFlight);
+        metricsFactory.builder("http.server.concurrency.shed")
+                .description("The number of HTTP requests rejected because the concurrency limit was reached")
+                .buildCounter(this::getShedCount);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getShedCount() {
+        return shed.sum();
+    }
+
+    @Override
+    public void handle(HttpServerRequest event) {
+        Priority priority = priority(event.path());
+        if (priority == Priority.CRITICAL) {
+            next.handle(event);
+            return;
+        }
+        int threshold = priority == Priority.LOW ? (int) (limit * LOW_PRIORITY_SHARE) : (int) limit;
+        int current = inFlight.incrementAndGet();
+        if (current > threshold) {
+            inFlight.decrementAndGet();
+            shed.increment();
+            event.response().setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code())
+                    .putHeader(HttpHeaderNames.RETRY_AFTER, retryAfter)
+                    .end();
+            return;
+        }
+        if (current > windowMaxInFlight.get()) {
+            windowMaxInFlight.accumulateAndGet(current, Math::max);
+        }
+        long start = System.nanoTime();
+        ((QuarkusRequestWrapper) event).addRequestDoneHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void v) {
+                inFlight.decrementAndGet();
+                onSample(System.nanoTime() - start);
+            }
+        });
+        next.handle(event);
+    }
+
+    public void next(Handler<HttpServerRequest> next) {
+        this.next = next;
+    }
+
+    Priority priority(String path) {
+        if (path == null) {
+            return Priority.NORMAL;
+        }
+        if (neverShedPrefix != null && path.startsWith(neverShedPrefix)) {
+            return Priority.CRITICAL;
+        }
+        if (priorities != null) {
+            Priority priority = priorities.matchValue(path);
+            if (priority != null) {
+                return priority;
+            }
+        }
+        return Priority.NORMAL;
+    }
+
+    void onSample(long latency) {
+        windowLatency.add(latency);
+        windowSamples.increment();
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= sampleWindow && windowStart.compareAndSet(start, now)) {
+            // Only the thread that closed the window updates the limit
+            long samples = windowSamples.sumThenReset();
+            long total = windowLatency.sumThenReset();
+            int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+            if (samples > 0) {
+                updateLimit((double) total / samples, maxInFlight);
+            }
+        }
+    }
+
+    void updateLimit(double latency, int maxInFlight) {
+        if (longLatency == 0) {
+            longLatency = latency;
+            return;
+        }
+        longLatency += (latency - longLatency) / LONG_WINDOW;
+        if (longLatency > 2 * latency) {
+            // The latency dropped significantly, forget the long-term latency faster
+            longLatency *= 0.9;
+        }
+        double currentLimit = limit;
+        if (maxInFlight < currentLimit / 2) {
+            // The application does not use the limit, there is no signal to adjust it
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longLatency / latency));
+        double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+        newLimit = currentLimit * (1 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if ((int) newLimit != (int) currentLimit) {
+            log.debugf("Concurrency limit changed from %d to %d, latency: %.2f ms, long-term latency: %.2f ms",
+                    (int) currentLimit, (int) newLimit, latency / 1_000_000, longLatency / 1_000_000);
+        }
+        limit = newLimit;
+    }
+
+    enum Priority {
+        CRITICAL,
+        NORMAL,
+        LOW
+    }
+
+}
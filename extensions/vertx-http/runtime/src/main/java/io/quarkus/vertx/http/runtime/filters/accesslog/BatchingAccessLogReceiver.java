@@ -0,0 +1,270 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Log receiver that stores logs in a directory under the specified file name, and rotates them after midnight.
+ * <p>
+ * Unlike {@link DefaultAccessLogReceiver}, web threads do not allocate any queue nodes nor schedule tasks. Messages are
+ * published to a bounded lock-free ring buffer and a dedicated thread encodes them into a reusable direct buffer that is
+ * written to a {@link FileChannel} in batches. If the ring buffer is full then the message is dropped and the number of
+ * dropped messages is logged. The writer thread sleeps while the ring buffer is empty and is woken up by the next published
+ * message.
+ */
+public class BatchingAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final Logger log = Logger.getLogger(BatchingAccessLogReceiver.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BATCH_SIZE = 4096;
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix;
+    private final boolean rotate;
+
+    // The following fields are only accessed by the writer thread
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder;
+    private FileChannel channel;
+    private long changeOverPoint;
+    private String currentDateString;
+
+    private final Thread writerThread;
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+
+    public BatchingAccessLogReceiver(Path outputDirectory, String logBaseName, String logNameSuffix, boolean rotate,
+            int queueSize) {
+        int capacity = queueSize <= 2 ? 2 : Integer.highestOneBit(queueSize - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = logBaseName;
+        this.logNameSuffix = logNameSuffix.charAt(0) != '.' ? '.' + logNameSuffix : logNameSuffix;
+        this.rotate = rotate;
+        this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        calculateChangeOverPoint();
+        this.writerThread = new Thread(this, "access-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void logMessage(String message) {
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() >= slots.length()) {
+                dropped.increment();
+                return;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+        // A volatile write is needed so that either the writer thread sees the message or this thread sees it sleeping
+        slots.set((int) index & mask, message);
+        if (sleeping) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    @Override
+    public void run() {
+        rotateIfOutdated();
+        while (true) {
+            // Read the flag before draining so that all messages published before close() are written
+            boolean stop = closed;
+            int count = drain();
+            long droppedCount = dropped.sumThenReset();
+            if (droppedCount > 0) {
+                log.warnf("%s access log messages were dropped because the queue is full", droppedCount);
+            }
+            if (count == 0) {
+                if (stop) {
+                    break;
+                }
+                sleeping = true;
+                // Check again after the flag is set, a message published in the meantime would not unpark this thread
+                if (slots.get((int) consumerIndex.get() & mask) == null && !closed) {
+                    LockSupport.park(this);
+                }
+                sleeping = false;
+            }
+        }
+        closeChannel();
+    }
+
+    private int drain() {
+        int count = 0;
+        long index = consumerIndex.get();
+        while (count < MAX_BATCH_SIZE) {
+            int slot = (int) index & mask;
+            String message = slots.get(slot);
+            if (message == null) {
+                // Empty or claimed but not published yet
+                break;
+            }
+            if (count == 0 && System.currentTimeMillis() > changeOverPoint) {
+                doRotate();
+            }
+            slots.lazySet(slot, null);
+            consumerIndex.lazySet(++index);
+            append(message);
+            count++;
+        }
+        if (count > 0) {
+            flush();
+        }
+        return count;
+    }
+
+    private void append(String message) {
+        CharBuffer chars = CharBuffer.wrap(message);
+        while (encoder.encode(chars, buffer, true).isOverflow()) {
+            flush();
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            flush();
+        }
+        encoder.reset();
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) '\n');
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            if (buffer.hasRemaining()) {
+                if (channel == null) {
+                    channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                            StandardOpenOption.APPEND);
+                }
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error writing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    private void rotateIfOutdated() {
+        if (!Files.exists(defaultLogFile)) {
+            return;
+        }
+        // if there is an existing log file check if it should be rotated
+        try {
+            Calendar c = Calendar.getInstance();
+            c.setTimeInMillis(changeOverPoint);
+            c.add(Calendar.DATE, -1);
+            if (Files.getLastModifiedTime(defaultLogFile).toMillis() <= c.getTimeInMillis()) {
+                doRotate();
+            }
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        }
+    }
+
+    private void doRotate() {
+        if (!rotate) {
+            return;
+        }
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    /**
+     * Writes all pending messages and stops the writer thread.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
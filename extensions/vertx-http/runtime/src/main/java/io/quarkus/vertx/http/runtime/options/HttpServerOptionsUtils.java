@@ -12,6 +12,10 @@
 
 import org.jboss.logging.Logger;
 
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.credentials.runtime.CredentialsProviderFinder;
 import io.quarkus.runtime.LaunchMode;
@@ -252,6 +256,7 @@ public static void applyCommonOptions(HttpServerOptions httpServerOptions,
         if (buildTimeConfig.compressionLevel.isPresent()) {
             httpServerOptions.setCompressionLevel(buildTimeConfig.compressionLevel.getAsInt());
         }
+        configureCompressorsIfSet(httpServerOptions, buildTimeConfig);
         httpServerOptions.setDecompressionSupported(buildTimeConfig.enableDecompression);
         httpServerOptions.setMaxInitialLineLength(httpConfiguration.limits.maxInitialLineLength);
         httpServerOptions.setHandle100ContinueAutomatically(httpConfiguration.handle100ContinueAutomatically);
@@ -275,6 +280,9 @@ public static void applyCommonOptions(HttpServerOptions httpServerOptions,
                 settings.setMaxHeaderListSize(httpConfiguration.limits.maxHeaderListSize.getAsLong());
             }
             httpServerOptions.setInitialSettings(settings);
+            if (httpConfiguration.http2ConnectionWindowSize.isPresent()) {
+                httpServerOptions.setHttp2ConnectionWindowSize(httpConfiguration.http2ConnectionWindowSize.getAsInt());
+            }
 
             // RST attack protection - https://github.com/netty/netty/security/advisories/GHSA-xpw8-rcwv-8f8p
             if (httpConfiguration.limits.rstFloodMaxRstFramePerWindow.isPresent()) {
@@ -293,6 +301,67 @@ public static void applyCommonOptions(HttpServerOptions httpServerOptions,
         configureTrafficShapingIfEnabled(httpServerOptions, httpConfiguration);
     }
 
+    /**
+     * @return the names of the encodings supported by the compressors of the server
+     */
+    public static Set<String> getCompressionEncodings(HttpBuildTimeConfig buildTimeConfig) {
+        if (buildTimeConfig.compressors.isEmpty()) {
+            // Vert.x supports gzip and deflate by default
+            return Set.of("gzip", "deflate");
+        }
+        Set<String> encodings = new HashSet<>();
+        for (HttpBuildTimeConfig.Compressor compressor : buildTimeConfig.compressors.get()) {
+            if ((compressor == HttpBuildTimeConfig.Compressor.BR && !Brotli.isAvailable())
+                    || (compressor == HttpBuildTimeConfig.Compressor.ZSTD && !Zstd.isAvailable())) {
+                continue;
+            }
+            encodings.add(compressor.name().toLowerCase(Locale.ROOT));
+        }
+        return encodings;
+    }
+
+    private static void configureCompressorsIfSet(HttpServerOptions httpServerOptions,
+            HttpBuildTimeConfig buildTimeConfig) {
+        if (!buildTimeConfig.enableCompression || buildTimeConfig.compressors.isEmpty()) {
+            // Vert.x supports gzip and deflate by default
+            return;
+        }
+        int level = httpServerOptions.getCompressionLevel();
+        List<CompressionOptions> compressors = new ArrayList<>();
+        for (HttpBuildTimeConfig.Compressor compressor : buildTimeConfig.compressors.get()) {
+            switch (compressor) {
+                case GZIP:
+                    compressors.add(StandardCompressionOptions.gzip(level, 15, 8));
+                    break;
+                case DEFLATE:
+                    compressors.add(StandardCompressionOptions.deflate(level, 15, 8));
+                    break;
+                case BR:
+                    if (Brotli.isAvailable()) {
+                        compressors.add(StandardCompressionOptions.brotli());
+                    } else {
+                        Logger.getLogger(HttpServerOptionsUtils.class).warn(
+                                "The br compressor is ignored because the native Brotli library is not available");
+                    }
+                    break;
+                case ZSTD:
+                    if (Zstd.isAvailable()) {
+                        compressors.add(StandardCompressionOptions.zstd());
+                    } else {
+                        Logger.getLogger(HttpServerOptionsUtils.class).warn(
+                                "The zstd compressor is ignored because the zstd-jni library is not available");
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported compressor: " + compressor);
+            }
+        }
+        if (compressors.isEmpty()) {
+            throw new ConfigurationException("None of the compressors configured via quarkus.http.compressors is available");
+        }
+        httpServerOptions.setCompressors(compressors);
+    }
+
     private static void configureTrafficShapingIfEnabled(HttpServerOptions httpServerOptions,
             HttpConfiguration httpConfiguration) {
         if (httpConfiguration.trafficShaping.enabled) {
@@ -0,0 +1,91 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConvertWith;
+import io.quarkus.runtime.configuration.TrimmedStringConverter;
+
+@ConfigGroup
+public class RateLimitConfig {
+
+    /**
+     * Determines whether the rate limit policy is enabled, or not.
+     *
+     * By default, if the rate limit policy is defined, it is enabled.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean enabled;
+
+    /**
+     * The paths that this rate limit policy applies to. If the path ends in /* then this is treated
+     * as a path prefix, otherwise it is treated as an exact match. Paths that do not start with a slash are relative to
+     * the HTTP root path.
+     *
+     * Matches are done on a length basis, so the most specific path match takes precedence.
+     * If multiple rate limit policies match the same path then all of them are enforced.
+     */
+    @ConfigItem
+    @ConvertWith(TrimmedStringConverter.class)
+    public List<String> paths;
+
+    /**
+     * The methods that this rate limit policy applies to. If this is not set then it applies to all methods.
+     */
+    @ConfigItem
+    @ConvertWith(TrimmedStringConverter.class)
+    public Optional<List<String>> methods;
+
+    /**
+     * What identifies a client whose requests are counted against the limit.
+     */
+    @ConfigItem(defaultValue = "ip")
+    public Key key;
+
+    /**
+     * The name of the request header whose value identifies a client if the {@code key} is {@code header}.
+     */
+    @ConfigItem
+    public Optional<String> header;
+
+    /**
+     * The maximum number of requests that a single client can send within the {@code period}.
+     * Unused requests do not accumulate beyond this number, so it is also the maximum burst size.
+     */
+    @ConfigItem
+    public int limit;
+
+    /**
+     * The period in which at most {@code limit} requests are allowed.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration period;
+
+    /**
+     * The maximum number of clients tracked by this policy. If the limit is reached then the state of the client that has not
+     * sent a request for the longest time is discarded.
+     */
+    @ConfigItem(defaultValue = "10000")
+    public int maxKeys;
+
+    public enum Key {
+        /**
+         * The remote address of the client. If the forwarded headers are enabled with
+         * {@code quarkus.http.proxy.proxy-address-forwarding}, the address reported by the proxy is used.
+         */
+        IP,
+        /**
+         * The name of the authenticated principal. Requests of anonymous clients are identified by the remote address.
+         */
+        PRINCIPAL,
+        /**
+         * The value of the request header configured with {@code header}. Requests without the header are identified by the
+         * remote address.
+         */
+        HEADER
+    }
+
+}
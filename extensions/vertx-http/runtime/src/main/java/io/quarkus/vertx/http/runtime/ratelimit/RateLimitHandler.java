@@ -0,0 +1,90 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.security.ImmutablePathMatcher;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Enforces the rate limit policies that match the request path and method. A request that exceeds the limit of any of
+ * the policies is rejected with {@code 429 Too Many Requests} and a {@code Retry-After} header, without consuming the
+ * tokens of the other policies.
+ */
+public class RateLimitHandler implements Handler<RoutingContext> {
+
+    private final ImmutablePathMatcher<List<RateLimitPolicy>> pathMatcher;
+
+    RateLimitHandler(ImmutablePathMatcher<List<RateLimitPolicy>> pathMatcher) {
+        this.pathMatcher = pathMatcher;
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        List<RateLimitPolicy> policies = pathMatcher.matchValue(event.normalizedPath());
+        if (policies != null) {
+            long wait = acquire(event, policies);
+            if (wait > 0) {
+                // Retry-After is expressed in whole seconds, round up so that the client does not retry too early
+                long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+                event.response()
+                        .setStatusCode(HttpResponseStatus.TOO_MANY_REQUESTS.code())
+                        .putHeader(HttpHeaderNames.RETRY_AFTER, Long.toString(retryAfter))
+                        .end();
+                return;
+            }
+        }
+        event.next();
+    }
+
+    /**
+     * @return {@code 0} if the request is allowed, otherwise the time in nanoseconds after which the client can retry
+     */
+    private static long acquire(RoutingContext event, List<RateLimitPolicy> policies) {
+        long now = System.nanoTime();
+        String method = event.request().method().name();
+        TokenBucket[] buckets = new TokenBucket[policies.size()];
+        long wait = 0;
+        // All the policies are checked first, so that the tokens are only consumed when the request is allowed
+        for (int i = 0; i < buckets.length; i++) {
+            RateLimitPolicy policy = policies.get(i);
+            if (policy.appliesTo(method)) {
+                buckets[i] = policy.bucket(event, now);
+                long policyWait = policy.check(buckets[i], now);
+                if (policyWait > 0) {
+                    policy.rejected.increment();
+                    wait = Math.max(wait, policyWait);
+                }
+            }
+        }
+        if (wait > 0) {
+            return wait;
+        }
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] != null) {
+                RateLimitPolicy policy = policies.get(i);
+                wait = policy.tryAcquire(buckets[i], now);
+                if (wait > 0) {
+                    // A concurrent request took the last token, give back the tokens acquired so far
+                    policy.rejected.increment();
+                    for (int j = 0; j < i; j++) {
+                        if (buckets[j] != null) {
+                            policies.get(j).release(buckets[j]);
+                        }
+                    }
+                    return wait;
+                }
+            }
+        }
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] != null) {
+                policies.get(i).allowed.increment();
+            }
+        }
+        return 0;
+    }
+
+}
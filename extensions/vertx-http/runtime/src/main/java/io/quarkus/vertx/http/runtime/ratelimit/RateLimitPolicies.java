@@ -0,0 +1,51 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.vertx.http.runtime.security.ImmutablePathMatcher;
+
+/**
+ * The rate limit policies configured with {@code quarkus.http.rate-limit}.
+ */
+public final class RateLimitPolicies {
+
+    private final List<RateLimitPolicy> policies = new ArrayList<>();
+    private final String rootPath;
+
+    RateLimitPolicies(Map<String, RateLimitConfig> config, String rootPath) {
+        this.rootPath = rootPath;
+        for (Map.Entry<String, RateLimitConfig> e : config.entrySet()) {
+            if (e.getValue().enabled) {
+                policies.add(new RateLimitPolicy(e.getKey(), e.getValue()));
+            }
+        }
+    }
+
+    List<RateLimitPolicy> getPolicies() {
+        return policies;
+    }
+
+    /**
+     * @param principal whether to create the handler for the policies keyed by the authenticated principal or for the rest
+     * @return the handler, or {@code null} if there are no such policies
+     */
+    RateLimitHandler createHandler(boolean principal) {
+        var builder = ImmutablePathMatcher.<List<RateLimitPolicy>> builder().handlerAccumulator(List::addAll)
+                .rootPath(rootPath);
+        boolean hasPolicies = false;
+        for (RateLimitPolicy policy : policies) {
+            if ((policy.key == RateLimitConfig.Key.PRINCIPAL) == principal) {
+                for (String path : policy.paths) {
+                    List<RateLimitPolicy> value = new ArrayList<>(1);
+                    value.add(policy);
+                    builder.addPath(path, value);
+                }
+                hasPolicies = true;
+            }
+        }
+        return hasPolicies ? new RateLimitHandler(builder.build()) : null;
+    }
+
+}
@@ -0,0 +1,131 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A named rate limit policy with a token bucket per client.
+ */
+final class RateLimitPolicy {
+
+    private static final String UNKNOWN_CLIENT = "";
+
+    final String name;
+    final RateLimitConfig.Key key;
+    final List<String> paths;
+    private final String header;
+    private final Set<String> methods;
+    private final long emissionInterval;
+    private final long period;
+    // access ordered and guarded by itself, so that the least recently used bucket is evicted in constant time
+    private final LinkedHashMap<String, TokenBucket> buckets;
+
+    final LongAdder allowed = new LongAdder();
+    final LongAdder rejected = new LongAdder();
+
+    RateLimitPolicy(String name, RateLimitConfig config) {
+        if (config.limit < 1) {
+            throw new IllegalArgumentException(
+                    "The limit of the rate limit policy '" + name + "' must be greater than zero: " + config.limit);
+        }
+        if (config.maxKeys < 1) {
+            throw new IllegalArgumentException(
+                    "The max keys of the rate limit policy '" + name + "' must be greater than zero: " + config.maxKeys);
+        }
+        if (config.key == RateLimitConfig.Key.HEADER && config.header.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "The rate limit policy '" + name + "' is keyed by a header but no header name is configured");
+        }
+        this.name = name;
+        this.key = config.key;
+        this.paths = config.paths;
+        this.header = config.header.orElse(null);
+        this.methods = config.methods.isPresent() && !config.methods.get().isEmpty()
+                ? config.methods.get().stream().map(m -> m.toUpperCase(Locale.ROOT)).collect(Collectors.toSet())
+                : null;
+        this.period = config.period.toNanos();
+        this.emissionInterval = Math.max(1, period / config.limit);
+        int maxKeys = config.maxKeys;
+        this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxKeys;
+            }
+        };
+    }
+
+    boolean appliesTo(String method) {
+        return methods == null || methods.contains(method);
+    }
+
+    /**
+     * @return the token bucket of the client that sent the request
+     */
+    TokenBucket bucket(RoutingContext event, long now) {
+        String client = clientKey(event);
+        synchronized (buckets) {
+            return buckets.computeIfAbsent(client, k -> new TokenBucket(now));
+        }
+    }
+
+    /**
+     * @return {@code 0} if a token is available, otherwise the time in nanoseconds after which the client can retry
+     */
+    long check(TokenBucket bucket, long now) {
+        return bucket.check(now, emissionInterval, period);
+    }
+
+    /**
+     * @return {@code 0} if a token was acquired, otherwise the time in nanoseconds after which the client can retry
+     */
+    long tryAcquire(TokenBucket bucket, long now) {
+        return bucket.tryAcquire(now, emissionInterval, period);
+    }
+
+    void release(TokenBucket bucket) {
+        bucket.release(emissionInterval);
+    }
+
+    int size() {
+        synchronized (buckets) {
+            return buckets.size();
+        }
+    }
+
+    private String clientKey(RoutingContext event) {
+        switch (key) {
+            case PRINCIPAL:
+                if (event.user() instanceof QuarkusHttpUser) {
+                    SecurityIdentity identity = ((QuarkusHttpUser) event.user()).getSecurityIdentity();
+                    if (!identity.isAnonymous()) {
+                        return identity.getPrincipal().getName();
+                    }
+                }
+                break;
+            case HEADER:
+                String value = event.request().getHeader(header);
+                if (value != null) {
+                    return value;
+                }
+                break;
+            default:
+                break;
+        }
+        SocketAddress address = event.request().remoteAddress();
+        if (address == null || address.host() == null) {
+            return UNKNOWN_CLIENT;
+        }
+        return address.host();
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class RateLimitRecorder {
+    final HttpConfiguration configuration;
+
+    public RateLimitRecorder(HttpConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @param rootPath the HTTP root path, to which the relative policy paths are resolved
+     */
+    public RuntimeValue<RateLimitPolicies> createPolicies(String rootPath) {
+        return new RuntimeValue<>(new RateLimitPolicies(configuration.rateLimit, rootPath));
+    }
+
+    /**
+     * @param policies the configured policies
+     * @param principal whether the handler runs after the authentication and enforces the policies keyed by the principal
+     * @return the handler, or {@code null} if there are no such policies
+     */
+    public Handler<RoutingContext> rateLimitHandler(RuntimeValue<RateLimitPolicies> policies, boolean principal) {
+        return policies.getValue().createHandler(principal);
+    }
+
+    public Consumer<MetricsFactory> registerMetrics(RuntimeValue<RateLimitPolicies> policies) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                for (RateLimitPolicy policy : policies.getValue().getPolicies()) {
+                    metricsFactory.builder("http.server.rate.limit.requests")
+                            .description("The number of requests checked by the rate limit policy")
+                            .tag("policy", policy.name)
+                            .tag("result", "allowed")
+                            .buildCounter(policy.allowed::sum);
+                    metricsFactory.builder("http.server.rate.limit.requests")
+                            .description("The number of requests checked by the rate limit policy")
+                            .tag("policy", policy.name)
+                            .tag("result", "rejected")
+                            .buildCounter(policy.rejected::sum);
+                    metricsFactory.builder("http.server.rate.limit.clients")
+                            .description("The number of clients tracked by the rate limit policy")
+                            .tag("policy", policy.name)
+                            .buildGauge(policy::size);
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,71 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket.
+ * <p>
+ * Instead of the number of tokens, the bucket stores the time at which it becomes full again (the theoretical arrival time
+ * of the generic cell rate algorithm). Every acquired token moves this time forward by the emission interval, and a
+ * token can be acquired as long as the time is less than one period ahead of now. A single CAS is therefore enough to both
+ * refill the bucket and acquire a token.
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * @param now the current time in nanoseconds
+     * @param emissionInterval the time in nanoseconds in which a single token is refilled
+     * @param period the time in nanoseconds in which an empty bucket is refilled
+     * @return {@code 0} if a token was acquired, otherwise the time in nanoseconds after which a token will be available
+     */
+    long tryAcquire(long now, long emissionInterval, long period) {
+        for (;;) {
+            long current = fullAt.get();
+            long base = current - now > 0 ? current : now;
+            long next = base + emissionInterval;
+            long wait = next - now - period;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @param now the current time in nanoseconds
+     * @param emissionInterval the time in nanoseconds in which a single token is refilled
+     * @param period the time in nanoseconds in which an empty bucket is refilled
+     * @return {@code 0} if a token is available, otherwise the time in nanoseconds after which a token will be available
+     */
+    long check(long now, long emissionInterval, long period) {
+        long current = fullAt.get();
+        long base = current - now > 0 ? current : now;
+        return Math.max(0, base + emissionInterval - now - period);
+    }
+
+    /**
+     * Gives back a token acquired with {@link #tryAcquire(long, long, long)}.
+     *
+     * @param emissionInterval the time in nanoseconds in which a single token is refilled
+     */
+    void release(long emissionInterval) {
+        fullAt.addAndGet(-emissionInterval);
+    }
+
+    /**
+     * @param now the current time in nanoseconds
+     * @return {@code true} if all tokens are available
+     */
+    boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+
+}
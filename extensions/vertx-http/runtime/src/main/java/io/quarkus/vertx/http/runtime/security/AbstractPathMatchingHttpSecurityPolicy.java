@@ -23,7 +23,6 @@
 import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy.AuthorizationRequestContext;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy.CheckResult;
-import io.quarkus.vertx.http.runtime.security.ImmutablePathMatcher.PathMatch;
 import io.smallrye.mutiny.Uni;
 import io.vertx.ext.web.RoutingContext;
 
@@ -36,8 +35,10 @@ public class AbstractPathMatchingHttpSecurityPolicy {
 
     private static final String PATH_MATCHING_POLICY_FOUND = AbstractPathMatchingHttpSecurityPolicy.class.getName()
             + ".POLICY_FOUND";
-    private final ImmutablePathMatcher<List<HttpMatcher>> pathMatcher;
-    private final List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermissionsPathMatchers;
+    private static final HttpSecurityPolicy[] NO_POLICIES = new HttpSecurityPolicy[0];
+    private static final HttpSecurityPolicy[] DENY_POLICIES = new HttpSecurityPolicy[] { DenySecurityPolicy.INSTANCE };
+    private final ImmutablePathMatcher<PathPolicies> pathMatcher;
+    private final List<ImmutablePathMatcher<PathPolicies>> sharedPermissionsPathMatchers;
     private final boolean hasNoPermissions;
 
     public AbstractPathMatchingHttpSecurityPolicy(Map<String, PolicyMappingConfig> permissions,
@@ -45,8 +46,9 @@ public AbstractPathMatchingHttpSecurityPolicy(Map<String, PolicyMappingConfig> p
             PolicyMappingConfig.AppliesTo appliesTo) {
         boolean hasNoPermissions = true;
         var namedHttpSecurityPolicies = toNamedHttpSecPolicies(rolePolicy, installedPolicies);
-        List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermsMatchers = new ArrayList<>();
-        final var builder = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+        List<ImmutablePathMatcher<PathPolicies>> sharedPermsMatchers = new ArrayList<>();
+        List<PathPolicies> allPathPolicies = new ArrayList<>();
+        final var builder = ImmutablePathMatcher.<PathPolicies> builder().handlerAccumulator(PathPolicies::addAll)
                 .rootPath(rootPath);
         for (PolicyMappingConfig policyMappingConfig : permissions.values()) {
             if (appliesTo != policyMappingConfig.appliesTo) {
@@ -56,22 +58,26 @@ public AbstractPathMatchingHttpSecurityPolicy(Map<String, PolicyMappingConfig> p
                 hasNoPermissions = false;
             }
             if (policyMappingConfig.shared) {
-                final var builder1 = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+                final var builder1 = ImmutablePathMatcher.<PathPolicies> builder().handlerAccumulator(PathPolicies::addAll)
                         .rootPath(rootPath);
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder1);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder1, allPathPolicies);
                 sharedPermsMatchers.add(builder1.build());
             } else {
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder, allPathPolicies);
             }
         }
         this.hasNoPermissions = hasNoPermissions;
         this.sharedPermissionsPathMatchers = sharedPermsMatchers.isEmpty() ? null : List.copyOf(sharedPermsMatchers);
         this.pathMatcher = builder.build();
+        // policies of the same path are only merged when the path matchers are built
+        for (PathPolicies pathPolicies : allPathPolicies) {
+            pathPolicies.compile();
+        }
     }
 
     public String getAuthMechanismName(RoutingContext routingContext) {
         if (sharedPermissionsPathMatchers != null) {
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
+            for (ImmutablePathMatcher<PathPolicies> matcher : sharedPermissionsPathMatchers) {
                 String authMechanismName = getAuthMechanismName(routingContext, matcher);
                 if (authMechanismName != null) {
                     return authMechanismName;
@@ -87,30 +93,30 @@ public boolean hasNoPermissions() {
 
     public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext) {
-        final List<HttpSecurityPolicy> permissionCheckers;
+        HttpSecurityPolicy[] permissionCheckers;
         if (sharedPermissionsPathMatchers == null) {
             permissionCheckers = findPermissionCheckers(routingContext, pathMatcher);
         } else {
-            permissionCheckers = new ArrayList<>();
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
-                permissionCheckers.addAll(findPermissionCheckers(routingContext, matcher));
+            permissionCheckers = NO_POLICIES;
+            for (ImmutablePathMatcher<PathPolicies> matcher : sharedPermissionsPathMatchers) {
+                permissionCheckers = concat(permissionCheckers, findPermissionCheckers(routingContext, matcher));
             }
-            permissionCheckers.addAll(findPermissionCheckers(routingContext, pathMatcher));
+            permissionCheckers = concat(permissionCheckers, findPermissionCheckers(routingContext, pathMatcher));
         }
         return doPermissionCheck(routingContext, identity, 0, null, permissionCheckers, requestContext);
     }
 
     private Uni<CheckResult> doPermissionCheck(RoutingContext routingContext,
             Uni<SecurityIdentity> identity, int index, SecurityIdentity augmentedIdentity,
-            List<HttpSecurityPolicy> permissionCheckers, AuthorizationRequestContext requestContext) {
-        if (index == permissionCheckers.size()) {
+            HttpSecurityPolicy[] permissionCheckers, AuthorizationRequestContext requestContext) {
+        if (index == permissionCheckers.length) {
             if (index > 0) {
                 routingContext.put(PATH_MATCHING_POLICY_FOUND, true);
             }
             return Uni.createFrom().item(new CheckResult(true, augmentedIdentity));
         }
         //get the current checker
-        HttpSecurityPolicy res = permissionCheckers.get(index);
+        HttpSecurityPolicy res = permissionCheckers[index];
         return res.checkPermission(routingContext, identity, requestContext)
                 .flatMap(new Function<CheckResult, Uni<? extends CheckResult>>() {
                     @Override
@@ -138,22 +144,14 @@ public Uni<? extends CheckResult> apply(CheckResult checkResult) {
     }
 
     private static String getAuthMechanismName(RoutingContext routingContext,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(routingContext.normalizedPath());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return null;
-        }
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.authMechanism != null) {
-                return i.authMechanism;
-            }
-        }
-        return null;
+            ImmutablePathMatcher<PathPolicies> pathMatcher) {
+        PathPolicies toCheck = pathMatcher.matchValue(routingContext.normalizedPath());
+        return toCheck == null ? null : toCheck.getAuthMechanism();
     }
 
     private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> permissionCheckers,
             PolicyMappingConfig policyMappingConfig,
-            ImmutablePathMatcher.ImmutablePathMatcherBuilder<List<HttpMatcher>> builder) {
+            ImmutablePathMatcher.ImmutablePathMatcherBuilder<PathPolicies> builder, List<PathPolicies> allPathPolicies) {
         HttpSecurityPolicy checker = permissionCheckers.get(policyMappingConfig.policy);
         if (checker == null) {
             throw new RuntimeException("Unable to find HTTP security policy " + policyMappingConfig.policy);
@@ -163,37 +161,31 @@ private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> p
             for (String path : policyMappingConfig.paths.orElse(Collections.emptyList())) {
                 HttpMatcher m = new HttpMatcher(policyMappingConfig.authMechanism.orElse(null),
                         new HashSet<>(policyMappingConfig.methods.orElse(Collections.emptyList())), checker);
-                List<HttpMatcher> perms = new ArrayList<>();
-                perms.add(m);
+                PathPolicies perms = new PathPolicies(m);
+                allPathPolicies.add(perms);
                 builder.addPath(path, perms);
             }
         }
     }
 
-    private static List<HttpSecurityPolicy> findPermissionCheckers(RoutingContext context,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(context.normalizedPath());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return Collections.emptyList();
-        }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(context.request().method().toString())) {
-                methodMatch.add(i.checker);
-            }
-        }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return Collections.singletonList(DenySecurityPolicy.INSTANCE);
+    private static HttpSecurityPolicy[] findPermissionCheckers(RoutingContext context,
+            ImmutablePathMatcher<PathPolicies> pathMatcher) {
+        PathPolicies toCheck = pathMatcher.matchValue(context.normalizedPath());
+        if (toCheck == null) {
+            return NO_POLICIES;
         }
+        return toCheck.getPolicies(context.request().method().name());
+    }
 
+    private static HttpSecurityPolicy[] concat(HttpSecurityPolicy[] policies1, HttpSecurityPolicy[] policies2) {
+        if (policies1.length == 0) {
+            return policies2;
+        } else if (policies2.length == 0) {
+            return policies1;
+        }
+        HttpSecurityPolicy[] result = Arrays.copyOf(policies1, policies1.length + policies2.length);
+        System.arraycopy(policies2, 0, result, policies1.length, policies2.length);
+        return result;
     }
 
     static boolean policyApplied(RoutingContext routingContext) {
@@ -362,6 +354,63 @@ private void addAction(String action) {
         }
     }
 
+    /**
+     * Permissions of a path. Permissions declared for the same path are accumulated while the path matcher is built and
+     * then compiled into method-specific arrays of policies, therefore no collections are allocated per request.
+     */
+    static final class PathPolicies {
+
+        private final List<HttpMatcher> matchers = new ArrayList<>();
+        private String authMechanism;
+        private Map<String, HttpSecurityPolicy[]> methodPolicies;
+        private HttpSecurityPolicy[] otherMethodPolicies;
+
+        PathPolicies(HttpMatcher matcher) {
+            matchers.add(matcher);
+        }
+
+        void addAll(PathPolicies other) {
+            matchers.addAll(other.matchers);
+        }
+
+        void compile() {
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            Set<String> methods = new HashSet<>();
+            for (HttpMatcher i : matchers) {
+                if (authMechanism == null) {
+                    authMechanism = i.authMechanism;
+                }
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    methods.addAll(i.methods);
+                }
+            }
+            Map<String, HttpSecurityPolicy[]> methodPolicies = new HashMap<>();
+            for (String method : methods) {
+                List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
+                for (HttpMatcher i : matchers) {
+                    if (i.methods != null && i.methods.contains(method)) {
+                        methodMatch.add(i.checker);
+                    }
+                }
+                methodPolicies.put(method, methodMatch.toArray(NO_POLICIES));
+            }
+            this.methodPolicies = Map.copyOf(methodPolicies);
+            //we deny if we did not match due to method filtering
+            this.otherMethodPolicies = noMethod.isEmpty() ? DENY_POLICIES : noMethod.toArray(NO_POLICIES);
+        }
+
+        HttpSecurityPolicy[] getPolicies(String method) {
+            HttpSecurityPolicy[] policies = methodPolicies.get(method);
+            return policies != null ? policies : otherMethodPolicies;
+        }
+
+        String getAuthMechanism() {
+            return authMechanism;
+        }
+    }
+
     static class HttpMatcher {
 
         final String authMechanism;
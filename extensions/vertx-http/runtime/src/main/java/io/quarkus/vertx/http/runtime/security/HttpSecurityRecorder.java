@@ -38,6 +38,7 @@
 import io.quarkus.security.identity.request.AnonymousAuthenticationRequest;
 import io.quarkus.security.spi.runtime.MethodDescription;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.quarkus.vertx.http.runtime.timing.RequestTimings;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniSubscriber;
@@ -298,6 +299,7 @@ public void onSubscribe(UniSubscription subscription) {
                                         public void onItem(SecurityIdentity item) {
                                             event.put(QuarkusHttpUser.DEFERRED_IDENTITY_KEY, anon);
                                             event.setUser(new QuarkusHttpUser(item));
+                                            RequestTimings.mark(event, RequestTimings.Phase.AUTHENTICATED);
                                             event.next();
                                         }
 
@@ -313,6 +315,7 @@ public void onFailure(Throwable failure) {
                                 } else {//when the result is evaluated we set the user, even if it is evaluated lazily
                                     event.setUser(new QuarkusHttpUser(identity));
                                     event.put(QuarkusHttpUser.DEFERRED_IDENTITY_KEY, potentialUser);
+                                    RequestTimings.mark(event, RequestTimings.Phase.AUTHENTICATED);
                                     event.next();
                                 }
                             }
@@ -354,6 +357,7 @@ public void accept(SecurityIdentity identity, Throwable throwable, Boolean aBool
                                 if (identity != null) {
                                     //when the result is evaluated we set the user, even if it is evaluated lazily
                                     event.setUser(new QuarkusHttpUser(identity));
+                                    RequestTimings.mark(event, RequestTimings.Phase.AUTHENTICATED);
                                 } else if (throwable != null) {
                                     //handle the auth failure
                                     //this can be customised
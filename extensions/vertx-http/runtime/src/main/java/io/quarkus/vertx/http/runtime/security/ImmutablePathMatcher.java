@@ -59,31 +59,57 @@ public PathMatch<T> match(String path) {
             }
         }
 
-        int length = path.length();
         for (int pathLength : lengths) {
-            if (pathLength == length) {
-                SubstringMatch<T> next = paths.get(path, length);
-                if (next != null) {
+            SubstringMatch<T> next = matchPrefix(path, pathLength);
+            if (next != null) {
+                if (pathLength == path.length()) {
                     return new PathMatch<>(path, "", next.getValue());
                 }
-            } else if (pathLength < length) {
-                char c = path.charAt(pathLength);
-                // pathLength == 1 means prefix path is / because prefix path always starts with /
-                // which means it's default handler match, but if there is at least
-                // one path with inner wildcard, we need to check for paths like /*/one
-                if (c == '/' || (hasPathWithInnerWildcard && pathLength == 1)) {
-
-                    //String part = path.substring(0, pathLength);
-                    SubstringMatch<T> next = paths.get(path, pathLength);
-                    if (next != null) {
-                        return new PathMatch<>(next.getKey(), path.substring(pathLength), next.getValue());
-                    }
-                }
+                return new PathMatch<>(next.getKey(), path.substring(pathLength), next.getValue());
             }
         }
         return new PathMatch<>("", path, defaultHandler);
     }
 
+    /**
+     * Matches a path against the registered handlers. Unlike {@link #match(String)}, this method does not allocate
+     * the {@link PathMatch}, therefore it is preferred on hot paths that only need the matched handler.
+     *
+     * @param path The relative path to match
+     * @return The matched handler or the default handler if none matched
+     */
+    public T matchValue(String path) {
+        if (hasExactPathMatches) {
+            T match = exactPathMatches.get(path);
+            if (match != null) {
+                return match;
+            }
+        }
+        for (int pathLength : lengths) {
+            SubstringMatch<T> next = matchPrefix(path, pathLength);
+            if (next != null) {
+                return next.getValue();
+            }
+        }
+        return defaultHandler;
+    }
+
+    private SubstringMatch<T> matchPrefix(String path, int pathLength) {
+        int length = path.length();
+        if (pathLength == length) {
+            return paths.get(path, length);
+        } else if (pathLength < length) {
+            char c = path.charAt(pathLength);
+            // pathLength == 1 means prefix path is / because prefix path always starts with /
+            // which means it's default handler match, but if there is at least
+            // one path with inner wildcard, we need to check for paths like /*/one
+            if (c == '/' || (hasPathWithInnerWildcard && pathLength == 1)) {
+                return paths.get(path, pathLength);
+            }
+        }
+        return null;
+    }
+
     public static <T> ImmutablePathMatcherBuilder<T> builder() {
         return new ImmutablePathMatcherBuilder<>();
     }
@@ -4,8 +4,6 @@
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
-import io.quarkus.vertx.http.runtime.security.ImmutablePathMatcher.PathMatch;
-
 /**
  * A string keyed map that can be accessed as a substring, eliminating the need to allocate a new string
  * to do a key comparison against.
@@ -48,9 +46,9 @@ public SubstringMatch<V> get(String key, int length) {
                             // following the example above, 'nextPath' would be '/four/five'
                             // and * matched 'three' path segment characters
                             String nextPath = key.substring(nextPathSegmentIdx);
-                            PathMatch<SubstringMatch<V>> subMatch = match.subPathMatcher.match(nextPath);
-                            if (subMatch.getValue() != null) {
-                                return subMatch.getValue();
+                            SubstringMatch<V> subMatch = match.subPathMatcher.matchValue(nextPath);
+                            if (subMatch != null) {
+                                return subMatch;
                             }
                         }
                     }
@@ -0,0 +1,28 @@
+package io.quarkus.vertx.http.runtime.timing;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class RequestTimingConfig {
+
+    /**
+     * If enabled then the time spent in the individual phases of every request is recorded, e.g. the authentication, the
+     * resource method invocation or the serialization of the response.
+     * <p>
+     * The durations are reported as timers if a metrics extension is present, and in the {@code Server-Timing} response
+     * header if {@code server-timing-header} is enabled.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * If enabled then the recorded durations are added to the {@code Server-Timing} response header.
+     * <p>
+     * The header reveals details about the processing of requests, so it should only be enabled when the clients are
+     * trusted.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean serverTimingHeader;
+
+}
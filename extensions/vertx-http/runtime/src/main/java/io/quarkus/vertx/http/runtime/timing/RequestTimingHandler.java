@@ -0,0 +1,58 @@
+package io.quarkus.vertx.http.runtime.timing;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Attaches {@link RequestTimings} to every request, adds the {@code Server-Timing} header and records the durations when
+ * the response is written.
+ */
+public class RequestTimingHandler implements Handler<RoutingContext> {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final boolean serverTimingHeader;
+    private final RequestTimingMetrics metrics;
+
+    RequestTimingHandler(boolean serverTimingHeader, RequestTimingMetrics metrics) {
+        this.serverTimingHeader = serverTimingHeader;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+        event.put(RequestTimings.CONTEXT_KEY, timings);
+        event.addHeadersEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void v) {
+                timings.mark(RequestTimings.Phase.RESPONSE_STARTED);
+                if (serverTimingHeader) {
+                    event.response().headers().add(SERVER_TIMING, timings.toServerTiming());
+                }
+            }
+        });
+        event.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> result) {
+                timings.mark(RequestTimings.Phase.ENDED);
+                metrics.record(route(event, timings), timings);
+            }
+        });
+        event.next();
+    }
+
+    private static String route(RoutingContext event, RequestTimings timings) {
+        if (timings.getRoute() != null) {
+            return timings.getRoute();
+        }
+        Route route = event.currentRoute();
+        if (route != null && route.getPath() != null) {
+            return route.getPath();
+        }
+        return RequestTimingMetrics.UNKNOWN_ROUTE;
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.quarkus.vertx.http.runtime.timing;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Publishes the durations of the request phases as timers tagged with the route and the phase.
+ */
+public final class RequestTimingMetrics {
+
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+    static final String OTHER_ROUTE = "OTHER";
+
+    // Protects the metrics registry from paths that were not templated
+    private static final int MAX_ROUTES = 1000;
+
+    private static final RequestTimings.Phase[] PHASES = RequestTimings.Phase.values();
+
+    private final Map<String, TimeRecorder[]> recorders = new ConcurrentHashMap<>();
+    private volatile MetricsFactory metricsFactory;
+
+    void register(MetricsFactory factory) {
+        recorders.clear();
+        metricsFactory = factory;
+    }
+
+    void record(String route, RequestTimings timings) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null) {
+            return;
+        }
+        TimeRecorder[] routeRecorders = recorders.get(route);
+        if (routeRecorders == null) {
+            if (recorders.size() >= MAX_ROUTES) {
+                route = OTHER_ROUTE;
+            }
+            routeRecorders = recorders.computeIfAbsent(route, r -> createRecorders(factory, r));
+        }
+        for (int i = 1; i < PHASES.length; i++) {
+            long duration = timings.getDuration(PHASES[i]);
+            if (duration >= 0) {
+                routeRecorders[i].update(duration, TimeUnit.NANOSECONDS);
+            }
+        }
+        routeRecorders[0].update(timings.getTotalDuration(), TimeUnit.NANOSECONDS);
+    }
+
+    private static TimeRecorder[] createRecorders(MetricsFactory factory, String route) {
+        TimeRecorder[] result = new TimeRecorder[PHASES.length];
+        for (int i = 0; i < PHASES.length; i++) {
+            // The slot of the RECEIVED phase holds the total duration
+            result[i] = factory.builder("http.server.request.phases")
+                    .description("The time spent in the individual phases of HTTP requests")
+                    .tag("route", route)
+                    .tag("phase", i == 0 ? "total" : PHASES[i].getMetricName())
+                    .buildTimer();
+        }
+        return result;
+    }
+
+}
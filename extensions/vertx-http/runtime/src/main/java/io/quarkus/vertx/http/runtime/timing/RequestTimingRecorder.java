@@ -0,0 +1,32 @@
+package io.quarkus.vertx.http.runtime.timing;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class RequestTimingRecorder {
+
+    public RuntimeValue<RequestTimingMetrics> createMetrics() {
+        return new RuntimeValue<>(new RequestTimingMetrics());
+    }
+
+    public Handler<RoutingContext> requestTimingHandler(boolean serverTimingHeader,
+            RuntimeValue<RequestTimingMetrics> metrics) {
+        return new RequestTimingHandler(serverTimingHeader, metrics.getValue());
+    }
+
+    public Consumer<MetricsFactory> registerMetrics(RuntimeValue<RequestTimingMetrics> metrics) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metrics.getValue().register(metricsFactory);
+            }
+        };
+    }
+
+}
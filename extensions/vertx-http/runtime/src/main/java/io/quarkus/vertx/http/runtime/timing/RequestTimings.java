@@ -0,0 +1,166 @@
+package io.quarkus.vertx.http.runtime.timing;
+
+import java.util.Locale;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The timestamps of the phases of a single request.
+ * <p>
+ * An instance is attached to the {@link RoutingContext} if {@code quarkus.http.request-timing.enabled=true}. Extensions mark
+ * the phases they are responsible for with {@link #mark(RoutingContext, Phase)}; phases that do not apply to a request are
+ * simply not marked.
+ */
+public final class RequestTimings {
+
+    public static final String CONTEXT_KEY = RequestTimings.class.getName();
+
+    private static final Phase[] PHASES = Phase.values();
+
+    public enum Phase {
+        /**
+         * The request headers were parsed and the request entered the router.
+         */
+        RECEIVED(null),
+        /**
+         * The identity of the caller was established.
+         */
+        AUTHENTICATED("auth"),
+        /**
+         * The request was matched to an endpoint.
+         */
+        MATCHED("route"),
+        /**
+         * The request was dispatched to the thread that invokes the endpoint and its body was read.
+         */
+        DISPATCHED("dispatch"),
+        /**
+         * The endpoint invocation started, i.e. all parameters were resolved.
+         */
+        INVOCATION_STARTED("params"),
+        /**
+         * The endpoint invocation completed, including any asynchronous result.
+         */
+        INVOCATION_ENDED("invoke"),
+        /**
+         * The response headers are about to be written, i.e. the first byte of the response.
+         */
+        RESPONSE_STARTED("serialize"),
+        /**
+         * The last byte of the response was written.
+         */
+        ENDED("write");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        /**
+         * @return the name of the time span that ends with this phase, or {@code null} for {@link #RECEIVED}
+         */
+        public String getMetricName() {
+            return metricName;
+        }
+
+    }
+
+    private final long[] timestamps = new long[PHASES.length];
+    private final boolean[] marked = new boolean[PHASES.length];
+    private String route;
+
+    RequestTimings(long received) {
+        timestamps[0] = received;
+        marked[0] = true;
+    }
+
+    /**
+     * Marks the phase of the request if the request timing is enabled.
+     *
+     * @param context
+     * @param phase
+     */
+    public static void mark(RoutingContext context, Phase phase) {
+        RequestTimings timings = context.get(CONTEXT_KEY);
+        if (timings != null) {
+            timings.mark(phase);
+        }
+    }
+
+    public void mark(Phase phase) {
+        timestamps[phase.ordinal()] = System.nanoTime();
+        marked[phase.ordinal()] = true;
+    }
+
+    /**
+     * Sets the templated path of the matched endpoint, e.g. {@code /fruits/{id}}. The route is used to tag the recorded
+     * durations.
+     *
+     * @param route
+     */
+    public void setRoute(String route) {
+        this.route = route;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public boolean isMarked(Phase phase) {
+        return marked[phase.ordinal()];
+    }
+
+    /**
+     * @param phase
+     * @return the time in nanoseconds between the preceding marked phase and the specified phase, or {@code -1} if the phase
+     *         was not marked
+     */
+    public long getDuration(Phase phase) {
+        int index = phase.ordinal();
+        if (index == 0 || !marked[index]) {
+            return -1;
+        }
+        for (int i = index - 1; i >= 0; i--) {
+            if (marked[i]) {
+                return Math.max(0, timestamps[index] - timestamps[i]);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the time in nanoseconds between the {@link Phase#RECEIVED} phase and the last marked phase
+     */
+    public long getTotalDuration() {
+        for (int i = PHASES.length - 1; i > 0; i--) {
+            if (marked[i]) {
+                return Math.max(0, timestamps[i] - timestamps[0]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return the value of the {@code Server-Timing} header with the durations of the phases marked so far
+     */
+    String toServerTiming() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i < PHASES.length; i++) {
+            long duration = getDuration(PHASES[i]);
+            if (duration >= 0) {
+                appendMetric(sb, PHASES[i].getMetricName(), duration);
+            }
+        }
+        appendMetric(sb, "total", getTotalDuration());
+        return sb.toString();
+    }
+
+    private static void appendMetric(StringBuilder sb, String name, long nanos) {
+        if (sb.length() > 0) {
+            sb.append(", ");
+        }
+        sb.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+
+}
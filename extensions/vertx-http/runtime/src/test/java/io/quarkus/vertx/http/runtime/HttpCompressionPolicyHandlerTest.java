@@ -0,0 +1,46 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+
+public class HttpCompressionPolicyHandlerTest {
+
+    @Test
+    public void testAcceptsEncoding() {
+        HttpCompressionPolicyHandler handler = new HttpCompressionPolicyHandler(0, Set.of("gzip", "deflate"), true);
+        assertTrue(handler.acceptsEncoding("gzip"));
+        assertTrue(handler.acceptsEncoding("br, deflate;q=0.5"));
+        assertTrue(handler.acceptsEncoding("*"));
+        assertFalse(handler.acceptsEncoding("br"));
+        assertFalse(handler.acceptsEncoding("identity"));
+        assertFalse(handler.acceptsEncoding("gzip;q=0"));
+    }
+
+    @Test
+    public void testApplyPolicy() {
+        HttpCompressionPolicyHandler handler = new HttpCompressionPolicyHandler(100, Set.of("gzip"), true);
+
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap().set(HttpHeaders.CONTENT_LENGTH, "10");
+        handler.applyPolicy(200, headers);
+        assertEquals(HttpHeaders.IDENTITY.toString(), headers.get(HttpHeaders.CONTENT_ENCODING));
+
+        headers = MultiMap.caseInsensitiveMultiMap().set(HttpHeaders.CONTENT_LENGTH, "1000");
+        handler.applyPolicy(200, headers);
+        assertNull(headers.get(HttpHeaders.CONTENT_ENCODING));
+
+        // Not modified responses have no body
+        headers = MultiMap.caseInsensitiveMultiMap().set(HttpHeaders.CONTENT_LENGTH, "10");
+        handler.applyPolicy(304, headers);
+        assertNull(headers.get(HttpHeaders.CONTENT_ENCODING));
+    }
+
+}
@@ -522,6 +522,7 @@ public void testDefaultHandlerOneInnerWildcard() {
     private static void assertMatched(ImmutablePathMatcher<Object> matcher, String path, Object handler) {
         var match = matcher.match(path);
         assertEquals(handler, match.getValue());
+        assertEquals(handler, matcher.matchValue(path));
     }
 
     private static void assertMatched(ImmutablePathMatcher<Object> matcher, String path) {
@@ -531,6 +532,7 @@ private static void assertMatched(ImmutablePathMatcher<Object> matcher, String p
     private static <T> void assertNotMatched(ImmutablePathMatcher<T> matcher, String path) {
         var match = matcher.match(path);
         assertNull(match.getValue());
+        assertNull(matcher.matchValue(path));
     }
 
 }
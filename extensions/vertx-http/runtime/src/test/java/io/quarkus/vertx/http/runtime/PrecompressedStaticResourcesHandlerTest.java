@@ -0,0 +1,32 @@
+package io.quarkus.vertx.http.runtime;
+
+import static io.quarkus.vertx.http.runtime.PrecompressedStaticResourcesHandler.accepts;
+import static io.quarkus.vertx.http.runtime.PrecompressedStaticResourcesHandler.matches;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PrecompressedStaticResourcesHandlerTest {
+
+    @Test
+    public void testAccepts() {
+        assertTrue(accepts("gzip", "gzip"));
+        assertTrue(accepts("deflate, GZIP;q=0.5", "gzip"));
+        assertTrue(accepts("gzip, br", "br"));
+        assertFalse(accepts("gzip;q=0", "gzip"));
+        assertFalse(accepts("gzip; q=0.0, identity", "gzip"));
+        assertFalse(accepts("identity", "gzip"));
+        assertFalse(accepts("brotli", "br"));
+    }
+
+    @Test
+    public void testMatches() {
+        assertTrue(matches("\"abc\"", "\"abc\""));
+        assertTrue(matches("\"foo\", W/\"abc\"", "\"abc\""));
+        assertTrue(matches("*", "\"abc\""));
+        assertFalse(matches(null, "\"abc\""));
+        assertFalse(matches("\"abc-gzip\"", "\"abc\""));
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.quarkus.vertx.http.runtime.eventloop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+
+public class EventLoopMonitorTest {
+
+    @Test
+    public void testLag() throws InterruptedException {
+        Vertx vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(1));
+        EventLoopMonitor monitor = new EventLoopMonitor(config());
+        try {
+            monitor.start(vertx);
+
+            CountDownLatch latch = new CountDownLatch(1);
+            vertx.runOnContext(v -> {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                latch.countDown();
+            });
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            // Wait for the next probe after the blocking task
+            Thread.sleep(100);
+
+            assertTrue(monitor.getLagCount() > 0);
+            assertTrue(monitor.getMaxLag() >= TimeUnit.MILLISECONDS.toNanos(100), "Max lag: " + monitor.getMaxLag());
+            assertEquals(1, monitor.getEventLoops().size());
+            assertTrue(monitor.getEventLoops().get(0).getMaxLag() >= TimeUnit.MILLISECONDS.toNanos(100));
+        } finally {
+            monitor.stop();
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+    }
+
+    @Test
+    public void testNestedExecution() {
+        EventLoopMonitor monitor = new EventLoopMonitor(config());
+        EventLoopMonitor.Execution execution = monitor.enter("GET /");
+        assertNull(monitor.enter("GET /rerouted"));
+        assertTrue(execution.start != 0);
+        assertTrue(monitor.getTopOffenders(10).isEmpty());
+    }
+
+    private static EventLoopMonitorConfig config() {
+        EventLoopMonitorConfig config = new EventLoopMonitorConfig();
+        config.probeInterval = Duration.ofMillis(10);
+        config.blockingThreshold = Duration.ofMillis(50);
+        config.maxRoutes = 10;
+        return config;
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.quarkus.vertx.http.runtime.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.ConcurrencyLimitConfig;
+
+public class ConcurrencyLimitFilterTest {
+
+    private static final long MS = 1_000_000;
+
+    @Test
+    public void testLimitGrowsWhileLatencyIsStable() {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(config(), null);
+        assertEquals(20, filter.getLimit());
+        // The first window only establishes the long-term latency
+        filter.updateLimit(10 * MS, 20);
+        assertEquals(20, filter.getLimit());
+        for (int i = 0; i < 50; i++) {
+            filter.updateLimit(10 * MS, filter.getLimit());
+        }
+        assertTrue(filter.getLimit() > 40, "Limit: " + filter.getLimit());
+    }
+
+    @Test
+    public void testLimitDropsWhenLatencyGrows() {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(config(), null);
+        for (int i = 0; i < 20; i++) {
+            filter.updateLimit(10 * MS, filter.getLimit());
+        }
+        int limit = filter.getLimit();
+        for (int i = 0; i < 10; i++) {
+            filter.updateLimit(100 * MS, filter.getLimit());
+        }
+        assertTrue(filter.getLimit() < limit, "Limit: " + filter.getLimit() + ", before: " + limit);
+        // The limit never drops below the lower bound
+        double latency = 100 * MS;
+        for (int i = 0; i < 50; i++) {
+            latency *= 2;
+            filter.updateLimit(latency, filter.getLimit());
+        }
+        assertEquals(10, filter.getLimit());
+    }
+
+    @Test
+    public void testLimitIsKeptIfUnused() {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(config(), null);
+        filter.updateLimit(10 * MS, 1);
+        for (int i = 0; i < 20; i++) {
+            filter.updateLimit(10 * MS, 1);
+        }
+        assertEquals(20, filter.getLimit());
+    }
+
+    @Test
+    public void testPriorities() {
+        ConcurrencyLimitConfig config = config();
+        config.neverShedPaths = Optional.of(List.of("/ping"));
+        config.lowPriorityPaths = Optional.of(List.of("/reports/*"));
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(config, "/q/");
+        assertEquals(ConcurrencyLimitFilter.Priority.CRITICAL, filter.priority("/q/health"));
+        assertEquals(ConcurrencyLimitFilter.Priority.CRITICAL, filter.priority("/ping"));
+        assertEquals(ConcurrencyLimitFilter.Priority.LOW, filter.priority("/reports/daily"));
+        assertEquals(ConcurrencyLimitFilter.Priority.NORMAL, filter.priority("/api"));
+    }
+
+    private static ConcurrencyLimitConfig config() {
+        ConcurrencyLimitConfig config = new ConcurrencyLimitConfig();
+        config.enabled = true;
+        config.initialLimit = 20;
+        config.minLimit = 10;
+        config.maxLimit = 100;
+        config.tolerance = 1.5;
+        config.smoothing = 0.2;
+        config.sampleWindow = Duration.ofMillis(100);
+        config.neverShedPaths = Optional.empty();
+        config.lowPriorityPaths = Optional.empty();
+        return config;
+    }
+
+}
@@ -0,0 +1,96 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BatchingAccessLogReceiverTest {
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        int threads = 4;
+        int messages = 5000;
+        BatchingAccessLogReceiver receiver = new BatchingAccessLogReceiver(logDirectory, "access", "log", true,
+                threads * messages);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            new Thread(() -> {
+                for (int i = 0; i < messages; i++) {
+                    receiver.logMessage(thread + "-" + i);
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        receiver.close();
+
+        List<String> lines = Files.readAllLines(logDirectory.resolve("access.log"), StandardCharsets.UTF_8);
+        assertEquals(threads * messages, lines.size());
+        assertEquals(threads * messages, new HashSet<>(lines).size());
+    }
+
+    @Test
+    public void testLongAndNonAsciiMessages() throws IOException {
+        BatchingAccessLogReceiver receiver = new BatchingAccessLogReceiver(logDirectory, "access", ".log", true, 16);
+        String longMessage = "a".repeat(200_000);
+        receiver.logMessage("žluťoučký kůň");
+        receiver.logMessage(longMessage);
+        receiver.logMessage("😀");
+        receiver.close();
+
+        List<String> lines = Files.readAllLines(logDirectory.resolve("access.log"), StandardCharsets.UTF_8);
+        assertEquals(List.of("žluťoučký kůň", longMessage, "😀"), lines);
+    }
+
+    @Test
+    public void testWriterWokenUp() throws Exception {
+        BatchingAccessLogReceiver receiver = new BatchingAccessLogReceiver(logDirectory, "access", "log", true, 16);
+        Path logFile = logDirectory.resolve("access.log");
+        try {
+            for (int i = 0; i < 3; i++) {
+                // Let the writer thread go to sleep
+                Thread.sleep(50);
+                receiver.logMessage("message-" + i);
+                long timeout = System.currentTimeMillis() + 5000;
+                while (!Files.exists(logFile) || Files.readAllLines(logFile, StandardCharsets.UTF_8).size() <= i) {
+                    assertTrue(System.currentTimeMillis() < timeout, "Message not written: message-" + i);
+                    Thread.sleep(5);
+                }
+            }
+        } finally {
+            receiver.close();
+        }
+        assertEquals(List.of("message-0", "message-1", "message-2"), Files.readAllLines(logFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFullQueue() throws IOException {
+        BatchingAccessLogReceiver receiver = new BatchingAccessLogReceiver(logDirectory, "access", "log", true, 4);
+        for (int i = 0; i < 10_000; i++) {
+            receiver.logMessage("message-" + i);
+        }
+        receiver.close();
+
+        List<String> lines = Files.readAllLines(logDirectory.resolve("access.log"), StandardCharsets.UTF_8);
+        Set<String> unique = new HashSet<>(lines);
+        assertEquals(lines.size(), unique.size());
+        assertTrue(lines.size() <= 10_000);
+        assertTrue(unique.contains("message-0"));
+    }
+
+}
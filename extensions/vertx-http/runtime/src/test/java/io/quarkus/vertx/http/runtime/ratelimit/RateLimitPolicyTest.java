@@ -0,0 +1,50 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+public class RateLimitPolicyTest {
+
+    @Test
+    public void testLeastRecentlyUsedClientIsEvicted() {
+        RateLimitConfig config = new RateLimitConfig();
+        config.paths = List.of("/");
+        config.methods = Optional.empty();
+        config.key = RateLimitConfig.Key.HEADER;
+        config.header = Optional.of("X-Client");
+        config.limit = 5;
+        config.period = Duration.ofSeconds(1);
+        config.maxKeys = 2;
+        RateLimitPolicy policy = new RateLimitPolicy("test", config);
+
+        TokenBucket alpha = policy.bucket(request("alpha"), 0);
+        TokenBucket bravo = policy.bucket(request("bravo"), 0);
+        // alpha is used again, so bravo becomes the least recently used client
+        assertSame(alpha, policy.bucket(request("alpha"), 0));
+        policy.bucket(request("charlie"), 0);
+        assertEquals(2, policy.size());
+        assertSame(alpha, policy.bucket(request("alpha"), 0));
+        assertNotSame(bravo, policy.bucket(request("bravo"), 0));
+        assertEquals(2, policy.size());
+    }
+
+    private static RoutingContext request(String client) {
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        when(request.getHeader("X-Client")).thenReturn(client);
+        RoutingContext event = mock(RoutingContext.class);
+        when(event.request()).thenReturn(request);
+        return event;
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(10);
+    // 5 tokens per period
+    private static final long INTERVAL = PERIOD / 5;
+
+    @Test
+    public void testBurstAndRefill() {
+        long now = 1000;
+        TokenBucket bucket = new TokenBucket(now);
+        assertTrue(bucket.isFull(now));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryAcquire(now, INTERVAL, PERIOD));
+        }
+        assertFalse(bucket.isFull(now));
+        assertEquals(INTERVAL, bucket.tryAcquire(now, INTERVAL, PERIOD));
+        // A single token is refilled after the interval
+        assertEquals(0, bucket.tryAcquire(now + INTERVAL, INTERVAL, PERIOD));
+        assertEquals(INTERVAL, bucket.tryAcquire(now + INTERVAL, INTERVAL, PERIOD));
+        // Unused tokens do not accumulate beyond the limit
+        long later = now + 10 * PERIOD;
+        assertTrue(bucket.isFull(later));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryAcquire(later, INTERVAL, PERIOD));
+        }
+        assertTrue(bucket.tryAcquire(later, INTERVAL, PERIOD) > 0);
+    }
+
+    @Test
+    public void testCheckAndRelease() {
+        long now = 1000;
+        TokenBucket bucket = new TokenBucket(now);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, bucket.tryAcquire(now, INTERVAL, PERIOD));
+        }
+        // Checking does not consume the last token
+        assertEquals(0, bucket.check(now, INTERVAL, PERIOD));
+        assertEquals(0, bucket.check(now, INTERVAL, PERIOD));
+        assertEquals(0, bucket.tryAcquire(now, INTERVAL, PERIOD));
+        assertEquals(INTERVAL, bucket.check(now, INTERVAL, PERIOD));
+        // A released token can be acquired again
+        bucket.release(INTERVAL);
+        assertEquals(0, bucket.check(now, INTERVAL, PERIOD));
+        assertEquals(0, bucket.tryAcquire(now, INTERVAL, PERIOD));
+        assertEquals(INTERVAL, bucket.tryAcquire(now, INTERVAL, PERIOD));
+    }
+
+    @Test
+    public void testConcurrentAcquire() throws InterruptedException {
+        long now = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(now);
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(8);
+        try {
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        if (bucket.tryAcquire(now, INTERVAL, PERIOD) == 0) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(5, acquired.get());
+    }
+
+}
@@ -0,0 +1,118 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.vertx.http.runtime.security.AbstractPathMatchingHttpSecurityPolicy.HttpMatcher;
+import io.quarkus.vertx.http.runtime.security.AbstractPathMatchingHttpSecurityPolicy.PathPolicies;
+
+/**
+ * Compares the lookup of the permission policies with compiled {@link PathPolicies} against the previous approach that
+ * collected the policies of the matched {@link HttpMatcher}s into new lists for every request.
+ * <p>
+ * Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args=PathMatchingBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PathMatchingBenchmark {
+
+    private static final String[] METHODS = { "GET", "POST", "DELETE" };
+
+    @Param({ "10", "500" })
+    int permissions;
+
+    ImmutablePathMatcher<List<HttpMatcher>> listMatcher;
+    ImmutablePathMatcher<PathPolicies> compiledMatcher;
+    String[] paths;
+    int index;
+
+    @Setup
+    public void setup() {
+        HttpSecurityPolicy permit = new PermitSecurityPolicy();
+        HttpSecurityPolicy authenticated = new AuthenticatedHttpSecurityPolicy();
+        var listBuilder = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll);
+        var compiledBuilder = ImmutablePathMatcher.<PathPolicies> builder().handlerAccumulator(PathPolicies::addAll);
+        List<PathPolicies> allPathPolicies = new ArrayList<>();
+        for (int i = 0; i < permissions; i++) {
+            Set<String> methods = switch (i % 3) {
+                case 0 -> Set.of("GET");
+                case 1 -> Set.of("POST", "PUT");
+                default -> Set.of();
+            };
+            HttpSecurityPolicy policy = i % 2 == 0 ? permit : authenticated;
+            for (String path : new String[] { "/api/resource" + i + "/*", "/api/resource" + i + "/items/*/details" }) {
+                HttpMatcher matcher = new HttpMatcher(null, methods, policy);
+                List<HttpMatcher> list = new ArrayList<>();
+                list.add(matcher);
+                listBuilder.addPath(path, list);
+                PathPolicies pathPolicies = new PathPolicies(matcher);
+                allPathPolicies.add(pathPolicies);
+                compiledBuilder.addPath(path, pathPolicies);
+            }
+        }
+        listMatcher = listBuilder.build();
+        compiledMatcher = compiledBuilder.build();
+        allPathPolicies.forEach(PathPolicies::compile);
+        paths = new String[] { "/api/resource" + (permissions / 2) + "/items/1/details",
+                "/api/resource" + (permissions - 1) + "/orders", "/unknown/path" };
+    }
+
+    @Benchmark
+    public Object listMatcher() {
+        int i = index++;
+        List<HttpMatcher> toCheck = listMatcher.match(paths[i % paths.length]).getValue();
+        if (toCheck == null || toCheck.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String method = METHODS[i % METHODS.length];
+        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
+        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+        for (HttpMatcher m : toCheck) {
+            if (m.methods == null || m.methods.isEmpty()) {
+                noMethod.add(m.checker);
+            } else if (m.methods.contains(method)) {
+                methodMatch.add(m.checker);
+            }
+        }
+        if (!methodMatch.isEmpty()) {
+            return methodMatch;
+        } else if (!noMethod.isEmpty()) {
+            return noMethod;
+        }
+        return Collections.singletonList(DenySecurityPolicy.INSTANCE);
+    }
+
+    @Benchmark
+    public Object compiledMatcher() {
+        int i = index++;
+        PathPolicies toCheck = compiledMatcher.matchValue(paths[i % paths.length]);
+        if (toCheck == null) {
+            return null;
+        }
+        return toCheck.getPolicies(METHODS[i % METHODS.length]);
+    }
+
+}
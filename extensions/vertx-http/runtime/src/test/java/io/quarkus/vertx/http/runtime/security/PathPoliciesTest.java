@@ -0,0 +1,47 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.security.AbstractPathMatchingHttpSecurityPolicy.HttpMatcher;
+import io.quarkus.vertx.http.runtime.security.AbstractPathMatchingHttpSecurityPolicy.PathPolicies;
+
+public class PathPoliciesTest {
+
+    @Test
+    public void testMethodSpecificPolicies() {
+        HttpSecurityPolicy permit = new PermitSecurityPolicy();
+        HttpSecurityPolicy authenticated = new AuthenticatedHttpSecurityPolicy();
+        PathPolicies get = new PathPolicies(new HttpMatcher(null, Set.of("GET"), permit));
+        PathPolicies any = new PathPolicies(new HttpMatcher("basic", Set.of(), authenticated));
+        PathPolicies post = new PathPolicies(new HttpMatcher(null, Set.of("POST"), authenticated));
+        ImmutablePathMatcher<PathPolicies> matcher = ImmutablePathMatcher.<PathPolicies> builder()
+                .handlerAccumulator(PathPolicies::addAll)
+                .addPath("/api/*", get)
+                .addPath("/api/*", any)
+                .addPath("/admin", post)
+                .build();
+        get.compile();
+        any.compile();
+        post.compile();
+
+        PathPolicies api = matcher.matchValue("/api/hello");
+        assertArrayEquals(new HttpSecurityPolicy[] { permit }, api.getPolicies("GET"));
+        assertArrayEquals(new HttpSecurityPolicy[] { authenticated }, api.getPolicies("DELETE"));
+        assertEquals("basic", api.getAuthMechanism());
+
+        PathPolicies admin = matcher.matchValue("/admin");
+        assertArrayEquals(new HttpSecurityPolicy[] { authenticated }, admin.getPolicies("POST"));
+        // the request is denied if no policy matches the method
+        assertArrayEquals(new HttpSecurityPolicy[] { DenySecurityPolicy.INSTANCE }, admin.getPolicies("GET"));
+        assertNull(admin.getAuthMechanism());
+
+        assertNull(matcher.matchValue("/other"));
+    }
+
+}
@@ -0,0 +1,36 @@
+package io.quarkus.vertx.http.runtime.timing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.timing.RequestTimings.Phase;
+
+public class RequestTimingsTest {
+
+    @Test
+    public void testDurations() throws InterruptedException {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+        assertEquals(-1, timings.getDuration(Phase.RECEIVED));
+        assertEquals(0, timings.getTotalDuration());
+
+        Thread.sleep(5);
+        timings.mark(Phase.MATCHED);
+        timings.mark(Phase.INVOCATION_STARTED);
+        assertFalse(timings.isMarked(Phase.AUTHENTICATED));
+        assertEquals(-1, timings.getDuration(Phase.AUTHENTICATED));
+        // The duration is measured from the preceding marked phase
+        assertTrue(timings.getDuration(Phase.MATCHED) >= 5_000_000);
+        assertTrue(timings.getDuration(Phase.INVOCATION_STARTED) < 5_000_000);
+        assertTrue(timings.getTotalDuration() >= 5_000_000);
+
+        String serverTiming = timings.toServerTiming();
+        assertTrue(serverTiming.startsWith("route;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", params;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", total;dur="), serverTiming);
+        assertFalse(serverTiming.contains("auth"), serverTiming);
+    }
+
+}
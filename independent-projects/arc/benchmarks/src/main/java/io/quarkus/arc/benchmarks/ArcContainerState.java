@@ -0,0 +1,30 @@
+package io.quarkus.arc.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+
+/**
+ * Starts the container once per trial; shared by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class ArcContainerState {
+
+    ArcContainer container;
+
+    @Setup(Level.Trial)
+    public void start() {
+        container = Arc.initialize();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        Arc.shutdown();
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedBean;
+import io.quarkus.arc.benchmarks.beans.Binding1;
+import io.quarkus.arc.benchmarks.beans.Binding2;
+import io.quarkus.arc.benchmarks.beans.Binding3;
+import io.quarkus.arc.benchmarks.beans.Binding4;
+import io.quarkus.arc.benchmarks.beans.EventBean;
+import io.quarkus.arc.benchmarks.beans.InterceptedBean;
+import io.quarkus.arc.benchmarks.beans.Interceptor1;
+import io.quarkus.arc.benchmarks.beans.Interceptor2;
+import io.quarkus.arc.benchmarks.beans.Interceptor3;
+import io.quarkus.arc.benchmarks.beans.Interceptor4;
+import io.quarkus.arc.benchmarks.beans.LookupBean;
+import io.quarkus.arc.benchmarks.beans.ObservedEvent;
+import io.quarkus.arc.benchmarks.beans.RequestScopedBean;
+import io.quarkus.arc.benchmarks.beans.UnobservedEvent;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+
+/**
+ * Runs the bean processor on the benchmark beans at build time. The generated classes and the
+ * {@link io.quarkus.arc.ComponentsProvider} service file are written to the directory passed as the first argument, so
+ * that {@link io.quarkus.arc.Arc#initialize()} works as it would in a Quarkus application.
+ */
+public final class BenchmarkDeployment {
+
+    private BenchmarkDeployment() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: BenchmarkDeployment <output directory>");
+        }
+        File outputDirectory = new File(args[0]);
+
+        IndexView index = BeanArchives.buildImmutableBeanArchiveIndex(Index.of(ApplicationScopedBean.class,
+                RequestScopedBean.class, LookupBean.class, InterceptedBean.class, EventBean.class, ObservedEvent.class,
+                UnobservedEvent.class, Binding1.class, Binding2.class, Binding3.class, Binding4.class,
+                Interceptor1.class, Interceptor2.class, Interceptor3.class, Interceptor4.class));
+
+        BeanProcessor beanProcessor = BeanProcessor.builder()
+                .setName("arc_benchmarks")
+                .setImmutableBeanArchiveIndex(index)
+                .setComputingBeanArchiveIndex(BeanArchives.buildComputingBeanArchiveIndex(
+                        BenchmarkDeployment.class.getClassLoader(), new ConcurrentHashMap<>(), index))
+                .setRemoveUnusedBeans(false)
+                .setOutput(new ResourceOutput() {
+
+                    @Override
+                    public void writeResource(Resource resource) throws IOException {
+                        switch (resource.getType()) {
+                            case JAVA_CLASS:
+                                resource.writeTo(outputDirectory);
+                                break;
+                            case SERVICE_PROVIDER:
+                                resource.writeTo(new File(outputDirectory, "META-INF/services"));
+                                break;
+                            default:
+                                throw new IllegalArgumentException();
+                        }
+                    }
+                })
+                .build();
+        beanProcessor.process();
+    }
+
+}
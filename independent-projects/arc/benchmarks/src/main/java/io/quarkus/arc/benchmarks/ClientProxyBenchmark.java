@@ -0,0 +1,62 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedBean;
+import io.quarkus.arc.benchmarks.beans.RequestScopedBean;
+
+/**
+ * Invocation of a business method through the client proxy of a normal scoped bean.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    private ApplicationScopedBean applicationScoped;
+    private RequestScopedBean requestScoped;
+    private ManagedContext requestContext;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setup(ArcContainerState state) {
+        applicationScoped = state.container.instance(ApplicationScopedBean.class).get();
+        requestScoped = state.container.instance(RequestScopedBean.class).get();
+        // The request context is bound to the benchmark thread for the whole trial
+        requestContext = state.container.requestContext();
+        requestContext.activate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public int applicationScoped() {
+        return value = applicationScoped.ping(value);
+    }
+
+    @Benchmark
+    public int requestScoped() {
+        return value = requestScoped.ping(value);
+    }
+
+}
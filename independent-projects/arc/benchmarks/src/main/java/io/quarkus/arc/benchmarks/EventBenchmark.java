@@ -0,0 +1,48 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.benchmarks.beans.EventBean;
+
+/**
+ * Synchronous event firing through an injected {@link jakarta.enterprise.event.Event}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+    private EventBean bean;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setup(ArcContainerState state) {
+        bean = state.container.instance(EventBean.class).get();
+    }
+
+    @Benchmark
+    public void fireObserved() {
+        bean.fireObserved(value++);
+    }
+
+    @Benchmark
+    public void fireUnobserved() {
+        bean.fireUnobserved();
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.benchmarks.beans.InterceptedBean;
+
+/**
+ * Invocation of intercepted methods with an increasing number of around-invoke interceptors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorChainBenchmark {
+
+    private InterceptedBean bean;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setup(ArcContainerState state) {
+        bean = state.container.instance(InterceptedBean.class).get();
+    }
+
+    @Benchmark
+    public int depth0() {
+        return value = bean.depth0(value);
+    }
+
+    @Benchmark
+    public int depth1() {
+        return value = bean.depth1(value);
+    }
+
+    @Benchmark
+    public int depth2() {
+        return value = bean.depth2(value);
+    }
+
+    @Benchmark
+    public int depth4() {
+        return value = bean.depth4(value);
+    }
+
+}
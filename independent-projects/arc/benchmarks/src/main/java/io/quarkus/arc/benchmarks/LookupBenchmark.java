@@ -0,0 +1,60 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Instance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedBean;
+import io.quarkus.arc.benchmarks.beans.LookupBean;
+
+/**
+ * Programmatic lookup: an injected {@link Instance}, {@link ArcContainer#select(Class, java.lang.annotation.Annotation...)}
+ * and {@link ArcContainer#instance(Class, java.lang.annotation.Annotation...)}, the last one being resolved through the
+ * container's resolution cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+
+    private ArcContainer container;
+    private Instance<ApplicationScopedBean> instance;
+
+    @Setup(Level.Trial)
+    public void setup(ArcContainerState state) {
+        container = state.container;
+        instance = container.instance(LookupBean.class).get().getApplicationScoped();
+    }
+
+    @Benchmark
+    public ApplicationScopedBean injectedInstanceGet() {
+        return instance.get();
+    }
+
+    @Benchmark
+    public ApplicationScopedBean containerSelectGet() {
+        return container.select(ApplicationScopedBean.class).get();
+    }
+
+    @Benchmark
+    public ApplicationScopedBean containerInstance() {
+        return container.instance(ApplicationScopedBean.class).get();
+    }
+
+}
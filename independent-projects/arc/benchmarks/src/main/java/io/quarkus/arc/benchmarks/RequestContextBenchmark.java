@@ -0,0 +1,57 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.benchmarks.beans.RequestScopedBean;
+
+/**
+ * Request context lifecycle, with and without a request scoped bean instance being created within the context.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    private ManagedContext requestContext;
+    private RequestScopedBean requestScoped;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setup(ArcContainerState state) {
+        requestContext = state.container.requestContext();
+        requestScoped = state.container.instance(RequestScopedBean.class).get();
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public int activateUseTerminate() {
+        requestContext.activate();
+        try {
+            return value = requestScoped.ping(value);
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+}
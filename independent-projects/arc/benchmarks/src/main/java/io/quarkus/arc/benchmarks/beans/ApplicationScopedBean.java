@@ -0,0 +1,12 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ApplicationScopedBean {
+
+    public int ping(int value) {
+        return value + 1;
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class EventBean {
+
+    @Inject
+    Event<ObservedEvent> observed;
+
+    @Inject
+    Event<UnobservedEvent> unobserved;
+
+    int sum;
+
+    public void fireObserved(int value) {
+        observed.fire(new ObservedEvent(value));
+    }
+
+    public void fireUnobserved() {
+        unobserved.fire(new UnobservedEvent());
+    }
+
+    void observe(@Observes ObservedEvent event) {
+        sum += event.value;
+    }
+
+}
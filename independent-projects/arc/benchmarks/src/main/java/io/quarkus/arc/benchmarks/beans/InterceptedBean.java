@@ -0,0 +1,34 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Each method is bound to a different number of interceptors so that the cost of a chain can be measured per depth.
+ */
+@ApplicationScoped
+public class InterceptedBean {
+
+    public int depth0(int value) {
+        return value + 1;
+    }
+
+    @Binding1
+    public int depth1(int value) {
+        return value + 1;
+    }
+
+    @Binding1
+    @Binding2
+    public int depth2(int value) {
+        return value + 1;
+    }
+
+    @Binding1
+    @Binding2
+    @Binding3
+    @Binding4
+    public int depth4(int value) {
+        return value + 1;
+    }
+
+}
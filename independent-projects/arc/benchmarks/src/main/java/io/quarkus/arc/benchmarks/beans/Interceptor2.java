@@ -0,0 +1,18 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Binding2
+@Priority(2)
+@Interceptor
+public class Interceptor2 {
+
+    @AroundInvoke
+    Object intercept(InvocationContext ctx) throws Exception {
+        return ctx.proceed();
+    }
+
+}
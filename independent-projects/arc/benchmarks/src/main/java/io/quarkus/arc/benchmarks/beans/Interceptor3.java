@@ -0,0 +1,18 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Binding3
+@Priority(3)
+@Interceptor
+public class Interceptor3 {
+
+    @AroundInvoke
+    Object intercept(InvocationContext ctx) throws Exception {
+        return ctx.proceed();
+    }
+
+}
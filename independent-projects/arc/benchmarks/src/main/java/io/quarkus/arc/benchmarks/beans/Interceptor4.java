@@ -0,0 +1,18 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Binding4
+@Priority(4)
+@Interceptor
+public class Interceptor4 {
+
+    @AroundInvoke
+    Object intercept(InvocationContext ctx) throws Exception {
+        return ctx.proceed();
+    }
+
+}
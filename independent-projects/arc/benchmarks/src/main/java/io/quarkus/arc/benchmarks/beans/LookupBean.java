@@ -0,0 +1,17 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class LookupBean {
+
+    @Inject
+    Instance<ApplicationScopedBean> applicationScoped;
+
+    public Instance<ApplicationScopedBean> getApplicationScoped() {
+        return applicationScoped;
+    }
+
+}
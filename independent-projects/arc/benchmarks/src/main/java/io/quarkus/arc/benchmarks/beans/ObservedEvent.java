@@ -0,0 +1,14 @@
+package io.quarkus.arc.benchmarks.beans;
+
+/**
+ * Event payload with a single synchronous observer.
+ */
+public class ObservedEvent {
+
+    public final int value;
+
+    public ObservedEvent(int value) {
+        this.value = value;
+    }
+
+}
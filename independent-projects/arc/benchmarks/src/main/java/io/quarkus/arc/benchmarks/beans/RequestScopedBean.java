@@ -0,0 +1,12 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import jakarta.enterprise.context.RequestScoped;
+
+@RequestScoped
+public class RequestScopedBean {
+
+    public int ping(int value) {
+        return value + 1;
+    }
+
+}
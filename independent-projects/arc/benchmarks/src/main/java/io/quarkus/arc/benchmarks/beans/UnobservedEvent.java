@@ -0,0 +1,8 @@
+package io.quarkus.arc.benchmarks.beans;
+
+/**
+ * Event payload that has no observers; measures the cost of observer resolution alone.
+ */
+public class UnobservedEvent {
+
+}
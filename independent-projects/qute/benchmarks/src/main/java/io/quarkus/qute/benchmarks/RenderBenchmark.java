@@ -0,0 +1,122 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.CompletedStage;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+
+/**
+ * Renders a template with a configurable number of expressions. The {@code sync} variant uses a value resolver that
+ * completes synchronously, i.e. the rendering takes the synchronous fast path. The {@code baseline} variant renders the same
+ * template with the fast path disabled, i.e. the synchronous results are composed as before the fast path was introduced,
+ * so that the speedup can be read by comparing both variants. The {@code async} variant uses the same resolver but returns a
+ * {@link CompletableFuture} which forces the asynchronous composition of results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+    @Param({ "100", "2000" })
+    int expressions;
+
+    private Template syncTemplate;
+    private Template asyncTemplate;
+    private Item item;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        StringBuilder content = new StringBuilder();
+        // Each line contains two expressions
+        for (int i = 0; i < expressions / 2; i++) {
+            content.append("<li>{item.name} {item.price}</li>\n");
+        }
+        syncTemplate = Engine.builder().addDefaults().addValueResolver(new ItemResolver(false)).build()
+                .parse(content.toString());
+        asyncTemplate = Engine.builder().addDefaults().addValueResolver(new ItemResolver(true)).build()
+                .parse(content.toString());
+        item = new Item("Foo", 42);
+    }
+
+    @Benchmark
+    public String sync() {
+        return syncTemplate.data("item", item).render();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dquarkus.qute.disable-sync-fast-path=true")
+    public String baseline() {
+        return syncTemplate.data("item", item).render();
+    }
+
+    @Benchmark
+    public String async() {
+        return asyncTemplate.data("item", item).render();
+    }
+
+    public static class Item {
+
+        final String name;
+        final int price;
+
+        Item(String name, int price) {
+            this.name = name;
+            this.price = price;
+        }
+
+    }
+
+    static class ItemResolver implements ValueResolver {
+
+        private final boolean async;
+
+        ItemResolver(boolean async) {
+            this.async = async;
+        }
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return context.getBase() instanceof Item;
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            Item item = (Item) context.getBase();
+            Object value;
+            switch (context.getName()) {
+                case "name":
+                    value = item.name;
+                    break;
+                case "price":
+                    value = item.price;
+                    break;
+                default:
+                    value = null;
+            }
+            return async ? CompletableFuture.completedFuture(value) : CompletedStage.of(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,138 @@
+package io.quarkus.qute;
+
+import java.util.List;
+
+/**
+ * A template compiled to a Java class.
+ * <p>
+ * A compiled template renders the output directly, i.e. without evaluating the expressions through value resolvers. It's
+ * bound to a specific template id and to the structure of the template it was compiled from. If the structure of the template
+ * loaded at runtime does not match then the compiled template is ignored.
+ * <p>
+ * A compiled template may decline to render the given data before the rendering starts, e.g. if the data object is not of the
+ * expected type or an included template is not compiled. In that case, the template is rendered as usual. Once the rendering
+ * has started, the compiled template renders the whole output.
+ *
+ * @see EngineBuilder#addCompiledTemplate(String, CompiledTemplate)
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the hash of the template structure this template was compiled from
+     * @see #structureHash(List)
+     */
+    int getStructureHash();
+
+    /**
+     * Checks the data and the included templates before the rendering starts. No getter of the data is invoked.
+     *
+     * @param context
+     * @return {@code true} if the template can render the data, {@code false} if the template must be rendered as usual
+     */
+    boolean accepts(RenderContext context);
+
+    /**
+     * Renders the data accepted by {@link #accepts(RenderContext)}.
+     *
+     * @param context
+     */
+    void render(RenderContext context);
+
+    /**
+     * The hash is computed from the kind of the nodes, the text content, the expressions and the section blocks.
+     *
+     * @param nodes
+     * @return the hash of the template structure
+     */
+    static int structureHash(List<TemplateNode> nodes) {
+        int hash = 1;
+        for (TemplateNode node : nodes) {
+            hash = 31 * hash + structureHash(node);
+        }
+        return hash;
+    }
+
+    private static int structureHash(TemplateNode node) {
+        if (node.isText()) {
+            return 31 + node.asText().getValue().hashCode();
+        } else if (node.isExpression()) {
+            return 37 + node.asExpression().getExpression().toOriginalString().hashCode();
+        } else if (node.isSection()) {
+            SectionNode section = node.asSection();
+            int hash = 41 + section.getName().hashCode();
+            for (SectionBlock block : section.getBlocks()) {
+                hash = 31 * hash + block.label.hashCode();
+                hash = 31 * hash + block.parameters.hashCode();
+                hash = 31 * hash + structureHash(block.getNodes());
+            }
+            return hash;
+        }
+        return node.getClass().getName().hashCode();
+    }
+
+    /**
+     * The context of a compiled template rendering.
+     */
+    interface RenderContext {
+
+        /**
+         *
+         * @param key
+         * @return the value of the top-level data, or {@code null} if no such value exists
+         */
+        Object getData(String key);
+
+        /**
+         *
+         * @param text
+         */
+        void append(String text);
+
+        /**
+         * The value is converted to a string in the same way as the result of the corresponding expression node, i.e. the
+         * result mappers are applied.
+         *
+         * @param value
+         * @param expressionIndex the index of the expression node in the template tree (depth-first order)
+         * @throws IllegalStateException if the value cannot be appended synchronously
+         */
+        void appendValue(Object value, int expressionIndex);
+
+        /**
+         * A property cannot be resolved because the base object is {@code null}.
+         *
+         * @param property
+         * @param expressionIndex the index of the expression in {@link Template#getExpressions()}
+         * @return the "not found" result
+         * @throws TemplateException if strict rendering is enabled
+         */
+        Object propertyNotFound(String property, int expressionIndex);
+
+        /**
+         * The iterable of a loop section is "not found", i.e. {@link #propertyNotFound(String, int)} returned a result.
+         *
+         * @param expressionIndex the index of the expression in {@link Template#getExpressions()}
+         * @throws TemplateException always
+         */
+        void iterableNotFound(int expressionIndex);
+
+        /**
+         * Checks a template included via <code>{#include foo /}</code> before the rendering starts.
+         *
+         * @param templateId
+         * @return {@code true} if the included template is compiled and accepts the data, {@code false} otherwise
+         * @see CompiledTemplate#accepts(RenderContext)
+         */
+        boolean acceptsInclude(String templateId);
+
+        /**
+         * Renders a template included via <code>{#include foo /}</code> and accepted by {@link #acceptsInclude(String)}.
+         *
+         * @param templateId
+         */
+        void include(String templateId);
+
+    }
+
+}
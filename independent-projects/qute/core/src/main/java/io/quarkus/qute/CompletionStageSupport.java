@@ -15,6 +15,14 @@ class CompletionStageSupport {
      */
     static final boolean UNRESTRICTED = Boolean.getBoolean(SYSTEM_PROPERTY);
 
+    static final String SYNC_FAST_PATH_DISABLED_PROPERTY = "quarkus.qute.disable-sync-fast-path";
+
+    /**
+     * {@code true} if the results of value resolvers that complete synchronously are composed like any other stage. Only
+     * meant to measure the synchronous fast path against the asynchronous composition.
+     */
+    static final boolean SYNC_FAST_PATH_DISABLED = Boolean.getBoolean(SYNC_FAST_PATH_DISABLED_PROPERTY);
+
     @SuppressWarnings("unchecked")
     static CompletionStage<Object> toCompletionStage(Object result) {
         // Note that we intentionally use "instanceof" to test interfaces as the last resort in order to mitigate the "type pollution"
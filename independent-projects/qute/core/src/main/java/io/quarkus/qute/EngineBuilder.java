@@ -5,6 +5,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -30,6 +31,8 @@ public final class EngineBuilder {
     final List<TemplateLocator> locators;
     final List<ResultMapper> resultMappers;
     final List<TemplateInstance.Initializer> initializers;
+    final Map<String, CompiledTemplate> compiledTemplates;
+    final List<RenderListener> renderListeners;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
     boolean removeStandaloneLines;
@@ -46,6 +49,8 @@ public final class EngineBuilder {
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
         this.initializers = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
+        this.renderListeners = new ArrayList<>();
         this.strictRendering = true;
         this.removeStandaloneLines = true;
         this.iterationMetadataPrefix = LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE;
@@ -209,6 +214,32 @@ public EngineBuilder addTemplateInstanceInitializer(TemplateInstance.Initializer
         return this;
     }
 
+    /**
+     * The compiled template is used to render the template with the given id if it matches the structure of the template
+     * loaded by a {@link TemplateLocator}.
+     *
+     * @param templateId
+     * @param compiledTemplate
+     * @return self
+     * @see CompiledTemplate
+     */
+    public EngineBuilder addCompiledTemplate(String templateId, CompiledTemplate compiledTemplate) {
+        this.compiledTemplates.put(Objects.requireNonNull(templateId), Objects.requireNonNull(compiledTemplate));
+        return this;
+    }
+
+    /**
+     * The listeners are notified about the rendering of templates, e.g. to collect performance metrics.
+     *
+     * @param listener
+     * @return self
+     * @see RenderListener
+     */
+    public EngineBuilder addRenderListener(RenderListener listener) {
+        this.renderListeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
     /**
      * The function is used if no section helper registered via {@link #addSectionHelper(SectionHelperFactory)} matches a
      * section name.
@@ -35,17 +35,22 @@ class EngineImpl implements Engine {
     private final List<ResultMapper> resultMappers;
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
+    private final Map<String, CompiledTemplate> compiledTemplates;
     final List<TemplateInstance.Initializer> initializers;
     final boolean removeStandaloneLines;
     private final long timeout;
     private final boolean useAsyncTimeout;
+    // null if no listener is registered
+    final RenderListener renderListener;
 
     EngineImpl(EngineBuilder builder) {
         this.sectionHelperFactories = Map.copyOf(builder.sectionHelperFactories);
         this.valueResolvers = sort(builder.valueResolvers);
         this.namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
                 .addAll(builder.namespaceResolvers).add(new TemplateImpl.DataNamespaceResolver()).build();
-        this.evaluator = new EvaluatorImpl(this.valueResolvers, this.namespaceResolvers, builder.strictRendering, this);
+        this.renderListener = composite(builder.renderListeners);
+        this.evaluator = new EvaluatorImpl(this.valueResolvers, this.namespaceResolvers, builder.strictRendering, this,
+                renderListener);
         this.templates = new ConcurrentHashMap<>();
         this.locators = sort(builder.locators);
         this.resultMappers = sort(builder.resultMappers);
@@ -53,6 +58,7 @@ class EngineImpl implements Engine {
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
         this.removeStandaloneLines = builder.removeStandaloneLines;
         this.initializers = ImmutableList.copyOf(builder.initializers);
+        this.compiledTemplates = Map.copyOf(builder.compiledTemplates);
         this.timeout = builder.timeout;
         this.useAsyncTimeout = builder.useAsyncTimeout;
     }
@@ -199,9 +205,47 @@ public EngineBuilder newBuilder() {
         for (ParserHook parserHook : parserHooks) {
             builder.addParserHook(parserHook);
         }
+        for (Entry<String, CompiledTemplate> e : compiledTemplates.entrySet()) {
+            builder.addCompiledTemplate(e.getKey(), e.getValue());
+        }
+        if (renderListener != null) {
+            builder.addRenderListener(renderListener);
+        }
         return builder;
     }
 
+    private static RenderListener composite(List<RenderListener> listeners) {
+        if (listeners.isEmpty()) {
+            return null;
+        } else if (listeners.size() == 1) {
+            return listeners.get(0);
+        }
+        RenderListener[] array = listeners.toArray(RenderListener[]::new);
+        return new RenderListener() {
+
+            @Override
+            public void templateRendered(Template template, long durationNanos, Throwable failure) {
+                for (RenderListener listener : array) {
+                    listener.templateRendered(template, durationNanos, failure);
+                }
+            }
+
+            @Override
+            public void expressionEvaluated(Expression expression, long durationNanos) {
+                for (RenderListener listener : array) {
+                    listener.expressionEvaluated(expression, durationNanos);
+                }
+            }
+
+            @Override
+            public void valueResolved(Resolver resolver) {
+                for (RenderListener listener : array) {
+                    listener.valueResolved(resolver);
+                }
+            }
+        };
+    }
+
     String generateId() {
         return "" + idGenerator.incrementAndGet();
     }
@@ -211,7 +255,13 @@ private Template load(String id) {
             Optional<TemplateLocation> location = locator.locate(id);
             if (location.isPresent()) {
                 try (Reader r = location.get().read()) {
-                    return newParser(id, ensureBufferedReader(r), location.get().getVariant(), generateId()).parse();
+                    Template template = newParser(id, ensureBufferedReader(r), location.get().getVariant(), generateId())
+                            .parse();
+                    CompiledTemplate compiledTemplate = compiledTemplates.get(id);
+                    if (compiledTemplate != null && !((TemplateImpl) template).initCompiledTemplate(compiledTemplate)) {
+                        LOGGER.debugf("Compiled template ignored - the structure of the template %s does not match", id);
+                    }
+                    return template;
                 } catch (IOException e) {
                     LOGGER.warn("Unable to close the reader for " + id, e);
                 }
@@ -24,9 +24,11 @@ class EvaluatorImpl implements Evaluator {
     private final Map<String, NamespaceResolver[]> namespaceResolvers;
     private final boolean strictRendering;
     private final ErrorInitializer initializer;
+    // null if no listener is registered
+    private final RenderListener listener;
 
     EvaluatorImpl(List<ValueResolver> valueResolvers, List<NamespaceResolver> namespaceResolvers, boolean strictRendering,
-            ErrorInitializer errorInitializer) {
+            ErrorInitializer errorInitializer, RenderListener listener) {
         this.resolvers = valueResolvers;
         Map<String, NamespaceResolver[]> namespaceResolversMap = new HashMap<>();
         for (NamespaceResolver namespaceResolver : namespaceResolvers) {
@@ -50,10 +52,20 @@ class EvaluatorImpl implements Evaluator {
         this.namespaceResolvers = namespaceResolversMap;
         this.strictRendering = strictRendering;
         this.initializer = errorInitializer;
+        this.listener = listener;
     }
 
     @Override
     public CompletionStage<Object> evaluate(Expression expression, ResolutionContext resolutionContext) {
+        if (listener == null || expression.isLiteral()) {
+            return doEvaluate(expression, resolutionContext);
+        }
+        long start = System.nanoTime();
+        return doEvaluate(expression, resolutionContext)
+                .whenComplete((r, t) -> listener.expressionEvaluated(expression, System.nanoTime() - start));
+    }
+
+    private CompletionStage<Object> doEvaluate(Expression expression, ResolutionContext resolutionContext) {
         if (expression.isLiteral()) {
             return expression.asLiteral();
         } else if (expression.hasNamespace()) {
@@ -74,9 +86,23 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
                     : new NamespaceEvalContextImpl(resolutionContext, part);
             if (matching.length == 1) {
                 // Very often a single matching resolver will be found
-                return matching[0].resolve(context).thenCompose(r -> (parts.size() > 1)
-                        ? resolveReference(false, r, parts, resolutionContext, expression, 1)
-                        : CompletionStageSupport.toCompletionStage(r));
+                CompletionStage<Object> resolved = matching[0].resolve(context);
+                if (listener != null) {
+                    resolved = notifyResolved(matching[0], resolved);
+                }
+                if (parts.size() == 1) {
+                    return resolved.thenCompose(CompletionStageSupport::toCompletionStage);
+                }
+                if (isCompletedSuccessfully(resolved)) {
+                    // Synchronous fast path - no need to compose
+                    try {
+                        return resolveReference(false, ((CompletedStage<Object>) resolved).get(), parts, resolutionContext,
+                                expression, 1);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return resolved.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, 1));
             } else {
                 // Multiple namespace resolvers match
                 return resolveNamespace(context, resolutionContext, parts, matching, 0, expression);
@@ -96,7 +122,11 @@ private CompletionStage<Object> resolveNamespace(EvalContext context, Resolution
             List<Part> parts, NamespaceResolver[] resolvers, int resolverIndex, Expression expression) {
         // Use the next matching namespace resolver
         NamespaceResolver resolver = resolvers[resolverIndex];
-        return resolver.resolve(context).thenCompose(r -> {
+        CompletionStage<Object> resolved = resolver.resolve(context);
+        if (listener != null) {
+            resolved = notifyResolved(resolver, resolved);
+        }
+        return resolved.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found
                 int nextIdx = resolverIndex + 1;
@@ -131,8 +161,17 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            CompletionStage<Object> resolved = resolve(evalContext, null, true, expression, false, partIndex);
+            if (isCompletedSuccessfully(resolved)) {
+                // Synchronous fast path - no need to compose
+                try {
+                    return resolveReference(false, ((CompletedStage<Object>) resolved).get(), parts, resolutionContext,
+                            expression, partIndex + 1);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return resolved.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
@@ -143,7 +182,23 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cachedResolver = evalContext.getCachedResolver();
             if (cachedResolver != null && cachedResolver.appliesTo(evalContext)) {
-                return cachedResolver.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> resolved = cachedResolver.resolve(evalContext);
+                if (listener != null) {
+                    resolved = notifyResolved(cachedResolver, resolved);
+                }
+                if (isCompletedSuccessfully(resolved)) {
+                    // Synchronous fast path - no need to compose
+                    Object r = ((CompletedStage<Object>) resolved).get();
+                    if (Results.isNotFound(r)) {
+                        try {
+                            return resolve(evalContext, null, false, expression, isLastPart, partIndex);
+                        } catch (Throwable e) {
+                            return CompletedStage.failure(e);
+                        }
+                    }
+                    return CompletionStageSupport.toCompletionStage(r);
+                }
+                return resolved.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -206,9 +261,28 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             return CompletedStage.of(notFound);
         }
 
+        CompletionStage<Object> resolved = applicableResolver.resolve(evalContext);
+        if (listener != null) {
+            resolved = notifyResolved(applicableResolver, resolved);
+        }
+        if (isCompletedSuccessfully(resolved)) {
+            // Synchronous fast path - no need to compose
+            Object r = ((CompletedStage<Object>) resolved).get();
+            if (Results.isNotFound(r)) {
+                // Result not found - try the next resolver
+                try {
+                    return resolve(evalContext, resolvers, false, expression, isLastPart, partIndex);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            // Cache the first resolver where a result is found
+            evalContext.setCachedResolver(applicableResolver);
+            return CompletionStageSupport.toCompletionStage(r);
+        }
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        return resolved.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
@@ -220,7 +294,25 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
         });
     }
 
-    private TemplateException propertyNotFound(Object result, Expression expression) {
+    private CompletionStage<Object> notifyResolved(Resolver resolver, CompletionStage<Object> resolved) {
+        // Note that CompletedStage#whenComplete() executes the action synchronously
+        return resolved.whenComplete((r, t) -> {
+            if (t == null && !Results.isNotFound(r)) {
+                listener.valueResolved(resolver);
+            }
+        });
+    }
+
+    /**
+     * Most value resolvers complete synchronously. In that case the result can be used directly and the allocation of a
+     * composed stage and a capturing lambda can be avoided. Any other stage is composed asynchronously.
+     */
+    static boolean isCompletedSuccessfully(CompletionStage<?> stage) {
+        return !CompletionStageSupport.SYNC_FAST_PATH_DISABLED && stage instanceof CompletedStage
+                && !((CompletedStage<?>) stage).isFailure();
+    }
+
+    TemplateException propertyNotFound(Object result, Expression expression) {
         String propertyMessage;
         if (result instanceof NotFound) {
             propertyMessage = ((NotFound) result).asMessage();
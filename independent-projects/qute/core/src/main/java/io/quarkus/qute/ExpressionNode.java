@@ -10,7 +10,7 @@
 /**
  * This node holds a single expression such as {@code foo.bar}.
  */
-class ExpressionNode implements TemplateNode {
+public class ExpressionNode implements TemplateNode {
 
     private static final Logger LOG = Logger.getLogger("io.quarkus.qute.nodeResolve");
 
@@ -33,7 +33,12 @@ public CompletionStage<ResultNode> resolve(ResolutionContext context) {
         if (traceLevel) {
             LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
         }
-        return context.evaluate(expression).thenCompose(this::toResultNode);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (EvaluatorImpl.isCompletedSuccessfully(result)) {
+            // Synchronous fast path - no need to compose
+            return toResultNode(((CompletedStage<Object>) result).get());
+        }
+        return result.thenCompose(this::toResultNode);
     }
 
     CompletionStage<ResultNode> toResultNode(Object result) {
@@ -62,6 +67,20 @@ public boolean isConstant() {
         return expression.isLiteral();
     }
 
+    @Override
+    public boolean isExpression() {
+        return true;
+    }
+
+    @Override
+    public ExpressionNode asExpression() {
+        return this;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
     Engine getEngine() {
         return engine;
     }
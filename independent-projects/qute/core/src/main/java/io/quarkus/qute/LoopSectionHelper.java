@@ -118,23 +118,26 @@ private Iterator<?> extractIterator(Object it) {
         } else if (it instanceof Stream) {
             return ((Stream<?>) it).sequential().iterator();
         } else {
-            TemplateException.Builder builder;
             if (Results.isNotFound(it)) {
-                builder = engine.error("Iteration error - \\{{expr}} not found, use \\{{expr}.orEmpty} to ignore this error")
-                        .code(Code.ITERABLE_NOT_FOUND)
-                        .argument("expr", iterable.toOriginalString())
-                        .origin(iterable.getOrigin());
-            } else {
-                builder = engine.error("Iteration error - \\{{expr}} resolved to [{clazz}] which is not iterable")
-                        .code(Code.NOT_AN_ITERABLE)
-                        .argument("expr", iterable.toOriginalString())
-                        .argument("clazz", it.getClass().getName())
-                        .origin(iterable.getOrigin());
+                throw iterableNotFound(engine, iterable);
             }
-            throw builder.build();
+            throw engine.error("Iteration error - \\{{expr}} resolved to [{clazz}] which is not iterable")
+                    .code(Code.NOT_AN_ITERABLE)
+                    .argument("expr", iterable.toOriginalString())
+                    .argument("clazz", it.getClass().getName())
+                    .origin(iterable.getOrigin())
+                    .build();
         }
     }
 
+    static TemplateException iterableNotFound(Engine engine, Expression iterable) {
+        return engine.error("Iteration error - \\{{expr}} not found, use \\{{expr}.orEmpty} to ignore this error")
+                .code(Code.ITERABLE_NOT_FOUND)
+                .argument("expr", iterable.toOriginalString())
+                .origin(iterable.getOrigin())
+                .build();
+    }
+
     CompletionStage<ResultNode> nextElement(Object element, int index, boolean hasNext, SectionResolutionContext context) {
         ResolutionContext child = context.resolutionContext().createChild(
                 new IterationElement(alias, metadataPrefix, element, index, hasNext),
@@ -0,0 +1,41 @@
+package io.quarkus.qute;
+
+/**
+ * Receives notifications about the rendering of templates, e.g. to collect performance metrics.
+ * <p>
+ * If no listener is registered then the engine does not measure anything. The callbacks are invoked synchronously, possibly
+ * from different threads, and must not block.
+ *
+ * @see EngineBuilder#addRenderListener(RenderListener)
+ */
+public interface RenderListener {
+
+    /**
+     * Notified when the rendering of a template instance is finished. The includes and other nested templates are not
+     * reported separately.
+     *
+     * @param template
+     * @param durationNanos
+     * @param failure the failure or {@code null} if the rendering was successful
+     */
+    default void templateRendered(Template template, long durationNanos, Throwable failure) {
+    }
+
+    /**
+     * Notified when an expression is evaluated, e.g. an output expression or a section parameter.
+     *
+     * @param expression
+     * @param durationNanos
+     */
+    default void expressionEvaluated(Expression expression, long durationNanos) {
+    }
+
+    /**
+     * Notified when a value resolver or a namespace resolver resolves a part of an expression.
+     *
+     * @param resolver
+     */
+    default void valueResolved(Resolver resolver) {
+    }
+
+}
@@ -61,6 +61,14 @@ public SectionBlock(Origin origin, String id, String label, Map<String, String>
         this.positionalParameters = positionalParameters;
     }
 
+    /**
+     *
+     * @return an immutable list of template nodes
+     */
+    public List<TemplateNode> getNodes() {
+        return nodes;
+    }
+
     public boolean isEmpty() {
         return nodes.isEmpty();
     }
@@ -185,6 +185,17 @@ default String render() {
      */
     Set<String> getFragmentIds();
 
+    /**
+     * Returns the top-level nodes of the template. The nodes of a section can be obtained via
+     * {@link SectionNode#getBlocks()}.
+     *
+     * @return an immutable list of top-level nodes
+     * @throws UnsupportedOperationException if the implementation does not expose its nodes
+     */
+    default List<TemplateNode> getNodes() {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * @return {@code true} if this template is a fragment, {@code false} otherwise
      */
@@ -3,6 +3,7 @@
 import static io.quarkus.qute.Namespaces.DATA_NAMESPACE;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -35,6 +36,9 @@ class TemplateImpl implements Template {
     final SectionNode root;
     private final List<ParameterDeclaration> parameterDeclarations;
     private final LazyValue<Map<String, Fragment>> fragments;
+    // Set by the engine if a matching compiled template is registered
+    private CompiledTemplate compiledTemplate;
+    private List<ExpressionNode> expressionNodes;
 
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant) {
         this.engine = engine;
@@ -94,6 +98,29 @@ public String toString() {
         return "Template " + templateId + " [generatedId=" + generatedId + "]";
     }
 
+    @Override
+    public List<TemplateNode> getNodes() {
+        return root.blocks.get(0).nodes;
+    }
+
+    /**
+     *
+     * @param compiledTemplate
+     * @return {@code true} if the compiled template matches the structure of this template, {@code false} otherwise
+     */
+    boolean initCompiledTemplate(CompiledTemplate compiledTemplate) {
+        if (compiledTemplate.getStructureHash() != CompiledTemplate.structureHash(getNodes())) {
+            return false;
+        }
+        List<ExpressionNode> expressionNodes = new ArrayList<>();
+        for (TemplateNode node : root.findNodes(TemplateNode::isExpression)) {
+            expressionNodes.add(node.asExpression());
+        }
+        this.expressionNodes = expressionNodes;
+        this.compiledTemplate = compiledTemplate;
+        return true;
+    }
+
     @Override
     public Fragment getFragment(String identifier) {
         return fragments != null ? fragments.get().get(Objects.requireNonNull(identifier)) : null;
@@ -144,9 +171,14 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
         public String render() {
+            CompletionStage<String> result = renderAsyncNoTimeout();
+            if (EvaluatorImpl.isCompletedSuccessfully(result)) {
+                // Synchronous fast path - all the values were resolved synchronously, no need to wait
+                return ((CompletedStage<String>) result).get();
+            }
             long timeout = getTimeout();
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return result.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -195,7 +227,8 @@ public Uni<String> createUni() {
         @Override
         public CompletionStage<String> renderAsync() {
             CompletionStage<String> cs = renderAsyncNoTimeout();
-            if (engine.useAsyncTimeout()) {
+            // No need to apply the timeout if the rendering is already finished
+            if (engine.useAsyncTimeout() && !EvaluatorImpl.isCompletedSuccessfully(cs)) {
                 cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
             }
             return cs;
@@ -204,7 +237,7 @@ public CompletionStage<String> renderAsync() {
         @Override
         public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
             CompletionStage<Void> cs = renderData(data(), resultConsumer);
-            if (engine.useAsyncTimeout()) {
+            if (engine.useAsyncTimeout() && !EvaluatorImpl.isCompletedSuccessfully(cs)) {
                 cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
             }
             return cs;
@@ -225,12 +258,49 @@ private CompletionStage<String> renderAsyncNoTimeout() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
+            RenderListener listener = engine.renderListener;
+            if (listener == null) {
+                return doRenderData(data, consumer);
+            }
+            long start = System.nanoTime();
+            return doRenderData(data, consumer)
+                    .whenComplete((r, t) -> listener.templateRendered(TemplateImpl.this, System.nanoTime() - start, t));
+        }
+
+        private CompletionStage<Void> doRenderData(Object data, Consumer<String> consumer) {
+            if (compiledTemplate != null) {
+                CompiledRenderContext compiledContext = new CompiledRenderContext(TemplateImpl.this, data);
+                try {
+                    // The decision is made before the rendering starts so that no getter is invoked twice
+                    if (compiledTemplate.accepts(compiledContext)) {
+                        compiledTemplate.render(compiledContext);
+                        consumer.accept(compiledContext.out.toString());
+                        runRenderedActions();
+                        return CompletedStage.ofVoid();
+                    }
+                } catch (Throwable e) {
+                    runRenderedActions();
+                    return CompletedStage.failure(e);
+                }
+            }
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this::getAttribute);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            CompletionStage<ResultNode> resolved = root.resolve(rootContext);
+            if (EvaluatorImpl.isCompletedSuccessfully(resolved)) {
+                // Synchronous fast path - the result tree is complete, build the output directly
+                try {
+                    ((CompletedStage<ResultNode>) resolved).get().process(consumer);
+                    return CompletedStage.ofVoid();
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                } finally {
+                    runRenderedActions();
+                }
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
@@ -241,22 +311,25 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
             });
             return result;
         }
 
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -300,6 +373,93 @@ public TemplateInstance instance() {
 
     }
 
+    static class CompiledRenderContext implements CompiledTemplate.RenderContext {
+
+        private final TemplateImpl template;
+        private final Object data;
+        final StringBuilder out;
+        // Included templates accepted before the rendering starts; shared by the nested contexts
+        private final Map<String, TemplateImpl> included;
+
+        CompiledRenderContext(TemplateImpl template, Object data) {
+            this(template, data, new StringBuilder(1028), new HashMap<>());
+        }
+
+        private CompiledRenderContext(TemplateImpl template, Object data, StringBuilder out,
+                Map<String, TemplateImpl> included) {
+            this.template = template;
+            this.data = data;
+            this.out = out;
+            this.included = included;
+        }
+
+        @Override
+        public Object getData(String key) {
+            return data instanceof TemplateInstanceBase.DataMap ? ((TemplateInstanceBase.DataMap) data).get(key) : null;
+        }
+
+        @Override
+        public void append(String text) {
+            out.append(text);
+        }
+
+        @Override
+        public void appendValue(Object value, int expressionIndex) {
+            value = SingleResultNode.extractValue(value);
+            if (value == null) {
+                return;
+            }
+            ExpressionNode node = template.expressionNodes.get(expressionIndex);
+            if (value instanceof CompletionStage || value instanceof ResultNode) {
+                // Asynchronous types are never compiled
+                throw new IllegalStateException("Asynchronous value of a compiled expression: " + node.getExpression());
+            }
+            out.append(node.hasEngineResultMappers() ? node.mapResult(value) : value.toString());
+        }
+
+        @Override
+        public Object propertyNotFound(String property, int expressionIndex) {
+            // The same result as if the expression was evaluated, i.e. no value resolver applies to a null base object
+            Results.NotFound notFound = Results.NotFound.from(property);
+            EvaluatorImpl evaluator = (EvaluatorImpl) template.engine.getEvaluator();
+            if (evaluator.strictRendering()) {
+                throw evaluator.propertyNotFound(notFound, template.getExpressions().get(expressionIndex));
+            }
+            return notFound;
+        }
+
+        @Override
+        public void iterableNotFound(int expressionIndex) {
+            throw LoopSectionHelper.iterableNotFound(template.engine, template.getExpressions().get(expressionIndex));
+        }
+
+        @Override
+        public boolean acceptsInclude(String templateId) {
+            if (included.containsKey(templateId)) {
+                return true;
+            }
+            Template includedTemplate = template.engine.getTemplate(templateId);
+            if (includedTemplate instanceof TemplateImpl && !includedTemplate.isFragment()) {
+                TemplateImpl includedImpl = (TemplateImpl) includedTemplate;
+                if (includedImpl.compiledTemplate != null) {
+                    included.put(templateId, includedImpl);
+                    return includedImpl.compiledTemplate.accepts(new CompiledRenderContext(includedImpl, data, out, included));
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void include(String templateId) {
+            TemplateImpl includedImpl = included.get(templateId);
+            if (includedImpl == null) {
+                throw new IllegalStateException("Included template not accepted: " + templateId);
+            }
+            includedImpl.compiledTemplate.render(new CompiledRenderContext(includedImpl, data, out, included));
+        }
+
+    }
+
     static class DataNamespaceResolver implements NamespaceResolver {
 
         static final String ROOT_CONTEXT = "qute$rootContext";
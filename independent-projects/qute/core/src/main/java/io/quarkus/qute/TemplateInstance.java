@@ -133,6 +133,8 @@ default Uni<String> createUni() {
 
     /**
      * Triggers rendering.
+     * <p>
+     * If the consumer implements {@link Utf8Consumer} then the static text is passed as UTF-8 encoded byte arrays.
      *
      * @param consumer To consume chunks of the rendered template
      * @return a completion stage that is completed once the rendering finished
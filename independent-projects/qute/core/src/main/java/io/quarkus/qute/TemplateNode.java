@@ -57,6 +57,51 @@ default boolean isSection() {
         return false;
     }
 
+    /**
+     *
+     * @return {@code true} if the node represents a text
+     * @see TextNode
+     */
+    default boolean isText() {
+        return false;
+    }
+
+    /**
+     *
+     * @return {@code true} if the node represents an output expression
+     * @see ExpressionNode
+     */
+    default boolean isExpression() {
+        return false;
+    }
+
+    /**
+     *
+     * @return the text node
+     * @throws IllegalStateException if the node does not represent a text
+     */
+    default TextNode asText() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     *
+     * @return the section node
+     * @throws IllegalStateException if the node does not represent a section
+     */
+    default SectionNode asSection() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     *
+     * @return the expression node
+     * @throws IllegalStateException if the node does not represent an output expression
+     */
+    default ExpressionNode asExpression() {
+        throw new IllegalStateException();
+    }
+
     /**
      * Represents an origin of a template node.
      */
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -11,6 +12,8 @@ public class TextNode extends ResultNode implements TemplateNode {
     private final CompletedStage<ResultNode> result;
     private final String value;
     private final Origin origin;
+    // Lazily encoded value, see Utf8Consumer
+    private byte[] utf8Value;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletedStage.of(this);
@@ -32,13 +35,33 @@ public boolean isConstant() {
         return true;
     }
 
+    @Override
+    public boolean isText() {
+        return true;
+    }
+
+    @Override
+    public TextNode asText() {
+        return this;
+    }
+
     public String getValue() {
         return value;
     }
 
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer) {
+            byte[] utf8 = utf8Value;
+            if (utf8 == null) {
+                // The race is benign - the encoded value is always the same
+                utf8 = value.getBytes(StandardCharsets.UTF_8);
+                utf8Value = utf8;
+            }
+            ((Utf8Consumer) consumer).acceptUtf8(utf8);
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
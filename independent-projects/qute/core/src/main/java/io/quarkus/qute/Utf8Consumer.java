@@ -0,0 +1,21 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A consumer of the rendered chunks that is able to accept static text already encoded in UTF-8.
+ * <p>
+ * The static text of a template is encoded only once and the same byte array is passed to the consumer for each rendering.
+ * Other chunks, e.g. the results of expressions, are passed to {@link #accept(Object)}.
+ *
+ * @see TemplateInstance#consume(Consumer)
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     *
+     * @param value The UTF-8 encoded chunk; must not be modified
+     */
+    void acceptUtf8(byte[] value);
+
+}
@@ -1,11 +1,14 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +25,34 @@ public void testAsyncData() {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testSyncAndAsyncResolvers() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Client.class).applyToName("sync")
+                        .resolveSync(ec -> "foo").build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Client.class).applyToName("async")
+                        .resolveAsync(ec -> CompletableFuture.completedFuture("bar")).build())
+                .build();
+        Template template = engine.parse("{client.sync}:{client.async}:{client.sync.length}:{client.async.length}");
+        assertEquals("foo:bar:3:3", template.data("client", new Client()).render());
+        assertEquals("foo:bar:3:3", template.data("client", new Client()).renderAsync().toCompletableFuture().join());
+        // Only sync resolvers are used - the result is completed synchronously
+        assertTrue(engine.parse("{client.sync}::{client.sync.length}").data("client", new Client())
+                .renderAsync() instanceof CompletedStage);
+    }
+
+    @Test
+    public void testSyncResolutionFailure() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Client.class).applyToName("sync")
+                        .resolveSync(ec -> "foo").build())
+                .build();
+        // The failure is propagated through the returned stage
+        CompletionStage<String> result = engine.parse("{client.sync.missing}").data("client", new Client()).renderAsync();
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.toCompletableFuture().get());
+        assertTrue(e.getCause() instanceof TemplateException);
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
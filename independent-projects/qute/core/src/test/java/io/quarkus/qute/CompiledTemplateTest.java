@@ -0,0 +1,203 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.TemplateLocator.TemplateLocation;
+
+public class CompiledTemplateTest {
+
+    static final String HELLO = "Hello {name}!";
+    static final String PAGE = "<h1>{#include hello /}</h1>";
+
+    @Test
+    public void testCompiledTemplateUsed() {
+        HelloTemplate hello = new HelloTemplate(structureHash(HELLO));
+        Engine engine = engine().addCompiledTemplate("hello", hello).build();
+        assertEquals("Hello Lu!", engine.getTemplate("hello").data("name", "Lu").render());
+        assertEquals(1, hello.rendered.get());
+        assertEquals("Hello Lu!", engine.getTemplate("hello").data("name", "Lu").renderAsync().toCompletableFuture().join());
+        assertEquals(2, hello.rendered.get());
+    }
+
+    @Test
+    public void testCompiledTemplateDeclined() {
+        HelloTemplate hello = new HelloTemplate(structureHash(HELLO));
+        Engine engine = engine().addCompiledTemplate("hello", hello).build();
+        // The compiled template only accepts strings
+        assertEquals("Hello 1!", engine.getTemplate("hello").data("name", 1).render());
+        assertEquals(0, hello.rendered.get());
+        assertEquals(1, hello.declined.get());
+    }
+
+    @Test
+    public void testStructureMismatch() {
+        HelloTemplate hello = new HelloTemplate(structureHash("Hi {name}!"));
+        Engine engine = engine().addCompiledTemplate("hello", hello).build();
+        assertEquals("Hello Lu!", engine.getTemplate("hello").data("name", "Lu").render());
+        assertEquals(0, hello.rendered.get());
+    }
+
+    @Test
+    public void testResultMappers() {
+        HelloTemplate hello = new HelloTemplate(structureHash(HELLO));
+        Engine engine = engine().addResultMapper(new ResultMapper() {
+            @Override
+            public String map(Object result, Expression expression) {
+                return result.toString().toUpperCase();
+            }
+        }).addCompiledTemplate("hello", hello).build();
+        assertEquals("Hello LU!", engine.getTemplate("hello").data("name", "Lu").render());
+        assertEquals(1, hello.rendered.get());
+    }
+
+    @Test
+    public void testInclude() {
+        HelloTemplate hello = new HelloTemplate(structureHash(HELLO));
+        PageTemplate page = new PageTemplate(structureHash(PAGE));
+        Engine engine = engine().addCompiledTemplate("hello", hello).addCompiledTemplate("page", page).build();
+        assertEquals("<h1>Hello Lu!</h1>", engine.getTemplate("page").data("name", "Lu").render());
+        assertEquals(1, page.rendered.get());
+        assertEquals(1, hello.rendered.get());
+        // The included template declines to render the data before the rendering starts
+        assertEquals("<h1>Hello 1!</h1>", engine.getTemplate("page").data("name", 1).render());
+        assertEquals(1, page.rendered.get());
+        assertEquals(1, hello.rendered.get());
+    }
+
+    @Test
+    public void testIncludeNotCompiled() {
+        PageTemplate page = new PageTemplate(structureHash(PAGE));
+        Engine engine = engine().addCompiledTemplate("page", page).build();
+        assertEquals("<h1>Hello Lu!</h1>", engine.getTemplate("page").data("name", "Lu").render());
+        assertEquals(0, page.rendered.get());
+    }
+
+    @Test
+    public void testPropertyNotFound() {
+        CompiledTemplate nullBase = new HelloTemplate(structureHash(HELLO)) {
+
+            @Override
+            public void render(RenderContext context) {
+                context.appendValue(context.propertyNotFound("length", 0), 0);
+            }
+        };
+        assertEquals("NOT_FOUND", engine().strictRendering(false).addCompiledTemplate("hello", nullBase).build()
+                .getTemplate("hello").data("name", "Lu").render());
+        TemplateException expected = assertThrows(TemplateException.class,
+                () -> engine().addCompiledTemplate("hello", nullBase).build().getTemplate("hello").data("name", "Lu").render());
+        assertEquals(EvaluatorImpl.Code.PROPERTY_NOT_FOUND, expected.getCode());
+    }
+
+    @Test
+    public void testFailure() {
+        Engine engine = engine().addCompiledTemplate("hello", new CompiledTemplate() {
+
+            @Override
+            public int getStructureHash() {
+                return structureHash(HELLO);
+            }
+
+            @Override
+            public boolean accepts(RenderContext context) {
+                return true;
+            }
+
+            @Override
+            public void render(RenderContext context) {
+                throw new IllegalArgumentException("Boom");
+            }
+        }).build();
+        assertThrows(IllegalArgumentException.class, () -> engine.getTemplate("hello").data("name", "Lu").render());
+    }
+
+    private static int structureHash(String content) {
+        return CompiledTemplate.structureHash(Engine.builder().addDefaults().build().parse(content).getNodes());
+    }
+
+    private static EngineBuilder engine() {
+        Map<String, String> templates = Map.of("hello", HELLO, "page", PAGE);
+        return Engine.builder().addDefaults().addLocator(id -> {
+            String content = templates.get(id);
+            if (content == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new TemplateLocation() {
+
+                @Override
+                public Reader read() {
+                    return new StringReader(content);
+                }
+
+                @Override
+                public Optional<Variant> getVariant() {
+                    return Optional.empty();
+                }
+            });
+        });
+    }
+
+    static class HelloTemplate implements CompiledTemplate {
+
+        final int structureHash;
+        final AtomicInteger rendered = new AtomicInteger();
+        final AtomicInteger declined = new AtomicInteger();
+
+        HelloTemplate(int structureHash) {
+            this.structureHash = structureHash;
+        }
+
+        @Override
+        public int getStructureHash() {
+            return structureHash;
+        }
+
+        @Override
+        public boolean accepts(RenderContext context) {
+            if (context.getData("name") instanceof String) {
+                return true;
+            }
+            declined.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public void render(RenderContext context) {
+            context.append("Hello ");
+            context.appendValue(context.getData("name"), 0);
+            context.append("!");
+            rendered.incrementAndGet();
+        }
+
+    }
+
+    static class PageTemplate extends HelloTemplate {
+
+        PageTemplate(int structureHash) {
+            super(structureHash);
+        }
+
+        @Override
+        public boolean accepts(RenderContext context) {
+            return context.acceptsInclude("hello");
+        }
+
+        @Override
+        public void render(RenderContext context) {
+            context.append("<h1>");
+            context.include("hello");
+            context.append("</h1>");
+            rendered.incrementAndGet();
+        }
+
+    }
+
+}
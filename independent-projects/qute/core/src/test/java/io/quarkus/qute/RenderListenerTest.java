@@ -0,0 +1,95 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class RenderListenerTest {
+
+    @Test
+    public void testListener() {
+        Listener listener = new Listener();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addNamespaceResolver(NamespaceResolver.builder("foo").resolve(ctx -> "bar").build())
+                .addRenderListener(listener).build();
+        Template template = engine.parse("{#for item in items}{item.name}:{foo:baz}{/for}", null, "hello");
+
+        assertEquals("Alpha:barBravo:bar", template.data("items", List.of(new Item("Alpha"), new Item("Bravo"))).render());
+        assertEquals(1, listener.rendered.size());
+        assertEquals("hello", listener.rendered.get(0).getId());
+        assertNull(listener.failure);
+        assertTrue(listener.expressions.containsKey("items"));
+        assertEquals(2, listener.expressions.get("item.name").get());
+        assertEquals(2, listener.expressions.get("foo:baz").get());
+        assertEquals(2, listener.resolvers.get(ReflectionValueResolver.class).get());
+        // Namespace resolver built via NamespaceResolver.builder()
+        assertEquals(2, listener.resolvers.entrySet().stream()
+                .filter(e -> NamespaceResolver.class.isAssignableFrom(e.getKey())).findFirst().get().getValue().get());
+
+        assertThrows(TemplateException.class, () -> engine.parse("{foo.bar}").render());
+        assertEquals(2, listener.rendered.size());
+        assertTrue(listener.failure instanceof TemplateException);
+    }
+
+    @Test
+    public void testMultipleListeners() {
+        Listener listener1 = new Listener();
+        Listener listener2 = new Listener();
+        Engine engine = Engine.builder().addDefaults().addRenderListener(listener1).addRenderListener(listener2).build();
+        assertEquals("1", engine.parse("{val}").data("val", 1).render());
+        assertEquals(1, listener1.rendered.size());
+        assertEquals(1, listener2.rendered.size());
+        // The listener is inherited
+        assertEquals("2", engine.newBuilder().build().parse("{val}").data("val", 2).render());
+        assertEquals(2, listener1.rendered.size());
+    }
+
+    public static class Item {
+
+        private final String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+    static class Listener implements RenderListener {
+
+        final List<Template> rendered = new ArrayList<>();
+        final Map<String, AtomicInteger> expressions = new ConcurrentHashMap<>();
+        final Map<Class<?>, AtomicInteger> resolvers = new ConcurrentHashMap<>();
+        volatile Throwable failure;
+
+        @Override
+        public void templateRendered(Template template, long durationNanos, Throwable failure) {
+            rendered.add(template);
+            this.failure = failure;
+        }
+
+        @Override
+        public void expressionEvaluated(Expression expression, long durationNanos) {
+            expressions.computeIfAbsent(expression.toOriginalString(), k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public void valueResolved(Resolver resolver) {
+            resolvers.computeIfAbsent(resolver.getClass(), k -> new AtomicInteger()).incrementAndGet();
+        }
+
+    }
+
+}
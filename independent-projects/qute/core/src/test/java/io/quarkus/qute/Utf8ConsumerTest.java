@@ -0,0 +1,55 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class Utf8ConsumerTest {
+
+    @Test
+    public void testStaticTextIsPreEncoded() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Čau {name}!{#for i in total} ž{i}{/for}");
+
+        ByteConsumer consumer1 = new ByteConsumer();
+        template.data("name", "Ňuf", "total", 3).consume(consumer1).toCompletableFuture().join();
+        assertEquals(template.data("name", "Ňuf", "total", 3).render(), consumer1.toString());
+        assertEquals("Čau Ňuf! ž1 ž2 ž3", consumer1.toString());
+
+        ByteConsumer consumer2 = new ByteConsumer();
+        template.data("name", "Ňuf", "total", 1).consume(consumer2).toCompletableFuture().join();
+        assertEquals("Čau Ňuf! ž1", consumer2.toString());
+        // The encoded text is reused
+        assertSame(consumer1.encoded.get(0), consumer2.encoded.get(0));
+    }
+
+    static class ByteConsumer implements Utf8Consumer {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final List<byte[]> encoded = new ArrayList<>();
+
+        @Override
+        public void accept(String value) {
+            out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void acceptUtf8(byte[] value) {
+            encoded.add(value);
+            out.writeBytes(value);
+        }
+
+        @Override
+        public String toString() {
+            return out.toString(StandardCharsets.UTF_8);
+        }
+
+    }
+
+}
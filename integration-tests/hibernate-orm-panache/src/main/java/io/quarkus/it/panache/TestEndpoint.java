@@ -8,6 +8,7 @@
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -34,6 +35,8 @@
 
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Keyset;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
@@ -304,6 +307,8 @@ public String testModel() {
         testPersist(PersistTest.Variadic);
         Assertions.assertEquals(6, Person.deleteAll());
 
+        testPersistInBatches();
+
         testSorting();
 
         // paging
@@ -317,6 +322,9 @@ public String testModel() {
         testRange(Person.findAll());
         testRange(Person.find("ORDER BY name"));
 
+        // scroll
+        testScroll(Person.find("ORDER BY name"));
+
         try {
             Person.findAll().singleResult();
             Assertions.fail("singleResult should have thrown");
@@ -605,6 +613,30 @@ private void testPersist(PersistTest persistTest) {
         assertTrue(person2.isPersistent());
     }
 
+    private void testPersistInBatches() {
+        List<Person> persons = makeUnsavedPersons(5);
+        Person.persistInBatches(persons, 2);
+        Assertions.assertEquals(5, Person.count());
+        // the persistence context is cleared after each batch
+        for (Person person : persons) {
+            assertNotNull(person.id);
+            assertFalse(person.isPersistent());
+        }
+        Person.persistInBatches(makeUnsavedPersons(3).stream(), 2);
+        Assertions.assertEquals(8, Person.deleteAll());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Person.persistInBatches(makeUnsavedPersons(1), 0));
+    }
+
+    private List<Person> makeUnsavedPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Person person = new Person();
+            person.name = "stef" + i;
+            persons.add(person);
+        }
+        return persons;
+    }
+
     @Inject
     PersonRepository personDao;
     @Inject
@@ -850,6 +882,8 @@ public String testModelDao() {
         testPersistDao(PersistTest.Variadic);
         Assertions.assertEquals(6, personDao.deleteAll());
 
+        testPersistInBatchesDao();
+
         testSortingDao();
 
         // paging
@@ -863,6 +897,9 @@ public String testModelDao() {
         testRange(personDao.findAll());
         testRange(personDao.find("ORDER BY name"));
 
+        // scroll
+        testScroll(personDao.find("ORDER BY name"));
+
         try {
             personDao.findAll().singleResult();
             Assertions.fail("singleResult should have thrown");
@@ -962,6 +999,18 @@ private void testSortingDao() {
         Assertions.assertEquals(3, Person.deleteAll());
     }
 
+    private void testPersistInBatchesDao() {
+        List<Person> persons = makeUnsavedPersons(5);
+        personDao.persistInBatches(persons, 2);
+        Assertions.assertEquals(5, personDao.count());
+        for (Person person : persons) {
+            assertNotNull(person.id);
+            assertFalse(personDao.isPersistent(person));
+        }
+        personDao.persistInBatches(makeUnsavedPersons(3).stream(), 2);
+        Assertions.assertEquals(8, personDao.deleteAll());
+    }
+
     enum PersistTest {
         Iterable,
         Variadic,
@@ -1115,6 +1164,25 @@ private void testPaging(PanacheQuery<Person> query) {
         Assertions.assertEquals("stef1", persons.get(1).name);
     }
 
+    private void testScroll(PanacheQuery<Person> query) {
+        List<Person> persons;
+        try (Stream<Person> stream = query.scroll(3)) {
+            persons = stream.collect(Collectors.toList());
+        }
+        Assertions.assertEquals(7, persons.size());
+        Assertions.assertEquals("stef0", persons.get(0).name);
+        Assertions.assertEquals("stef6", persons.get(6).name);
+        // all the entities read were detached from the persistence context
+        for (Person person : persons) {
+            Assertions.assertFalse(Person.getEntityManager().contains(person));
+        }
+
+        try (Stream<Person> stream = query.range(2, 4).scroll(2)) {
+            Assertions.assertEquals(List.of("stef2", "stef3", "stef4"), stream.map(p -> p.name).collect(Collectors.toList()));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> query.scroll(0));
+    }
+
     private void testRange(PanacheQuery<Person> query) {
         List<Person> persons = query.range(0, 2).list();
         Assertions.assertEquals(3, persons.size());
@@ -1776,6 +1844,51 @@ public String testSortByEmbedded() {
         return "OK";
     }
 
+    @GET
+    @Path("testKeysetPagination")
+    @Transactional
+    public String testKeysetPagination() {
+        Person.deleteAll();
+
+        // ties on the name and the status, so that the id decides the order of the rows with the same values
+        String[] names = { "Stef", "Jose", "Stef", "Loic", "Jose", "Stef", "Loic" };
+        for (int i = 0; i < names.length; i++) {
+            Person person = new Person();
+            person.name = names[i];
+            person.status = i % 3 == 0 ? Status.DECEASED : Status.LIVING;
+            person.persist();
+        }
+
+        // ascending, with the columns qualified by the alias of the entity
+        assertKeysetPages("from Person2 p", Sort.by("p.name").and("p.id"));
+        // descending, with a parameter of the query
+        assertKeysetPages("from Person2 p where p.name <> ?1", Sort.descending("p.name", "p.id"), "Loic");
+        // mixed directions, with an enum value read back from the continuation token
+        assertKeysetPages("from Person2 as p",
+                Sort.by("p.status", Sort.Direction.Descending).and("p.name").and("p.id", Sort.Direction.Descending));
+        // columns that are not qualified
+        assertKeysetPages("name is not null", Sort.by("name", Sort.Direction.Descending).and("id"));
+
+        Person.deleteAll();
+
+        return "OK";
+    }
+
+    private void assertKeysetPages(String query, Sort sort, Object... params) {
+        List<Long> expected = Person.<Person> find(query, sort, params).list().stream()
+                .map(person -> person.id)
+                .collect(Collectors.toList());
+        List<Long> actual = new ArrayList<>();
+        KeysetPage<Person> page = Person.find(query, params).keysetPage(Keyset.of(sort, 2));
+        page.list.forEach(person -> actual.add(person.id));
+        while (page.hasNext()) {
+            page = Person.find(query, params).keysetPage(page.next());
+            assertTrue(page.list.size() <= 2);
+            page.list.forEach(person -> actual.add(person.id));
+        }
+        assertEquals(expected, actual);
+    }
+
     @GET
     @Path("testEnhancement27184DeleteDetached")
     // NOT @Transactional
@@ -95,6 +95,11 @@ public void testSortByEmbedded() {
         RestAssured.when().get("/test/testSortByEmbedded").then().body(is("OK"));
     }
 
+    @Test
+    public void testKeysetPagination() {
+        RestAssured.when().get("/test/testKeysetPagination").then().body(is("OK"));
+    }
+
     @Test
     public void testJaxbAnnotationTransfer() {
         RestAssured.when()
@@ -6,6 +6,7 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
@@ -439,8 +440,9 @@ public Uni<String> testModel() {
                 .flatMap(count -> {
                     Assertions.assertEquals(6, count);
 
-                    return testSorting();
+                    return testPersistInBatches();
                 })
+                .flatMap(v -> testSorting())
                 // paging
                 .flatMap(v -> makeSavedPerson("0"))
                 .flatMap(v -> makeSavedPerson("1"))
@@ -810,6 +812,28 @@ private Uni<Void> testPersist(PersistTest persistTest) {
         });
     }
 
+    private Uni<Void> testPersistInBatches() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Person person = new Person();
+            person.name = "stef" + i;
+            persons.add(person);
+        }
+        return Person.persistInBatches(persons, 2)
+                .flatMap(v -> {
+                    // the session is cleared after each batch
+                    for (Person person : persons) {
+                        assertNotNull(person.id);
+                        assertFalse(person.isPersistent());
+                    }
+                    return Person.deleteAll();
+                })
+                .map(count -> {
+                    Assertions.assertEquals(5, count);
+                    return null;
+                });
+    }
+
     private Uni<Void> testPersistDao(PersistTest persistTest) {
         Person person1 = new Person();
         person1.name = "stef1";